@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Random;
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.vocabulary.DCTerms;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.eclipse.lyo.testsuite.util.OSLCConstants;
+
+/**
+ * The documents the benchmarks work on. A fixture is either the path of a recorded RDF document, read with the language
+ * its extension implies, or a size such as <code>16k</code> or <code>50m</code>, for which an OSLC CM query response of
+ * about that many bytes of RDF/XML is generated. Generated documents are the same on every run.
+ */
+public final class Fixtures {
+    public static final String BASE = "http://example.com/cm/";
+
+    private static final String[] STATES = {"New", "In Progress", "Resolved", "Closed"};
+    private static final String[] WORDS = {
+        "crash", "when", "saving", "the", "query", "results", "after", "login", "page", "timeout", "widget", "fails",
+        "to", "render", "on", "large", "projects", "with", "unicode", "titles"
+    };
+
+    private Fixtures() {}
+
+    /** @return the model of the fixture */
+    public static Model load(String fixture) {
+        long bytes = parseSize(fixture);
+        if (bytes < 0) {
+            Path path = Path.of(fixture);
+            if (!Files.isReadable(path)) {
+                throw new IllegalArgumentException("Not a size or a readable RDF document: " + fixture);
+            }
+            return RDFDataMgr.loadModel(path.toString());
+        }
+
+        // Size the document from a sample, as the bytes per change request vary little
+        int sample = 100;
+        long sampleBytes = serialize(generate(sample), Lang.RDFXML).length;
+        return generate((int) Math.max(1, bytes * sample / sampleBytes));
+    }
+
+    /** @return the model written in the language, RDF/XML without abbreviations or Turtle in blocks */
+    public static byte[] serialize(Model model, Lang lang) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RDFDataMgr.write(out, model, Lang.TURTLE.equals(lang) ? RDFFormat.TURTLE_BLOCKS : RDFFormat.RDFXML_PLAIN);
+        return out.toByteArray();
+    }
+
+    /** @return the number of bytes in a size such as <code>512</code>, <code>16k</code> or <code>50m</code>, or -1 */
+    private static long parseSize(String fixture) {
+        String size = fixture.trim().toLowerCase(Locale.ROOT);
+        long unit = 1;
+        if (size.endsWith("k")) {
+            unit = 1024;
+        } else if (size.endsWith("m")) {
+            unit = 1024 * 1024;
+        }
+        if (unit > 1) {
+            size = size.substring(0, size.length() - 1);
+        }
+        try {
+            return Long.parseLong(size) * unit;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /** @return a query response with the change requests, each member of the query resource */
+    private static Model generate(int changeRequests) {
+        Random random = new Random(changeRequests);
+        Model model = ModelFactory.createDefaultModel();
+        model.setNsPrefix("oslc", OSLCConstants.OSLC_V2);
+        model.setNsPrefix("oslc_cm", OSLCConstants.OSLC_CM_V2);
+        model.setNsPrefix("dcterms", DCTerms.NS);
+
+        Resource changeRequest = model.createResource(OSLCConstants.CM_CHANGE_REQUEST_TYPE);
+        Property status = model.createProperty(OSLCConstants.OSLC_CM_V2, "status");
+        Property related = model.createProperty(OSLCConstants.OSLC_CM_V2, "relatedChangeRequest");
+        Resource query = model.createResource(BASE + "query");
+        model.createResource(BASE + "query?page=1")
+                .addProperty(RDF.type, model.createResource(OSLCConstants.OSLC_V2 + "ResponseInfo"))
+                .addLiteral(model.createProperty(OSLCConstants.OSLC_V2, "totalCount"), (long) changeRequests);
+
+        for (int i = 0; i < changeRequests; i++) {
+            Resource resource = model.createResource(BASE + "changeRequests/" + i)
+                    .addProperty(RDF.type, changeRequest)
+                    .addProperty(DCTerms.identifier, String.valueOf(i))
+                    .addProperty(DCTerms.title, words(random, 4 + random.nextInt(6)))
+                    .addProperty(DCTerms.description, words(random, 20 + random.nextInt(40)))
+                    .addProperty(
+                            DCTerms.created,
+                            model.createTypedLiteral(
+                                    "20%02d-%02d-%02dT%02d:%02d:00Z"
+                                            .formatted(
+                                                    10 + random.nextInt(16),
+                                                    1 + random.nextInt(12),
+                                                    1 + random.nextInt(28),
+                                                    random.nextInt(24),
+                                                    random.nextInt(60)),
+                                    XSDDatatype.XSDdateTime))
+                    .addProperty(DCTerms.creator, model.createResource(BASE + "users/" + random.nextInt(50)))
+                    .addProperty(status, STATES[random.nextInt(STATES.length)]);
+            if (i > 0 && random.nextInt(4) == 0) {
+                resource.addProperty(related, model.createResource(BASE + "changeRequests/" + random.nextInt(i)));
+            }
+            query.addProperty(RDFS.member, resource);
+        }
+        return model;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder words = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                words.append(' ');
+            }
+            words.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return words.toString();
+    }
+}
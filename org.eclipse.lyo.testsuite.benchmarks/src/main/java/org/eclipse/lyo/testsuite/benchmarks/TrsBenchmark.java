@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.system.StreamRDFBase;
+import org.eclipse.lyo.testsuite.server.trsutils.HttpConstants;
+import org.eclipse.lyo.testsuite.server.trsutils.ModelUtil;
+import org.eclipse.lyo.testsuite.server.trsutils.RDFModelResponseHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The TRS response handler on an in-memory response, parsing into a model or streaming into a sink, and the
+ * {@link ModelUtil} serialization of the parsed model.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TrsBenchmark {
+    @Param({"16k", "1m", "50m"})
+    public String fixture;
+
+    @Param({"application/rdf+xml", "text/turtle"})
+    public String contentType;
+
+    private byte[] bytes;
+    private Model model;
+    private String lang;
+    private byte[] serialized;
+
+    @Setup
+    public void setup() {
+        Lang rdfFormat = RDFLanguages.contentTypeToLang(contentType);
+        model = Fixtures.load(fixture);
+        bytes = Fixtures.serialize(model, rdfFormat);
+        lang = rdfFormat.getName();
+        serialized = ModelUtil.serializeModel(model, lang);
+    }
+
+    @Benchmark
+    public Model handleResponse() throws Exception {
+        return new RDFModelResponseHandler(Fixtures.BASE).handleResponse(response());
+    }
+
+    @Benchmark
+    public long handleResponseToSink() throws Exception {
+        TripleCounter counter = new TripleCounter();
+        new RDFModelResponseHandler(Fixtures.BASE, counter).handleResponse(response());
+        return counter.triples;
+    }
+
+    @Benchmark
+    public byte[] serializeModel() {
+        return ModelUtil.serializeModel(model, lang);
+    }
+
+    @Benchmark
+    public Model deserializeModel() {
+        return ModelUtil.deserializeModel(serialized, lang);
+    }
+
+    private BasicHttpResponse response() {
+        BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, HttpStatus.SC_OK, "OK");
+        response.setHeader(HttpConstants.CONTENT_TYPE, contentType);
+        response.setEntity(new ByteArrayEntity(bytes));
+        return response;
+    }
+
+    private static class TripleCounter extends StreamRDFBase {
+        long triples;
+
+        @Override
+        public void triple(Triple triple) {
+            triples++;
+        }
+    }
+}
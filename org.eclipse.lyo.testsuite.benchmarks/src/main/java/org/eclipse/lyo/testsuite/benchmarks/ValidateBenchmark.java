@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
+import org.eclipse.lyo.testsuite.util.OSLCConstants;
+import org.eclipse.lyo.testsuite.util.RDFUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link RDFUtils#validateModel(Model)} in each validation mode, and
+ * {@link RDFUtils#validateModel(Model, byte[], String, String)} finding the outcome for the same document remembered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ValidateBenchmark {
+    @Param({"16k", "1m", "50m"})
+    public String fixture;
+
+    @Param({"STRUCTURAL", "FULL"})
+    public String mode;
+
+    private Model model;
+    private byte[] document;
+
+    @Setup
+    public void setup() {
+        RDFUtils.setValidationMode(RDFUtils.ValidationMode.valueOf(mode));
+        model = Fixtures.load(fixture);
+        document = Fixtures.serialize(model, Lang.RDFXML);
+    }
+
+    @Benchmark
+    public void validateModel() {
+        RDFUtils.validateModel(model);
+    }
+
+    @Benchmark
+    public void validateModelRemembered() {
+        RDFUtils.validateModel(model, document, Fixtures.BASE, OSLCConstants.JENA_RDF_XML);
+    }
+}
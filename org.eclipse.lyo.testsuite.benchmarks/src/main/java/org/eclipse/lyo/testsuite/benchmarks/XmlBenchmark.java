@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.xml.xpath.XPathConstants;
+import org.apache.jena.riot.Lang;
+import org.eclipse.lyo.testsuite.util.OSLCUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+/** Parsing RDF/XML responses into a DOM and querying it with XPath, as the OSLC v2 XML tests do. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class XmlBenchmark {
+    private static final String TITLES = "//rdf:Description/dc:title";
+
+    @Param({"16k", "1m", "50m"})
+    public String fixture;
+
+    private String body;
+    private Document document;
+
+    @Setup
+    public void setup() throws Exception {
+        body = new String(Fixtures.serialize(Fixtures.load(fixture), Lang.RDFXML), StandardCharsets.UTF_8);
+        document = OSLCUtils.createXMLDocFromResponseBody(body);
+    }
+
+    @Benchmark
+    public Document createXMLDocFromResponseBody() throws Exception {
+        return OSLCUtils.createXMLDocFromResponseBody(body);
+    }
+
+    @Benchmark
+    public Object evaluate() throws Exception {
+        return OSLCUtils.getXPath().evaluate(TITLES, document, XPathConstants.NODESET);
+    }
+
+    @Benchmark
+    public Object evaluateCompiled() throws Exception {
+        return OSLCUtils.compileXPath(TITLES).evaluate(document, XPathConstants.NODESET);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.common;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Passes a response body through to a streaming parser while keeping a copy of its first bytes and, in a ring buffer,
+ * of the last bytes read, so that a parse error can still show what was received, including the text around the point
+ * where the parser stopped, without ever holding the whole body in memory.
+ */
+public class CapturingInputStream extends FilterInputStream {
+    /** Bytes kept from the beginning by default, enough to show the start of a document. */
+    public static final int DEFAULT_LIMIT = 64 * 1024;
+    /** Last bytes read kept by default, enough to show the usual error location. */
+    public static final int DEFAULT_TAIL_LIMIT = 4 * 1024;
+
+    private final int limit;
+    private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+    private final byte[] tail;
+    private long total;
+
+    public CapturingInputStream(InputStream in) {
+        this(in, DEFAULT_LIMIT, DEFAULT_TAIL_LIMIT);
+    }
+
+    public CapturingInputStream(InputStream in, int limit) {
+        this(in, limit, DEFAULT_TAIL_LIMIT);
+    }
+
+    /**
+     * @param limit how many bytes to keep from the beginning of the body
+     * @param tailLimit how many of the last bytes read to keep once the beginning is full
+     */
+    public CapturingInputStream(InputStream in, int limit, int tailLimit) {
+        super(in);
+        this.limit = limit;
+        this.tail = new byte[tailLimit];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            if (captured.size() < limit) {
+                captured.write(b);
+            } else if (tail.length > 0) {
+                tail[(int) ((total - limit) % tail.length)] = (byte) b;
+            }
+            total++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            int keep = Math.max(Math.min(n, limit - captured.size()), 0);
+            if (keep > 0) {
+                captured.write(b, off, keep);
+            }
+            // Only the last bytes of a long read can stay in the ring
+            int skip = keep + Math.max(n - keep - tail.length, 0);
+            total += skip;
+            for (int i = skip; i < n; i++) {
+                tail[(int) ((total - limit) % tail.length)] = b[off + i];
+                total++;
+            }
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // Read instead of skipping so the capture has no holes
+        byte[] buffer = new byte[(int) Math.min(n, 8192)];
+        int read = read(buffer, 0, buffer.length);
+        return Math.max(read, 0);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /** @return how many bytes have been read so far */
+    public long getCount() {
+        return total;
+    }
+
+    /**
+     * @return the captured bytes decoded as UTF-8: the beginning of the body and, when more was read, a marker for the
+     *     bytes not kept followed by the last bytes read
+     */
+    public String getCaptured() {
+        String text = captured.toString(StandardCharsets.UTF_8);
+        long afterHead = total - captured.size();
+        if (afterHead <= 0) {
+            return text;
+        }
+        int kept = (int) Math.min(afterHead, tail.length);
+        byte[] last = new byte[kept];
+        for (int i = 0; i < kept; i++) {
+            last[i] = tail[(int) ((afterHead - kept + i) % tail.length)];
+        }
+        String dropped = afterHead > kept ? "%n[... %d bytes not kept ...]%n".formatted(afterHead - kept) : "";
+        return text + dropped + new String(last, StandardCharsets.UTF_8);
+    }
+}
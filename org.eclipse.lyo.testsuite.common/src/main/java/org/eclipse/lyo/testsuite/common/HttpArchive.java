@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.common;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An archive of the HTTP exchanges of a run, so that the run can be repeated without the provider: to profile the
+ * suite's own CPU cost, or to rerun a failed assessment offline.
+ *
+ * <p>With <code>httpArchive=record</code> every request sent by the HTTP client of a test suite is appended with its
+ * response to <code>httpArchiveFile</code>. With <code>httpArchive=replay</code> no connection is made: responses are
+ * served from the file, which is memory-mapped, and their bodies are read straight from the mapping.
+ *
+ * <p>A request is answered with the responses recorded for the same method, URI and Accept header, in the order they
+ * were recorded; once those run out the last one is repeated. Credentials and cookies are not recorded, nor are
+ * exchanges with a body larger than <code>httpArchiveMaxBody</code> bytes, so that the recorder never holds more than
+ * that in memory; replaying one of them fails.
+ *
+ * <p>The file starts with {@link #MAGIC} followed by one record per exchange: the length of the rest of the record, the
+ * method, URI, request headers, request body, status, response headers and response body. Strings and bodies are
+ * prefixed with their length and header lists with their size; all numbers are big-endian ints. An incomplete last
+ * record, left by an interrupted run, is skipped with a warning.
+ */
+public class HttpArchive {
+    private static final Logger logger = System.getLogger(HttpArchive.class.getName());
+
+    public static final String DEFAULT_FILE = "target/http-archive.bin";
+    public static final byte[] MAGIC = "LYOHTTP1".getBytes(StandardCharsets.US_ASCII);
+    public static final int DEFAULT_MAX_BODY = 64 << 20;
+
+    // Records never cross a mapping, so a single record is limited to this size
+    private static final int MAX_MAPPING = 1 << 30;
+    private static final Set<String> UNRECORDED_HEADERS =
+            Set.of("authorization", "proxy-authorization", "cookie", "connection", "keep-alive", "transfer-encoding");
+
+    public enum Mode {
+        /** Requests go to the provider and are not recorded. */
+        OFF,
+        /** Requests go to the provider and are recorded with their responses. */
+        RECORD,
+        /** Requests are answered from the archive. */
+        REPLAY
+    }
+
+    public record Header(String name, String value) {}
+
+    /** A body read for recording: its bytes, <code>null</code> if too large to record, and a stream over all of it. */
+    public record Body(byte[] bytes, InputStream stream) {}
+
+    /** One request and its response; read from an archive, the bodies are read-only slices of its mapping. */
+    public record Exchange(
+            String method,
+            String uri,
+            List<Header> requestHeaders,
+            ByteBuffer requestBody,
+            int status,
+            List<Header> responseHeaders,
+            ByteBuffer responseBody) {
+
+        /** @return the first value of the request header, or <code>null</code> */
+        public String getRequestHeader(String name) {
+            return find(requestHeaders, name);
+        }
+
+        /** @return the first value of the response header, or <code>null</code> */
+        public String getResponseHeader(String name) {
+            return find(responseHeaders, name);
+        }
+
+        /** @return a new stream over the response body; streams of one exchange can be read concurrently */
+        public InputStream openResponseBody() {
+            return new BufferInputStream(responseBody.duplicate());
+        }
+    }
+
+    private static volatile Mode mode = Mode.OFF;
+    private static volatile Path file = Path.of(DEFAULT_FILE);
+    private static volatile int maxBody = DEFAULT_MAX_BODY;
+    private static FileChannel recording;
+    private static Map<String, Responses> replaying;
+
+    /**
+     * Reads <code>httpArchive</code>: <code>off</code> (default), <code>record</code> or <code>replay</code>, and
+     * <code>httpArchiveFile</code> and <code>httpArchiveMaxBody</code>, closing the archive in use.
+     */
+    public static synchronized void configure(Properties setupProps) {
+        close();
+        String value = setupProps == null ? null : setupProps.getProperty("httpArchive");
+        mode = value == null || value.isBlank() ? Mode.OFF : Mode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        file = Path.of(
+                setupProps == null ? DEFAULT_FILE : setupProps.getProperty("httpArchiveFile", DEFAULT_FILE).trim());
+        String limit = setupProps == null ? null : setupProps.getProperty("httpArchiveMaxBody");
+        // Half a mapping at most, leaving room for the rest of the record
+        maxBody = limit == null
+                ? DEFAULT_MAX_BODY
+                : Math.max(0, Math.min(Integer.parseInt(limit.trim()), MAX_MAPPING / 2));
+    }
+
+    public static Mode getMode() {
+        return mode;
+    }
+
+    public static Path getFile() {
+        return file;
+    }
+
+    /** @return the size in bytes of the largest request or response body recorded */
+    public static int getMaxBody() {
+        return maxBody;
+    }
+
+    /**
+     * Reads a body to record, but no more of it than {@link #getMaxBody()} bytes.
+     *
+     * @return the body; its stream yields the whole of it, for the caller to read in place of <code>in</code>
+     */
+    public static Body buffer(InputStream in) throws IOException {
+        byte[] bytes = in.readNBytes(maxBody + 1);
+        if (bytes.length <= maxBody) {
+            in.close();
+            return new Body(bytes, new ByteArrayInputStream(bytes));
+        }
+        return new Body(null, new SequenceInputStream(new ByteArrayInputStream(bytes), in));
+    }
+
+    /** Leaves an exchange whose body is too large out of the archive. */
+    public static void skip(String method, String uri) {
+        logger.log(
+                Level.WARNING,
+                "Not recording %s <%s> in the HTTP archive: its body is larger than %d bytes"
+                        .formatted(method, uri, maxBody));
+    }
+
+    /** Appends the exchange to the archive, creating the file on the first call of the run. */
+    public static void record(Exchange exchange) throws IOException {
+        ByteBuffer[] record = encode(exchange);
+        synchronized (HttpArchive.class) {
+            if (recording == null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                recording = FileChannel.open(
+                        file,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING);
+                recording.write(ByteBuffer.wrap(MAGIC));
+            }
+            // Checks the head too: a record with an empty response body is the head alone
+            long remaining = record[0].remaining() + record[1].remaining();
+            while (remaining > 0) {
+                remaining -= recording.write(record);
+            }
+        }
+    }
+
+    /**
+     * @return the next recorded response to the request
+     * @throws IOException if the archive cannot be read or has no response to the request
+     */
+    public static Exchange replay(String method, String uri, String accept) throws IOException {
+        Map<String, Responses> responses;
+        synchronized (HttpArchive.class) {
+            if (replaying == null) {
+                replaying = index(read(file));
+            }
+            responses = replaying;
+        }
+        Responses recorded = responses.get(key(method, uri, accept));
+        if (recorded == null) {
+            recorded = responses.get(key(method, uri, null));
+        }
+        if (recorded == null) {
+            throw new IOException("No response to %s <%s> (Accept: %s) in the HTTP archive %s"
+                    .formatted(method, uri, accept, file));
+        }
+        return recorded.next();
+    }
+
+    /** Closes the archive being recorded or replayed; the mapping is released once its bodies are unreachable. */
+    public static synchronized void close() {
+        if (recording != null) {
+            try {
+                recording.close();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Could not close the HTTP archive " + file, e);
+            }
+            recording = null;
+        }
+        replaying = null;
+    }
+
+    /**
+     * @return the headers worth recording, all but credentials, cookies and hop-by-hop headers, with the values of each
+     *     joined by commas
+     */
+    public static List<Header> recordable(Map<String, List<String>> headers) {
+        List<Header> recordable = new ArrayList<>();
+        headers.forEach((name, values) -> {
+            if (!UNRECORDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                recordable.add(new Header(name, String.join(",", values)));
+            }
+        });
+        return recordable;
+    }
+
+    /** @return every exchange in the archive, in the order recorded */
+    public static List<Exchange> read(Path archive) throws IOException {
+        List<Exchange> exchanges = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer magic = ByteBuffer.allocate(MAGIC.length);
+            channel.read(magic, 0);
+            if (!ByteBuffer.wrap(MAGIC).equals(magic.flip())) {
+                throw new IOException("Not an HTTP archive: " + archive);
+            }
+
+            long position = MAGIC.length;
+            long mappingStart = position;
+            MappedByteBuffer mapping = null;
+            while (position + Integer.BYTES <= size) {
+                if (mapping == null || position + Integer.BYTES > mappingStart + mapping.capacity()) {
+                    mappingStart = position;
+                    mapping = channel.map(
+                            FileChannel.MapMode.READ_ONLY, mappingStart, Math.min(size - mappingStart, MAX_MAPPING));
+                }
+                int length = mapping.getInt((int) (position - mappingStart));
+                long end = position + Integer.BYTES + length;
+                if (end > size) {
+                    logger.log(Level.WARNING, "Ignoring the incomplete last record of the HTTP archive " + archive);
+                    break;
+                }
+                if (end > mappingStart + mapping.capacity()) {
+                    if (mappingStart == position) {
+                        throw new IOException("Record at %d of %s is too large".formatted(position, archive));
+                    }
+                    mapping = null;
+                    continue;
+                }
+                ByteBuffer record = mapping.slice((int) (position - mappingStart) + Integer.BYTES, length);
+                exchanges.add(decode(record));
+                position = end;
+            }
+        }
+        return exchanges;
+    }
+
+    private static Map<String, Responses> index(List<Exchange> exchanges) {
+        Map<String, List<Exchange>> byKey = new HashMap<>();
+        for (Exchange exchange : exchanges) {
+            String accept = exchange.getRequestHeader("Accept");
+            if (accept != null) {
+                byKey.computeIfAbsent(key(exchange.method(), exchange.uri(), accept), k -> new ArrayList<>())
+                        .add(exchange);
+            }
+            byKey.computeIfAbsent(key(exchange.method(), exchange.uri(), null), k -> new ArrayList<>())
+                    .add(exchange);
+        }
+        Map<String, Responses> index = new HashMap<>();
+        byKey.forEach((key, recorded) -> index.put(key, new Responses(recorded.toArray(new Exchange[0]))));
+        logger.log(Level.INFO, "Replaying %d HTTP exchanges from %s".formatted(exchanges.size(), file));
+        return index;
+    }
+
+    private static String key(String method, String uri, String accept) {
+        return accept == null ? method + ' ' + uri : method + ' ' + uri + ' ' + accept;
+    }
+
+    private static ByteBuffer[] encode(Exchange exchange) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0); // length, filled in below
+        writeString(out, exchange.method());
+        writeString(out, exchange.uri());
+        writeHeaders(out, exchange.requestHeaders());
+        ByteBuffer requestBody = exchange.requestBody();
+        out.writeInt(requestBody == null ? 0 : requestBody.remaining());
+        if (requestBody != null) {
+            out.write(toArray(requestBody));
+        }
+        out.writeInt(exchange.status());
+        writeHeaders(out, exchange.responseHeaders());
+        ByteBuffer responseBody =
+                exchange.responseBody() == null ? ByteBuffer.allocate(0) : exchange.responseBody().duplicate();
+        out.writeInt(responseBody.remaining());
+
+        ByteBuffer head = ByteBuffer.wrap(bytes.toByteArray());
+        head.putInt(0, head.remaining() - Integer.BYTES + responseBody.remaining());
+        return new ByteBuffer[] {head, responseBody};
+    }
+
+    private static Exchange decode(ByteBuffer record) {
+        String method = readString(record);
+        String uri = readString(record);
+        List<Header> requestHeaders = readHeaders(record);
+        ByteBuffer requestBody = readBytes(record);
+        int status = record.getInt();
+        List<Header> responseHeaders = readHeaders(record);
+        ByteBuffer responseBody = readBytes(record);
+        return new Exchange(method, uri, requestHeaders, requestBody, status, responseHeaders, responseBody);
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeHeaders(DataOutputStream out, List<Header> headers) throws IOException {
+        out.writeInt(headers.size());
+        for (Header header : headers) {
+            writeString(out, header.name());
+            writeString(out, header.value());
+        }
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[in.getInt()];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<Header> readHeaders(ByteBuffer in) {
+        int count = in.getInt();
+        List<Header> headers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            headers.add(new Header(readString(in), readString(in)));
+        }
+        return List.copyOf(headers);
+    }
+
+    /** @return the next length-prefixed bytes as a read-only slice, without copying them */
+    private static ByteBuffer readBytes(ByteBuffer in) {
+        int length = in.getInt();
+        ByteBuffer bytes = in.slice(in.position(), length).asReadOnlyBuffer();
+        in.position(in.position() + length);
+        return bytes;
+    }
+
+    private static byte[] toArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static String find(List<Header> headers, String name) {
+        for (Header header : headers) {
+            if (header.name().equalsIgnoreCase(name)) {
+                return header.value();
+            }
+        }
+        return null;
+    }
+
+    /** The responses recorded for one request, handed out in order and then the last one again. */
+    private static class Responses {
+        private final Exchange[] exchanges;
+        private final AtomicInteger next = new AtomicInteger();
+
+        Responses(Exchange[] exchanges) {
+            this.exchanges = exchanges;
+        }
+
+        Exchange next() {
+            int index = next.getAndUpdate(i -> Math.min(i + 1, exchanges.length - 1));
+            return exchanges[index];
+        }
+    }
+
+    private static class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        BufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A log-linear histogram of durations in the spirit of HdrHistogram: every power of two is split into 32 equal
+ * buckets, so a recorded value is known to within about 3% whatever its magnitude, in a fixed amount of memory. Values
+ * are in microseconds. Not thread-safe.
+ *
+ * <p>{@link #toJson(boolean)} is the one format in which the suites export a histogram, so that the metrics files of
+ * the OSLC and TRS suites can be read by the same tools.
+ */
+public class LatencyHistogram {
+    /** The percentiles exported by {@link #toJson(boolean)}, as <code>p50</code>, <code>p90</code>, ... */
+    public static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    // Values below SUB_BUCKETS are exact, then one row of SUB_BUCKETS / 2 buckets per further power of two
+    private final long[] counts = new long[SUB_BUCKETS + (64 - SUB_BUCKET_BITS) * SUB_BUCKETS / 2];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public void record(long micros) {
+        long value = Math.max(micros, 0);
+        counts[indexOf(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /** Adds the values recorded by <code>other</code>. */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * @param percentile between 0 and 100
+     * @return the upper bound of the bucket holding the value at the percentile, capped at the largest recorded value
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /** @return the non-empty buckets in increasing order, keyed by their inclusive upper bound */
+    public Map<Long, Long> getBuckets() {
+        Map<Long, Long> buckets = new LinkedHashMap<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0) {
+                buckets.put(upperBoundOf(i), counts[i]);
+            }
+        }
+        return buckets;
+    }
+
+    /**
+     * @param withBuckets whether to add the non-empty buckets, as a <code>histogram</code> array of
+     *     <code>{"le": upper bound, "count": n}</code> in increasing order
+     * @return a JSON object with the min, mean, {@link #PERCENTILES} and max, all in milliseconds
+     */
+    public String toJson(boolean withBuckets) {
+        StringBuilder json = new StringBuilder();
+        json.append("{\"min\": ").append(millis(getMin()));
+        json.append(", \"mean\": ").append(getMean() / 1000.0);
+        for (double percentile : PERCENTILES) {
+            json.append(", \"p").append((int) percentile).append("\": ");
+            json.append(millis(getValueAtPercentile(percentile)));
+        }
+        json.append(", \"max\": ").append(millis(getMax()));
+        if (withBuckets) {
+            json.append(", \"histogram\": [");
+            String separator = "";
+            for (Map.Entry<Long, Long> bucket : getBuckets().entrySet()) {
+                json.append(separator).append("{\"le\": ").append(millis(bucket.getKey()));
+                json.append(", \"count\": ").append(bucket.getValue()).append('}');
+                separator = ", ";
+            }
+            json.append(']');
+        }
+        return json.append('}').toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value); // >= SUB_BUCKET_BITS
+        int shift = magnitude - SUB_BUCKET_BITS + 1;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS / 2; // 0 .. SUB_BUCKETS / 2 - 1
+        return SUB_BUCKETS + (magnitude - SUB_BUCKET_BITS) * SUB_BUCKETS / 2 + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int row = (index - SUB_BUCKETS) / (SUB_BUCKETS / 2);
+        int subBucket = (index - SUB_BUCKETS) % (SUB_BUCKETS / 2);
+        int shift = row + 1;
+        return ((long) (subBucket + SUB_BUCKETS / 2 + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.common;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class CapturingInputStreamTest {
+    private static CapturingInputStream capture(String text, int limit, int tailLimit) {
+        InputStream in = new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+        return new CapturingInputStream(in, limit, tailLimit);
+    }
+
+    @Test
+    public void testKeepsAllOfShortBody() throws IOException {
+        CapturingInputStream capture = capture("<rdf:RDF/>", 16, 4);
+        capture.readAllBytes();
+
+        assertEquals(10, capture.getCount());
+        assertEquals("<rdf:RDF/>", capture.getCaptured());
+    }
+
+    @Test
+    public void testKeepsHeadAndTailOfLongBody() throws IOException {
+        CapturingInputStream capture = capture("0123456789abcdefghijklmnopqrstuvwxyz", 10, 6);
+        byte[] buffer = new byte[7];
+        while (capture.read(buffer, 0, buffer.length) > 0) {
+            // Reads cross the end of the head and wrap around the ring
+        }
+
+        assertEquals(36, capture.getCount());
+        assertEquals("0123456789%n[... 20 bytes not kept ...]%nuvwxyz".formatted(), capture.getCaptured());
+    }
+
+    @Test
+    public void testKeepsTailOfSingleByteReads() throws IOException {
+        CapturingInputStream capture = capture("0123456789abcdefghij", 4, 5);
+        while (capture.read() >= 0) {
+            // One byte at a time
+        }
+
+        assertEquals(20, capture.getCount());
+        assertEquals("0123%n[... 11 bytes not kept ...]%nfghij".formatted(), capture.getCaptured());
+    }
+
+    @Test
+    public void testTailNotYetFull() throws IOException {
+        CapturingInputStream capture = capture("0123456789ab", 10, 6);
+        capture.readAllBytes();
+
+        assertEquals("0123456789ab", capture.getCaptured());
+    }
+
+    @Test
+    public void testKeepsHeadOnlyWithoutTail() throws IOException {
+        CapturingInputStream capture = capture("0123456789", 4, 0);
+        capture.skip(3);
+        capture.readAllBytes();
+
+        assertEquals(10, capture.getCount());
+        assertEquals("0123%n[... 6 bytes not kept ...]%n".formatted(), capture.getCaptured());
+    }
+}
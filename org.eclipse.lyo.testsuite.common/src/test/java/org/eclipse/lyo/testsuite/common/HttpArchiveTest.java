@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HttpArchiveTest {
+    /** Five exchanges, two of them to the same request, and the start of a sixth cut short. */
+    static final Path FIXTURE = Path.of("src/test/resources/http-archive.bin");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        HttpArchive.configure(null);
+    }
+
+    private static void configure(String mode, Path file) {
+        configure(mode, file, HttpArchive.DEFAULT_MAX_BODY);
+    }
+
+    private static void configure(String mode, Path file, int maxBody) {
+        Properties setupProps = new Properties();
+        setupProps.setProperty("httpArchive", mode);
+        setupProps.setProperty("httpArchiveFile", file.toString());
+        setupProps.setProperty("httpArchiveMaxBody", String.valueOf(maxBody));
+        HttpArchive.configure(setupProps);
+    }
+
+    private static InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String body(HttpArchive.Exchange exchange) throws IOException {
+        try (InputStream in = exchange.openResponseBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    public void testReadsFixtureUpToIncompleteRecord() throws IOException {
+        List<HttpArchive.Exchange> exchanges = HttpArchive.read(FIXTURE);
+
+        assertEquals(5, exchanges.size());
+        HttpArchive.Exchange post = exchanges.get(4);
+        assertEquals("POST", post.method());
+        assertEquals("http://example.com/resources", post.uri());
+        assertEquals("text/turtle", post.getRequestHeader("content-type"));
+        assertEquals("<> a <urn:r> .\n", StandardCharsets.UTF_8.decode(post.requestBody()).toString());
+        assertEquals(201, post.status());
+        assertEquals("http://example.com/resources/1", post.getResponseHeader("LOCATION"));
+        assertNull(post.getResponseHeader("Content-Type"));
+        assertEquals(0, post.responseBody().remaining());
+    }
+
+    @Test
+    public void testReplaysFixture() throws IOException {
+        configure("replay", FIXTURE);
+        assertEquals(HttpArchive.Mode.REPLAY, HttpArchive.getMode());
+
+        HttpArchive.Exchange turtle = HttpArchive.replay("GET", "http://example.com/trs", "text/turtle");
+        assertEquals("text/turtle", turtle.getResponseHeader("Content-Type"));
+        HttpArchive.Exchange rdfXml = HttpArchive.replay("GET", "http://example.com/trs", "application/rdf+xml");
+        assertEquals("application/rdf+xml", rdfXml.getResponseHeader("Content-Type"));
+        // An Accept header never recorded falls back to the first response to the URI
+        HttpArchive.Exchange any = HttpArchive.replay("GET", "http://example.com/trs", "*/*");
+        assertEquals("text/turtle", any.getResponseHeader("Content-Type"));
+        // Responses to the same request come in the order recorded, then the last one again
+        assertEquals("first", body(HttpArchive.replay("GET", "http://example.com/changes", null)));
+        assertEquals("second", body(HttpArchive.replay("GET", "http://example.com/changes", null)));
+        assertEquals("second", body(HttpArchive.replay("GET", "http://example.com/changes", null)));
+
+        try {
+            HttpArchive.replay("GET", "http://example.com/unknown", "text/turtle");
+            fail("Expected no response to an unrecorded request");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("http://example.com/unknown"));
+        }
+    }
+
+    @Test
+    public void testRecordsWhatItReads() throws IOException {
+        List<HttpArchive.Exchange> fixture = HttpArchive.read(FIXTURE);
+        Path file = folder.getRoot().toPath().resolve("nested/archive.bin");
+        configure("record", file);
+        for (HttpArchive.Exchange exchange : fixture) {
+            HttpArchive.record(exchange);
+        }
+        // Configuring again closes the archive being recorded
+        HttpArchive.configure(null);
+        assertEquals(HttpArchive.Mode.OFF, HttpArchive.getMode());
+
+        assertEquals(fixture, HttpArchive.read(file));
+    }
+
+    @Test
+    public void testRejectsOtherFiles() throws IOException {
+        Path file = folder.newFile("other.bin").toPath();
+        Files.writeString(file, "LYOHTTP0 and more");
+        try {
+            HttpArchive.read(file);
+            fail("Expected an invalid archive");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(file.toString()));
+        }
+    }
+
+    @Test
+    public void testBuffersBodiesUpToLimit() throws IOException {
+        configure("record", folder.getRoot().toPath().resolve("archive.bin"), 10);
+        assertEquals(10, HttpArchive.getMaxBody());
+
+        HttpArchive.Body small = HttpArchive.buffer(stream("0123456789"));
+        assertEquals("0123456789", new String(small.bytes(), StandardCharsets.UTF_8));
+        assertEquals("0123456789", new String(small.stream().readAllBytes(), StandardCharsets.UTF_8));
+
+        HttpArchive.Body large = HttpArchive.buffer(stream("0123456789A"));
+        assertNull(large.bytes());
+        assertEquals("0123456789A", new String(large.stream().readAllBytes(), StandardCharsets.UTF_8));
+    }
+}
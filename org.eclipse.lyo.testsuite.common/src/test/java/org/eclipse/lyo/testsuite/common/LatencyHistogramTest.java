@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+    @Test
+    public void testSmallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 50; micros++) {
+            histogram.record(micros);
+        }
+
+        assertEquals(50, histogram.getCount());
+        assertEquals(1, histogram.getMin());
+        assertEquals(50, histogram.getMax());
+        assertEquals(25.5, histogram.getMean(), 0);
+        assertEquals(25, histogram.getValueAtPercentile(50));
+        assertEquals(50, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    public void testLargeValuesAreWithinThreePercent() {
+        for (long micros = 1_000; micros <= 100_000_000; micros *= 3) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(micros);
+            long bound = histogram.getBuckets().keySet().iterator().next();
+            assertTrue(bound + " for " + micros, bound >= micros && bound - micros <= micros * 0.032);
+        }
+    }
+
+    @Test
+    public void testAddMergesCounts() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.record(10);
+        second.record(5);
+        second.record(10);
+
+        first.add(second);
+
+        assertEquals(3, first.getCount());
+        assertEquals(5, first.getMin());
+        assertEquals(Map.of(5L, 1L, 10L, 2L), first.getBuckets());
+    }
+
+    @Test
+    public void testToJson() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_500);
+        histogram.record(2_500);
+
+        assertEquals(
+                "{\"min\": 1.5, \"mean\": 2.0, \"p50\": 1.503, \"p90\": 2.5, \"p95\": 2.5, \"p99\": 2.5, \"max\": 2.5}",
+                histogram.toJson(false));
+        assertTrue(histogram
+                .toJson(true)
+                .endsWith(", \"histogram\": [{\"le\": 1.503, \"count\": 1}, {\"le\": 2.559, \"count\": 1}]}"));
+    }
+
+    @Test
+    public void testEmptyHistogram() {
+        assertEquals(
+                "{\"min\": 0.0, \"mean\": 0.0, \"p50\": 0.0, \"p90\": 0.0, \"p95\": 0.0, \"p99\": 0.0, \"max\": 0.0}",
+                new LatencyHistogram().toJson(false));
+    }
+}
@@ -14,6 +14,14 @@
 package org.eclipse.lyo.testsuite;
 
 import java.io.IOException;
+import java.util.Properties;
+import org.eclipse.lyo.testsuite.common.HttpArchive;
+import org.eclipse.lyo.testsuite.util.CleanupQueue;
+import org.eclipse.lyo.testsuite.util.HttpMetrics;
+import org.eclipse.lyo.testsuite.util.SetupProperties;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.Parameterized;
 import org.junit.runners.Suite;
 import org.junit.runners.model.InitializationError;
 
@@ -21,10 +29,43 @@ import org.junit.runners.model.InitializationError;
  * An extension to JUnit's Suite, this class's job is to allow DynamicSuiteBuilder to properly create the test suite for
  * the correct version of OSLC.
  *
+ * <p>Test classes run one after the other unless <code>parallelClasses</code> is set in setup.properties, and the
+ * parameters (resources, capabilities, ...) of a parameterized class likewise unless <code>parallelParameters</code>
+ * is set. Both give a number of threads; up to their product of tests can run at once.
+ *
+ * <p>With <code>httpMetrics=true</code>, the timings of all HTTP requests are exported once the suite is done (see
+ * {@link HttpMetrics}). Resources the tests created and did not get to delete are deleted then (see
+ * {@link CleanupQueue}).
+ *
  * @author Matthew Brown
  */
 public class OslcTestSuite extends Suite {
     public OslcTestSuite(Class<?> setupClass) throws InitializationError, IOException {
         super(setupClass, DynamicSuiteBuilder.suitesArray());
+
+        Properties setupProps = SetupProperties.setup(null);
+        int classThreads = Integer.parseInt(setupProps.getProperty("parallelClasses", "1"));
+        int parameterThreads = Integer.parseInt(setupProps.getProperty("parallelParameters", "1"));
+        if (classThreads > 1) {
+            setScheduler(new ParallelScheduler(classThreads));
+        }
+        if (parameterThreads > 1) {
+            for (Runner runner : getChildren()) {
+                if (runner instanceof Parameterized parameterized) {
+                    parameterized.setScheduler(new ParallelScheduler(parameterThreads));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        try {
+            super.run(notifier);
+        } finally {
+            CleanupQueue.drain();
+            HttpMetrics.exportIfEnabled();
+            HttpArchive.close();
+        }
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.runners.model.RunnerScheduler;
+
+/**
+ * Runs the children of a JUnit runner on a fixed number of threads. {@link #finished()} returns once all of them are
+ * done, so the runner reports its end after its children as usual.
+ */
+public class ParallelScheduler implements RunnerScheduler {
+    private final ExecutorService executor;
+
+    public ParallelScheduler(int threads) {
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @Override
+    public void schedule(Runnable childStatement) {
+        executor.execute(childStatement);
+    }
+
+    @Override
+    public void finished() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
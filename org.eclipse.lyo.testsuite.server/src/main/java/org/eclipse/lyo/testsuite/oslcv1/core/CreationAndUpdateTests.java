@@ -110,7 +110,7 @@ public class CreationAndUpdateTests {
         if (resp.getHeaderString("Content-Type").contains(OSLCConstants.CT_DISC_DESC_XML)) {
             Document baseDoc = OSLCUtils.createXMLDocFromResponseBody(resp.readEntity(String.class));
             Node factoryUrl =
-                    (Node) OSLCUtils.getXPath().evaluate("//oslc_cm:factory/oslc_cm:url", baseDoc, XPathConstants.NODE);
+                    (Node) OSLCUtils.evaluateXPath("//oslc_cm:factory/oslc_cm:url", baseDoc, XPathConstants.NODE);
             Collection<Object[]> data = new ArrayList<Object[]>();
             data.add(new Object[] {factoryUrl.getTextContent()});
             return data;
@@ -123,7 +123,7 @@ public class CreationAndUpdateTests {
 
         // Get all the ServiceDescriptionDocuments from this ServiceProviderCatalog
         NodeList sDescs = (NodeList)
-                OSLCUtils.getXPath().evaluate("//oslc_disc:services/@rdf:resource", baseDoc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("//oslc_disc:services/@rdf:resource", baseDoc, XPathConstants.NODESET);
         for (int i = 0; i < sDescs.getLength(); i++) {
             Collection<Object[]> subCollection =
                     getReferencedUrls(sDescs.item(i).getNodeValue());
@@ -136,11 +136,8 @@ public class CreationAndUpdateTests {
         // Get all ServiceProviderCatalog urls from the base document in order to recursively add
         // all the
         // simple query services from the eventual service description documents from them as well.
-        NodeList spcs = (NodeList) OSLCUtils.getXPath()
-                .evaluate(
-                        "//oslc_disc:entry/oslc_disc:ServiceProviderCatalog/@rdf:about",
-                        baseDoc,
-                        XPathConstants.NODESET);
+        NodeList spcs = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_disc:entry/oslc_disc:ServiceProviderCatalog/@rdf:about", baseDoc, XPathConstants.NODESET);
         for (int i = 0; i < spcs.getLength(); i++) {
             if (!spcs.item(i).getNodeValue().equals(base)) {
                 Collection<Object[]> subCollection =
@@ -119,7 +119,7 @@ public class QueryTests {
         if (resp.getHeaderString("Content-Type").contains(OSLCConstants.CT_DISC_DESC_XML)) {
             Document baseDoc = OSLCUtils.createXMLDocFromResponseBody(resp.readEntity(String.class));
             Node simpleQueryUrl = (Node)
-                    OSLCUtils.getXPath().evaluate("//oslc_cm:simpleQuery/oslc_cm:url", baseDoc, XPathConstants.NODE);
+                    OSLCUtils.evaluateXPath("//oslc_cm:simpleQuery/oslc_cm:url", baseDoc, XPathConstants.NODE);
             Collection<Object[]> data = new ArrayList<Object[]>();
             data.add(new Object[] {simpleQueryUrl.getTextContent()});
             return data;
@@ -133,7 +133,7 @@ public class QueryTests {
 
         // Get all the ServiceDescriptionDocuments from this ServiceProviderCatalog
         NodeList sDescs = (NodeList)
-                OSLCUtils.getXPath().evaluate("//oslc_disc:services/@rdf:resource", baseDoc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("//oslc_disc:services/@rdf:resource", baseDoc, XPathConstants.NODESET);
         for (int i = 0; i < sDescs.getLength(); i++) {
             String serviceUrl =
                     OSLCUtils.absoluteUrlFromRelative(base, sDescs.item(i).getNodeValue());
@@ -147,11 +147,8 @@ public class QueryTests {
         // Get all ServiceProviderCatalog urls from the base document in order to recursively add
         // all the
         // simple query services from the eventual service description documents from them as well.
-        NodeList spcs = (NodeList) OSLCUtils.getXPath()
-                .evaluate(
-                        "//oslc_disc:entry/oslc_disc:ServiceProviderCatalog/@rdf:about",
-                        baseDoc,
-                        XPathConstants.NODESET);
+        NodeList spcs = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_disc:entry/oslc_disc:ServiceProviderCatalog/@rdf:about", baseDoc, XPathConstants.NODESET);
         for (int i = 0; i < spcs.getLength(); i++) {
             String uri = spcs.item(i).getNodeValue();
             uri = OSLCUtils.absoluteUrlFromRelative(base, uri);
@@ -363,7 +360,7 @@ public class QueryTests {
         Document doc = OSLCUtils.createXMLDocFromResponseBody(respBody);
 
         // Verify that each score element is non-negative
-        NodeList scores = (NodeList) OSLCUtils.getXPath().evaluate("//oslc_cm:score", doc, XPathConstants.NODESET);
+        NodeList scores = (NodeList) OSLCUtils.evaluateXPath("//oslc_cm:score", doc, XPathConstants.NODESET);
         assertTrue(scores.getLength() > 0);
         for (int i = 0; i < scores.getLength(); i++) {
             Node score = scores.item(i);
@@ -118,7 +118,7 @@ public class ServiceDescriptionTests {
 
         // Get all the ServiceDescriptionDocuments from this ServiceProviderCatalog
         NodeList sDescs = (NodeList)
-                OSLCUtils.getXPath().evaluate("//oslc_disc:services/@rdf:resource", baseDoc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("//oslc_disc:services/@rdf:resource", baseDoc, XPathConstants.NODESET);
         for (int i = 0; i < sDescs.getLength(); i++) {
             String uri = sDescs.item(i).getNodeValue();
             uri = OSLCUtils.absoluteUrlFromRelative(base, uri);
@@ -128,11 +128,8 @@ public class ServiceDescriptionTests {
         // Get all ServiceProviderCatalog urls from the base document in order to recursively add
         // all the
         // description documents from them as well.
-        NodeList spcs = (NodeList) OSLCUtils.getXPath()
-                .evaluate(
-                        "//oslc_disc:entry/oslc_disc:ServiceProviderCatalog/@rdf:about",
-                        baseDoc,
-                        XPathConstants.NODESET);
+        NodeList spcs = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_disc:entry/oslc_disc:ServiceProviderCatalog/@rdf:about", baseDoc, XPathConstants.NODESET);
         for (int i = 0; i < spcs.getLength(); i++) {
             String uri = spcs.item(i).getNodeValue();
             uri = OSLCUtils.absoluteUrlFromRelative(base, uri);
@@ -188,13 +185,13 @@ public class ServiceDescriptionTests {
     public void serviceDescriptionHasTitle() throws XPathException {
         // Verify that the ServiceDescription has a dc:title child element
         Node title =
-                (Node) OSLCUtils.getXPath().evaluate("/oslc_cm:ServiceDescriptor/dc:title", doc, XPathConstants.NODE);
+                (Node) OSLCUtils.evaluateXPath("/oslc_cm:ServiceDescriptor/dc:title", doc, XPathConstants.NODE);
         assertNotNull(title);
         assertFalse(title.getTextContent().isEmpty());
 
         // Verify that the dc:title child element has no children
         NodeList children = (NodeList)
-                OSLCUtils.getXPath().evaluate("/oslc_cm:ServiceDescriptor/dc:title/*", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("/oslc_cm:ServiceDescriptor/dc:title/*", doc, XPathConstants.NODESET);
         assertTrue(children.getLength() == 0);
     }
 
@@ -202,7 +199,7 @@ public class ServiceDescriptionTests {
     public void serviceDescriptionHasDescription() throws XPathException {
         // Verify the ServiceDescription has a dc:description child element
         Node description = (Node)
-                OSLCUtils.getXPath().evaluate("/oslc_cm:ServiceDescriptor/dc:description", doc, XPathConstants.NODE);
+                OSLCUtils.evaluateXPath("/oslc_cm:ServiceDescriptor/dc:description", doc, XPathConstants.NODE);
         assertNotNull(description);
     }
 
@@ -210,10 +207,10 @@ public class ServiceDescriptionTests {
     public void serviceDescriptionContributorHasIdentifier() throws XPathException {
         // If the ServiceDescription has a dc:contributor element, make sure it has a dc:identifier
         // child element
-        NodeList contrib = (NodeList) OSLCUtils.getXPath().evaluate("//dc:contributor", doc, XPathConstants.NODE);
+        NodeList contrib = (NodeList) OSLCUtils.evaluateXPath("//dc:contributor", doc, XPathConstants.NODE);
         if (contrib != null) {
             Node identifier =
-                    (Node) OSLCUtils.getXPath().evaluate("//dc:contributor/dc:identifier", doc, XPathConstants.NODE);
+                    (Node) OSLCUtils.evaluateXPath("//dc:contributor/dc:identifier", doc, XPathConstants.NODE);
             assertNotNull(identifier);
         }
     }
@@ -221,16 +218,16 @@ public class ServiceDescriptionTests {
     @Test
     public void changeManagementServiceDescriptionHasValidFactory() throws XPathException {
         // If ServiceDescription is oslc_cm, make sure it has a valid factory child element
-        Node cmRequest = (Node) OSLCUtils.getXPath().evaluate("//oslc_cm:changeRequests", doc, XPathConstants.NODE);
+        Node cmRequest = (Node) OSLCUtils.evaluateXPath("//oslc_cm:changeRequests", doc, XPathConstants.NODE);
         if (cmRequest != null) {
             Node fac = (Node)
-                    OSLCUtils.getXPath().evaluate("//oslc_cm:changeRequests/oslc_cm:factory", doc, XPathConstants.NODE);
+                    OSLCUtils.evaluateXPath("//oslc_cm:changeRequests/oslc_cm:factory", doc, XPathConstants.NODE);
             assertNotNull(fac);
-            Node facUrl = (Node) OSLCUtils.getXPath()
-                    .evaluate("//oslc_cm:changeRequests/oslc_cm:factory/oslc_cm:url", doc, XPathConstants.NODE);
+            Node facUrl = (Node) OSLCUtils.evaluateXPath(
+                    "//oslc_cm:changeRequests/oslc_cm:factory/oslc_cm:url", doc, XPathConstants.NODE);
             assertNotNull(facUrl);
-            Node facTitle = (Node) OSLCUtils.getXPath()
-                    .evaluate("//oslc_cm:changeRequests/oslc_cm:factory/dc:title", doc, XPathConstants.NODE);
+            Node facTitle = (Node) OSLCUtils.evaluateXPath(
+                    "//oslc_cm:changeRequests/oslc_cm:factory/dc:title", doc, XPathConstants.NODE);
             assertNotNull(facTitle);
             assertFalse(facTitle.getTextContent().isEmpty());
         }
@@ -239,16 +236,16 @@ public class ServiceDescriptionTests {
     @Test
     public void changeManagementServiceDescriptionHasValidSimpleQuery() throws XPathException {
         // If ServiceDescription is oslc_cm, make sure it has a valid simple query child element
-        Node cmRequest = (Node) OSLCUtils.getXPath().evaluate("//oslc_cm:changeRequests", doc, XPathConstants.NODE);
+        Node cmRequest = (Node) OSLCUtils.evaluateXPath("//oslc_cm:changeRequests", doc, XPathConstants.NODE);
         if (cmRequest != null) {
-            NodeList sQ = (NodeList) OSLCUtils.getXPath()
-                    .evaluate("//oslc_cm:changeRequests/oslc_cm:simpleQuery", doc, XPathConstants.NODESET);
+            NodeList sQ = (NodeList) OSLCUtils.evaluateXPath(
+                    "//oslc_cm:changeRequests/oslc_cm:simpleQuery", doc, XPathConstants.NODESET);
             assertTrue(sQ.getLength() == 1);
-            Node url = (Node) OSLCUtils.getXPath()
-                    .evaluate("//oslc_cm:changeRequests/oslc_cm:simpleQuery/oslc_cm:url", doc, XPathConstants.NODE);
+            Node url = (Node) OSLCUtils.evaluateXPath(
+                    "//oslc_cm:changeRequests/oslc_cm:simpleQuery/oslc_cm:url", doc, XPathConstants.NODE);
             assertNotNull(url);
-            Node title = (Node) OSLCUtils.getXPath()
-                    .evaluate("//oslc_cm:changeRequests/oslc_cm:simpleQuery/dc:title", doc, XPathConstants.NODE);
+            Node title = (Node) OSLCUtils.evaluateXPath(
+                    "//oslc_cm:changeRequests/oslc_cm:simpleQuery/dc:title", doc, XPathConstants.NODE);
             assertNotNull(title);
             assertFalse(title.getTextContent().isEmpty());
         }
@@ -257,22 +254,20 @@ public class ServiceDescriptionTests {
     @Test
     public void changeManagementServiceDescriptionHasValidSelectionDialog() throws XPathException {
         // If ServiceDescription is oslc_cm, make sure it has a valid selection dialog child element
-        Node cmRequest = (Node) OSLCUtils.getXPath().evaluate("//oslc_cm:changeRequests", doc, XPathConstants.NODE);
+        Node cmRequest = (Node) OSLCUtils.evaluateXPath("//oslc_cm:changeRequests", doc, XPathConstants.NODE);
         if (cmRequest != null) {
-            NodeList sD = (NodeList) OSLCUtils.getXPath()
-                    .evaluate("//oslc_cm:changeRequests/oslc_cm:selectionDialog", doc, XPathConstants.NODESET);
+            NodeList sD = (NodeList) OSLCUtils.evaluateXPath(
+                    "//oslc_cm:changeRequests/oslc_cm:selectionDialog", doc, XPathConstants.NODESET);
             for (int i = 0; i < sD.getLength(); i++) {
-                Node sQUrl = (Node) OSLCUtils.getXPath()
-                        .evaluate(
-                                "//oslc_cm:changeRequests/oslc_cm:selectionDialog[" + (i + 1) + "]/oslc_cm:url",
-                                doc,
-                                XPathConstants.NODE);
+                Node sQUrl = (Node) OSLCUtils.evaluateXPath(
+                        "//oslc_cm:changeRequests/oslc_cm:selectionDialog[" + (i + 1) + "]/oslc_cm:url",
+                        doc,
+                        XPathConstants.NODE);
                 assertNotNull(sQUrl);
-                Node sDtitle = (Node) OSLCUtils.getXPath()
-                        .evaluate(
-                                "//oslc_cm:changeRequests/oslc_cm:selectionDialog[" + (i + 1) + "]/dc:title",
-                                doc,
-                                XPathConstants.NODE);
+                Node sDtitle = (Node) OSLCUtils.evaluateXPath(
+                        "//oslc_cm:changeRequests/oslc_cm:selectionDialog[" + (i + 1) + "]/dc:title",
+                        doc,
+                        XPathConstants.NODE);
                 assertNotNull(sDtitle);
                 assertFalse(sDtitle.getTextContent().isEmpty());
             }
@@ -282,22 +277,20 @@ public class ServiceDescriptionTests {
     @Test
     public void changeManagementServiceDescriptionHasValidCreationDialog() throws XPathException {
         // If ServiceDescription is oslc_cm, make sure it has a valid creation dialog child element
-        Node cmRequest = (Node) OSLCUtils.getXPath().evaluate("//oslc_cm:changeRequests", doc, XPathConstants.NODE);
+        Node cmRequest = (Node) OSLCUtils.evaluateXPath("//oslc_cm:changeRequests", doc, XPathConstants.NODE);
         if (cmRequest != null) {
-            NodeList sD = (NodeList) OSLCUtils.getXPath()
-                    .evaluate("//oslc_cm:changeRequests/oslc_cm:creationDialog", doc, XPathConstants.NODESET);
+            NodeList sD = (NodeList) OSLCUtils.evaluateXPath(
+                    "//oslc_cm:changeRequests/oslc_cm:creationDialog", doc, XPathConstants.NODESET);
             for (int i = 0; i < sD.getLength(); i++) {
-                Node sQUrl = (Node) OSLCUtils.getXPath()
-                        .evaluate(
-                                "//oslc_cm:changeRequests/oslc_cm:creationDialog[" + (i + 1) + "]/oslc_cm:url",
-                                doc,
-                                XPathConstants.NODE);
+                Node sQUrl = (Node) OSLCUtils.evaluateXPath(
+                        "//oslc_cm:changeRequests/oslc_cm:creationDialog[" + (i + 1) + "]/oslc_cm:url",
+                        doc,
+                        XPathConstants.NODE);
                 assertNotNull(sQUrl);
-                Node sDtitle = (Node) OSLCUtils.getXPath()
-                        .evaluate(
-                                "//oslc_cm:changeRequests/oslc_cm:creationDialog[" + (i + 1) + "]/dc:title",
-                                doc,
-                                XPathConstants.NODE);
+                Node sDtitle = (Node) OSLCUtils.evaluateXPath(
+                        "//oslc_cm:changeRequests/oslc_cm:creationDialog[" + (i + 1) + "]/dc:title",
+                        doc,
+                        XPathConstants.NODE);
                 assertNotNull(sDtitle);
                 assertFalse(sDtitle.getTextContent().isEmpty());
             }
@@ -307,7 +300,7 @@ public class ServiceDescriptionTests {
     @Test
     public void validateUrlsInServiceDescription() throws IOException, XPathException {
         // Get all referenced oslc_cm:url elements in the Description Document
-        NodeList urlElements = (NodeList) OSLCUtils.getXPath().evaluate("//oslc_cm:url", doc, XPathConstants.NODESET);
+        NodeList urlElements = (NodeList) OSLCUtils.evaluateXPath("//oslc_cm:url", doc, XPathConstants.NODESET);
         for (int i = 0; i < urlElements.getLength(); i++) {
             Node urlElement = urlElements.item(i);
             String url = urlElement.getTextContent();
@@ -322,11 +315,11 @@ public class ServiceDescriptionTests {
     @Test
     public void homeElementHasTitleAndUrlChildElements() throws XPathException {
         // Make sure each home element has a title and url
-        NodeList hElements = (NodeList) OSLCUtils.getXPath().evaluate("//oslc_cm:home", doc, XPathConstants.NODESET);
+        NodeList hElements = (NodeList) OSLCUtils.evaluateXPath("//oslc_cm:home", doc, XPathConstants.NODESET);
         for (int i = 0; i < hElements.getLength(); i++) {
-            Node hUrl = (Node) OSLCUtils.getXPath().evaluate("./oslc_cm:url", hElements.item(i), XPathConstants.NODE);
+            Node hUrl = (Node) OSLCUtils.evaluateXPath("./oslc_cm:url", hElements.item(i), XPathConstants.NODE);
             assertNotNull(hUrl);
-            Node hTitle = (Node) OSLCUtils.getXPath().evaluate("./dc:title", hElements.item(i), XPathConstants.NODE);
+            Node hTitle = (Node) OSLCUtils.evaluateXPath("./dc:title", hElements.item(i), XPathConstants.NODE);
             assertNotNull(hTitle);
             assertFalse(hTitle.getTextContent().isEmpty());
         }
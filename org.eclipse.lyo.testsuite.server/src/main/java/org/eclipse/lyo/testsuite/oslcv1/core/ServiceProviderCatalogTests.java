@@ -111,11 +111,8 @@ public class ServiceProviderCatalogTests {
 
         // Get all ServiceProviderCatalog urls from the base document in order to test them as well,
         // recursively checking them for other ServiceProviderCatalogs further down.
-        NodeList spcs = (NodeList) OSLCUtils.getXPath()
-                .evaluate(
-                        "//oslc_disc:entry/oslc_disc:ServiceProviderCatalog/@rdf:about",
-                        baseDoc,
-                        XPathConstants.NODESET);
+        NodeList spcs = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_disc:entry/oslc_disc:ServiceProviderCatalog/@rdf:about", baseDoc, XPathConstants.NODESET);
         for (int i = 0; i < spcs.getLength(); i++) {
             String uri = spcs.item(i).getNodeValue();
             uri = OSLCUtils.absoluteUrlFromRelative(base, uri);
@@ -173,7 +170,7 @@ public class ServiceProviderCatalogTests {
     public void catalogRootIsServiceProviderCatalog() throws XPathException {
         // Make sure our root element is a ServiceProviderCatalog
         Node rootNode =
-                (Node) OSLCUtils.getXPath().evaluate("/oslc_disc:ServiceProviderCatalog", doc, XPathConstants.NODE);
+                (Node) OSLCUtils.evaluateXPath("/oslc_disc:ServiceProviderCatalog", doc, XPathConstants.NODE);
         assertNotNull(rootNode);
     }
 
@@ -182,7 +179,7 @@ public class ServiceProviderCatalogTests {
         // Make sure that we our root element has an rdf:about that points the same server provider
         // catalog
         Node aboutRoot = (Node)
-                OSLCUtils.getXPath().evaluate("/oslc_disc:ServiceProviderCatalog/@rdf:about", doc, XPathConstants.NODE);
+                OSLCUtils.evaluateXPath("/oslc_disc:ServiceProviderCatalog/@rdf:about", doc, XPathConstants.NODE);
         assertNotNull(aboutRoot);
         Response resp = OSLCUtils.getResponseFromUrl(baseUrl, aboutRoot.getNodeValue(), basicCreds, "*/*", null);
         // Verify the catalogs we get are identical (ie: the same resource)
@@ -193,37 +190,32 @@ public class ServiceProviderCatalogTests {
     public void serviceProviderCatalogsHaveValidTitles() throws XPathException {
         // Check root
         Node rootCatalogTitle = (Node)
-                OSLCUtils.getXPath().evaluate("/oslc_disc:ServiceProviderCatalog/dc:title", doc, XPathConstants.NODE);
+                OSLCUtils.evaluateXPath("/oslc_disc:ServiceProviderCatalog/dc:title", doc, XPathConstants.NODE);
         assertNotNull(rootCatalogTitle);
         assertFalse(rootCatalogTitle.getTextContent().isEmpty());
-        NodeList titleSub = (NodeList) OSLCUtils.getXPath()
-                .evaluate("/oslc_disc:ServiceProviderCatalog/dc:title/*", doc, XPathConstants.NODESET);
+        NodeList titleSub = (NodeList) OSLCUtils.evaluateXPath(
+                "/oslc_disc:ServiceProviderCatalog/dc:title/*", doc, XPathConstants.NODESET);
         assertTrue(titleSub.getLength() == 0);
 
         // Get all entries, parse out which have embedded catalogs and check the titles
         NodeList catalogs =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_disc:entry/*", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_disc:entry/*", doc, XPathConstants.NODESET);
         for (int i = 0; i < catalogs.getLength(); i++) {
-            Node catalog = (Node) OSLCUtils.getXPath()
-                    .evaluate(
-                            "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProviderCatalog",
-                            doc,
-                            XPathConstants.NODE);
+            Node catalog = (Node) OSLCUtils.evaluateXPath(
+                    "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProviderCatalog", doc, XPathConstants.NODE);
             // This entry has a catalog, check that it has a title
             if (catalog != null) {
-                Node cTitle = (Node) OSLCUtils.getXPath()
-                        .evaluate(
-                                "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProviderCatalog/dc:title",
-                                doc,
-                                XPathConstants.NODE);
+                Node cTitle = (Node) OSLCUtils.evaluateXPath(
+                        "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProviderCatalog/dc:title",
+                        doc,
+                        XPathConstants.NODE);
                 assertNotNull(cTitle);
                 // Make sure the child isn't empty
                 assertFalse(cTitle.getTextContent().isEmpty());
-                Node child = (Node) OSLCUtils.getXPath()
-                        .evaluate(
-                                "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProviderCatalog/dc:title/*",
-                                doc,
-                                XPathConstants.NODE);
+                Node child = (Node) OSLCUtils.evaluateXPath(
+                        "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProviderCatalog/dc:title/*",
+                        doc,
+                        XPathConstants.NODE);
                 // Make sure the title has no child elements
                 assertTrue(child == null);
             }
@@ -233,25 +225,23 @@ public class ServiceProviderCatalogTests {
     @Test
     public void serviceProvidersHaveValidTitles() throws XPathException {
         // Get all entries, parse out which have embedded ServiceProviders and check the titles
-        NodeList entries = (NodeList) OSLCUtils.getXPath().evaluate("//oslc_disc:entry/*", doc, XPathConstants.NODESET);
+        NodeList entries = (NodeList) OSLCUtils.evaluateXPath("//oslc_disc:entry/*", doc, XPathConstants.NODESET);
         for (int i = 0; i < entries.getLength(); i++) {
-            Node provider = (Node) OSLCUtils.getXPath()
-                    .evaluate("//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider", doc, XPathConstants.NODE);
+            Node provider = (Node) OSLCUtils.evaluateXPath(
+                    "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider", doc, XPathConstants.NODE);
             // This entry has a catalog, check that it has a title
             if (provider != null) {
-                Node pTitle = (Node) OSLCUtils.getXPath()
-                        .evaluate(
-                                "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider/dc:title",
-                                doc,
-                                XPathConstants.NODE);
+                Node pTitle = (Node) OSLCUtils.evaluateXPath(
+                        "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider/dc:title",
+                        doc,
+                        XPathConstants.NODE);
                 assertNotNull(pTitle);
                 // Make sure the title isn't empty
                 assertFalse(pTitle.getTextContent().isEmpty());
-                Node child = (Node) OSLCUtils.getXPath()
-                        .evaluate(
-                                "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider/dc:title/*",
-                                doc,
-                                XPathConstants.NODE);
+                Node child = (Node) OSLCUtils.evaluateXPath(
+                        "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider/dc:title/*",
+                        doc,
+                        XPathConstants.NODE);
                 // Make sure the title has no child elements
                 assertTrue(child == null);
             }
@@ -263,10 +253,10 @@ public class ServiceProviderCatalogTests {
         // Get all ServiceProviderCatalog elements and their rdf:about attributes, make sure that
         // each catalog has
         // an rdf:about attribute
-        NodeList catalogAbouts = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_disc:ServiceProviderCatalog/@rdf:about", doc, XPathConstants.NODESET);
+        NodeList catalogAbouts = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_disc:ServiceProviderCatalog/@rdf:about", doc, XPathConstants.NODESET);
         NodeList catalogs = (NodeList)
-                OSLCUtils.getXPath().evaluate("//oslc_disc:ServiceProviderCatalog", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("//oslc_disc:ServiceProviderCatalog", doc, XPathConstants.NODESET);
         assertTrue(catalogAbouts.getLength() == catalogs.getLength());
 
         // Verify the rdf:about attribute links
@@ -282,23 +272,17 @@ public class ServiceProviderCatalogTests {
     @Test
     public void entryElementsHaveSingleServiceProviderOrCatalog() throws XPathException {
         // Get all entry elements
-        NodeList entries = (NodeList) OSLCUtils.getXPath().evaluate("//oslc_disc:entry", doc, XPathConstants.NODESET);
+        NodeList entries = (NodeList) OSLCUtils.evaluateXPath("//oslc_disc:entry", doc, XPathConstants.NODESET);
         // Check for either 1 ServiceProviderCatalog or 1 ServiceProvider, but not both.
         for (int i = 0; i < entries.getLength(); i++) {
             boolean hasServiceOrCatalog = false;
-            NodeList spc = (NodeList) OSLCUtils.getXPath()
-                    .evaluate(
-                            "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProviderCatalog",
-                            doc,
-                            XPathConstants.NODESET);
+            NodeList spc = (NodeList) OSLCUtils.evaluateXPath(
+                    "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProviderCatalog", doc, XPathConstants.NODESET);
             if (spc.getLength() == 1) {
                 hasServiceOrCatalog = true;
             }
-            NodeList sp = (NodeList) OSLCUtils.getXPath()
-                    .evaluate(
-                            "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider",
-                            doc,
-                            XPathConstants.NODESET);
+            NodeList sp = (NodeList) OSLCUtils.evaluateXPath(
+                    "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider", doc, XPathConstants.NODESET);
             if (sp.getLength() == 1) {
                 hasServiceOrCatalog = !hasServiceOrCatalog;
             }
@@ -309,29 +293,25 @@ public class ServiceProviderCatalogTests {
     @Test
     public void noInternalServiceProviderCatalogsHaveEntryElements() throws XPathException {
         // Gets list of possible internal entry elements and ensures that there are none
-        NodeList internEntry = (NodeList) OSLCUtils.getXPath()
-                .evaluate(
-                        "//oslc_disc:entry/oslc_disc:ServiceProviderCatalog" + "/oslc_disc:entry",
-                        doc,
-                        XPathConstants.NODESET);
+        NodeList internEntry = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_disc:entry/oslc_disc:ServiceProviderCatalog" + "/oslc_disc:entry", doc, XPathConstants.NODESET);
         assertTrue(internEntry.getLength() == 0);
     }
 
     @Test
     public void serviceProviderElementsHaveServicesChildElement() throws XPathException {
         // Get all entry elements
-        NodeList entries = (NodeList) OSLCUtils.getXPath().evaluate("//oslc_disc:entry", doc, XPathConstants.NODESET);
+        NodeList entries = (NodeList) OSLCUtils.evaluateXPath("//oslc_disc:entry", doc, XPathConstants.NODESET);
         for (int i = 0; i < entries.getLength(); i++) {
-            Node sp = (Node) OSLCUtils.getXPath()
-                    .evaluate("//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider", doc, XPathConstants.NODE);
+            Node sp = (Node) OSLCUtils.evaluateXPath(
+                    "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider", doc, XPathConstants.NODE);
             // This entry has a ServiceProvider and not a catalog
             if (sp != null) {
                 // Verify the ServiceProvider has a child element services
-                Node services = (Node) OSLCUtils.getXPath()
-                        .evaluate(
-                                "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider/oslc_disc:services",
-                                doc,
-                                XPathConstants.NODE);
+                Node services = (Node) OSLCUtils.evaluateXPath(
+                        "//oslc_disc:entry[" + (i + 1) + "]/oslc_disc:ServiceProvider/oslc_disc:services",
+                        doc,
+                        XPathConstants.NODE);
                 assertNotNull(services);
             }
         }
@@ -341,10 +321,10 @@ public class ServiceProviderCatalogTests {
     public void servicesChildElementHasValidResourceAttribute() throws XPathException, IOException {
         // Get all services elements
         NodeList services =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_disc:services", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_disc:services", doc, XPathConstants.NODESET);
         // Get all resource attributes from services
         NodeList resources = (NodeList)
-                OSLCUtils.getXPath().evaluate("//oslc_disc:services/@rdf:resource", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("//oslc_disc:services/@rdf:resource", doc, XPathConstants.NODESET);
         // Make sure each services element has a resource attribute
         assertTrue(services.getLength() == resources.getLength());
         // Verify that the resource urls are valid
@@ -361,10 +341,10 @@ public class ServiceProviderCatalogTests {
     public void detailsElementsHaveValidResourceAttribute() throws IOException, XPathException {
         // Get all details elements
         NodeList detailsElements =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_disc:details", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_disc:details", doc, XPathConstants.NODESET);
         // Get all resource attributes of the details elements
         NodeList resources = (NodeList)
-                OSLCUtils.getXPath().evaluate("//oslc_disc:details/@rdf:resource", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("//oslc_disc:details/@rdf:resource", doc, XPathConstants.NODESET);
         // Make sure they match up 1-to-1
         assertTrue(detailsElements.getLength() == resources.getLength());
         // Verify that the resource has a url
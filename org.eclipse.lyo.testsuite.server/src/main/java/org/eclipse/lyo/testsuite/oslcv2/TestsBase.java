@@ -18,11 +18,10 @@ import static org.junit.Assert.assertEquals;
 import com.sun.net.httpserver.HttpPrincipal;
 import jakarta.ws.rs.core.Response;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import javax.xml.parsers.ParserConfigurationException;
@@ -30,25 +29,31 @@ import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathException;
 import javax.xml.xpath.XPathExpressionException;
 import org.apache.http.client.ClientProtocolException;
-import org.apache.jena.rdf.model.Model;
-import org.apache.jena.rdf.model.ModelFactory;
-import org.apache.jena.rdf.model.Property;
-import org.apache.jena.rdf.model.RDFNode;
-import org.apache.jena.rdf.model.Resource;
-import org.apache.jena.rdf.model.Statement;
-import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.log4j.Logger;
 import org.apache.wink.json4j.JSON;
 import org.apache.wink.json4j.JSONArray;
 import org.apache.wink.json4j.JSONArtifact;
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
+import org.eclipse.lyo.testsuite.common.HttpArchive;
+import org.eclipse.lyo.testsuite.util.CachedResponse;
+import org.eclipse.lyo.testsuite.util.CapabilityIndex;
+import org.eclipse.lyo.testsuite.util.CleanupQueue;
+import org.eclipse.lyo.testsuite.util.HttpMetrics;
+import org.eclipse.lyo.testsuite.util.HttpTransport;
 import org.eclipse.lyo.testsuite.util.OSLCConstants;
 import org.eclipse.lyo.testsuite.util.OSLCUtils;
 import org.eclipse.lyo.testsuite.util.RDFUtils;
+import org.eclipse.lyo.testsuite.util.ResourceCache;
+import org.eclipse.lyo.testsuite.util.ServiceProviderCrawler;
 import org.eclipse.lyo.testsuite.util.SetupProperties;
+import org.eclipse.lyo.testsuite.util.XmlParsers;
 import org.eclipse.lyo.testsuite.util.oauth.OAuthConsumerPrincipal;
+import org.junit.After;
 import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
 import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -63,7 +68,7 @@ public abstract class TestsBase {
         OAUTH
     }
 
-    protected static UserCredentials creds;
+    protected static volatile UserCredentials creds;
 
     public interface UserCredentials {
         /**
@@ -120,38 +125,50 @@ public abstract class TestsBase {
         }
     }
 
-    protected static boolean onlyOnce = true;
-    protected static boolean useDefaultUsageForCreation = true;
-    protected static Properties setupProps = null;
-    protected static String xmlCreateTemplate;
-    protected static String xmlUpdateTemplate;
-    protected static String rdfXmlCreateTemplate;
-    protected static String rdfXmlUpdateTemplate;
-    protected static String jsonCreateTemplate;
-    protected static String jsonUpdateTemplate;
-    protected static String updateParams;
-    protected static String useThisServiceProvider;
-    protected static Map<String, String> headers;
-    protected static AuthMethods authMethod = AuthMethods.BASIC;
-    protected static String implName;
-
-    protected static String currentUrl = null; // URL of current service being tested
-    protected static String setupBaseUrl =
+    // Configuration below is written once by staticSetup(), under its lock, and only read afterwards. The fields are
+    // volatile so test instances on other threads see them. Per-test state belongs in instance fields.
+    protected static volatile boolean onlyOnce = true;
+    protected static volatile boolean useDefaultUsageForCreation = true;
+    protected static volatile Properties setupProps = null;
+    protected static volatile String xmlCreateTemplate;
+    protected static volatile String xmlUpdateTemplate;
+    protected static volatile String rdfXmlCreateTemplate;
+    protected static volatile String rdfXmlUpdateTemplate;
+    protected static volatile String jsonCreateTemplate;
+    protected static volatile String jsonUpdateTemplate;
+    protected static volatile String updateParams;
+    protected static volatile String useThisServiceProvider;
+    protected static volatile Map<String, String> headers;
+    protected static volatile AuthMethods authMethod = AuthMethods.BASIC;
+    protected static volatile String implName;
+
+    protected static volatile String setupBaseUrl =
             null; // Configuration baseUrl, think ServiceProvider or ServiceProviderCatalog
-    protected static String shapeUrl = null; // Shape for the creation dialog
 
-    protected static String testVersion = null;
+    protected static volatile String testVersion = null;
 
-    protected static Map<String, String> creationShapeMap = new HashMap<>();
+    protected static volatile ServiceProviderCrawler crawler;
+
+    protected static volatile CapabilityIndex capabilityIndex;
+
+    // Creation factory URI to oslc:resourceShape, a view of the capability index
+    protected static volatile Map<String, String> creationShapeMap = Map.of();
+
+    protected String currentUrl; // URL of current service being tested
 
     public TestsBase(String thisUrl) {
         currentUrl = thisUrl;
     }
 
-    public static void staticSetup() {
+    public static synchronized void staticSetup() {
 
         if (setupProps == null) {
             setupProps = SetupProperties.setup(null);
+            HttpTransport.configure(setupProps);
+            HttpArchive.configure(setupProps);
+            XmlParsers.configure(setupProps);
+            RDFUtils.configure(setupProps);
+            HttpMetrics.configure(setupProps);
             implName = setupProps.getProperty("implName");
             updateParams = setupProps.getProperty("updateParams");
             String userId = setupProps.getProperty("userId");
@@ -168,9 +185,9 @@ public abstract class TestsBase {
                     creds = null;
                 }
             }
+            CleanupQueue.configure(setupProps, creds);
 
-            headers = new HashMap<>();
-            headers.put("OSLC-Core-Version", "2.0");
+            headers = Map.of("OSLC-Core-Version", "2.0");
             String onlyOnceStr = setupProps.getProperty("runOnlyOnce");
             if (onlyOnceStr != null && onlyOnceStr.equals("false")) {
                 onlyOnce = false;
@@ -179,8 +196,23 @@ public abstract class TestsBase {
             if (defUsageStr != null && defUsageStr.equals("false")) {
                 useDefaultUsageForCreation = false;
             }
+            String cacheResponsesStr = setupProps.getProperty("cacheResponses");
+            if (cacheResponsesStr != null && cacheResponsesStr.equals("false")) {
+                ResourceCache.setEnabled(false);
+            }
             setupBaseUrl = setupProps.getProperty("baseUri");
-            currentUrl = setupBaseUrl;
+
+            int discoveryThreads = Integer.parseInt(setupProps.getProperty(
+                    "discoveryThreads", String.valueOf(ServiceProviderCrawler.DEFAULT_MAX_CONCURRENCY)));
+            crawler = new ServiceProviderCrawler(
+                    creds,
+                    headers,
+                    discoveryThreads,
+                    Integer.parseInt(setupProps.getProperty(
+                            "discoveryThreadsPerHost",
+                            String.valueOf(ServiceProviderCrawler.DEFAULT_MAX_CONCURRENCY_PER_HOST))));
+            capabilityIndex = new CapabilityIndex(creds, headers, discoveryThreads);
+            creationShapeMap = capabilityIndex.getResourceShapes(CapabilityIndex.Kind.CREATION_FACTORY);
 
             String authType = setupProps.getProperty("authMethod");
             if (authType.equalsIgnoreCase("OAUTH")) {
@@ -235,6 +267,29 @@ public abstract class TestsBase {
         staticSetup();
     }
 
+    /** Tags the HTTP requests of each test with its class and method. */
+    @Rule
+    public final TestWatcher httpMetricsTag = new TestWatcher() {
+        @Override
+        protected void starting(Description description) {
+            HttpMetrics.setCurrentTest(description.getClassName(), description.getMethodName());
+        }
+
+        @Override
+        protected void finished(Description description) {
+            HttpMetrics.clearCurrentTest();
+        }
+    };
+
+    /** Returns the connections of responses this test did not close to the pool. */
+    @After
+    public void closeOpenResponses() {
+        int closed = HttpTransport.closeOpenResponses();
+        if (closed > 0 && logger.isDebugEnabled()) {
+            logger.debug("%d response(s) left open by %s".formatted(closed, getClass().getSimpleName()));
+        }
+    }
+
     public static ArrayList<String> getServiceProviderURLsUsingXML(String inBaseURL)
             throws IOException, XPathException, ParserConfigurationException, SAXException {
         return getServiceProviderURLsUsingXML(inBaseURL, onlyOnce);
@@ -250,120 +305,7 @@ public abstract class TestsBase {
 
     public static ArrayList<String> getServiceProviderURLsUsingXML(String inBaseURL, boolean dontGoDeep)
             throws IOException, XPathException, ParserConfigurationException, SAXException {
-
-        staticSetup();
-
-        // ArrayList to contain the urls from all SPCs
-        ArrayList<String> data = new ArrayList<>();
-
-        // If we are given a shortcut, then use it and skip the rest
-        if (useThisServiceProvider != null && useThisServiceProvider.length() > 0) {
-            data.add(useThisServiceProvider);
-            return data;
-        }
-
-        String base = null;
-        if (inBaseURL == null) base = setupBaseUrl;
-        else base = inBaseURL;
-        Response resp;
-        switch (creds) {
-            case null -> {
-                logger.warn("Using no credentials");
-                resp = OSLCUtils.getResponseFromUrl(base, base, NoCredentials.INSTANCE, OSLCConstants.CT_XML, headers);
-            }
-            case UserPassword userCredentials -> {
-                logger.debug("Using login/pw");
-                resp = OSLCUtils.getResponseFromUrl(base, base, userCredentials, OSLCConstants.CT_XML, headers);
-            }
-            case Oauth1UserCredentials oauth1UserCredentials -> {
-                logger.debug("Using OAuth1.0a");
-                resp = OSLCUtils.getResponseFromUrl(base, base, oauth1UserCredentials, OSLCConstants.CT_XML, headers);
-            }
-            default ->
-                throw new IllegalStateException(
-                        "Unknown credentials type: " + creds.getClass().getName());
-        }
-
-        Document baseDoc;
-
-        int statusCode = resp.getStatus();
-        String responseBody = resp.readEntity(String.class);
-        if (logger.isDebugEnabled()) {
-            logger.debug("Reading service catalog <%s>".formatted(base));
-            logger.debug("Response code: %d".formatted(statusCode));
-            logger.debug(responseBody);
-        }
-
-        if (statusCode >= 200 && statusCode < 300) {
-
-            baseDoc = OSLCUtils.createXMLDocFromResponseBody(responseBody);
-        } else if (statusCode >= 400 && statusCode < 500) {
-            throw new ClientProtocolException(
-                    "Client error: " + resp.getStatusInfo().getReasonPhrase());
-        } else if (statusCode >= 500) {
-            throw new IOException("Server error: " + resp.getStatusInfo().getReasonPhrase());
-        } else {
-            throw new IOException("Unexpected HTTP status code: " + statusCode);
-        }
-
-        // Get all ServiceProvider urls from the base document in order to
-        // recursively add all the capability urls from them as well.
-        //   Inlined using oslc:ServiceProvider/@rdf:about
-        NodeList sps = (NodeList)
-                OSLCUtils.getXPath().evaluate("//oslc_v2:ServiceProvider/@rdf:about", baseDoc, XPathConstants.NODESET);
-        for (int i = 0; i < sps.getLength(); i++) {
-            if (!sps.item(i).getNodeValue().equals(base) || sps.getLength() == 1) {
-                data.add(sps.item(i).getNodeValue());
-                if (onlyOnce) return data;
-
-                if (dontGoDeep) return data;
-            }
-        }
-
-        // Get all ServiceProvider urls from the base document in order to
-        // recursively add all the capability urls from them as well.
-        //   Referenced using oslc:serviceProvider/@rdf:resource
-        sps = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_v2:serviceProvider/@rdf:resource", baseDoc, XPathConstants.NODESET);
-        for (int i = 0; i < sps.getLength(); i++) {
-            if (!sps.item(i).getNodeValue().equals(base) || sps.getLength() == 1) {
-                data.add(sps.item(i).getNodeValue());
-                if (dontGoDeep) return data;
-            }
-        }
-
-        // Get all ServiceProviderCatalog urls from the base document in order
-        // to recursively add all the capability from ServiceProviders within them as well.
-        //   Inlined using oslc:ServiceProviderCatalog/@rdf:about
-        NodeList spcs = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_v2:ServiceProviderCatalog/@rdf:about", baseDoc, XPathConstants.NODESET);
-        for (int i = 0; i < spcs.getLength(); i++) {
-            if (!spcs.item(i).getNodeValue().equals(base)) {
-                ArrayList<String> subCollection =
-                        getServiceProviderURLsUsingXML(spcs.item(i).getNodeValue(), dontGoDeep);
-                for (String subUri : subCollection) {
-                    data.add(subUri);
-                    if (dontGoDeep) return data;
-                }
-            }
-        }
-        // Get all ServiceProviderCatalog urls from the base document in order
-        // to recursively add all the capability from ServiceProviders within them as well.
-        //   Referenced using oslc:serviceProviderCatalog/@rdf:resource
-        spcs = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_v2:serviceProviderCatalog/@rdf:resource", baseDoc, XPathConstants.NODESET);
-        for (int i = 0; i < spcs.getLength(); i++) {
-            if (!spcs.item(i).getNodeValue().equals(base)) {
-                ArrayList<String> subCollection =
-                        getServiceProviderURLsUsingXML(spcs.item(i).getNodeValue(), dontGoDeep);
-                for (String subUri : subCollection) {
-                    data.add(subUri);
-                    if (dontGoDeep) return data;
-                }
-            }
-        }
-
-        return data;
+        return discoverServiceProviders(inBaseURL, dontGoDeep, ServiceProviderCrawler.Format.XML);
     }
 
     public static ArrayList<Node> getCapabilityDOMNodesUsingXML(String xpathStmt, ArrayList<String> serviceUrls)
@@ -380,9 +322,9 @@ public abstract class TestsBase {
                         base, null, (Oauth1UserCredentials) creds, OSLCConstants.CT_XML, headers);
             }
 
-            Document baseDoc = OSLCUtils.createXMLDocFromResponseBody(resp.readEntity(String.class));
+            Document baseDoc = OSLCUtils.createXMLDocFromResponse(resp);
 
-            NodeList sDescs = (NodeList) OSLCUtils.getXPath().evaluate(xpathStmt, baseDoc, XPathConstants.NODESET);
+            NodeList sDescs = (NodeList) OSLCUtils.evaluateXPath(xpathStmt, baseDoc, XPathConstants.NODESET);
             for (int i = 0; i < sDescs.getLength(); i++) {
                 data.add(sDescs.item(i));
                 if (onlyOnce) return data;
@@ -411,50 +353,79 @@ public abstract class TestsBase {
         ArrayList<String> data = new ArrayList<>();
         String firstUrl = null;
 
-        for (String base : serviceUrls) {
-            Response resp = OSLCUtils.getResponseFromUrl(base, null, creds, OSLCConstants.CT_XML, headers);
-
-            try {
-                int statusCode = resp.getStatus();
-                if (statusCode > 299) {
-                    logger.error("Failed to fetch a resource: "
-                            + Response.Status.fromStatusCode(statusCode).getReasonPhrase());
-                    throw new IllegalStateException();
-                }
-
-                String responseBody = resp.readEntity(String.class);
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Reading service provider document <%s>".formatted(base));
-                    logger.debug(responseBody);
-                }
+        // Both expressions are usually simple enough to be answered by a streaming parser
+        List<XmlParsers.AttributePath> paths = null;
+        if (XmlParsers.getDiscoveryMode() == XmlParsers.Mode.STAX) {
+            XmlParsers.AttributePath path = XmlParsers.AttributePath.fromXPath(xpathStmt);
+            XmlParsers.AttributePath subPath =
+                    useDefaultUsage ? XmlParsers.AttributePath.fromXPath(xpathSubStmt) : null;
+            if (path != null && !useDefaultUsage) {
+                paths = List.of(path);
+            } else if (path != null && subPath != null) {
+                paths = List.of(path, subPath);
+            }
+        }
 
-                Document baseDoc = OSLCUtils.createXMLDocFromResponseBody(responseBody);
+        for (String base : serviceUrls) {
+            // Service provider documents are shared by every capability lookup, so read them through the cache
+            CachedResponse resp = ResourceCache.get(base, null, creds, OSLCConstants.CT_XML, headers);
+            int statusCode = resp.getStatus();
+            if (statusCode > 299) {
+                logger.error("Failed to fetch a resource: " + resp.getReasonPhrase());
+                throw new IllegalStateException();
+            }
 
-                NodeList sDescs = (NodeList) OSLCUtils.getXPath().evaluate(xpathStmt, baseDoc, XPathConstants.NODESET);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Reading service provider document <%s>".formatted(base));
+                logger.debug(resp.getBodyAsString());
+            }
 
-                for (int i = 0; i < sDescs.getLength(); i++) {
-                    if (firstUrl == null) firstUrl = sDescs.item(i).getNodeValue();
+            if (paths != null) {
+                List<List<String>> values = resp.getAttributeValues(paths);
+                List<String> urls = values.get(0);
+                for (int i = 0; i < urls.size(); i++) {
+                    if (firstUrl == null) firstUrl = urls.get(i);
 
                     if (useDefaultUsage) {
-                        NodeList usages = (NodeList)
-                                OSLCUtils.getXPath().evaluate(xpathSubStmt, sDescs.item(i), XPathConstants.NODESET);
-
-                        for (int u = 0; u < usages.getLength(); u++) {
-                            String usageValue = usages.item(u).getNodeValue();
-                            // if (OSLCConstants.USAGE_DEFAULT_URI.equals(usageValue)) {
-                            // if (rT.equals(usageValue) && (u ==i)) {
-                            if (rT.contains(usageValue) && (u == i)) {
-                                data.add(sDescs.item(i).getNodeValue());
-                                return data;
-                            }
+                        // Like the XPath version: the sub-expression is absolute, so it lists the usages of the whole
+                        // document and the i-th usage is matched against the i-th capability
+                        List<String> usages = values.get(1);
+                        if (i < usages.size() && rT.contains(usages.get(i))) {
+                            data.add(urls.get(i));
+                            return data;
                         }
                     } else {
-                        data.add(sDescs.item(i).getNodeValue());
+                        data.add(urls.get(i));
                         if (onlyOnce) return data;
                     }
                 }
-            } finally {
-                resp.close();
+                continue;
+            }
+
+            Document baseDoc = resp.getDocument();
+
+            NodeList sDescs = (NodeList) OSLCUtils.evaluateXPath(xpathStmt, baseDoc, XPathConstants.NODESET);
+
+            for (int i = 0; i < sDescs.getLength(); i++) {
+                if (firstUrl == null) firstUrl = sDescs.item(i).getNodeValue();
+
+                if (useDefaultUsage) {
+                    NodeList usages = (NodeList)
+                            OSLCUtils.evaluateXPath(xpathSubStmt, sDescs.item(i), XPathConstants.NODESET);
+
+                    for (int u = 0; u < usages.getLength(); u++) {
+                        String usageValue = usages.item(u).getNodeValue();
+                        // if (OSLCConstants.USAGE_DEFAULT_URI.equals(usageValue)) {
+                        // if (rT.equals(usageValue) && (u ==i)) {
+                        if (rT.contains(usageValue) && (u == i)) {
+                            data.add(sDescs.item(i).getNodeValue());
+                            return data;
+                        }
+                    }
+                } else {
+                    data.add(sDescs.item(i).getNodeValue());
+                    if (onlyOnce) return data;
+                }
             }
         }
         // If we didn't find the default, then just send back the first one we
@@ -465,6 +436,17 @@ public abstract class TestsBase {
 
     public static ArrayList<String> getServiceProviderURLsUsingRdfXml(String inBaseURL, boolean dontGoDeep)
             throws IOException {
+        return discoverServiceProviders(inBaseURL, dontGoDeep, ServiceProviderCrawler.Format.RDF_XML);
+    }
+
+    /**
+     * Finds the service providers reachable from the catalog at the given URL (or at the configured base URI), using
+     * the run-wide {@link ServiceProviderCrawler}. Nested catalogs are followed.
+     *
+     * @param dontGoDeep return only the first service provider found
+     */
+    protected static ArrayList<String> discoverServiceProviders(
+            String inBaseURL, boolean dontGoDeep, ServiceProviderCrawler.Format format) throws IOException {
         staticSetup();
 
         // ArrayList to contain the urls from all SPCs
@@ -476,55 +458,12 @@ public abstract class TestsBase {
             return data;
         }
 
-        Response resp;
-        resp = OSLCUtils.getResponseFromUrl(setupBaseUrl, inBaseURL, creds, OSLCConstants.CT_RDF, headers);
-        assertEquals(
-                "Did not successfully retrieve ServiceProviders at: " + inBaseURL,
-                Response.Status.OK.getStatusCode(),
-                resp.getStatus());
-
-        // Used to hold RDF from doing service discovery
-        Model spModel = ModelFactory.createDefaultModel();
-        spModel.read(
-                resp.readEntity(InputStream.class),
-                OSLCUtils.absoluteUrlFromRelative(setupBaseUrl, inBaseURL),
-                OSLCConstants.JENA_RDF_XML);
-        resp.close();
-        RDFUtils.validateModel(spModel);
-
-        // Get all the "inlined" definitions for Service Providers, namely
-        // all subjects whose rdf:type = oslc:ServiceProvider
-        Property rdfType = spModel.createProperty(OSLCConstants.RDF_TYPE_PROP);
-        Resource spTypeRes = spModel.getResource(OSLCConstants.SERVICE_PROVIDER_TYPE);
-        StmtIterator statements = spModel.listStatements(null, rdfType, spTypeRes);
-        // Since resources can have multiple types, iterate over all
-        while (statements.hasNext()) {
-            Statement st = statements.nextStatement();
-            data.add(st.getSubject().getURI());
-            if (dontGoDeep) return data;
-        }
-
-        // Get all the "referenced" definitions for Service Providers, namely
-        // of form: <oslc:serviceProvider rdf:resource="url" />
-        Property spProp = spModel.createProperty(OSLCConstants.SERVICE_PROVIDER_PROP);
-        statements = spModel.listStatements(null, spProp, (RDFNode) null);
-        // Since resources can have multiple types, iterate over all
-        while (statements.hasNext()) {
-            Statement st = statements.nextStatement();
-            data.add(st.getObject().toString());
-            if (dontGoDeep) return data;
-        }
-
-        // Chase any ServiceProviderCatalogs, looking for ServiceProviders definitions.
-        Property spcPredicate = spModel.createProperty(OSLCConstants.SERVICE_PROVIDER_CATALOG_PROP);
-        statements = spModel.listStatements(null, spcPredicate, (RDFNode) null);
-        while (statements.hasNext()) {
-            ArrayList<String> results = getServiceProviderURLsUsingRdfXml(
-                    statements.nextStatement().getObject().toString(), dontGoDeep);
-            data.addAll(results);
-            if (dontGoDeep) return data;
+        String base = OSLCUtils.absoluteUrlFromRelative(setupBaseUrl, inBaseURL);
+        if (dontGoDeep) {
+            data.addAll(crawler.discoverFirst(base, format));
+        } else {
+            data.addAll(crawler.discover(base, format));
         }
-
         return data;
     }
 
@@ -562,80 +501,29 @@ public abstract class TestsBase {
         // Collection to contain the creationFactory urls from all SPs
         ArrayList<String> data = new ArrayList<>();
         String firstUrl = null;
-        for (String base : serviceUrls) {
-            Response resp;
-            resp = OSLCUtils.getResponseFromUrl(base, null, creds, OSLCConstants.CT_RDF, headers);
-
-            try {
-                int statusCode = resp.getStatus();
-                if (statusCode > 299) {
-                    throw new IllegalStateException("Request failed: "
-                            + Response.Status.fromStatusCode(statusCode).getReasonPhrase());
+        CapabilityIndex.Kind kind = CapabilityIndex.Kind.forUrlProperty(propertyUri);
+        for (CapabilityIndex.Capability capability : capabilityIndex.getCapabilities(serviceUrls, kind)) {
+            if (firstUrl == null) firstUrl = capability.url();
+            if (useDefaultUsage) {
+                if (capability.getValues(prop).contains(eval)) {
+                    data.add(capability.url());
+                    return data;
                 }
-                Model spModel = ModelFactory.createDefaultModel();
-                spModel.read(resp.readEntity(InputStream.class), base, OSLCConstants.JENA_RDF_XML);
-                RDFUtils.validateModel(spModel);
-
-                Property capProp = spModel.createProperty(propertyUri);
-                Property usageProp = spModel.createProperty(prop);
-                StmtIterator statements = spModel.listStatements(null, capProp, (RDFNode) null);
-
-                while (statements.hasNext()) {
-                    Statement stmt = statements.nextStatement();
-                    // Only cache creation factory shapes. Some providers use the same capability
-                    // URI for both query and creation.
-                    if (OSLCConstants.CREATION_PROP.equals(propertyUri)) {
-                        Statement shape = stmt.getSubject()
-                                .getProperty(spModel.createProperty(OSLCConstants.RESOURCE_SHAPE_PROP));
-                        if (shape != null) {
-                            if (logger.isDebugEnabled()) {
-                                logger.debug("Caching shape URI <%s> for capability URI <%s>"
-                                        .formatted(
-                                                shape.getObject().toString(),
-                                                stmt.getObject().toString()));
-                            }
-                            creationShapeMap.put(
-                                    stmt.getObject().toString(),
-                                    shape.getObject().toString());
-                        }
-                    }
-
-                    if (firstUrl == null) firstUrl = stmt.getObject().toString();
-                    if (useDefaultUsage) {
-                        StmtIterator usages = stmt.getSubject().listProperties(usageProp);
-
-                        while (usages.hasNext()) {
-
-                            Statement usageStmt = usages.nextStatement();
-
-                            if (eval.equals(usageStmt.getObject().toString())) {
-                                data.add(stmt.getObject().toString());
-                                return data;
-                            }
-                        }
-                    } else {
-                        // Now if we have types, we match the capability for the given types
-                        if (types != null && types.length > 0) {
-                            Property typeProp = spModel.getProperty(OSLCConstants.RESOURCE_TYPE_PROP);
-                            StmtIterator typeIter = stmt.getSubject().listProperties(typeProp);
-                            while (typeIter.hasNext()) {
-                                String typeName =
-                                        typeIter.nextStatement().getObject().toString();
-                                for (String t : types) {
-                                    if (t.equals(typeName)) {
-                                        data.add(stmt.getObject().toString());
-                                        if (onlyOnce) return data;
-                                    }
-                                }
+            } else {
+                // Now if we have types, we match the capability for the given types
+                if (types != null && types.length > 0) {
+                    for (String typeName : capability.getResourceTypes()) {
+                        for (String t : types) {
+                            if (t.equals(typeName)) {
+                                data.add(capability.url());
+                                if (onlyOnce) return data;
                             }
-                        } else {
-                            data.add(stmt.getObject().toString());
-                            if (onlyOnce) return data;
                         }
                     }
+                } else {
+                    data.add(capability.url());
+                    if (onlyOnce) return data;
                 }
-            } finally {
-                resp.close();
             }
         }
         // If no default usage was found, then just return first one
@@ -678,47 +566,7 @@ public abstract class TestsBase {
 
     public static ArrayList<String> getServiceProviderURLsUsingJson(String inBaseURL, boolean dontGoDeep)
             throws IOException, XPathException, ParserConfigurationException, SAXException, JSONException {
-
-        staticSetup();
-
-        // ArrayList to contain the urls from all SPCs
-        ArrayList<String> data = new ArrayList<>();
-
-        String base = null;
-        if (inBaseURL == null) base = setupBaseUrl;
-        else base = inBaseURL;
-
-        // If we are given a shortcut, then use it and skip the rest
-        if (useThisServiceProvider != null && useThisServiceProvider.length() > 0) {
-            data.add(useThisServiceProvider);
-            return data;
-        }
-
-        Response resp = OSLCUtils.getResponseFromUrl(base, base, creds, OSLCConstants.CT_JSON, headers);
-        assertEquals(
-                "Failed to retrieve ServiceProviders at: " + inBaseURL,
-                Response.Status.OK.getStatusCode(),
-                resp.getStatus());
-
-        String respBody = resp.readEntity(String.class);
-
-        // Create mapping of JSON variables
-        JSONArtifact userData = JSON.parse(respBody);
-        JSONObject resultJson = null;
-        if (userData instanceof JSONArtifact) {
-            resultJson = (JSONObject) userData;
-        }
-
-        JSONArray results = (JSONArray) resultJson.get("oslc:serviceProvider");
-
-        // Now walk through the array to get a list of service providers
-        for (int i = 0; i < results.length(); i++) {
-            JSONObject serviceProviderJSON = (JSONObject) results.get(i);
-            String serviceProvider = (String) serviceProviderJSON.get("rdf:about");
-            data.add(serviceProvider);
-        }
-
-        return data;
+        return discoverServiceProviders(inBaseURL, dontGoDeep, ServiceProviderCrawler.Format.JSON);
     }
 
     public static ArrayList<String> getCapabilityURLsUsingJson(
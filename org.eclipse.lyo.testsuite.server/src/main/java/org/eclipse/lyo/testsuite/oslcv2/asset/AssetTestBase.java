@@ -18,23 +18,26 @@ import static org.junit.Assert.assertTrue;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Map;
 import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+import org.eclipse.lyo.testsuite.util.ArtifactTransfer;
 import org.eclipse.lyo.testsuite.util.OSLCConstants;
 import org.eclipse.lyo.testsuite.util.OSLCUtils;
 import org.junit.After;
 import org.junit.runners.Parameterized.Parameters;
 
 public class AssetTestBase extends TestsBase {
-    protected static String baseUrl;
+    protected final String baseUrl;
     protected String assetUrl;
-    protected static String acceptType;
-    protected static String contentType;
+    protected final String acceptType;
+    protected final String contentType;
 
-    @SuppressWarnings("static-access")
     public AssetTestBase(String url, String acceptType, String contentType) {
         super(url);
+        this.baseUrl = setupProps.getProperty("baseUri");
         this.acceptType = acceptType;
         this.contentType = contentType;
     }
@@ -44,9 +47,7 @@ public class AssetTestBase extends TestsBase {
 
         staticSetup();
 
-        baseUrl = setupProps.getProperty("baseUri");
-
-        ArrayList<String> serviceUrls = getServiceProviderURLsUsingRdfXml(baseUrl, onlyOnce);
+        ArrayList<String> serviceUrls = getServiceProviderURLsUsingRdfXml(setupProps.getProperty("baseUri"), onlyOnce);
         String[] types = null;
         ArrayList<String> capabilityURLsUsingRdfXml = TestsBase.getCapabilityURLsUsingRdfXml(
                 OSLCConstants.CREATION_PROP, serviceUrls, useDefaultUsageForCreation, types);
@@ -107,6 +108,34 @@ public class AssetTestBase extends TestsBase {
         return loc;
     }
 
+    /** @return the file named by the <code>artifactFile</code> property */
+    protected Path artifactFileFromProperty() {
+        String fileName = setupProps.getProperty("artifactFile");
+        assertTrue("There needs to be an artifact file", fileName != null);
+        return Path.of(fileName);
+    }
+
+    /**
+     * Streams the file to the artifact factory, named after the file, and checks that the artifact was created. The
+     * file is never read into memory, so binary artifacts of any size can be posted.
+     *
+     * @return the upload, with the digest of the bytes sent
+     */
+    protected ArtifactTransfer.Transfer postArtifact(String artifactFactory, Path file) throws IOException {
+        ArtifactTransfer.Transfer upload = ArtifactTransfer.upload(
+                artifactFactory,
+                creds,
+                acceptType,
+                setupProps.getProperty("artifactContentType"),
+                file,
+                Map.of("oslc_asset.name", file.getFileName().toString()));
+        assertTrue(
+                "Expected " + Status.CREATED.getStatusCode() + ", received " + upload.status(),
+                upload.status() == Status.CREATED.getStatusCode());
+        assertTrue("No Location header", upload.location() != null);
+        return upload;
+    }
+
     /** Given a property from the property file, the contents of the file are returned */
     protected String readFileFromProperty(String property) {
         String fileName = setupProps.getProperty(property);
@@ -18,7 +18,6 @@ import static org.junit.Assert.assertTrue;
 import jakarta.ws.rs.core.Response;
 import java.io.IOException;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import org.eclipse.lyo.testsuite.util.OSLCConstants;
@@ -82,8 +81,7 @@ public class CreateAssetXmlTest extends CreateAssetBase {
 
     private NodeList getAssetNodeChildren(Document document) throws XPathExpressionException {
         String path = "/rdf:RDF/oslc_asset:Asset";
-        XPath xpath = OSLCUtils.getXPath();
-        Node asset = (Node) xpath.evaluate(path, document, XPathConstants.NODE);
+        Node asset = (Node) OSLCUtils.evaluateXPath(path, document, XPathConstants.NODE);
         return asset.getChildNodes();
     }
 
@@ -13,19 +13,25 @@
  */
 package org.eclipse.lyo.testsuite.oslcv2.asset;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.core.Response.Status;
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
-import org.apache.http.client.ClientProtocolException;
-import org.eclipse.lyo.testsuite.util.OSLCUtils;
+import org.apache.log4j.Logger;
+import org.eclipse.lyo.testsuite.util.ArtifactTransfer;
 import org.junit.Test;
 
 public class GetAndUpdateBase extends AssetTestBase {
+    private static Logger logger = Logger.getLogger(GetAndUpdateBase.class);
+
+    // Digest of the last artifact uploaded, which a download of it must match
+    private String uploadedDigest;
 
     public GetAndUpdateBase(String url, String acceptType, String contentType) {
         super(url, acceptType, contentType);
@@ -40,9 +46,9 @@ public class GetAndUpdateBase extends AssetTestBase {
     protected Map<String, String> addHeader(Map<String, String> headers, Map.Entry<String, String> header) {
         // handle immutable and mutable maps
         if (headers == null) {
-            var map = new HashMap<>();
+            var map = new HashMap<String, String>();
             map.put(header.getKey(), header.getValue());
-            return headers;
+            return map;
         } else {
             headers.put(header.getKey(), header.getValue());
             return headers;
@@ -56,31 +62,58 @@ public class GetAndUpdateBase extends AssetTestBase {
      * @return the url location of the artifact
      */
     protected String uploadArtifact(String artifactFactory) throws IOException {
-        File file = new File(setupProps.getProperty("artifactContentType"));
-        var h = Map.entry("oslc_asset.name", file.getName());
+        ArtifactTransfer.Transfer upload = postArtifact(artifactFactory, artifactFileFromProperty());
+        assertTrue("No content length header", upload.headers().getFirst("Content-Length") != null);
+        uploadedDigest = upload.digest();
+        return upload.location();
+    }
 
-        Response resp = OSLCUtils.postDataToUrl(
-                artifactFactory,
-                creds,
-                acceptType,
-                setupProps.getProperty("artifactContentType"),
-                readFileFromProperty("artifactFile"),
-                addHeader(null, h));
-        resp.close();
+    /** Downloads the artifact and, if it is the one last uploaded, checks that it came back unchanged. */
+    protected void downloadArtifact(String artifactUrl) throws IOException {
+        ArtifactTransfer.Transfer download = ArtifactTransfer.download(artifactUrl, creds, acceptType, headers);
         assertTrue(
-                "Expected " + Response.Status.OK.getStatusCode() + ", received " + resp.getStatus(),
-                resp.getStatus() == Status.CREATED.getStatusCode());
+                "Expected " + Response.Status.OK.getStatusCode() + ", received " + download.status(),
+                download.status() == Response.Status.OK.getStatusCode());
+        if (uploadedDigest != null) {
+            assertEquals("Downloaded artifact differs from the uploaded one", uploadedDigest, download.digest());
+        }
+    }
 
-        assertTrue("No Location header", resp.getHeaderString("Location") != null);
-        assertTrue("No content length header", resp.getHeaderString("Content-Length") != null);
-        return resp.getHeaderString("Location");
+    /**
+     * @return the artifact sizes listed in <code>artifactBenchmarkSizes</code>, for example <code>1k,1m,100m,4g</code>;
+     *     the test is skipped when the property is not set
+     */
+    protected String[] artifactBenchmarkSizes() {
+        String sizes = setupProps.getProperty("artifactBenchmarkSizes", "");
+        assumeTrue(!sizes.isBlank());
+        return sizes.split(",");
     }
 
-    protected void downloadArtifact(String artifactUrl) throws ClientProtocolException, IOException {
-        Response resp = OSLCUtils.getDataFromUrl(artifactUrl, creds, acceptType, contentType, headers);
-        resp.close();
-        assertTrue(
-                "Expected " + Response.Status.OK.getStatusCode() + ", received " + resp.getStatus(),
-                resp.getStatus() == Response.Status.OK.getStatusCode());
+    /**
+     * Uploads and downloads a generated artifact of each size, checks that each comes back unchanged and logs the
+     * throughput of both directions.
+     */
+    protected void benchmarkArtifactTransfer(String artifactFactory, String[] sizes) throws IOException {
+        logger.info("Artifact throughput (MB/s) with %s:%n%12s %10s %10s"
+                .formatted(artifactFactory, "bytes", "upload", "download"));
+        for (String size : sizes) {
+            Path file = ArtifactTransfer.createArtifact(ArtifactTransfer.parseSize(size));
+            try {
+                ArtifactTransfer.Transfer upload = postArtifact(artifactFactory, file);
+                ArtifactTransfer.Transfer download =
+                        ArtifactTransfer.download(upload.location(), creds, acceptType, headers);
+                assertTrue(
+                        "Expected " + Response.Status.OK.getStatusCode() + ", received " + download.status(),
+                        download.status() == Response.Status.OK.getStatusCode());
+                assertEquals(
+                        "Downloaded artifact of " + size.trim() + " differs from the uploaded one",
+                        upload.digest(),
+                        download.digest());
+                logger.info("%12d %10.1f %10.1f"
+                        .formatted(upload.bytes(), upload.megabytesPerSecond(), download.megabytesPerSecond()));
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
     }
 }
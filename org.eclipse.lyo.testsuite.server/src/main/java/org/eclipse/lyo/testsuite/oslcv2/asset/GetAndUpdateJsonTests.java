@@ -121,6 +121,12 @@ public class GetAndUpdateJsonTests extends GetAndUpdateBase {
         downloadArtifact(location);
     }
 
+    @Test
+    public void artifactThroughput() throws JSONException, IOException {
+        String[] sizes = artifactBenchmarkSizes();
+        benchmarkArtifactTransfer(getArtifactFactory(), sizes);
+    }
+
     @Test
     public void removeArtifactFromAsset()
             throws IOException, TransformerException, ParseException, ParserConfigurationException, SAXException,
@@ -188,6 +188,12 @@ public class GetAndUpdateRdfXmlTests extends GetAndUpdateBase {
         downloadArtifact(location);
     }
 
+    @Test
+    public void artifactThroughput() throws IOException {
+        String[] sizes = artifactBenchmarkSizes();
+        benchmarkArtifactTransfer(getArtifactFactory(), sizes);
+    }
+
     @Test
     public void removeArtifactFromAsset() throws IOException {
         // Gets the artifact factory from the asset
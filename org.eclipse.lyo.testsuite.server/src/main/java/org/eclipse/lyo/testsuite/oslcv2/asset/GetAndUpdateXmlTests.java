@@ -22,7 +22,6 @@ import java.io.IOException;
 import java.util.Map;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import org.apache.http.ParseException;
@@ -189,6 +188,13 @@ public class GetAndUpdateXmlTests extends GetAndUpdateBase {
         downloadArtifact(location);
     }
 
+    @Test
+    public void artifactThroughput()
+            throws XPathExpressionException, IOException, ParserConfigurationException, SAXException {
+        String[] sizes = artifactBenchmarkSizes();
+        benchmarkArtifactTransfer(getArtifactFactory(), sizes);
+    }
+
     @Test
     public void removeArtifactFromAsset()
             throws IOException, TransformerException, ParseException, ParserConfigurationException, SAXException,
@@ -244,8 +250,7 @@ public class GetAndUpdateXmlTests extends GetAndUpdateBase {
 
     private NodeList getAssetNodeChildren(Document document) throws XPathExpressionException {
         String path = "/rdf:RDF/oslc_asset:Asset";
-        XPath xpath = OSLCUtils.getXPath();
-        Node asset = (Node) xpath.evaluate(path, document, XPathConstants.NODE);
+        Node asset = (Node) OSLCUtils.evaluateXPath(path, document, XPathConstants.NODE);
         return asset.getChildNodes();
     }
 
@@ -28,15 +28,21 @@ import org.junit.runners.Parameterized.Parameters;
 
 public class UsageCaseBase extends AssetTestBase {
 
-    protected static String queryProperty;
-    protected static String queryPropertyValue;
-    protected static String queryComparisonProperty;
-    protected static String queryComparisonValue;
-    protected static String fullTextSearchTerm;
-    protected static String additionalParameters;
+    protected final String queryProperty;
+    protected final String queryPropertyValue;
+    protected final String queryComparisonProperty;
+    protected final String queryComparisonValue;
+    protected final String fullTextSearchTerm;
+    protected final String additionalParameters;
 
     public UsageCaseBase(String thisUrl, String acceptType, String contentType) {
         super(thisUrl, acceptType, contentType);
+        queryProperty = setupProps.getProperty("queryEqualityProperty");
+        queryPropertyValue = setupProps.getProperty("queryEqualityValue");
+        queryComparisonProperty = setupProps.getProperty("queryComparisonProperty");
+        queryComparisonValue = setupProps.getProperty("queryComparisonValue");
+        fullTextSearchTerm = setupProps.getProperty("fullTextSearchTerm");
+        additionalParameters = setupProps.getProperty("queryAdditionalParameters", "");
     }
 
     @Parameters
@@ -51,14 +57,6 @@ public class UsageCaseBase extends AssetTestBase {
             return toCollection(results);
         }
 
-        queryProperty = setupProps.getProperty("queryEqualityProperty");
-        queryPropertyValue = setupProps.getProperty("queryEqualityValue");
-        queryComparisonProperty = setupProps.getProperty("queryComparisonProperty");
-        queryComparisonValue = setupProps.getProperty("queryComparisonValue");
-        fullTextSearchTerm = setupProps.getProperty("fullTextSearchTerm");
-        additionalParameters = setupProps.getProperty("queryAdditionalParameters");
-        if (additionalParameters == null) additionalParameters = "";
-
         ArrayList<String> serviceUrls = getServiceProviderURLsUsingRdfXml(setupProps.getProperty("baseUri"), onlyOnce);
         ArrayList<String> capabilityURLsUsingRdfXml =
                 TestsBase.getCapabilityURLsUsingRdfXml(OSLCConstants.QUERY_BASE_PROP, serviceUrls, true);
@@ -17,12 +17,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import jakarta.ws.rs.core.Response;
-import jakarta.ws.rs.core.Response.Status;
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Map;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPathException;
 import org.apache.http.client.ClientProtocolException;
@@ -39,7 +36,6 @@ import org.xml.sax.SAXException;
 
 @RunWith(Parameterized.class)
 public class UsageCaseJsonTests extends UsageCaseBase {
-    private static JSONObject bestAsset = null;
     private String baseUrl;
 
     public UsageCaseJsonTests(String thisUrl) {
@@ -50,12 +46,14 @@ public class UsageCaseJsonTests extends UsageCaseBase {
     @Test
     public void queryUsageTest() throws IllegalStateException, IOException, JSONException {
         JSONObject query = runQuery();
-        bestAsset = getBestAsset(query);
+        JSONObject bestAsset = getBestAsset(query);
         assertTrue("The asset with the highest version couldn't be found", bestAsset != null);
     }
 
     @Test
     public void retrieveUsageCase() throws JSONException, IOException {
+        // Each test runs its own query: parameters and classes may run on several threads at once
+        JSONObject bestAsset = getBestAsset(runQuery());
         assertTrue("The asset with the highest version couldn't be found", bestAsset != null);
 
         assetUrl = bestAsset.getString("rdf:about");
@@ -87,22 +85,7 @@ public class UsageCaseJsonTests extends UsageCaseBase {
         assertTrue("There needs to be an artifact factory", artifactFactory != null && artifactFactory.length() > 0);
 
         // Adds an artifact to the asset
-        File file = new File(setupProps.getProperty("artifactContentType"));
-        var h = Map.entry("oslc_asset.name", file.getName());
-
-        Response response = OSLCUtils.postDataToUrl(
-                artifactFactory,
-                creds,
-                acceptType,
-                setupProps.getProperty("artifactContentType"),
-                readFileFromProperty("artifactFile"),
-                addHeader(null, h));
-        response.close();
-        assertTrue(
-                "Expected " + Response.Status.OK.getStatusCode() + ", received " + response.getStatus(),
-                response.getStatus() == Status.CREATED.getStatusCode());
-
-        assertTrue("No Location header", response.getHeaderString("Location") != null);
+        postArtifact(artifactFactory, artifactFileFromProperty());
 
         // Updates the artifacts subject
         resp = getAssetAsString();
@@ -45,7 +45,6 @@ import org.xml.sax.SAXException;
 @RunWith(Parameterized.class)
 public class UsageCaseRdfXmlTests extends UsageCaseBase {
     private String baseUrl;
-    private static Resource bestAsset = null;
 
     public UsageCaseRdfXmlTests(String thisUrl) {
         super(thisUrl, OSLCConstants.CT_RDF, OSLCConstants.CT_RDF);
@@ -59,12 +58,14 @@ public class UsageCaseRdfXmlTests extends UsageCaseBase {
     @Test
     public void queryUsageTest() throws IOException, ParserConfigurationException, SAXException {
         Model model = runQuery();
-        bestAsset = getBestAsset(model);
+        Resource bestAsset = getBestAsset(model);
         assertTrue("The asset with the highest version couldn't be found", bestAsset != null);
     }
 
     @Test
     public void retrieveUsageCase() throws IOException, ParserConfigurationException, SAXException {
+        // Each test runs its own query: parameters and classes may run on several threads at once
+        Resource bestAsset = getBestAsset(runQuery());
         assertTrue("The asset with the highest version couldn't be found", bestAsset != null);
 
         // Once the best asset is determined then the full asset is retrieved
@@ -23,7 +23,6 @@ import java.util.ArrayList;
 import java.util.Map;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathException;
 import javax.xml.xpath.XPathExpression;
@@ -43,8 +42,6 @@ import org.xml.sax.SAXException;
 
 @RunWith(Parameterized.class)
 public class UsageCaseXmlTests extends UsageCaseBase {
-    private static Node bestAsset = null;
-
     public UsageCaseXmlTests(String thisUrl) {
         super(thisUrl, OSLCConstants.CT_XML, OSLCConstants.CT_XML);
     }
@@ -56,13 +53,15 @@ public class UsageCaseXmlTests extends UsageCaseBase {
         // Runs a query to get a bunch of assets by their name
         Document document = runQuery();
         // Selects the asset with the best version
-        bestAsset = getBestAsset(document);
+        Node bestAsset = getBestAsset(document);
         assertTrue("The asset with the highest version couldn't be found", bestAsset != null);
     }
 
     @Test
     public void retrieveUsageCase()
             throws IOException, ParseException, ParserConfigurationException, SAXException, XPathExpressionException {
+        // Each test runs its own query: parameters and classes may run on several threads at once
+        Node bestAsset = getBestAsset(runQuery());
         assertTrue("The asset with the highest version couldn't be found", bestAsset != null);
 
         // Once the best asset is determined then the full asset is retrieved
@@ -110,8 +109,7 @@ public class UsageCaseXmlTests extends UsageCaseBase {
         Document document = OSLCUtils.createXMLDocFromResponseBody(content);
         resp.close();
         String path = "/rdf:RDF/oslc_asset:Asset/oslc_asset:artifact[1]/oslc_asset:Artifact";
-        XPath xpath = OSLCUtils.getXPath();
-        Node artifactNode = (Node) xpath.evaluate(path, document, XPathConstants.NODE);
+        Node artifactNode = (Node) OSLCUtils.evaluateXPath(path, document, XPathConstants.NODE);
 
         NodeList artifactKids = artifactNode.getChildNodes();
         Node label = null;
@@ -141,8 +139,7 @@ public class UsageCaseXmlTests extends UsageCaseBase {
         document = OSLCUtils.createXMLDocFromResponseBody(content);
         resp.close();
         path = "/rdf:RDF/oslc_asset:Asset/oslc_asset:artifact[1]/oslc_asset:Artifact/oslc:label";
-        xpath = OSLCUtils.getXPath();
-        label = (Node) xpath.evaluate(path, document, XPathConstants.NODE);
+        label = (Node) OSLCUtils.evaluateXPath(path, document, XPathConstants.NODE);
         assertTrue("Could not find the artifact's label node", label != null);
         assertEquals("The label was not updated properly", labelValue, label.getTextContent());
     }
@@ -160,8 +157,7 @@ public class UsageCaseXmlTests extends UsageCaseBase {
     private Node getBestAsset(Document document) throws XPathExpressionException {
 
         String getAssets = "/rdf:RDF/oslc_asset:Asset";
-        XPath xPath = OSLCUtils.getXPath();
-        XPathExpression assetsExpr = xPath.compile(getAssets);
+        XPathExpression assetsExpr = OSLCUtils.compileXPath(getAssets);
         NodeList assets = (NodeList) assetsExpr.evaluate(document, XPathConstants.NODESET);
 
         Node bestAsset = null;
@@ -187,8 +183,7 @@ public class UsageCaseXmlTests extends UsageCaseBase {
             throws ParserConfigurationException, IOException, SAXException, XPathExpressionException {
         Document document = OSLCUtils.createXMLDocFromResponseBody(asset);
         String path = "/rdf:RDF/oslc_asset:Asset/oslc_asset:artifact[1]/oslc_asset:Artifact/oslc_asset:content";
-        XPath xpath = OSLCUtils.getXPath();
-        Node content = (Node) xpath.evaluate(path, document, XPathConstants.NODE);
+        Node content = (Node) OSLCUtils.evaluateXPath(path, document, XPathConstants.NODE);
         assertTrue("Could not find the artifact", content != null);
 
         NamedNodeMap attributes = content.getAttributes();
@@ -216,8 +211,7 @@ public class UsageCaseXmlTests extends UsageCaseBase {
 
     private NodeList getAssetNodeChildren(Document document) throws XPathExpressionException {
         String path = "/rdf:RDF/oslc_asset:Asset";
-        XPath xpath = OSLCUtils.getXPath();
-        Node asset = (Node) xpath.evaluate(path, document, XPathConstants.NODE);
+        Node asset = (Node) OSLCUtils.evaluateXPath(path, document, XPathConstants.NODE);
         return asset.getChildNodes();
     }
 
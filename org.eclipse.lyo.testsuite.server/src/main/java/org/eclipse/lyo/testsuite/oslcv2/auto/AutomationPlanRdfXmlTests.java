@@ -36,7 +36,7 @@ public class AutomationPlanRdfXmlTests extends CoreResourceRdfXmlTests {
     public AutomationPlanRdfXmlTests(String thisUrl)
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
                     NullPointerException {
-        super(thisUrl);
+        super(thisUrl, OSLCConstants.AUTO_AUTOMATION_PLAN_TYPE);
     }
 
     @Parameters
@@ -44,8 +44,6 @@ public class AutomationPlanRdfXmlTests extends CoreResourceRdfXmlTests {
 
         staticSetup();
 
-        setResourceType(OSLCConstants.AUTO_AUTOMATION_PLAN_TYPE);
-
         String useThisAutoPlan = setupProps.getProperty("useThisAutoPlan");
         if (useThisAutoPlan != null) {
             ArrayList<String> results = new ArrayList<String>();
@@ -53,10 +51,8 @@ public class AutomationPlanRdfXmlTests extends CoreResourceRdfXmlTests {
             return toCollection(results);
         }
 
-        setResourceTypeQuery(OSLCConstants.USAGE_PROP);
-        setxpathSubStmt("//oslc_v2:QueryCapability/oslc:resourceType/@rdf:resource");
-
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(
+                eval, OSLCConstants.USAGE_PROP, "//oslc_v2:QueryCapability/oslc:resourceType/@rdf:resource");
     }
 
     public static String eval = OSLCConstants.RDFS_MEMBER;
@@ -53,9 +53,7 @@ public class AutomationPlanXmlTests extends CoreResourceXmlTests {
             return toCollection(results);
         }
 
-        setResourceTypeQuery(OSLCConstants.CORE_DEFAULT);
-        setxpathSubStmt("//oslc_v2:usage/@rdf:resource");
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(eval, OSLCConstants.CORE_DEFAULT, "//oslc_v2:usage/@rdf:resource");
     }
 
     public static String ns = "oslc_auto_v2";
@@ -40,7 +40,7 @@ public class AutomationRequestRdfXmlTests extends CoreResourceRdfXmlTests {
     public AutomationRequestRdfXmlTests(String thisUrl)
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
                     NullPointerException {
-        super(thisUrl);
+        super(thisUrl, OSLCConstants.AUTO_AUTOMATION_REQUEST_TYPE);
     }
 
     @Parameters
@@ -48,8 +48,6 @@ public class AutomationRequestRdfXmlTests extends CoreResourceRdfXmlTests {
 
         staticSetup();
 
-        setResourceType(OSLCConstants.AUTO_AUTOMATION_REQUEST_TYPE);
-
         String useThisAutoRequest = setupProps.getProperty("useThisAutoRequest");
         if (useThisAutoRequest != null) {
             ArrayList<String> results = new ArrayList<String>();
@@ -57,10 +55,8 @@ public class AutomationRequestRdfXmlTests extends CoreResourceRdfXmlTests {
             return toCollection(results);
         }
 
-        setResourceTypeQuery(OSLCConstants.USAGE_PROP);
-        setxpathSubStmt("//oslc_v2:QueryCapability/oslc:resourceType/@rdf:resource");
-
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(
+                eval, OSLCConstants.USAGE_PROP, "//oslc_v2:QueryCapability/oslc:resourceType/@rdf:resource");
     }
 
     public static String eval = OSLCConstants.RDFS_MEMBER;
@@ -40,7 +40,7 @@ public class AutomationResultRdfXmlTests extends CoreResourceRdfXmlTests {
     public AutomationResultRdfXmlTests(String thisUrl)
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
                     NullPointerException {
-        super(thisUrl);
+        super(thisUrl, OSLCConstants.AUTO_AUTOMATION_RESULT_TYPE);
     }
 
     @Parameters
@@ -48,8 +48,6 @@ public class AutomationResultRdfXmlTests extends CoreResourceRdfXmlTests {
 
         staticSetup();
 
-        setResourceType(OSLCConstants.AUTO_AUTOMATION_RESULT_TYPE);
-
         String useThisAutoResult = setupProps.getProperty("useThisAutoResult");
         if (useThisAutoResult != null) {
             ArrayList<String> results = new ArrayList<String>();
@@ -57,10 +55,8 @@ public class AutomationResultRdfXmlTests extends CoreResourceRdfXmlTests {
             return toCollection(results);
         }
 
-        setResourceTypeQuery(OSLCConstants.USAGE_PROP);
-        setxpathSubStmt("//oslc_v2:QueryCapability/oslc:resourceType/@rdf:resource");
-
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(
+                eval, OSLCConstants.USAGE_PROP, "//oslc_v2:QueryCapability/oslc:resourceType/@rdf:resource");
     }
 
     public static String eval = OSLCConstants.RDFS_MEMBER;
@@ -60,9 +60,7 @@ public class AutomationResultXmlTests extends CoreResourceXmlTests {
             return toCollection(results);
         }
 
-        setResourceTypeQuery(OSLCConstants.CORE_DEFAULT);
-        setxpathSubStmt("//oslc_v2:usage/@rdf:resource");
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(eval, OSLCConstants.CORE_DEFAULT, "//oslc_v2:usage/@rdf:resource");
     }
 
     public static String ns = "oslc_auto_v2";
@@ -73,7 +71,7 @@ public class AutomationResultXmlTests extends CoreResourceXmlTests {
     public void autoResultHasAtLeastOneState() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "oslc_auto_v2:state";
 
-        NodeList states = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList states = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
 
         assertTrue("oslc_auto_v2:state" + getFailureMessage(), (states.getLength() >= 1));
     }
@@ -82,7 +80,7 @@ public class AutomationResultXmlTests extends CoreResourceXmlTests {
     public void autoResultHasAtLeastOneVerdict() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "oslc_auto_v2:verdict";
 
-        NodeList states = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList states = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
 
         assertTrue("oslc_auto_v2:verdict" + getFailureMessage(), (states.getLength() >= 1));
     }
@@ -91,7 +89,7 @@ public class AutomationResultXmlTests extends CoreResourceXmlTests {
     public void autoResultHasAtMostOneDesiredState() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "oslc_auto_v2:desiredState";
 
-        NodeList desiredStates = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList desiredStates = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
 
         assertTrue("oslc_auto_v2:desiredState" + getFailureMessage(), (desiredStates.getLength() <= 1));
     }
@@ -100,7 +98,7 @@ public class AutomationResultXmlTests extends CoreResourceXmlTests {
     public void autoResultHasOneReportsOnLink() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "oslc_auto_v2:reportsOnAutomationPlan";
 
-        NodeList executes = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList executes = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
 
         assertEquals("oslc_auto_v2:reportsOnAutomationPlan" + getFailureMessage(), 1, executes.getLength());
     }
@@ -109,7 +107,7 @@ public class AutomationResultXmlTests extends CoreResourceXmlTests {
     public void autoResultHasOneProducedByLink() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "oslc_auto_v2:producedByAutomationRequest";
 
-        NodeList executes = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList executes = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
 
         assertEquals("oslc_auto_v2:producedByAutomationRequest" + getFailureMessage(), 1, executes.getLength());
     }
@@ -40,7 +40,7 @@ public class ChangeRequestRdfXmlTests extends CoreResourceRdfXmlTests {
     public ChangeRequestRdfXmlTests(String thisUrl)
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
                     NullPointerException {
-        super(thisUrl);
+        super(thisUrl, OSLCConstants.CM_CHANGE_REQUEST_TYPE);
     }
 
     @Parameters
@@ -48,8 +48,6 @@ public class ChangeRequestRdfXmlTests extends CoreResourceRdfXmlTests {
 
         staticSetup();
 
-        setResourceType(OSLCConstants.CM_CHANGE_REQUEST_TYPE);
-
         String useThisCR = setupProps.getProperty("useThisChangeRequest");
         if (useThisCR != null) {
             ArrayList<String> results = new ArrayList<String>();
@@ -57,10 +55,8 @@ public class ChangeRequestRdfXmlTests extends CoreResourceRdfXmlTests {
             return toCollection(results);
         }
 
-        setResourceTypeQuery(OSLCConstants.USAGE_PROP);
-        setxpathSubStmt("//oslc_v2:QueryCapability/oslc:resourceType/@rdf:resource");
-
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(
+                eval, OSLCConstants.USAGE_PROP, "//oslc_v2:QueryCapability/oslc:resourceType/@rdf:resource");
     }
 
     public static String eval = OSLCConstants.RDFS_MEMBER;
@@ -61,9 +61,7 @@ public class ChangeRequestXmlTests extends CoreResourceXmlTests {
             return toCollection(results);
         }
 
-        setResourceTypeQuery(OSLCConstants.CORE_DEFAULT);
-        setxpathSubStmt("//oslc_v2:usage/@rdf:resource");
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(eval, OSLCConstants.CORE_DEFAULT, "//oslc_v2:usage/@rdf:resource");
     }
 
     public static String ns = "oslc_cm_v2";
@@ -72,8 +70,8 @@ public class ChangeRequestXmlTests extends CoreResourceXmlTests {
 
     @Test
     public void changeRequestHasAtMostOneCloseDate() throws XPathExpressionException {
-        NodeList closeDates = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:closeDate", doc, XPathConstants.NODESET);
+        NodeList closeDates = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:closeDate", doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), closeDates.getLength() <= 1);
         // If there is a close date, verify the format.
         if (closeDates.getLength() > 0) {
@@ -88,50 +86,50 @@ public class ChangeRequestXmlTests extends CoreResourceXmlTests {
 
     @Test
     public void changeRequestHasAtMostOneStatus() throws XPathExpressionException {
-        NodeList statuses = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:status", doc, XPathConstants.NODESET);
+        NodeList statuses = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:status", doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), statuses.getLength() <= 1);
     }
 
     @Test
     public void changeRequestHasAtMostOneClosedElement() throws XPathExpressionException {
-        NodeList closedEles = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:closed", doc, XPathConstants.NODESET);
+        NodeList closedEles = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:closed", doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), closedEles.getLength() <= 1);
     }
 
     @Test
     public void changeRequestHasAtMostInProgressElement() throws XPathExpressionException {
-        NodeList inProgressEles = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:inprogress", doc, XPathConstants.NODESET);
+        NodeList inProgressEles = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:inprogress", doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), inProgressEles.getLength() <= 1);
     }
 
     @Test
     public void changeRequestHasAtMostOneFixedElement() throws XPathExpressionException {
-        NodeList fixedEles = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:fixed", doc, XPathConstants.NODESET);
+        NodeList fixedEles = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:fixed", doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), fixedEles.getLength() <= 1);
     }
 
     @Test
     public void changeRequestHasAtMostOneApprovedElement() throws XPathExpressionException {
-        NodeList approvedEles = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:approved", doc, XPathConstants.NODESET);
+        NodeList approvedEles = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:approved", doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), approvedEles.getLength() <= 1);
     }
 
     @Test
     public void changeRequestHasAtMostOneReviewedElement() throws XPathExpressionException {
-        NodeList reviewedEles = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:reviewed", doc, XPathConstants.NODESET);
+        NodeList reviewedEles = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:reviewed", doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), reviewedEles.getLength() <= 1);
     }
 
     @Test
     public void changeRequestHasAtMostOneVerifiedElement() throws XPathExpressionException {
-        NodeList verifiedEles = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:verified", doc, XPathConstants.NODESET);
+        NodeList verifiedEles = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_cm_v2:ChangeRequest/" + "oslc_cm_v2:verified", doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), verifiedEles.getLength() <= 1);
     }
 }
@@ -19,18 +19,12 @@ import jakarta.ws.rs.core.Response;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringWriter;
-import java.util.Calendar;
-import java.util.HashSet;
-import java.util.List;
-import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Property;
-import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
-import org.apache.jena.vocabulary.RDF;
 import org.apache.log4j.Logger;
 import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
 import org.eclipse.lyo.testsuite.util.OSLCConstants;
@@ -49,7 +43,10 @@ public abstract class AbstractCreationAndUpdateRdfTests extends CreationAndUpdat
     public String createResourceFromShape(String shapeUri) throws IOException {
         logger.debug("Creating resource from shape <%s>".formatted(shapeUri));
         Model m = ModelFactory.createDefaultModel();
-        createResourceFromShape(m, shapeUri, 1);
+        createResourceFromShape(m, shapeUri);
+        if (logger.isDebugEnabled()) {
+            logger.debug(asTurtle(m));
+        }
 
         return toString(m);
     }
@@ -62,199 +59,12 @@ public abstract class AbstractCreationAndUpdateRdfTests extends CreationAndUpdat
         return writer.toString();
     }
 
-    // Max depth is used to detect cycles.
-    private static final int MAX_DEPTH =
-            Integer.parseInt(System.getProperty("org.eclipse.lyo.testsuite.oslcv2.createResource.maxDepth", "10"));
-
-    protected Resource createResourceFromShape(Model requestModel, String shapeUri, int depth) throws IOException {
-        assertTrue("Detected possible circular reference in shape while creating resource.", depth < MAX_DEPTH);
-
-        // Get the shape.
-        Model shapeModel = getModel(shapeUri);
-        if (logger.isDebugEnabled()) {
-            logger.debug(asTurtle(shapeModel));
-        }
-
-        Resource toCreate = requestModel.createResource();
-
-        Resource shapeResource = shapeModel.getResource(shapeUri);
-        StmtIterator typeIter = shapeResource.listProperties(shapeModel.createProperty(OSLCConstants.DESCRIBES));
-
-        // Use the first rdf:type if defined.
-        if (typeIter.hasNext()) {
-            Resource type = typeIter.next().getResource();
-            toCreate.addProperty(RDF.type, type);
-        }
-
-        final Property propertyProp = shapeModel.createProperty(OSLCConstants.PROPERTY);
-
-        // Try to create a resource based on the properties in the shape.
-        StmtIterator propIter = shapeResource.listProperties(propertyProp);
-        while (propIter.hasNext()) {
-            Resource nextProperty = propIter.next().getResource();
-
-            // Only try to fill in required properties to minimize the chance of errors.
-            if (isPropertyRequired(nextProperty)) {
-                fillInProperty(shapeModel, toCreate, nextProperty, depth);
-            }
-        }
-
-        return toCreate;
-    }
-
-    private void fillInProperty(Model shapeModel, Resource toCreate, Resource propertyToFill, int depth)
-            throws IOException {
-        final Property propertyDefinitionProp = shapeModel.createProperty(OSLCConstants.PROPERTY_DEFINITION);
-        final Property allowedValueProp = shapeModel.createProperty(OSLCConstants.ALLOWED_VALUE);
-        final Property allowedValuesProp = shapeModel.createProperty(OSLCConstants.ALLOWED_VALUES);
-
-        String propertyDefinition = propertyToFill
-                .getRequiredProperty(propertyDefinitionProp)
-                .getResource()
-                .getURI();
-        Property requestProp = toCreate.getModel().createProperty(propertyDefinition);
-
-        /*
-         * Don't attempt to use the default value. Some providers make the
-         * default value something that is not allowed (for instance, Filed
-         * Against: Unassigned in RTC).
-         */
-
-        //		final Property defaultValueProp =
-        // shapeModel.createProperty(OSLCConstants.DEFAULT_VALUE);
-        //		if (propertyToFill.hasProperty(defaultValueProp)) {
-        //			RDFNode defaultValue = propertyToFill.getProperty(defaultValueProp).getObject();
-        //			// Make sure it's not just the empty string.
-        //			if (defaultValue.isResource() || !"".equals(defaultValue.asLiteral().getLexicalForm()))
-        // {
-        //				toCreate.addProperty(requestProp, defaultValue);
-        //				return;
-        //			}
-        //		}
-
-        // Check for a list of allowed values that we can use.
-        if (propertyToFill.hasProperty(allowedValueProp)) {
-            RDFNode randomAllowedValue = getAllowedValue(propertyToFill);
-            toCreate.addProperty(requestProp, randomAllowedValue);
-            return;
-        }
-
-        if (propertyToFill.hasProperty(allowedValuesProp)) {
-            Resource allowedValuesResource =
-                    propertyToFill.getProperty(allowedValuesProp).getResource();
-            String allowedValuesUri = allowedValuesResource.getURI();
-            RDFNode randomAllowedValue;
-            if (allowedValuesUri == null) {
-                // Blank node. Maybe the allowed values are inline?
-                // It's not normal since in that case you can use oslc:allowedValue directly on
-                // Property.
-                randomAllowedValue = getAllowedValue(allowedValuesResource);
-            } else {
-                // Make another request to get the list.
-                Model allowedValuesModel = getModel(allowedValuesUri);
-                allowedValuesResource = allowedValuesModel.getResource(allowedValuesUri);
-                randomAllowedValue = getAllowedValue(allowedValuesResource);
-            }
-            toCreate.addProperty(requestProp, randomAllowedValue);
-            return;
-        }
-
-        // No allowed values. Fill some some data appropriate to the type.
-        fillInPropertyFromValueType(toCreate, propertyToFill, requestProp, depth);
-    }
-
-    /*
-     * Try to find an acceptable allowed value. Really we should be able to
-     * select any, but some providers give an empty or unassigned value as the
-     * first item in the list. Technically, order is not guaranteed from
-     * listProperties(), but in practice it seems to be preserved. Thus let's
-     * try to avoid the first item if possible to minimize errors.
+    /**
+     * Adds a resource with the required properties of the shape to the model. The shape, its allowed values and nested
+     * shapes are fetched and compiled once per run (see {@link CompiledShape}); every call generates new string values.
      */
-    private RDFNode getAllowedValue(Resource r) {
-        final Property allowedValueProp = r.getModel().createProperty(OSLCConstants.ALLOWED_VALUE);
-        List<Statement> allowedValues = r.listProperties(allowedValueProp).toList();
-        if (allowedValues.isEmpty()) {
-            return null;
-        }
-
-        if (allowedValues.size() == 1) {
-            return allowedValues.getFirst().getObject();
-        }
-
-        if (allowedValues.size() == 2) {
-            return allowedValues.get(1).getObject();
-        }
-
-        // Even the second item causes problems sometimes.
-        // Use the second to last... Maybe it's safe?
-        return allowedValues.get(allowedValues.size() - 2).getObject();
-    }
-
-    /*
-     * Attempt to add a value for this property using its value type.
-     */
-    private void fillInPropertyFromValueType(
-            Resource toCreate, Resource propertyResource, Property requestProp, int depth) throws IOException {
-        Model requestModel = toCreate.getModel();
-        Model shapeModel = propertyResource.getModel();
-        final Property valueTypeProp = shapeModel.createProperty(OSLCConstants.VALUE_TYPE);
-
-        if (propertyResource.hasProperty(valueTypeProp)) {
-            final Property rangeProp = shapeModel.createProperty(OSLCConstants.RANGE);
-            final Property valueShapeProp = shapeModel.createProperty(OSLCConstants.VALUE_SHAPE_PROP);
-            HashSet<String> valueTypes = new HashSet<>();
-            StmtIterator valueTypeIter = propertyResource.listProperties(valueTypeProp);
-            while (valueTypeIter.hasNext()) {
-                String typeUri = valueTypeIter.next().getResource().getURI();
-                valueTypes.add(typeUri);
-            }
-
-            /*
-             * Look at each type. Try to fill in something reasonable.
-             */
-            if (valueTypes.contains(OSLCConstants.STRING_TYPE)) {
-                String string = generateStringValue(getMaxSize(propertyResource));
-                toCreate.addProperty(requestProp, string);
-            } else if (valueTypes.contains(OSLCConstants.XML_LITERAL_TYPE)) {
-                String string = generateStringValue(getMaxSize(propertyResource));
-                Literal literal = requestModel.createTypedLiteral(string, OSLCConstants.XML_LITERAL_TYPE);
-                toCreate.addLiteral(requestProp, literal);
-            } else if (valueTypes.contains(OSLCConstants.BOOLEAN_TYPE)) {
-                toCreate.addLiteral(requestProp, true);
-            } else if (valueTypes.contains(OSLCConstants.INTEGER_TYPE)) {
-                toCreate.addLiteral(requestProp, 1);
-            } else if (valueTypes.contains(OSLCConstants.DOUBLE_TYPE)) {
-                toCreate.addLiteral(requestProp, 1.0d);
-            } else if (valueTypes.contains(OSLCConstants.FLOAT_TYPE)) {
-                toCreate.addLiteral(requestProp, 1.0f);
-            } else if (valueTypes.contains(OSLCConstants.DECIMAL_TYPE)) {
-                Literal literal = requestModel.createTypedLiteral(1, OSLCConstants.DECIMAL_TYPE);
-                toCreate.addLiteral(requestProp, literal);
-            } else if (valueTypes.contains(OSLCConstants.DATE_TIME_TYPE)) {
-                toCreate.addLiteral(requestProp, requestModel.createTypedLiteral(Calendar.getInstance()));
-            } else {
-                // It appears to be a resource.
-                Statement valueShapeStatement = propertyResource.getProperty(valueShapeProp);
-                if (valueShapeStatement == null) {
-                    // We have no shape, so this will likely fail. We can try, though.
-                    // Create an empty resource. Add an rdf:type if the property has a range.
-                    Resource valueResource = requestModel.createResource();
-                    StmtIterator rangeIter = propertyResource.listProperties(rangeProp);
-                    if (rangeIter.hasNext()) {
-                        valueResource.addProperty(RDF.type, rangeIter.next().getResource());
-                    }
-                    toCreate.addProperty(requestProp, valueResource);
-                } else {
-                    Resource nested = createResourceFromShape(
-                            requestModel, valueShapeStatement.getResource().getURI(), depth + 1);
-                    toCreate.addProperty(requestProp, nested);
-                }
-            }
-        } else {
-            // We have no hints. Try to set a string value. This may fail.
-            String string = generateStringValue(getMaxSize(propertyResource));
-            toCreate.addProperty(requestProp, string);
-        }
+    protected Resource createResourceFromShape(Model requestModel, String shapeUri) throws IOException {
+        return CompiledShape.compile(shapeUri, this::getModel).generate(requestModel, this::generateStringValue);
     }
 
     protected String toString(Model model) {
@@ -267,16 +77,6 @@ public abstract class AbstractCreationAndUpdateRdfTests extends CreationAndUpdat
 
     protected abstract String getHeaderString(String s);
 
-    /*
-     * Is this property from a resource shape required?
-     */
-    private boolean isPropertyRequired(Resource property) {
-        Statement statement = property.getRequiredProperty(property.getModel().createProperty(OSLCConstants.OCCURS));
-        String occursValue = statement.getResource().getURI();
-
-        return isPropertyRequired(occursValue);
-    }
-
     /*
      * Is this property from a resource shape read only?
      */
@@ -396,8 +196,8 @@ public abstract class AbstractCreationAndUpdateRdfTests extends CreationAndUpdat
     protected String getCreateContent(String template) throws IOException {
         String content;
         if (template == null) {
-            String shapeUri = TestsBase.getShapeUriForCreation(TestsBase.currentUrl);
-            assertNotNull("No shape for creation factory: " + TestsBase.currentUrl, shapeUri);
+            String shapeUri = TestsBase.getShapeUriForCreation(currentUrl);
+            assertNotNull("No shape for creation factory: " + currentUrl, shapeUri);
             content = createResourceFromShape(shapeUri);
         } else {
             content = template;
@@ -105,7 +105,7 @@ public class BasicAuthTests extends TestsBase {
         // Verify the response is a valid ServiceProviderCatalog
         String responseBody = response.readEntity(String.class);
         Document doc = OSLCUtils.createXMLDocFromResponseBody(responseBody);
-        Node rootNode = (Node) OSLCUtils.getXPath().evaluate("/oslc:ServiceProviderCatalog", doc, XPathConstants.NODE);
+        Node rootNode = (Node) OSLCUtils.evaluateXPath("/oslc:ServiceProviderCatalog", doc, XPathConstants.NODE);
         assertNotNull("Response should be a ServiceProviderCatalog", rootNode);
     }
 }
@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.oslcv2.core;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.apache.jena.graph.Node;
+import org.apache.jena.rdf.model.Literal;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.log4j.Logger;
+import org.eclipse.lyo.testsuite.util.OSLCConstants;
+import org.eclipse.lyo.testsuite.util.ResourceCache;
+
+/**
+ * A resource shape compiled into a plan for creating resources of that shape: the type to give them and, for each
+ * required property, either the allowed value to use, the kind of literal to generate or the compiled shape of the
+ * nested resource. Allowed values and nested shapes are fetched while compiling, so {@link #generate(Model, Function)}
+ * needs neither the network nor the shape models.
+ *
+ * <p>Plans are immutable and kept for the run, like responses in {@link ResourceCache} (and not kept when that is
+ * disabled with <code>cacheResponses=false</code>). Threads that compile the same shape at the same time may both fetch
+ * it.
+ */
+public final class CompiledShape {
+    private static Logger logger = Logger.getLogger(CompiledShape.class);
+
+    // Max depth is used to detect cycles.
+    private static final int MAX_DEPTH =
+            Integer.parseInt(System.getProperty("org.eclipse.lyo.testsuite.oslcv2.createResource.maxDepth", "10"));
+
+    private static final Map<String, CompiledShape> compiled = new ConcurrentHashMap<>();
+
+    /** Gets the model of a shape or of an allowed values resource. */
+    @FunctionalInterface
+    public interface ModelSource {
+        Model get(String uri) throws IOException;
+    }
+
+    private enum LiteralKind {
+        STRING,
+        XML_LITERAL,
+        BOOLEAN,
+        INTEGER,
+        DOUBLE,
+        FLOAT,
+        DECIMAL,
+        DATE_TIME
+    }
+
+    private sealed interface ValuePlan {}
+
+    private record AllowedValue(Node value) implements ValuePlan {}
+
+    private record GeneratedLiteral(LiteralKind kind, Integer maxSize) implements ValuePlan {}
+
+    private record NestedShape(CompiledShape shape) implements ValuePlan {}
+
+    // A resource with no shape, typed with the range of the property if there is one
+    private record EmptyResource(Node range) implements ValuePlan {}
+
+    private record PropertyPlan(String propertyUri, ValuePlan value) {}
+
+    private final String uri;
+    private final Node type;
+    private final List<PropertyPlan> properties;
+    // Levels of nesting of the resources generated, 1 without nested shapes
+    private final int height;
+
+    private CompiledShape(String uri, Node type, List<PropertyPlan> properties, int height) {
+        this.uri = uri;
+        this.type = type;
+        this.properties = properties;
+        this.height = height;
+    }
+
+    public String getUri() {
+        return uri;
+    }
+
+    /** Returns the plan for the shape, compiling it and the shapes nested in it on first use. */
+    public static CompiledShape compile(String shapeUri, ModelSource source) throws IOException {
+        return compile(shapeUri, source, new ArrayDeque<>());
+    }
+
+    /** Drops all compiled shapes. */
+    public static void clear() {
+        compiled.clear();
+    }
+
+    /**
+     * Creates a resource in the model with the type and the required properties of the shape.
+     *
+     * @param strings generates a string value of at most the given size, or of any size for <code>null</code>; it
+     *     should return distinct values so that the resources created are distinct
+     * @return the new blank node resource
+     */
+    public Resource generate(Model model, Function<Integer, String> strings) {
+        Resource resource = model.createResource();
+        if (type != null) {
+            resource.addProperty(RDF.type, model.asRDFNode(type));
+        }
+        for (PropertyPlan plan : properties) {
+            Property property = model.createProperty(plan.propertyUri());
+            switch (plan.value()) {
+                case AllowedValue allowed -> resource.addProperty(property, model.asRDFNode(allowed.value()));
+                case GeneratedLiteral literal -> resource.addLiteral(property, generate(model, literal, strings));
+                case NestedShape nested -> resource.addProperty(property, nested.shape().generate(model, strings));
+                case EmptyResource empty -> {
+                    Resource value = model.createResource();
+                    if (empty.range() != null) {
+                        value.addProperty(RDF.type, model.asRDFNode(empty.range()));
+                    }
+                    resource.addProperty(property, value);
+                }
+            }
+        }
+        return resource;
+    }
+
+    private static Literal generate(Model model, GeneratedLiteral literal, Function<Integer, String> strings) {
+        return switch (literal.kind()) {
+            case STRING -> model.createLiteral(strings.apply(literal.maxSize()));
+            case XML_LITERAL -> model.createTypedLiteral(
+                    strings.apply(literal.maxSize()), OSLCConstants.XML_LITERAL_TYPE);
+            case BOOLEAN -> model.createTypedLiteral(true);
+            case INTEGER -> model.createTypedLiteral(1);
+            case DOUBLE -> model.createTypedLiteral(1.0d);
+            case FLOAT -> model.createTypedLiteral(1.0f);
+            case DECIMAL -> model.createTypedLiteral(1, OSLCConstants.DECIMAL_TYPE);
+            case DATE_TIME -> model.createTypedLiteral(Calendar.getInstance());
+        };
+    }
+
+    // path holds the shapes being compiled that lead to this one
+    private static CompiledShape compile(String shapeUri, ModelSource source, Deque<String> path) throws IOException {
+        int depth = path.size() + 1;
+        assertTrue(
+                "Detected possible circular reference in shape while creating resource.",
+                depth < MAX_DEPTH && !path.contains(shapeUri));
+
+        CompiledShape shape = ResourceCache.isEnabled() ? compiled.get(shapeUri) : null;
+        if (shape == null) {
+            path.push(shapeUri);
+            try {
+                shape = compile(shapeUri, source.get(shapeUri), source, path);
+            } finally {
+                path.pop();
+            }
+            if (ResourceCache.isEnabled()) {
+                compiled.putIfAbsent(shapeUri, shape);
+            }
+        }
+        assertTrue(
+                "Detected possible circular reference in shape while creating resource.",
+                depth + shape.height - 1 < MAX_DEPTH);
+        return shape;
+    }
+
+    private static CompiledShape compile(String shapeUri, Model shapeModel, ModelSource source, Deque<String> path)
+            throws IOException {
+        logger.debug("Compiling shape <%s>".formatted(shapeUri));
+        Resource shapeResource = shapeModel.getResource(shapeUri);
+
+        // Use the first rdf:type if defined.
+        StmtIterator typeIter = shapeResource.listProperties(shapeModel.createProperty(OSLCConstants.DESCRIBES));
+        Node type = typeIter.hasNext() ? typeIter.next().getResource().asNode() : null;
+
+        List<PropertyPlan> properties = new ArrayList<>();
+        int height = 1;
+        StmtIterator propIter = shapeResource.listProperties(shapeModel.createProperty(OSLCConstants.PROPERTY));
+        while (propIter.hasNext()) {
+            Resource property = propIter.next().getResource();
+
+            // Only try to fill in required properties to minimize the chance of errors.
+            if (!isPropertyRequired(property)) {
+                continue;
+            }
+            String propertyDefinition = property.getRequiredProperty(
+                            shapeModel.createProperty(OSLCConstants.PROPERTY_DEFINITION))
+                    .getResource()
+                    .getURI();
+            ValuePlan value = compileValue(property, source, path);
+            if (value instanceof NestedShape nested) {
+                height = Math.max(height, nested.shape().height + 1);
+            }
+            if (value != null) {
+                properties.add(new PropertyPlan(propertyDefinition, value));
+            }
+        }
+        return new CompiledShape(shapeUri, type, List.copyOf(properties), height);
+    }
+
+    /*
+     * Don't attempt to use the default value. Some providers make the default value something that is not allowed
+     * (for instance, Filed Against: Unassigned in RTC).
+     */
+    private static ValuePlan compileValue(Resource property, ModelSource source, Deque<String> path)
+            throws IOException {
+        Model shapeModel = property.getModel();
+        final Property allowedValueProp = shapeModel.createProperty(OSLCConstants.ALLOWED_VALUE);
+        final Property allowedValuesProp = shapeModel.createProperty(OSLCConstants.ALLOWED_VALUES);
+
+        // Check for a list of allowed values that we can use.
+        if (property.hasProperty(allowedValueProp)) {
+            return allowedValue(property);
+        }
+
+        if (property.hasProperty(allowedValuesProp)) {
+            Resource allowedValuesResource = property.getProperty(allowedValuesProp).getResource();
+            String allowedValuesUri = allowedValuesResource.getURI();
+            if (allowedValuesUri == null) {
+                // Blank node. Maybe the allowed values are inline?
+                // It's not normal since in that case you can use oslc:allowedValue directly on
+                // Property.
+                return allowedValue(allowedValuesResource);
+            }
+            // Make another request to get the list.
+            Model allowedValuesModel = source.get(allowedValuesUri);
+            return allowedValue(allowedValuesModel.getResource(allowedValuesUri));
+        }
+
+        // No allowed values. Fill some some data appropriate to the type.
+        final Property valueTypeProp = shapeModel.createProperty(OSLCConstants.VALUE_TYPE);
+        Integer maxSize = getMaxSize(property);
+        if (!property.hasProperty(valueTypeProp)) {
+            // We have no hints. Try to set a string value. This may fail.
+            return new GeneratedLiteral(LiteralKind.STRING, maxSize);
+        }
+
+        Set<String> valueTypes = new HashSet<>();
+        StmtIterator valueTypeIter = property.listProperties(valueTypeProp);
+        while (valueTypeIter.hasNext()) {
+            valueTypes.add(valueTypeIter.next().getResource().getURI());
+        }
+
+        /*
+         * Look at each type. Try to fill in something reasonable.
+         */
+        if (valueTypes.contains(OSLCConstants.STRING_TYPE)) {
+            return new GeneratedLiteral(LiteralKind.STRING, maxSize);
+        } else if (valueTypes.contains(OSLCConstants.XML_LITERAL_TYPE)) {
+            return new GeneratedLiteral(LiteralKind.XML_LITERAL, maxSize);
+        } else if (valueTypes.contains(OSLCConstants.BOOLEAN_TYPE)) {
+            return new GeneratedLiteral(LiteralKind.BOOLEAN, null);
+        } else if (valueTypes.contains(OSLCConstants.INTEGER_TYPE)) {
+            return new GeneratedLiteral(LiteralKind.INTEGER, null);
+        } else if (valueTypes.contains(OSLCConstants.DOUBLE_TYPE)) {
+            return new GeneratedLiteral(LiteralKind.DOUBLE, null);
+        } else if (valueTypes.contains(OSLCConstants.FLOAT_TYPE)) {
+            return new GeneratedLiteral(LiteralKind.FLOAT, null);
+        } else if (valueTypes.contains(OSLCConstants.DECIMAL_TYPE)) {
+            return new GeneratedLiteral(LiteralKind.DECIMAL, null);
+        } else if (valueTypes.contains(OSLCConstants.DATE_TIME_TYPE)) {
+            return new GeneratedLiteral(LiteralKind.DATE_TIME, null);
+        }
+
+        // It appears to be a resource.
+        Statement valueShapeStatement = property.getProperty(shapeModel.createProperty(OSLCConstants.VALUE_SHAPE_PROP));
+        if (valueShapeStatement == null) {
+            // We have no shape, so this will likely fail. We can try, though.
+            StmtIterator rangeIter = property.listProperties(shapeModel.createProperty(OSLCConstants.RANGE));
+            return new EmptyResource(rangeIter.hasNext() ? rangeIter.next().getResource().asNode() : null);
+        }
+        return new NestedShape(compile(valueShapeStatement.getResource().getURI(), source, path));
+    }
+
+    /*
+     * Try to find an acceptable allowed value. Really we should be able to
+     * select any, but some providers give an empty or unassigned value as the
+     * first item in the list. Technically, order is not guaranteed from
+     * listProperties(), but in practice it seems to be preserved. Thus let's
+     * try to avoid the first item if possible to minimize errors.
+     */
+    private static ValuePlan allowedValue(Resource r) {
+        final Property allowedValueProp = r.getModel().createProperty(OSLCConstants.ALLOWED_VALUE);
+        List<Statement> allowedValues = r.listProperties(allowedValueProp).toList();
+        if (allowedValues.isEmpty()) {
+            return null;
+        }
+
+        RDFNode value;
+        if (allowedValues.size() == 1) {
+            value = allowedValues.getFirst().getObject();
+        } else if (allowedValues.size() == 2) {
+            value = allowedValues.get(1).getObject();
+        } else {
+            // Even the second item causes problems sometimes.
+            // Use the second to last... Maybe it's safe?
+            value = allowedValues.get(allowedValues.size() - 2).getObject();
+        }
+        return new AllowedValue(value.asNode());
+    }
+
+    /*
+     * Is this property from a resource shape required?
+     */
+    private static boolean isPropertyRequired(Resource property) {
+        Statement statement = property.getRequiredProperty(property.getModel().createProperty(OSLCConstants.OCCURS));
+        String occursValue = statement.getResource().getURI();
+
+        return OSLCConstants.EXACTLY_ONE.equals(occursValue) || OSLCConstants.ONE_OR_MANY.equals(occursValue);
+    }
+
+    /*
+     * Get the max size for this property if defined. Return null otherwise.
+     */
+    private static Integer getMaxSize(Resource property) {
+        Statement maxSize = property.getProperty(property.getModel().createProperty(OSLCConstants.MAX_SIZE_PROP));
+        if (maxSize == null) {
+            return null;
+        }
+
+        return maxSize.getInt();
+    }
+}
@@ -28,8 +28,9 @@ import org.apache.wink.json4j.JSONArtifact;
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.JSONObject;
 import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+import org.eclipse.lyo.testsuite.util.CachedResponse;
 import org.eclipse.lyo.testsuite.util.OSLCConstants;
-import org.eclipse.lyo.testsuite.util.OSLCUtils;
+import org.eclipse.lyo.testsuite.util.ResourceCache;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -51,9 +52,10 @@ public abstract class CoreResourceJsonTests extends TestsBase {
         // records. This isn't exactly a failure, but there's nothing more we
         // can test.
         assumeNotNull(currentUrl);
-        response = OSLCUtils.getResponseFromUrl(setupBaseUrl, currentUrl, creds, OSLCConstants.CT_JSON, headers);
-        responseBody = response.readEntity(String.class);
-        int sc = response.getStatus();
+        CachedResponse cached = ResourceCache.get(setupBaseUrl, currentUrl, creds, OSLCConstants.CT_JSON, headers);
+        response = cached.toResponse();
+        responseBody = cached.getBodyAsString();
+        int sc = cached.getStatus();
 
         // Some records in the system might not be accessible to this user. This
         // isn't a failure, but there's nothing more we can test.
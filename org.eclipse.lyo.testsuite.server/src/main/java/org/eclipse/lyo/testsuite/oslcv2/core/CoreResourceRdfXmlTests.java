@@ -37,9 +37,11 @@ import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.vocabulary.RDF;
 import org.apache.log4j.Logger;
 import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+import org.eclipse.lyo.testsuite.util.CachedResponse;
 import org.eclipse.lyo.testsuite.util.OSLCConstants;
 import org.eclipse.lyo.testsuite.util.OSLCUtils;
 import org.eclipse.lyo.testsuite.util.RDFUtils;
+import org.eclipse.lyo.testsuite.util.ResourceCache;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -52,36 +54,40 @@ public abstract class CoreResourceRdfXmlTests extends TestsBase {
     private static Logger logger = Logger.getLogger(CoreResourceRdfXmlTests.class);
 
     private Response response;
-    private Model fRdfModel = ModelFactory.createDefaultModel();
+    private Model fRdfModel;
     private Resource fResource = null;
 
-    protected static String resourceTypeQuery = "";
-    protected static String xpathSubStmt = "";
-    protected static String resourceType = "";
+    private final String resourceType;
 
     public CoreResourceRdfXmlTests(String thisUrl)
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
                     NullPointerException {
+        this(thisUrl, "");
+    }
+
+    /** @param resourceType the <code>rdf:type</code> the resource must have to be tested, or empty for any */
+    public CoreResourceRdfXmlTests(String thisUrl, String resourceType)
+            throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
+                    NullPointerException {
 
         super(thisUrl);
+        this.resourceType = resourceType;
 
         // If currentUrl is null, it means that the query didn't match any
         // records. This isn't exactly a failure, but there's nothing more we
         // can test.
         assumeNotNull(currentUrl);
-        response = OSLCUtils.getResponseFromUrl(setupBaseUrl, currentUrl, creds, OSLCConstants.CT_RDF, headers);
+        CachedResponse cached = ResourceCache.get(setupBaseUrl, currentUrl, creds, OSLCConstants.CT_RDF, headers);
+        response = cached.toResponse();
         // Some records in the system might not be accessible to this user. This
         // isn't a failure, but there's nothing more we can test.
-        int sc = response.getStatus();
+        int sc = cached.getStatus();
         assumeTrue(sc != Status.FORBIDDEN.getStatusCode() && sc != Status.UNAUTHORIZED.getStatusCode());
         // Make sure the request succeeded before continuing.
         assertEquals(Response.Status.OK.getStatusCode(), sc);
 
-        fRdfModel.read(
-                response.readEntity(InputStream.class),
-                OSLCUtils.absoluteUrlFromRelative(setupBaseUrl, currentUrl),
-                OSLCConstants.JENA_RDF_XML);
-        RDFUtils.validateModel(fRdfModel);
+        fRdfModel = cached.getValidatedModel(
+                OSLCUtils.absoluteUrlFromRelative(setupBaseUrl, currentUrl), OSLCConstants.JENA_RDF_XML);
 
         fResource = (Resource) fRdfModel.getResource(currentUrl);
         if (logger.isDebugEnabled()) {
@@ -91,14 +97,22 @@ public abstract class CoreResourceRdfXmlTests extends TestsBase {
             logger.debug(w.toString());
         }
 
-        String resourceType = getResourceType();
         if (resourceType != null && !"".equals(resourceType)) {
-            assumeTrue(fRdfModel.contains(fResource, RDF.type, fRdfModel.createResource(getResourceType())));
+            assumeTrue(fRdfModel.contains(fResource, RDF.type, fRdfModel.createResource(resourceType)));
         }
     }
 
     @Parameters
     protected static Collection<Object[]> getAllDescriptionUrls(String eval) throws IOException {
+        return getAllDescriptionUrls(eval, "", "");
+    }
+
+    /**
+     * @param resourceTypeQuery the property of query capabilities to select them by, such as <code>oslc:usage</code>
+     * @param xpathSubStmt the value of that property
+     */
+    protected static Collection<Object[]> getAllDescriptionUrls(
+            String eval, String resourceTypeQuery, String xpathSubStmt) throws IOException {
         ArrayList<String> results = new ArrayList<String>();
 
         // Checks the ServiceProviderCatalog at the specified baseUrl of the REST service in order
@@ -109,7 +123,7 @@ public abstract class CoreResourceRdfXmlTests extends TestsBase {
         ArrayList<String> serviceUrls = getServiceProviderURLsUsingRdfXml(setupProps.getProperty("baseUri"), onlyOnce);
 
         ArrayList<String> capabilityURLsUsingRdfXml = TestsBase.getCapabilityURLsUsingRdfXml(
-                OSLCConstants.QUERY_BASE_PROP, serviceUrls, true, null, getResourceTypeQuery(), getxpathSubStmt());
+                OSLCConstants.QUERY_BASE_PROP, serviceUrls, true, null, resourceTypeQuery, xpathSubStmt);
 
         String where = setupProps.getProperty("changeRequestsWhere");
         if (where == null) {
@@ -204,27 +218,7 @@ public abstract class CoreResourceRdfXmlTests extends TestsBase {
         return fRdfModel.listStatements(fResource, prop, (RDFNode) null);
     }
 
-    protected static void setResourceTypeQuery(String rT) {
-        resourceTypeQuery = rT;
-    }
-
-    protected static String getResourceTypeQuery() {
-        return resourceTypeQuery;
-    }
-
-    protected static void setxpathSubStmt(String x) {
-        xpathSubStmt = x;
-    }
-
-    protected static String getxpathSubStmt() {
-        return xpathSubStmt;
-    }
-
-    public static String getResourceType() {
+    public String getResourceType() {
         return resourceType;
     }
-
-    public static void setResourceType(String resourceType) {
-        CoreResourceRdfXmlTests.resourceType = resourceType;
-    }
 }
@@ -31,8 +31,10 @@ import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathException;
 import javax.xml.xpath.XPathExpressionException;
 import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+import org.eclipse.lyo.testsuite.util.CachedResponse;
 import org.eclipse.lyo.testsuite.util.OSLCConstants;
 import org.eclipse.lyo.testsuite.util.OSLCUtils;
+import org.eclipse.lyo.testsuite.util.ResourceCache;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
@@ -48,8 +50,6 @@ public abstract class CoreResourceXmlTests extends TestsBase {
     protected String responseBody;
     protected Document doc;
     protected String node = "";
-    protected static String resourceTypeQuery = "";
-    protected static String xpathSubStmt = "";
 
     public CoreResourceXmlTests(String thisUrl)
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException {
@@ -59,9 +59,10 @@ public abstract class CoreResourceXmlTests extends TestsBase {
         // records. This isn't exactly a failure, but there's nothing more we
         // can test.
         assumeNotNull(currentUrl);
-        response = OSLCUtils.getResponseFromUrl(setupBaseUrl, currentUrl, creds, OSLCConstants.CT_XML, headers);
-        responseBody = response.readEntity(String.class);
-        int sc = response.getStatus();
+        CachedResponse cached = ResourceCache.get(setupBaseUrl, currentUrl, creds, OSLCConstants.CT_XML, headers);
+        response = cached.toResponse();
+        responseBody = cached.getBodyAsString();
+        int sc = cached.getStatus();
 
         // Some records in the system might not be accessible to this user. This
         // isn't a failure, but there's nothing more we can test.
@@ -71,12 +72,22 @@ public abstract class CoreResourceXmlTests extends TestsBase {
         assertEquals(Response.Status.OK.getStatusCode(), sc);
 
         // Get XML Doc from response
-        doc = OSLCUtils.createXMLDocFromResponseBody(responseBody);
+        doc = cached.getDocument();
     }
 
     @Parameters
     protected static Collection<Object[]> getAllDescriptionUrls(String eval)
             throws IOException, ParserConfigurationException, SAXException, XPathException {
+        return getAllDescriptionUrls(eval, "", "");
+    }
+
+    /**
+     * @param resourceTypeQuery the value query capabilities are selected by, such as <code>oslc:default</code>
+     * @param xpathSubStmt the XPath of that value in the service provider document
+     */
+    protected static Collection<Object[]> getAllDescriptionUrls(
+            String eval, String resourceTypeQuery, String xpathSubStmt)
+            throws IOException, ParserConfigurationException, SAXException, XPathException {
         ArrayList<String> results = new ArrayList<String>();
 
         // Checks the ServiceProviderCatalog at the specified baseUrl of the REST service in order
@@ -89,7 +100,7 @@ public abstract class CoreResourceXmlTests extends TestsBase {
 
         ArrayList<String> serviceUrls = getServiceProviderURLsUsingXML(null);
         ArrayList<String> capabilityURLsUsingXML =
-                TestsBase.getCapabilityURLsUsingXML(v, getxpathSubStmt(), getResourceTypeQuery(), serviceUrls, true);
+                TestsBase.getCapabilityURLsUsingXML(v, xpathSubStmt, resourceTypeQuery, serviceUrls, true);
 
         // Once we have the query URL, look for a resource to validate
         String where = setupProps.getProperty("changeRequestsWhere");
@@ -114,12 +125,12 @@ public abstract class CoreResourceXmlTests extends TestsBase {
             Document doc = OSLCUtils.createXMLDocFromResponseBody(respBody);
 
             // Check for results by reference (rdf:resource)
-            Node result = (Node) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODE);
+            Node result = (Node) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODE);
 
             if (result == null)
                 // No results by reference. Check for inline results (rdf:about)
-                result = (Node) OSLCUtils.getXPath()
-                        .evaluate("//rdfs:member/oslc_cm_v2:ChangeRequest/@rdf:about", doc, XPathConstants.NODE);
+                result = (Node) OSLCUtils.evaluateXPath(
+                        "//rdfs:member/oslc_cm_v2:ChangeRequest/@rdf:about", doc, XPathConstants.NODE);
             if (result != null) results.add(result.getNodeValue());
             if (onlyOnce) break;
         }
@@ -131,7 +142,7 @@ public abstract class CoreResourceXmlTests extends TestsBase {
     public void CoreResourceHasOneTitle() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "dc:title";
 
-        NodeList titles = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList titles = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
 
         assertEquals("dc:title" + getFailureMessage(), 1, titles.getLength());
     }
@@ -140,7 +151,7 @@ public abstract class CoreResourceXmlTests extends TestsBase {
     public void CoreResourceHasAtMostOneDescription() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "dc:description";
 
-        NodeList descriptions = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList descriptions = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
 
         assertTrue("dc:description" + getFailureMessage(), descriptions.getLength() <= 1);
     }
@@ -149,7 +160,7 @@ public abstract class CoreResourceXmlTests extends TestsBase {
     public void CoreResourceHasAtMostOneIdentifier() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "dc:identifier";
 
-        NodeList ids = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList ids = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), ids.getLength() <= 1);
     }
 
@@ -157,7 +168,7 @@ public abstract class CoreResourceXmlTests extends TestsBase {
     public void CoreResourceHasAtMostOneName() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "dc:name";
 
-        NodeList names = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList names = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), names.getLength() <= 1);
     }
 
@@ -165,7 +176,7 @@ public abstract class CoreResourceXmlTests extends TestsBase {
     public void CoreResourceHasAtMostOneCreatedDate() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "dc:created";
 
-        NodeList createdDates = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList createdDates = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), createdDates.getLength() <= 1);
         // If there is a created date, verify the format.
         if (createdDates.getLength() > 0) {
@@ -182,7 +193,7 @@ public abstract class CoreResourceXmlTests extends TestsBase {
     public void CoreResourceHasAtMostOneModifiedDate() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "dc:modified";
 
-        NodeList modifiedDates = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList modifiedDates = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), modifiedDates.getLength() <= 1);
 
         // If there is a modified date, verify the format.
@@ -200,7 +211,7 @@ public abstract class CoreResourceXmlTests extends TestsBase {
     public void CoreResourceHasAtMostOneDiscussion() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "oslc:discussion";
 
-        NodeList discussions = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList discussions = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), discussions.getLength() <= 1);
     }
 
@@ -208,7 +219,7 @@ public abstract class CoreResourceXmlTests extends TestsBase {
     public void CoreResourceHasAtMostOneInstanceShape() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "oslc:instanceShape";
 
-        NodeList instances = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList instances = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
         assertTrue(getFailureMessage(), instances.getLength() <= 1);
     }
 
@@ -223,20 +234,4 @@ public abstract class CoreResourceXmlTests extends TestsBase {
     protected String getNode() {
         return node;
     }
-
-    protected static void setResourceTypeQuery(String rT) {
-        resourceTypeQuery = rT;
-    }
-
-    protected static String getResourceTypeQuery() {
-        return resourceTypeQuery;
-    }
-
-    protected static void setxpathSubStmt(String x) {
-        xpathSubStmt = x;
-    }
-
-    protected static String getxpathSubStmt() {
-        return xpathSubStmt;
-    }
 }
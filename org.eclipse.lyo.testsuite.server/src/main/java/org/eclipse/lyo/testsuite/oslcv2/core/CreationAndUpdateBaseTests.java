@@ -17,6 +17,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 import jakarta.ws.rs.core.Response;
 import java.io.FileNotFoundException;
@@ -27,6 +28,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.Property;
@@ -34,6 +36,8 @@ import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.log4j.Logger;
 import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+import org.eclipse.lyo.testsuite.util.CleanupQueue;
+import org.eclipse.lyo.testsuite.util.LoadGenerator;
 import org.eclipse.lyo.testsuite.util.OSLCConstants;
 import org.eclipse.lyo.testsuite.util.OSLCUtils;
 import org.eclipse.lyo.testsuite.util.RDFUtils;
@@ -55,6 +59,7 @@ import org.junit.runners.Parameterized;
 @RunWith(Parameterized.class)
 public abstract class CreationAndUpdateBaseTests extends TestsBase {
     private Logger logger = Logger.getLogger(CreationAndUpdateBaseTests.class);
+    private static final AtomicLong generatedValues = new AtomicLong();
 
     @SuppressWarnings("rawtypes")
     public static String[] getCreateTemplateTypes() throws FileNotFoundException {
@@ -110,6 +115,7 @@ public abstract class CreationAndUpdateBaseTests extends TestsBase {
         // contentType
         Response resp = OSLCUtils.postDataToUrl(currentUrl, creds, "*/*", "weird/type", getCreateContent(), headers);
         resp.close();
+        registerCreated(resp);
         assertEquals(415, resp.getStatus());
     }
 
@@ -117,6 +123,7 @@ public abstract class CreationAndUpdateBaseTests extends TestsBase {
 
         // issue the POST call
         Response resp = OSLCUtils.postDataToUrl(currentUrl, creds, accept, contentType, content, headers);
+        registerCreated(resp);
 
         if (resp.getStatus() == 415) { // Unsupported Media Type
             resp.close();
@@ -149,10 +156,7 @@ public abstract class CreationAndUpdateBaseTests extends TestsBase {
         // Attempt to clean up after the test by calling delete on the given
         // url,
         // which is not a MUST according to the oslc cm spec
-        resp = OSLCUtils.deleteFromUrl(location, creds, "*/*");
-        if (resp.getEntity() != null) {
-            resp.close();
-        }
+        CleanupQueue.release(location);
     }
 
     @Test
@@ -161,6 +165,7 @@ public abstract class CreationAndUpdateBaseTests extends TestsBase {
         Response resp = OSLCUtils.postDataToUrl(
                 currentUrl, creds, getContentType(), getContentType(), "invalid content", headers);
         resp.close();
+        registerCreated(resp);
 
         // An error status code should be at least 400.
         assertTrue("Expecting error but received successful status code", resp.getStatus() >= 400);
@@ -227,12 +232,74 @@ public abstract class CreationAndUpdateBaseTests extends TestsBase {
         assertEquals("HTTP Response body: \n " + responseBody, Response.Status.OK.getStatusCode(), resp.getStatus());
 
         // Clean up after the test by attempting to delete the created resource
-        if (location != null) {
-            resp = OSLCUtils.deleteFromUrl(location, creds, "*/*");
-            if (resp != null && resp.getEntity() != null) resp.close();
+        CleanupQueue.release(location);
+    }
+
+    /**
+     * Runs the lifecycle of {@link #createResourceAndUpdateIt()} from concurrent workers, as set by the
+     * <code>loadTest</code> properties (see {@link LoadGenerator.Settings#from(java.util.Properties)}), and logs
+     * latency percentiles and error rates of the create, update and delete phases. Skipped unless
+     * <code>loadTestModel</code> is set. Fails if the fraction of failed iterations is above
+     * <code>loadTestMaxErrorRate</code>, when set.
+     */
+    @Test
+    public void createAndUpdateResourcesUnderLoad() throws Exception {
+        LoadGenerator.Settings settings = LoadGenerator.Settings.from(setupProps);
+        assumeTrue(settings != null);
+
+        LoadGenerator.Report report = LoadGenerator.run(settings, this::createUpdateAndDeleteResource);
+        logger.info("Load on %s with %s:%n%s".formatted(currentUrl, getContentType(), report.format()));
+
+        String maxErrorRate = setupProps.getProperty("loadTestMaxErrorRate");
+        if (maxErrorRate != null) {
+            assertTrue(
+                    "%.2f%% of the iterations failed:%n%s".formatted(report.getErrorRate() * 100, report.format()),
+                    report.getErrorRate() <= Double.parseDouble(maxErrorRate.trim()));
         }
     }
 
+    private void createUpdateAndDeleteResource(LoadGenerator.Phases phases) throws Exception {
+        String createContent = getCreateContent();
+        long start = System.nanoTime();
+        Response resp = OSLCUtils.postDataToUrl(
+                currentUrl, creds, getContentType(), getContentType(), createContent, headers);
+        resp.close();
+        String location = resp.getHeaderString("Location");
+        phases.record("create", start, unexpectedStatus(resp, 201, location == null ? "no Location header" : null));
+        if (resp.getStatus() != 201 || location == null) {
+            return;
+        }
+        CleanupQueue.register(location);
+
+        Map<String, String> putHeaders = new HashMap<>(headers);
+        String eTag = resp.getHeaderString("ETag");
+        if (eTag != null) {
+            putHeaders.put("If-Match", eTag);
+        }
+        String lastModified = resp.getHeaderString("Last-Modified");
+        if (lastModified != null) {
+            putHeaders.put("If-Unmodified-Since", lastModified);
+        }
+        String updateContent = getUpdateContent(location);
+        String updateUrl = updateParams != null && !updateParams.isEmpty() ? location + updateParams : location;
+        start = System.nanoTime();
+        resp = OSLCUtils.putDataToUrl(updateUrl, creds, getContentType(), getContentType(), updateContent, putHeaders);
+        resp.close();
+        phases.record("update", start, unexpectedStatus(resp, Response.Status.OK.getStatusCode(), null));
+
+        start = System.nanoTime();
+        resp = OSLCUtils.deleteFromUrl(location, creds, "*/*");
+        resp.close();
+        phases.record("delete", start, resp.getStatus() >= 400 ? "HTTP " + resp.getStatus() : null);
+        if (resp.getStatus() < 500) {
+            CleanupQueue.forget(location);
+        }
+    }
+
+    private static String unexpectedStatus(Response resp, int expected, String otherwise) {
+        return resp.getStatus() != expected ? "HTTP " + resp.getStatus() : otherwise;
+    }
+
     @Test
     public void updateCreatedResourceWithInvalidContent() throws Exception {
         Response resp = createResource(getContentType(), getContentType(), getCreateContent());
@@ -268,9 +335,7 @@ public abstract class CreationAndUpdateBaseTests extends TestsBase {
                 status >= 400 && status <= 499);
 
         // Clean up after the test by attempting to delete the created resource
-        if (location != null) resp = OSLCUtils.deleteFromUrl(location, creds, "");
-
-        if (resp != null && resp.getEntity() != null) resp.close();
+        CleanupQueue.release(location);
     }
 
     @Test
@@ -306,9 +371,7 @@ public abstract class CreationAndUpdateBaseTests extends TestsBase {
         assertEquals(415, resp.getStatus()); // Unsupported Media Type
 
         // Clean up after the test by attempting to delete the created resource
-        resp = OSLCUtils.deleteFromUrl(location, creds, "");
-
-        if (resp != null && resp.getEntity() != null) resp.close();
+        CleanupQueue.release(location);
     }
 
     private Response createResource(String contentType, String accept, String createContent) throws IOException {
@@ -330,6 +393,13 @@ public abstract class CreationAndUpdateBaseTests extends TestsBase {
         return resp;
     }
 
+    // Registers the resource the POST created, if any, so that it is deleted even if the test fails
+    private static void registerCreated(Response resp) {
+        if (resp.getStatus() == 201) {
+            CleanupQueue.register(resp.getHeaderString("Location"));
+        }
+    }
+
     private String getRequiredLocationHeader(Response resp) {
         String location = resp.getHeaderString("Location");
 
@@ -396,9 +466,7 @@ public abstract class CreationAndUpdateBaseTests extends TestsBase {
         assertEquals(412, resp.getStatus()); // Precondition Failed
 
         // Clean up after the test by attempting to delete the created resource
-        resp = OSLCUtils.deleteFromUrl(location, creds, "");
-
-        if (resp != null && resp.getEntity() != null) resp.close();
+        CleanupQueue.release(location);
     }
 
     @Test
@@ -442,14 +510,14 @@ public abstract class CreationAndUpdateBaseTests extends TestsBase {
         assertEquals(400, resp.getStatus()); // Bad Request
 
         // Clean up after the test by attempting to delete the created resource
-        resp = OSLCUtils.deleteFromUrl(location, creds, "");
-
-        if (resp != null && resp.getEntity() != null) resp.close();
+        CleanupQueue.release(location);
     }
 
     protected String generateStringValue(Integer maxSize) {
-        // Tack on the current time in millis to make the value unique, just in case.
-        String s = "Eclispe Lyo Assessment Test " + System.currentTimeMillis();
+        // Tack on the current time in millis and a counter to make the value unique, even for resources created in
+        // the same millisecond.
+        String s =
+                "Eclispe Lyo Assessment Test " + System.currentTimeMillis() + "-" + generatedValues.incrementAndGet();
         if (maxSize != null && s.length() > maxSize) {
             return s.substring(0, maxSize - 1);
         }
@@ -150,21 +150,21 @@ public class FetchResourceTests extends TestsBase {
 
         Document doc = OSLCUtils.createXMLDocFromResponseBody(body);
 
-        Node compactNode = (Node) OSLCUtils.getXPath().evaluate("/*/oslc_v2:Compact", doc, XPathConstants.NODE);
+        Node compactNode = (Node) OSLCUtils.evaluateXPath("/*/oslc_v2:Compact", doc, XPathConstants.NODE);
         assertNotNull(compactNode);
 
         // Everything is optional in the oslc:Compact representation.
 
-        NodeList nodeList = (NodeList) OSLCUtils.getXPath().evaluate("./dc:title", compactNode, XPathConstants.NODESET);
+        NodeList nodeList = (NodeList) OSLCUtils.evaluateXPath("./dc:title", compactNode, XPathConstants.NODESET);
         int numNodes = nodeList.getLength();
         assertTrue("Expected number of dcterms:titles to be <=1 but was: " + numNodes, numNodes <= 1);
 
         nodeList =
-                (NodeList) OSLCUtils.getXPath().evaluate("./oslc_v2:shortTitle", compactNode, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("./oslc_v2:shortTitle", compactNode, XPathConstants.NODESET);
         numNodes = nodeList.getLength();
         assertTrue("Expected number of oslc:shortTitles to be <=1 but was: " + numNodes, numNodes <= 1);
 
-        nodeList = (NodeList) OSLCUtils.getXPath().evaluate("./oslc_v2:icon", compactNode, XPathConstants.NODESET);
+        nodeList = (NodeList) OSLCUtils.evaluateXPath("./oslc_v2:icon", compactNode, XPathConstants.NODESET);
         numNodes = nodeList.getLength();
         assertTrue("Expected number of oslc:icon to be <=1 but was: " + numNodes, numNodes <= 1);
 
@@ -183,13 +183,13 @@ public class FetchResourceTests extends TestsBase {
         }
 
         nodeList =
-                (NodeList) OSLCUtils.getXPath().evaluate("./oslc_v2:smallPreview", compactNode, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("./oslc_v2:smallPreview", compactNode, XPathConstants.NODESET);
         numNodes = nodeList.getLength();
         assertTrue("Expected number of oslc:smallPreview is 0 or 1 but was: " + numNodes, numNodes <= 1);
         if (numNodes == 1) validateCompactPreview(nodeList);
 
         nodeList =
-                (NodeList) OSLCUtils.getXPath().evaluate("./oslc_v2:largePreview", compactNode, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("./oslc_v2:largePreview", compactNode, XPathConstants.NODESET);
         numNodes = nodeList.getLength();
         assertTrue("Expected number of oslc:largePreview is 0 or 1 but was: " + numNodes, numNodes <= 1);
         if (numNodes == 1) validateCompactPreview(nodeList);
@@ -197,8 +197,8 @@ public class FetchResourceTests extends TestsBase {
 
     /** Assume that nodeList.getLength()==1 */
     protected void validateCompactPreview(NodeList nodeList) throws IOException, XPathExpressionException {
-        Node node = (Node) OSLCUtils.getXPath()
-                .evaluate("./oslc_v2:Preview/oslc_v2:document/@rdf:resource", nodeList.item(0), XPathConstants.NODE);
+        Node node = (Node) OSLCUtils.evaluateXPath(
+                "./oslc_v2:Preview/oslc_v2:document/@rdf:resource", nodeList.item(0), XPathConstants.NODE);
         assertNotNull("Expected number of oslc:Preview/oslc:document/@rdf:resource", node);
         String previewUrl = node.getTextContent();
         Response response = OSLCUtils.getResponseFromUrl(previewUrl, previewUrl, creds, "*/*", headers);
@@ -25,7 +25,6 @@ import java.text.ParseException;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
-import org.apache.wink.json4j.JSON;
 import org.apache.wink.json4j.JSONArtifact;
 import org.apache.wink.json4j.JSONException;
 import org.apache.wink.json4j.compat.JSONArray;
@@ -64,13 +63,11 @@ public class QueryTests extends SimplifiedQueryBaseTests {
                 + URLEncoder.encode("=\"" + queryPropertyValue + "\"", "UTF-8")
                 + "&oslc.select="
                 + queryProperty;
-        String responseBody = runQuery(query, OSLCConstants.CT_XML);
-        // Get XML Doc from response
-        Document doc = OSLCUtils.createXMLDocFromResponseBody(responseBody);
+        Document doc = runXmlQuery(query);
         NodeList results =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
         if (results == null)
-            results = (NodeList) OSLCUtils.getXPath().evaluate("//rdf:Description", doc, XPathConstants.NODESET);
+            results = (NodeList) OSLCUtils.evaluateXPath("//rdf:Description", doc, XPathConstants.NODESET);
         assertNotNull(results);
         assertTrue("Expected query results > 0", results.getLength() > 0);
         // Check that the property elements are equal to the expected value
@@ -88,24 +85,26 @@ public class QueryTests extends SimplifiedQueryBaseTests {
                 + "&oslc.select="
                 + queryProperty;
 
-        String responseBody = runQuery(query, OSLCConstants.CT_XML);
+        Document doc = runXmlQuery(query);
 
-        // Get XML Doc from response
-        Document doc = OSLCUtils.createXMLDocFromResponseBody(responseBody);
         NodeList results =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
         assertTrue(results != null);
         assertTrue(results.getLength() > 0);
         // Check that the property elements are not equal to the value in the previous test
         checkInequalityProperty(results, queryProperty, queryPropertyValue, doc);
     }
 
-    protected String runQuery(String queryURL, String contentType) throws IOException {
+    protected Response runQuery(String queryURL, String contentType) throws IOException {
         Response response =
                 OSLCUtils.getResponseFromUrl(setupBaseUrl, currentUrl + queryURL, creds, contentType, headers);
         assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
-        String responseBody = response.readEntity(String.class);
-        return responseBody;
+        return response;
+    }
+
+    // Query pages can be large, parse them as they arrive rather than from a String
+    protected Document runXmlQuery(String queryURL) throws IOException, ParserConfigurationException, SAXException {
+        return OSLCUtils.createXMLDocFromResponse(runQuery(queryURL, OSLCConstants.CT_XML));
     }
 
     @Test
@@ -121,13 +120,12 @@ public class QueryTests extends SimplifiedQueryBaseTests {
         // Get response
         Response resp =
                 OSLCUtils.getResponseFromUrl(setupBaseUrl, currentUrl + query, creds, "application/xml", headers);
-        String respBody = resp.readEntity(String.class);
-        Document doc = OSLCUtils.createXMLDocFromResponseBody(respBody);
+        Document doc = OSLCUtils.createXMLDocFromResponse(resp);
 
         NodeList results =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
         if (results == null)
-            results = (NodeList) OSLCUtils.getXPath().evaluate("//rdf:Description", doc, XPathConstants.NODESET);
+            results = (NodeList) OSLCUtils.evaluateXPath("//rdf:Description", doc, XPathConstants.NODESET);
         assertTrue(results != null);
         assertTrue("Expecting query results >0", results.getLength() > 0);
         // Check that the property elements are less than the query comparison property
@@ -144,13 +142,12 @@ public class QueryTests extends SimplifiedQueryBaseTests {
                 + URLEncoder.encode(">=\"" + queryComparisonValue + "\"", "UTF-8")
                 + "&oslc.select="
                 + queryComparisonProperty;
-        String respBody = runQuery(query, OSLCConstants.CT_XML);
-        Document doc = OSLCUtils.createXMLDocFromResponseBody(respBody);
+        Document doc = runXmlQuery(query);
 
         NodeList results =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
         if (results == null) {
-            results = (NodeList) OSLCUtils.getXPath().evaluate("//rdf:Description", doc, XPathConstants.NODESET);
+            results = (NodeList) OSLCUtils.evaluateXPath("//rdf:Description", doc, XPathConstants.NODESET);
         }
         assertTrue(results != null);
         assertTrue("Expected query results >0", results.getLength() > 0);
@@ -180,12 +177,11 @@ public class QueryTests extends SimplifiedQueryBaseTests {
     @Test
     public void validCompoundQueryContainsExpectedDefect()
             throws IOException, SAXException, ParserConfigurationException, XPathExpressionException {
-        String respBody = runQuery(getCompoundQueryContainsExpectedDefectQuery(), OSLCConstants.CT_XML);
-        Document doc = OSLCUtils.createXMLDocFromResponseBody(respBody);
+        Document doc = runXmlQuery(getCompoundQueryContainsExpectedDefectQuery());
 
         // Make sure each entry has a matching property element with a value that matches the query
         NodeList lst =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
         checkEqualityProperty(lst, queryProperty, queryPropertyValue, doc);
         checkGreaterThanProperty(lst, queryComparisonProperty, queryComparisonValue, doc);
     }
@@ -193,8 +189,8 @@ public class QueryTests extends SimplifiedQueryBaseTests {
     @Test
     public void validCompoundQueryContainsExpectedDefectJson() throws IOException, NullPointerException, JSONException {
         // Get response
-        String respBody = runQuery(getCompoundQueryContainsExpectedDefectQuery(), OSLCConstants.CT_JSON);
-        JSONArtifact userData = JSON.parse(respBody);
+        Response response = runQuery(getCompoundQueryContainsExpectedDefectQuery(), OSLCConstants.CT_JSON);
+        JSONArtifact userData = OSLCUtils.parseJsonFromResponse(response);
         JSONObject resultJson = null;
         if (userData instanceof JSONArtifact) {
             resultJson = (JSONObject) userData;
@@ -216,15 +212,12 @@ public class QueryTests extends SimplifiedQueryBaseTests {
                 + "&oslc.searchTerms="
                 + URLEncoder.encode("\"" + fullTextSearchTerm + "\"", "UTF-8");
 
-        String responseBody = runQuery(query, OSLCConstants.CT_XML);
-
-        // Get XML Doc from response
-        Document doc = OSLCUtils.createXMLDocFromResponseBody(responseBody);
+        Document doc = runXmlQuery(query);
 
         NodeList lst =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_cm_v2:ChangeRequest", doc, XPathConstants.NODESET);
         if (lst == null || lst.getLength() == 0) {
-            lst = (NodeList) OSLCUtils.getXPath().evaluate("//rdf:Description", doc, XPathConstants.NODESET);
+            lst = (NodeList) OSLCUtils.evaluateXPath("//rdf:Description", doc, XPathConstants.NODESET);
         }
         assertNotNull(lst);
 
@@ -33,11 +33,13 @@ public abstract class ServiceProviderCatalogBaseTests extends TestsBase {
 
     // Base URL of the OSLC Service Provider Catalog to be tested
     // protected Response response = null;
-    protected static String fContentType = null;
+    // Media type of the catalog, per instance so that subclasses can run in parallel
+    protected final String fContentType;
 
-    public ServiceProviderCatalogBaseTests(String thisUrl) {
+    public ServiceProviderCatalogBaseTests(String thisUrl, String contentType) {
         super(thisUrl);
         currentUrl = thisUrl;
+        fContentType = contentType;
     }
 
     @Test
@@ -33,9 +33,11 @@ import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.log4j.Logger;
+import org.eclipse.lyo.testsuite.util.CachedResponse;
 import org.eclipse.lyo.testsuite.util.OSLCConstants;
 import org.eclipse.lyo.testsuite.util.OSLCUtils;
 import org.eclipse.lyo.testsuite.util.RDFUtils;
+import org.eclipse.lyo.testsuite.util.ResourceCache;
 import org.junit.Test;
 import org.junit.runners.Parameterized.Parameters;
 import org.xml.sax.SAXException;
@@ -43,27 +45,23 @@ import org.xml.sax.SAXException;
 public class ServiceProviderCatalogRdfXmlTests extends ServiceProviderCatalogBaseTests {
 
     private Logger logger = Logger.getLogger(ServiceProviderCatalogRdfXmlTests.class);
-    private Model rdfModel = ModelFactory.createDefaultModel();
+    private Model rdfModel;
     private Resource catalog = null;
     private Response response = null;
 
     public ServiceProviderCatalogRdfXmlTests(String thisUrl) throws IOException {
-        super(thisUrl);
+        super(thisUrl, OSLCConstants.CT_RDF);
 
-        fContentType = OSLCConstants.CT_RDF;
-
-        response = OSLCUtils.getResponseFromUrl(setupBaseUrl, currentUrl, creds, fContentType, headers);
+        CachedResponse cached = ResourceCache.get(setupBaseUrl, currentUrl, creds, fContentType, headers);
+        response = cached.toResponse();
 
         assertEquals(
                 "Did not successfully retrieve catalog at: " + currentUrl,
                 Response.Status.OK.getStatusCode(),
-                response.getStatus());
+                cached.getStatus());
 
-        rdfModel.read(
-                response.readEntity(InputStream.class),
-                OSLCUtils.absoluteUrlFromRelative(setupBaseUrl, currentUrl),
-                OSLCConstants.JENA_RDF_XML);
-        RDFUtils.validateModel(rdfModel);
+        rdfModel = cached.getValidatedModel(
+                OSLCUtils.absoluteUrlFromRelative(setupBaseUrl, currentUrl), OSLCConstants.JENA_RDF_XML);
         catalog = (Resource) rdfModel.getResource(currentUrl);
 
         assertNotNull("Failed to read Catalog resource at URI: " + currentUrl, catalog);
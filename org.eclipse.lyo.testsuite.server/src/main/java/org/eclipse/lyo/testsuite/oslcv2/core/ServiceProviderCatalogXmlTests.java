@@ -57,9 +57,7 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     protected Response response = null;
 
     public ServiceProviderCatalogXmlTests(String url) throws IOException, ParserConfigurationException, SAXException {
-        super(url);
-
-        fContentType = OSLCConstants.CT_XML;
+        super(url, OSLCConstants.CT_XML);
 
         response = OSLCUtils.getResponseFromUrl(setupBaseUrl, currentUrl, creds, fContentType, headers);
         responseBody = response.readEntity(String.class);
@@ -104,7 +102,7 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
 
             // ArrayList to contain the urls from all SPCs
             Collection<Object[]> data = new ArrayList<Object[]>();
-            Node rootElement = (Node) OSLCUtils.getXPath().evaluate("/rdf:RDF/*", baseDoc, XPathConstants.NODE);
+            Node rootElement = (Node) OSLCUtils.evaluateXPath("/rdf:RDF/*", baseDoc, XPathConstants.NODE);
             if (rootElement.getNamespaceURI().equals(OSLCConstants.OSLC_V2)
                     && rootElement.getLocalName().equals("ServiceProviderCatalog")) {
                 data.add(new Object[] {base});
@@ -114,11 +112,10 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
             // to test them as well,
             // recursively checking them for other ServiceProviderCatalogs further
             // down.
-            NodeList spcs = (NodeList) OSLCUtils.getXPath()
-                    .evaluate(
-                            "//oslc_v2:serviceProviderCatalog/oslc_v2:ServiceProviderCatalog/@rdf:about",
-                            baseDoc,
-                            XPathConstants.NODESET);
+            NodeList spcs = (NodeList) OSLCUtils.evaluateXPath(
+                    "//oslc_v2:serviceProviderCatalog/oslc_v2:ServiceProviderCatalog/@rdf:about",
+                    baseDoc,
+                    XPathConstants.NODESET);
             for (int i = 0; i < spcs.getLength(); i++) {
                 if (!spcs.item(i).getNodeValue().equals(base)) {
                     Collection<Object[]> subCollection =
@@ -148,7 +145,7 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     @Test
     public void catalogRootIsRdfNamespaceDeclaration() throws XPathException {
         // Make sure our root element is the RDF namespace declarations
-        Node rootNode = (Node) OSLCUtils.getXPath().evaluate("/rdf:RDF", doc, XPathConstants.NODE);
+        Node rootNode = (Node) OSLCUtils.evaluateXPath("/rdf:RDF", doc, XPathConstants.NODE);
         assertNotNull(rootNode);
     }
 
@@ -157,7 +154,7 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
         // Make sure that we our root element has an rdf:about that points the
         // same server provider catalog
         Node aboutRoot = (Node)
-                OSLCUtils.getXPath().evaluate("/*/oslc_v2:ServiceProviderCatalog/@rdf:about", doc, XPathConstants.NODE);
+                OSLCUtils.evaluateXPath("/*/oslc_v2:ServiceProviderCatalog/@rdf:about", doc, XPathConstants.NODE);
         assertNotNull(aboutRoot);
         assertTrue(currentUrl.equals(aboutRoot.getNodeValue()));
     }
@@ -166,7 +163,7 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     public void serviceProviderCatalogsHaveAtMostOneTitle() throws XPathException {
         // Check root to make sure it has at most one title.
         NodeList rootChildren = (NodeList)
-                OSLCUtils.getXPath().evaluate("/rdf:RDF/oslc_v2:ServiceProviderCatalog/*", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("/rdf:RDF/oslc_v2:ServiceProviderCatalog/*", doc, XPathConstants.NODESET);
         int numTitles = 0;
         for (int i = 0; i < rootChildren.getLength(); i++) {
             if (rootChildren.item(i).getNamespaceURI().equals(OSLCConstants.DC)
@@ -178,11 +175,11 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
 
         // Get all service provider catalogs listed
         NodeList nestedSPCs = (NodeList)
-                OSLCUtils.getXPath().evaluate("/*/*//oslc_v2:serviceProviderCatalog", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("/*/*//oslc_v2:serviceProviderCatalog", doc, XPathConstants.NODESET);
 
         for (int i = 0; i < nestedSPCs.getLength(); i++) {
-            NodeList spcChildren = (NodeList) OSLCUtils.getXPath()
-                    .evaluate("/*/*//oslc_v2:serviceProviderCatalog[" + i + "]/*/*", doc, XPathConstants.NODESET);
+            NodeList spcChildren = (NodeList) OSLCUtils.evaluateXPath(
+                    "/*/*//oslc_v2:serviceProviderCatalog[" + i + "]/*/*", doc, XPathConstants.NODESET);
             int titleCount = 0;
             // Go through the service provider catalog's children, make sure it
             // contains at most one title.
@@ -200,11 +197,11 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     public void serviceProvidersHaveAtMostOneTitle() throws XPathException {
         // Get all service providers listed
         NodeList nestedSPCs =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:serviceProvider", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:serviceProvider", doc, XPathConstants.NODESET);
 
         for (int i = 0; i < nestedSPCs.getLength(); i++) {
             NodeList spcChildren =
-                    (NodeList) OSLCUtils.getXPath().evaluate("./*/*", nestedSPCs.item(i), XPathConstants.NODESET);
+                    (NodeList) OSLCUtils.evaluateXPath("./*/*", nestedSPCs.item(i), XPathConstants.NODESET);
             int titleCount = 0;
 
             // Go through the service provider's children, make sure it contains
@@ -223,7 +220,7 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     public void serviceProviderCatalogsHaveAtMostOnePublisher() throws XPathExpressionException {
         // Check root for Publisher, make sure it only has at most one
         NodeList rootChildren = (NodeList)
-                OSLCUtils.getXPath().evaluate("/rdf:RDF/oslc_v2:ServiceProviderCatalog/*", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("/rdf:RDF/oslc_v2:ServiceProviderCatalog/*", doc, XPathConstants.NODESET);
         int numPublishers = 0;
         for (int i = 0; i < rootChildren.getLength(); i++) {
             if (rootChildren.item(i).getNamespaceURI().equals(OSLCConstants.DC)
@@ -235,11 +232,11 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
 
         // Get list of other ServiceProviderCatalog elements
         NodeList nestedSPCs = (NodeList)
-                OSLCUtils.getXPath().evaluate("/*/*//oslc_v2:serviceProviderCatalog", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("/*/*//oslc_v2:serviceProviderCatalog", doc, XPathConstants.NODESET);
         // Go through the children of each catalog
         for (int i = 0; i < nestedSPCs.getLength(); i++) {
-            NodeList spcChildren = (NodeList) OSLCUtils.getXPath()
-                    .evaluate("/*/*//oslc_v2:serviceProviderCatalog[" + i + "]/*/*", doc, XPathConstants.NODESET);
+            NodeList spcChildren = (NodeList) OSLCUtils.evaluateXPath(
+                    "/*/*//oslc_v2:serviceProviderCatalog[" + i + "]/*/*", doc, XPathConstants.NODESET);
             int publisherCount = 0;
             // Make sure there's at most one Publisher blocks
             for (int j = 0; j < spcChildren.getLength(); j++) {
@@ -256,12 +253,12 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     public void serviceProvidersHaveAtMostOnePublisher() throws XPathExpressionException {
         // Get the listed ServiceProvider elements
         NodeList nestedSPCs =
-                (NodeList) OSLCUtils.getXPath().evaluate("/*/*//oslc_v2:serviceProvider", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("/*/*//oslc_v2:serviceProvider", doc, XPathConstants.NODESET);
 
         // Make sure that for each one it only has at most one Publisher block
         for (int i = 0; i < nestedSPCs.getLength(); i++) {
-            NodeList spcChildren = (NodeList) OSLCUtils.getXPath()
-                    .evaluate("/*/*//oslc_v2:serviceProvider[" + i + "]/*/*", doc, XPathConstants.NODESET);
+            NodeList spcChildren = (NodeList) OSLCUtils.evaluateXPath(
+                    "/*/*//oslc_v2:serviceProvider[" + i + "]/*/*", doc, XPathConstants.NODESET);
             int publisherCount = 0;
             for (int j = 0; j < spcChildren.getLength(); j++) {
                 if (spcChildren.item(j).getNamespaceURI().equals(OSLCConstants.DC)
@@ -276,7 +273,7 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     @Test
     public void publisherElementsAreValid() throws XPathExpressionException {
         // Get all Publisher xml blocks
-        NodeList publishers = (NodeList) OSLCUtils.getXPath().evaluate("//dc:publisher/*", doc, XPathConstants.NODESET);
+        NodeList publishers = (NodeList) OSLCUtils.evaluateXPath("//dc:publisher/*", doc, XPathConstants.NODESET);
 
         // Verify that each block contains a title and identifier, and at most
         // one icon and label
@@ -319,7 +316,7 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     public void serviceProviderCatalogsHaveAtMostOneOAuthElement() throws XPathExpressionException {
         // Check root for OAuth block, make sure it only has at most one
         NodeList rootChildren = (NodeList)
-                OSLCUtils.getXPath().evaluate("/rdf:RDF/oslc_v2:ServiceProviderCatalog/*", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("/rdf:RDF/oslc_v2:ServiceProviderCatalog/*", doc, XPathConstants.NODESET);
         int numOAuthElements = 0;
         for (int i = 0; i < rootChildren.getLength(); i++) {
             if (rootChildren.item(i).getNamespaceURI().equals(OSLCConstants.OSLC_V2)
@@ -331,11 +328,11 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
 
         // Get list of other ServiceProviderCatalog elements
         NodeList nestedSPCs = (NodeList)
-                OSLCUtils.getXPath().evaluate("/*/*//oslc_v2:serviceProviderCatalog", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("/*/*//oslc_v2:serviceProviderCatalog", doc, XPathConstants.NODESET);
         // Go through the children of each catalog
         for (int i = 0; i < nestedSPCs.getLength(); i++) {
-            NodeList spcChildren = (NodeList) OSLCUtils.getXPath()
-                    .evaluate("/*/*//oslc_v2:serviceProviderCatalog[" + i + "]/*/*", doc, XPathConstants.NODESET);
+            NodeList spcChildren = (NodeList) OSLCUtils.evaluateXPath(
+                    "/*/*//oslc_v2:serviceProviderCatalog[" + i + "]/*/*", doc, XPathConstants.NODESET);
             int oAuthCount = 0;
             // Make sure there's at most one OAuth blocks
             for (int j = 0; j < spcChildren.getLength(); j++) {
@@ -352,11 +349,11 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     public void serviceProvidersHaveAtMostOneOAuthElement() throws XPathExpressionException {
         // Get list of other service provider elements
         NodeList nestedSPCs =
-                (NodeList) OSLCUtils.getXPath().evaluate("/*/*//oslc_v2:serviceProvider", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("/*/*//oslc_v2:serviceProvider", doc, XPathConstants.NODESET);
         // Go through the children of each provider
         for (int i = 0; i < nestedSPCs.getLength(); i++) {
-            NodeList spcChildren = (NodeList) OSLCUtils.getXPath()
-                    .evaluate("/*/*//oslc_v2:serviceProvider[" + i + "]/*/*", doc, XPathConstants.NODESET);
+            NodeList spcChildren = (NodeList) OSLCUtils.evaluateXPath(
+                    "/*/*//oslc_v2:serviceProvider[" + i + "]/*/*", doc, XPathConstants.NODESET);
             int oAuthCount = 0;
             // Make sure there's at most one OAuth blocks
             for (int j = 0; j < spcChildren.getLength(); j++) {
@@ -373,7 +370,7 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     public void oAuthElementsAreValid() throws XPathExpressionException {
         // Get all oauthAuthorization xml blocks
         NodeList oAuthElement =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:oauthConfiguration/*", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:oauthConfiguration/*", doc, XPathConstants.NODESET);
 
         // Verify the block contains the required expected elements
         for (int i = 0; i < oAuthElement.getLength(); i++) {
@@ -410,10 +407,10 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
         // Get all ServiceProviderCatalog elements and their rdf:about
         // attributes, making sure we have a URL
         // to the resource for each catalog
-        NodeList catalogAbouts = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_v2:ServiceProviderCatalog/@rdf:about", doc, XPathConstants.NODESET);
+        NodeList catalogAbouts = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_v2:ServiceProviderCatalog/@rdf:about", doc, XPathConstants.NODESET);
         NodeList catalogs = (NodeList)
-                OSLCUtils.getXPath().evaluate("//oslc_v2:ServiceProviderCatalog", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("//oslc_v2:ServiceProviderCatalog", doc, XPathConstants.NODESET);
         assertTrue(catalogAbouts.getLength() == catalogs.getLength());
 
         // Verify the urls are valid
@@ -430,10 +427,10 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     public void servicesProvidersHaveValidResourceUrl() throws XPathException, IOException {
         // Get all ServiceProvider elements
         NodeList services =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:ServiceProvider", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:ServiceProvider", doc, XPathConstants.NODESET);
         // Get all resource attributes from the ServiceProviders
         NodeList resources = (NodeList)
-                OSLCUtils.getXPath().evaluate("//oslc_v2:ServiceProvider/@rdf:about", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("//oslc_v2:ServiceProvider/@rdf:about", doc, XPathConstants.NODESET);
         // Make sure each ServiceProvider element has an attribute to reference
         // it
         assertTrue(services.getLength() == resources.getLength());
@@ -451,10 +448,10 @@ public class ServiceProviderCatalogXmlTests extends ServiceProviderCatalogBaseTe
     public void detailsElementsHaveValidResourceAttribute() throws IOException, XPathException {
         // Get all details elements
         NodeList detailsElements =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:details", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:details", doc, XPathConstants.NODESET);
         // Get all resource attributes of the details elements
         NodeList resources = (NodeList)
-                OSLCUtils.getXPath().evaluate("//oslc_v2:details/@rdf:resource", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("//oslc_v2:details/@rdf:resource", doc, XPathConstants.NODESET);
         // Make sure they match up 1-to-1
         assertTrue(detailsElements.getLength() == resources.getLength());
         // Verify that the resource has a url
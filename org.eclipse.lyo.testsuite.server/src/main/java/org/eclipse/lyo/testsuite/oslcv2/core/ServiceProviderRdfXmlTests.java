@@ -33,9 +33,11 @@ import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+import org.eclipse.lyo.testsuite.util.CachedResponse;
 import org.eclipse.lyo.testsuite.util.OSLCConstants;
 import org.eclipse.lyo.testsuite.util.OSLCUtils;
 import org.eclipse.lyo.testsuite.util.RDFUtils;
+import org.eclipse.lyo.testsuite.util.ResourceCache;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -49,31 +51,25 @@ public class ServiceProviderRdfXmlTests extends TestsBase {
 
     protected Response response;
     protected static String fContentType = OSLCConstants.CT_RDF;
-    private Model fRdfModel = ModelFactory.createDefaultModel();
+    private Model fRdfModel;
     private Resource fServiceProvider = null;
 
     public ServiceProviderRdfXmlTests(String url)
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException {
         super(url);
 
-        response = OSLCUtils.getResponseFromUrl(setupBaseUrl, currentUrl, creds, fContentType, headers);
-        try {
-            assertEquals(
-                    "Did not successfully retrieve ServiceProvider at: " + currentUrl,
-                    Response.Status.OK.getStatusCode(),
-                    response.getStatus());
-
-            fRdfModel.read(
-                    response.readEntity(InputStream.class),
-                    OSLCUtils.absoluteUrlFromRelative(setupBaseUrl, currentUrl),
-                    OSLCConstants.JENA_RDF_XML);
-            RDFUtils.validateModel(fRdfModel);
-            fServiceProvider = (Resource) fRdfModel.getResource(currentUrl);
-
-            assertNotNull(fServiceProvider);
-        } finally {
-            response.close();
-        }
+        CachedResponse cached = ResourceCache.get(setupBaseUrl, currentUrl, creds, fContentType, headers);
+        response = cached.toResponse();
+        assertEquals(
+                "Did not successfully retrieve ServiceProvider at: " + currentUrl,
+                Response.Status.OK.getStatusCode(),
+                cached.getStatus());
+
+        fRdfModel = cached.getValidatedModel(
+                OSLCUtils.absoluteUrlFromRelative(setupBaseUrl, currentUrl), OSLCConstants.JENA_RDF_XML);
+        fServiceProvider = (Resource) fRdfModel.getResource(currentUrl);
+
+        assertNotNull(fServiceProvider);
     }
 
     @Parameters
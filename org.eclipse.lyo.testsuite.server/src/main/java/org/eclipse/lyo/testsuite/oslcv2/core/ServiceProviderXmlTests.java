@@ -164,7 +164,7 @@ public class ServiceProviderXmlTests extends TestsBase {
     public void serviceProviderHasAtMostOneTitle() throws XPathException {
         // Verify that the ServiceProvider has at most one dc:title child element
         NodeList providerChildren =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:ServiceProvider/*", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:ServiceProvider/*", doc, XPathConstants.NODESET);
 
         int numTitles = 0;
         for (int i = 0; i < providerChildren.getLength(); i++) {
@@ -182,7 +182,7 @@ public class ServiceProviderXmlTests extends TestsBase {
     public void serviceProviderHasAtMostOnePublisher() throws XPathExpressionException {
         // Get the listed ServiceProvider elements
         NodeList providerChildren =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:ServiceProvider/*", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:ServiceProvider/*", doc, XPathConstants.NODESET);
         int numPublishers = 0;
         for (int i = 0; i < providerChildren.getLength(); i++) {
             Node child = providerChildren.item(i);
@@ -198,7 +198,7 @@ public class ServiceProviderXmlTests extends TestsBase {
     @Test
     public void publisherElementsAreValid() throws XPathExpressionException {
         // Get all Publisher xml blocks
-        NodeList publishers = (NodeList) OSLCUtils.getXPath().evaluate("//dc:publisher/*", doc, XPathConstants.NODESET);
+        NodeList publishers = (NodeList) OSLCUtils.evaluateXPath("//dc:publisher/*", doc, XPathConstants.NODESET);
 
         // Verify that each block contains a title and identifier, and at most one icon and label
         for (int i = 0; i < publishers.getLength(); i++) {
@@ -240,7 +240,7 @@ public class ServiceProviderXmlTests extends TestsBase {
     public void serviceProviderHasService() throws XPathException {
         // Verify the ServiceProvider has at least one rdf:service child element
         Node service = (Node)
-                OSLCUtils.getXPath().evaluate("//oslc_v2:ServiceProvider/oslc_v2:service", doc, XPathConstants.NODE);
+                OSLCUtils.evaluateXPath("//oslc_v2:ServiceProvider/oslc_v2:service", doc, XPathConstants.NODE);
         assertNotNull(service);
     }
 
@@ -248,7 +248,7 @@ public class ServiceProviderXmlTests extends TestsBase {
     public void serviceProviderHasValidDetails() throws XPathException, DOMException, IOException {
         // Verify the ServiceProvider has a valid oslc:details attribute
         Node details = (Node)
-                OSLCUtils.getXPath().evaluate("//oslc_v2:ServiceProvider/oslc_v2:details", doc, XPathConstants.NODE);
+                OSLCUtils.evaluateXPath("//oslc_v2:ServiceProvider/oslc_v2:details", doc, XPathConstants.NODE);
         assertNotNull("oslc:details element is required for oslc:ServiceProfile", details);
         Node node = details.getAttributes().getNamedItemNS(OSLCConstants.RDF, "resource");
         assertNotNull(node.getNodeValue());
@@ -264,11 +264,11 @@ public class ServiceProviderXmlTests extends TestsBase {
     public void prefixDefinitionsAreValid() throws XPathExpressionException {
         // Get all the prefix definitions
         NodeList prefixes =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:PrefixDefinition", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:PrefixDefinition", doc, XPathConstants.NODESET);
 
         for (int i = 0; i < prefixes.getLength(); i++) {
             NodeList subNodes =
-                    (NodeList) OSLCUtils.getXPath().evaluate("./*", prefixes.item(i), XPathConstants.NODESET);
+                    (NodeList) OSLCUtils.evaluateXPath("./*", prefixes.item(i), XPathConstants.NODESET);
             int prefixCount = 0;
             int baseCount = 0;
             // Check all the children of this prefix definition
@@ -296,7 +296,7 @@ public class ServiceProviderXmlTests extends TestsBase {
     public void serviceProviderHasAtMostOneOAuthElement() throws XPathExpressionException {
         // Check root for OAuth block, make sure it only has at most one
         NodeList rootChildren =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:ServiceProvider/*", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:ServiceProvider/*", doc, XPathConstants.NODESET);
         int numOAuthElements = 0;
         for (int i = 0; i < rootChildren.getLength(); i++) {
             if (rootChildren.item(i).getNamespaceURI().equals(OSLCConstants.OSLC_V2)
@@ -311,7 +311,7 @@ public class ServiceProviderXmlTests extends TestsBase {
     public void oAuthElementsAreValid() throws XPathExpressionException {
         // Get all oauthAuthorization xml blocks
         NodeList oAuthElement =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:oauthConfiguration/*", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:oauthConfiguration/*", doc, XPathConstants.NODESET);
 
         // Verify the block contains the required expected elements
         for (int i = 0; i < oAuthElement.getLength(); i++) {
@@ -347,7 +347,7 @@ public class ServiceProviderXmlTests extends TestsBase {
     public void eachServiceHasOneDomain() throws XPathExpressionException {
         // Get the services referenced
         NodeList services = (NodeList)
-                OSLCUtils.getXPath().evaluate("//oslc_v2:service/oslc_v2:Service", doc, XPathConstants.NODESET);
+                OSLCUtils.evaluateXPath("//oslc_v2:service/oslc_v2:Service", doc, XPathConstants.NODESET);
 
         for (int i = 0; i < services.getLength(); i++) {
             NodeList serviceChildren = services.item(i).getChildNodes();
@@ -369,8 +369,8 @@ public class ServiceProviderXmlTests extends TestsBase {
         }
 
         // Test to make sure the domain contains the test version
-        NodeList detail = (NodeList) OSLCUtils.getXPath()
-                .evaluate("//oslc_v2:service/oslc_v2:Service/oslc_v2:domain", doc, XPathConstants.NODESET);
+        NodeList detail = (NodeList) OSLCUtils.evaluateXPath(
+                "//oslc_v2:service/oslc_v2:Service/oslc_v2:domain", doc, XPathConstants.NODESET);
         boolean domainFound = false;
         for (int i = 0; i < detail.getLength(); i++) {
             Node node = detail.item(i);
@@ -388,7 +388,7 @@ public class ServiceProviderXmlTests extends TestsBase {
     public void creationFactoriesAreValid() throws XPathExpressionException {
         // Get all creation factories
         NodeList factories =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:CreationFactory", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:CreationFactory", doc, XPathConstants.NODESET);
         for (int i = 0; i < factories.getLength(); i++) {
             NodeList factoryChildren = factories.item(i).getChildNodes();
             int numTitles = 0;
@@ -424,7 +424,7 @@ public class ServiceProviderXmlTests extends TestsBase {
     public void queryCapabilityBlocksAreValid() throws XPathExpressionException {
         // Get all query blocks
         NodeList queryBlocks =
-                (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:QueryCapability", doc, XPathConstants.NODESET);
+                (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:QueryCapability", doc, XPathConstants.NODESET);
 
         for (int i = 0; i < queryBlocks.getLength(); i++) {
             NodeList queryChildren = queryBlocks.item(i).getChildNodes();
@@ -466,7 +466,7 @@ public class ServiceProviderXmlTests extends TestsBase {
     @Test
     public void dialogsAreValid() throws XPathExpressionException {
         // Get all dialogs
-        NodeList dialogs = (NodeList) OSLCUtils.getXPath().evaluate("//oslc_v2:Dialog", doc, XPathConstants.NODESET);
+        NodeList dialogs = (NodeList) OSLCUtils.evaluateXPath("//oslc_v2:Dialog", doc, XPathConstants.NODESET);
 
         for (int i = 0; i < dialogs.getLength(); i++) {
             NodeList dialogChildren = dialogs.item(i).getChildNodes();
@@ -13,14 +13,10 @@
  */
 package org.eclipse.lyo.testsuite.oslcv2.core;
 
-import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.xpath.XPathException;
 import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
-import org.junit.BeforeClass;
-import org.xml.sax.SAXException;
+import org.eclipse.lyo.testsuite.util.QueryPager;
 
 /**
  * This class provides JUnit tests for the basic validation of query factories as specified in the OSLC version 2 spec.
@@ -29,21 +25,20 @@ import org.xml.sax.SAXException;
  * for the templates.
  */
 public abstract class SimplifiedQueryBaseTests extends TestsBase {
-
-    protected static String queryProperty;
-    protected static String queryPropertyValue;
-    protected static String queryComparisonProperty;
-    protected static String queryComparisonValue;
-    protected static String fullTextSearchTerm;
-    protected static String additionalParameters;
-    protected static boolean fullTextSearch = true;
+    public static final int DEFAULT_PAGE_SIZE = 100;
+
+    protected final String queryProperty;
+    protected final String queryPropertyValue;
+    protected final String queryComparisonProperty;
+    protected final String queryComparisonValue;
+    protected final String fullTextSearchTerm;
+    protected final String additionalParameters;
+    protected final boolean fullTextSearch;
+    protected final int pageSize;
+    protected final QueryPager.Settings pagingSettings;
 
     public SimplifiedQueryBaseTests(String thisUri) {
         super(thisUri);
-    }
-
-    @BeforeClass
-    public static void mysetup() throws IOException, ParserConfigurationException, SAXException, XPathException {
 
         staticSetup();
 
@@ -52,12 +47,12 @@ public abstract class SimplifiedQueryBaseTests extends TestsBase {
         queryComparisonProperty = setupProps.getProperty("queryComparisonProperty");
         queryComparisonValue = setupProps.getProperty("queryComparisonValue");
         fullTextSearchTerm = setupProps.getProperty("fullTextSearchTerm");
-        additionalParameters = setupProps.getProperty("queryAdditionalParameters");
-        if (additionalParameters == null) additionalParameters = "";
-
-        if (setupProps.getProperty("fullTextSearch") != null) {
-            fullTextSearch = setupProps.getProperty("fullTextSearch").equalsIgnoreCase("true");
-        }
+        additionalParameters = setupProps.getProperty("queryAdditionalParameters", "");
+        fullTextSearch = Boolean.parseBoolean(setupProps.getProperty("fullTextSearch", "true"));
+        pageSize = Integer.parseInt(setupProps
+                .getProperty("queryPageSize", String.valueOf(DEFAULT_PAGE_SIZE))
+                .trim());
+        pagingSettings = QueryPager.Settings.from(setupProps);
     }
 
     protected String getQueryBase() {
@@ -120,6 +115,11 @@ public abstract class SimplifiedQueryBaseTests extends TestsBase {
         return getQueryBase() + "oslc.searchTerms=" + URLEncoder.encode("\"" + fullTextSearchTerm + "\"", "UTF-8");
     }
 
+    // All resources of the query capability, so that the result spans many pages
+    protected String getQueryUrlForPagedQuery() {
+        return getQueryBase() + "oslc.paging=true&oslc.pageSize=" + pageSize;
+    }
+
     protected boolean getFullTextSearch() {
         return fullTextSearch;
     }
@@ -22,7 +22,6 @@ import java.util.Collection;
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPathException;
 import javax.xml.xpath.XPathExpressionException;
-import org.apache.wink.json4j.JSON;
 import org.apache.wink.json4j.JSONArtifact;
 import org.apache.wink.json4j.JSONException;
 import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
@@ -74,13 +73,12 @@ public class SimplifiedQueryJsonTests extends SimplifiedQueryBaseTests {
             throw new IOException("Response code: " + statusCode + " for " + queryUrl);
         }
 
-        String responseBody = response.readEntity(String.class);
-
         //
         // Validate JSON response
         //
         // TODO: add more detailed validation
-        assertTrue("query response is in Json format.", JSON.parse(responseBody) instanceof JSONArtifact);
+        assertTrue(
+                "query response is in Json format.", OSLCUtils.parseJsonFromResponse(response) instanceof JSONArtifact);
     }
 
     @Test
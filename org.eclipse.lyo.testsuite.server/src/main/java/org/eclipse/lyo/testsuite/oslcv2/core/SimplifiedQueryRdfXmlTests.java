@@ -13,6 +13,8 @@
  */
 package org.eclipse.lyo.testsuite.oslcv2.core;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -21,7 +23,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
@@ -33,8 +37,11 @@ import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.vocabulary.RDF;
 import org.apache.jena.vocabulary.RDFS;
+import org.apache.log4j.Logger;
+import org.eclipse.lyo.testsuite.util.CleanupQueue;
 import org.eclipse.lyo.testsuite.util.OSLCConstants;
 import org.eclipse.lyo.testsuite.util.OSLCUtils;
+import org.eclipse.lyo.testsuite.util.QueryPager;
 import org.eclipse.lyo.testsuite.util.RDFUtils;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -49,6 +56,7 @@ import org.junit.runners.Parameterized.Parameters;
  */
 @RunWith(Parameterized.class)
 public class SimplifiedQueryRdfXmlTests extends SimplifiedQueryBaseTests {
+    private static Logger logger = Logger.getLogger(SimplifiedQueryRdfXmlTests.class);
 
     public SimplifiedQueryRdfXmlTests(String thisUri) {
         super(thisUri);
@@ -158,4 +166,56 @@ public class SimplifiedQueryRdfXmlTests extends SimplifiedQueryBaseTests {
         String query = getQueryUrlForFullTextSearchContainsExpectedResults();
         validateNonEmptyResponse(query);
     }
+
+    /**
+     * Reads the pages of a query for all resources by following <code>oslc:nextPage</code>, up to
+     * <code>queryPagingMaxPages</code> pages, and logs the page latencies and the throughput.
+     */
+    @Test
+    public void queryPagesFollowNextPage() throws IOException, InterruptedException {
+        String queryUrl = OSLCUtils.addQueryStringToURL(currentUrl, getQueryUrlForPagedQuery());
+        if (!runsInParallel()) {
+            // Resources released by earlier tests are deleted in the background, not while paging
+            CleanupQueue.awaitDeletions();
+        }
+        Set<String> members = new HashSet<>();
+        Long totalCount = null;
+        try (QueryPager pager = new QueryPager(setupBaseUrl, queryUrl, creds, headers, pagingSettings)) {
+            while (pager.hasNext()) {
+                QueryPager.Page page = pager.next();
+                RDFUtils.validateModel(page.model());
+                if (page.nextPage() != null) {
+                    assertFalse(
+                            "Expected rdfs:member(s) on page %d <%s>, which has an oslc:nextPage"
+                                    .formatted(page.number(), page.url()),
+                            page.members().isEmpty());
+                }
+                for (Resource member : page.members()) {
+                    assertTrue(
+                            "<%s> is a member of more than one page".formatted(member), members.add(member.toString()));
+                }
+                if (page.totalCount() != null) {
+                    totalCount = page.totalCount();
+                }
+            }
+            logger.info("Paged query <%s>: %s".formatted(queryUrl, pager.format()));
+
+            if (totalCount != null && !pager.isTruncated()) {
+                if (!runsInParallel()) {
+                    assertEquals(
+                            "Expected as many members as oslc:totalCount", totalCount.longValue(), members.size());
+                } else if (totalCount != members.size()) {
+                    // Tests running alongside create and delete resources between the pages
+                    logger.warn("Paged query <%s>: %d members, oslc:totalCount %d"
+                            .formatted(queryUrl, members.size(), totalCount));
+                }
+            }
+        }
+    }
+
+    /** @return whether other tests, which may create resources, run at the same time */
+    private static boolean runsInParallel() {
+        return Integer.parseInt(setupProps.getProperty("parallelClasses", "1").trim()) > 1
+                || Integer.parseInt(setupProps.getProperty("parallelParameters", "1").trim()) > 1;
+    }
 }
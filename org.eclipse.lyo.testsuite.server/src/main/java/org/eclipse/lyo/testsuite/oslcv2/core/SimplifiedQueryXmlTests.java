@@ -87,21 +87,19 @@ public class SimplifiedQueryXmlTests extends SimplifiedQueryBaseTests {
             throw new IOException("Response code: " + statusCode + " for " + queryUrl);
         }
 
-        String responseBody = response.readEntity(String.class);
-
-        Document doc = OSLCUtils.createXMLDocFromResponseBody(responseBody);
-        Node results = (Node) OSLCUtils.getXPath().evaluate("//oslc:ResponseInfo/@rdf:about", doc, XPathConstants.NODE);
+        Document doc = OSLCUtils.createXMLDocFromResponse(response);
+        Node results = (Node) OSLCUtils.evaluateXPath("//oslc:ResponseInfo/@rdf:about", doc, XPathConstants.NODE);
 
         // Only test oslc:ResponseInfo if found
         if (results != null) {
-            results = (Node) OSLCUtils.getXPath().evaluate("//oslc:totalCount", doc, XPathConstants.NODE);
+            results = (Node) OSLCUtils.evaluateXPath("//oslc:totalCount", doc, XPathConstants.NODE);
             if (results != null) {
                 int totalCount = Integer.parseInt(results.getTextContent());
                 assertTrue("Expected oslc:totalCount > 0", totalCount > 0);
             }
 
             NodeList resultList = (NodeList)
-                    OSLCUtils.getXPath().evaluate("//rdf:Description/rdfs:member", doc, XPathConstants.NODESET);
+                    OSLCUtils.evaluateXPath("//rdf:Description/rdfs:member", doc, XPathConstants.NODESET);
             assertNotNull("Expected rdfs:member(s)", resultList);
             assertNotNull("Expected > 1 rdfs:member(s)", resultList.getLength() > 0);
         }
@@ -36,7 +36,8 @@ public class PerformanceMonitoringRecordDatabaseRdfXmlTests extends CoreResource
     public PerformanceMonitoringRecordDatabaseRdfXmlTests(String thisUrl)
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
                     NullPointerException {
-        super(thisUrl);
+        // If you use useThisResource, ensure that its type matches this resource type
+        super(thisUrl, OSLCConstants.CRTV_DATABASE_TYPE);
         // TODO Auto-generated constructor stub
 
     }
@@ -48,10 +49,6 @@ public class PerformanceMonitoringRecordDatabaseRdfXmlTests extends CoreResource
 
         staticSetup();
 
-        // If you use useThisResource, ensure that your resource type matches the type
-        // of the resource
-        setResourceType(OSLCConstants.CRTV_DATABASE_TYPE);
-
         // If a particular Resource is specified, use it
         String useThis = setupProps.getProperty("useThisResource");
         if ((useThis != null) && (useThis != "")) {
@@ -59,10 +56,7 @@ public class PerformanceMonitoringRecordDatabaseRdfXmlTests extends CoreResource
             results.add(useThis);
             return toCollection(results);
         }
-        setResourceTypeQuery(OSLCConstants.RESOURCE_TYPE_PROP);
-        setxpathSubStmt(OSLCConstants.CRTV_DATABASE_TYPE);
-
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(eval, OSLCConstants.RESOURCE_TYPE_PROP, OSLCConstants.CRTV_DATABASE_TYPE);
     }
 
     @Test
@@ -37,7 +37,8 @@ public class PerformanceMonitoringRecordProcessRdfXmlTests extends CoreResourceR
     public PerformanceMonitoringRecordProcessRdfXmlTests(String thisUrl)
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
                     NullPointerException {
-        super(thisUrl);
+        // If you use useThisResource, ensure that its type matches this resource type
+        super(thisUrl, OSLCConstants.CRTV_PROCESS_TYPE);
         // TODO Auto-generated constructor stub
 
     }
@@ -49,10 +50,6 @@ public class PerformanceMonitoringRecordProcessRdfXmlTests extends CoreResourceR
 
         staticSetup();
 
-        // If you use useThisResource, ensure that your resource type matches the type
-        // of the resource
-        setResourceType(OSLCConstants.CRTV_PROCESS_TYPE);
-
         // If a particular Resource is specified, use it
         String useThis = setupProps.getProperty("useThisResource");
         if ((useThis != null) && (useThis != "")) {
@@ -60,10 +57,7 @@ public class PerformanceMonitoringRecordProcessRdfXmlTests extends CoreResourceR
             results.add(useThis);
             return toCollection(results);
         }
-        setResourceTypeQuery(OSLCConstants.RESOURCE_TYPE_PROP);
-        setxpathSubStmt(OSLCConstants.CRTV_PROCESS_TYPE);
-
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(eval, OSLCConstants.RESOURCE_TYPE_PROP, OSLCConstants.CRTV_PROCESS_TYPE);
     }
 
     @Test
@@ -36,7 +36,8 @@ public class PerformanceMonitoringRecordSoftwareModuleRdfXmlTests extends CoreRe
     public PerformanceMonitoringRecordSoftwareModuleRdfXmlTests(String thisUrl)
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
                     NullPointerException {
-        super(thisUrl);
+        // If you use useThisResource, ensure that its type matches this resource type
+        super(thisUrl, OSLCConstants.CRTV_SOFTWAREMODULE_TYPE);
         // TODO Auto-generated constructor stub
 
     }
@@ -48,10 +49,6 @@ public class PerformanceMonitoringRecordSoftwareModuleRdfXmlTests extends CoreRe
 
         staticSetup();
 
-        // If you use useThisResource, ensure that your resource type matches the type
-        // of the resource
-        setResourceType(OSLCConstants.CRTV_SOFTWAREMODULE_TYPE);
-
         // If a particular Resource is specified, use it
         String useThis = setupProps.getProperty("useThisResource");
         if ((useThis != null) && (useThis != "")) {
@@ -59,10 +56,7 @@ public class PerformanceMonitoringRecordSoftwareModuleRdfXmlTests extends CoreRe
             results.add(useThis);
             return toCollection(results);
         }
-        setResourceTypeQuery(OSLCConstants.RESOURCE_TYPE_PROP);
-        setxpathSubStmt(OSLCConstants.CRTV_SOFTWAREMODULE_TYPE);
-
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(eval, OSLCConstants.RESOURCE_TYPE_PROP, OSLCConstants.CRTV_SOFTWAREMODULE_TYPE);
     }
 
     @Test
@@ -36,7 +36,8 @@ public class PerformanceMonitoringRecordStorageVolumeRdfXmlTests extends CoreRes
     public PerformanceMonitoringRecordStorageVolumeRdfXmlTests(String thisUrl)
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
                     NullPointerException {
-        super(thisUrl);
+        // If you use useThisResource, ensure that its type matches this resource type
+        super(thisUrl, OSLCConstants.CRTV_STORAGEVOLUME_TYPE);
         // TODO Auto-generated constructor stub
 
     }
@@ -48,10 +49,6 @@ public class PerformanceMonitoringRecordStorageVolumeRdfXmlTests extends CoreRes
 
         staticSetup();
 
-        // If you use useThisResource, ensure that your resource type matches the type
-        // of the resource
-        setResourceType(OSLCConstants.CRTV_STORAGEVOLUME_TYPE);
-
         // If a particular Resource is specified, use it
         String useThis = setupProps.getProperty("useThisResource");
         if ((useThis != null) && (useThis != "")) {
@@ -59,10 +56,7 @@ public class PerformanceMonitoringRecordStorageVolumeRdfXmlTests extends CoreRes
             results.add(useThis);
             return toCollection(results);
         }
-        setResourceTypeQuery(OSLCConstants.RESOURCE_TYPE_PROP);
-        setxpathSubStmt(OSLCConstants.CRTV_STORAGEVOLUME_TYPE);
-
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(eval, OSLCConstants.RESOURCE_TYPE_PROP, OSLCConstants.CRTV_STORAGEVOLUME_TYPE);
     }
 
     @Test
@@ -59,7 +59,7 @@ public class TestExecutionRecordXmlTests extends CoreResourceXmlTests {
     public void TestExecutionRecordHasOneRunsTestCase() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "oslc_qm_v2:runsTestCase";
 
-        NodeList results = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList results = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
 
         assertEquals("oslc_qm_v2:runsTestCase" + getFailureMessage(), 1, results.getLength());
     }
@@ -61,7 +61,7 @@ public class TestResultXmlTests extends CoreResourceXmlTests {
     public void TestResultHasOneStatus() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "oslc_qm_v2:status";
 
-        NodeList statuses = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList statuses = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
 
         int size = statuses.getLength();
         assertTrue("TestResult has zero or one oslc_qm_v2:status, found " + size, size <= 1);
@@ -71,7 +71,7 @@ public class TestResultXmlTests extends CoreResourceXmlTests {
     public void TestResultHasOneReportsOnTestCase() throws XPathExpressionException {
         String eval = "//" + getNode() + "/" + "oslc_qm_v2:reportsOnTestCase";
 
-        NodeList results = (NodeList) OSLCUtils.getXPath().evaluate(eval, doc, XPathConstants.NODESET);
+        NodeList results = (NodeList) OSLCUtils.evaluateXPath(eval, doc, XPathConstants.NODESET);
 
         assertEquals(getFailureMessage(), 1, results.getLength());
     }
@@ -21,7 +21,7 @@ public class RequirementCollectionRdfXmlTests extends CoreResourceRdfXmlTests {
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
                     NullPointerException {
 
-        super(thisUrl);
+        super(thisUrl, OSLCConstants.RM_REQUIREMENT_COLLECTION_TYPE);
     }
 
     @Parameters
@@ -29,8 +29,6 @@ public class RequirementCollectionRdfXmlTests extends CoreResourceRdfXmlTests {
 
         staticSetup();
 
-        setResourceType(OSLCConstants.RM_REQUIREMENT_COLLECTION_TYPE);
-
         // If a particular RequirementCollection is specified, use it
         String useThis = setupProps.getProperty("useThisRequirementCollection");
         if ((useThis != null) && (useThis != "")) {
@@ -39,9 +37,7 @@ public class RequirementCollectionRdfXmlTests extends CoreResourceRdfXmlTests {
             return toCollection(results);
         }
 
-        setResourceTypeQuery(OSLCConstants.RESOURCE_TYPE_PROP);
-        setxpathSubStmt(OSLCConstants.RM_REQUIREMENT_COLLECTION_TYPE);
-
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(
+                eval, OSLCConstants.RESOURCE_TYPE_PROP, OSLCConstants.RM_REQUIREMENT_COLLECTION_TYPE);
     }
 }
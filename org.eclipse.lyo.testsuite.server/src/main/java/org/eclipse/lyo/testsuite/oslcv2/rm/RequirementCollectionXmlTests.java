@@ -34,9 +34,7 @@ public class RequirementCollectionXmlTests extends CoreResourceXmlTests {
             results.add(useThis);
             return toCollection(results);
         }
-        setResourceTypeQuery(OSLCConstants.CORE_DEFAULT);
-        setxpathSubStmt("//oslc_v2:usage/@rdf:resource");
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(eval, OSLCConstants.CORE_DEFAULT, "//oslc_v2:usage/@rdf:resource");
     }
 
     public static String eval = "//rdfs:member/@rdf:resource";
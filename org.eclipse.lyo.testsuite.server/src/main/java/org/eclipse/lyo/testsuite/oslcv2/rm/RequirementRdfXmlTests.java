@@ -32,7 +32,7 @@ public class RequirementRdfXmlTests extends CoreResourceRdfXmlTests {
             throws IOException, ParserConfigurationException, SAXException, XPathExpressionException,
                     NullPointerException {
 
-        super(thisUrl);
+        super(thisUrl, OSLCConstants.RM_REQUIREMENT_TYPE);
     }
 
     @Parameters
@@ -40,8 +40,6 @@ public class RequirementRdfXmlTests extends CoreResourceRdfXmlTests {
 
         staticSetup();
 
-        setResourceType(OSLCConstants.RM_REQUIREMENT_TYPE);
-
         // If a particular Requirement is specified, use it
         String useThis = setupProps.getProperty("useThisRequirement");
         if ((useThis != null) && (useThis != "")) {
@@ -49,10 +47,7 @@ public class RequirementRdfXmlTests extends CoreResourceRdfXmlTests {
             results.add(useThis);
             return toCollection(results);
         }
-        setResourceTypeQuery(OSLCConstants.RESOURCE_TYPE_PROP);
-        setxpathSubStmt(OSLCConstants.RM_REQUIREMENT_TYPE);
-
-        return getAllDescriptionUrls(eval);
+        return getAllDescriptionUrls(eval, OSLCConstants.RESOURCE_TYPE_PROP, OSLCConstants.RM_REQUIREMENT_TYPE);
     }
 
     public static String eval = OSLCConstants.RDFS_MEMBER;
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+
+/**
+ * Uploads and downloads binary artifacts without holding them in memory: bodies go through a fixed-size buffer and
+ * their digest is computed on the way, so artifacts of any size can be transferred and compared.
+ */
+public class ArtifactTransfer {
+    public static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    /**
+     * The outcome of one transfer.
+     *
+     * @param headers the headers of the response
+     * @param digest the hex {@value #DIGEST_ALGORITHM} of the bytes sent or received, <code>null</code> if the download
+     *     failed
+     */
+    public record Transfer(int status, MultivaluedMap<String, String> headers, long bytes, String digest, long nanos) {
+        public String location() {
+            return headers.getFirst("Location");
+        }
+
+        public double megabytesPerSecond() {
+            return nanos == 0 ? 0 : bytes / (1024.0 * 1024.0) / (nanos / 1e9);
+        }
+    }
+
+    /** Posts the file to <code>url</code> with chunked transfer encoding and closes the response. */
+    public static Transfer upload(
+            String url,
+            TestsBase.UserCredentials creds,
+            String acceptType,
+            String contentType,
+            Path file,
+            Map<String, String> headers)
+            throws IOException {
+        FileOutput content = new FileOutput(file);
+        long start = System.nanoTime();
+        Response response = OSLCUtils.postStreamToUrl(url, creds, acceptType, contentType, content, headers);
+        long nanos = System.nanoTime() - start;
+        response.close();
+        return new Transfer(response.getStatus(), response.getStringHeaders(), content.bytes, content.digest(), nanos);
+    }
+
+    /** Gets <code>url</code> and digests the body as it is received. The body is only read on success. */
+    public static Transfer download(
+            String url, TestsBase.UserCredentials creds, String acceptType, Map<String, String> headers)
+            throws IOException {
+        long start = System.nanoTime();
+        Response response = OSLCUtils.getDataFromUrl(url, creds, acceptType, null, headers);
+        try {
+            if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+                return new Transfer(
+                        response.getStatus(), response.getStringHeaders(), 0, null, System.nanoTime() - start);
+            }
+            MessageDigest digest = newDigest();
+            byte[] buffer = new byte[BUFFER_SIZE];
+            long bytes = 0;
+            try (InputStream in = response.readEntity(InputStream.class)) {
+                for (int read; (read = in.read(buffer)) >= 0; ) {
+                    digest.update(buffer, 0, read);
+                    bytes += read;
+                }
+            }
+            return new Transfer(
+                    response.getStatus(),
+                    response.getStringHeaders(),
+                    bytes,
+                    HexFormat.of().formatHex(digest.digest()),
+                    System.nanoTime() - start);
+        } finally {
+            response.close();
+        }
+    }
+
+    /** Creates a temporary file of <code>size</code> bytes of pseudo-random, so incompressible, content. */
+    public static Path createArtifact(long size) throws IOException {
+        Path file = Files.createTempFile("artifact-" + size + "-", ".bin");
+        SplittableRandom random = new SplittableRandom(size);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            for (long remaining = size; remaining > 0; ) {
+                buffer.clear();
+                while (buffer.remaining() >= Long.BYTES) {
+                    buffer.putLong(random.nextLong());
+                }
+                buffer.flip().limit((int) Math.min(buffer.limit(), remaining));
+                remaining -= buffer.remaining();
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+        return file;
+    }
+
+    /** Parses a size such as <code>512</code>, <code>1k</code>, <code>10m</code> or <code>2g</code> (binary units). */
+    public static long parseSize(String size) {
+        String value = size.trim().toLowerCase(Locale.ROOT);
+        int shift =
+                switch (value.isEmpty() ? ' ' : value.charAt(value.length() - 1)) {
+                    case 'k' -> 10;
+                    case 'm' -> 20;
+                    case 'g' -> 30;
+                    default -> 0;
+                };
+        if (shift != 0) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return Long.parseLong(value) << shift;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Streams a file from its channel, digesting what is written. Each write of the entity reads the file again. */
+    private static class FileOutput implements StreamingOutput {
+        private final Path file;
+        private MessageDigest digest;
+        private long bytes;
+
+        FileOutput(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public void write(OutputStream out) throws IOException {
+            digest = newDigest();
+            bytes = 0;
+            byte[] buffer = new byte[BUFFER_SIZE];
+            ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+            try (FileChannel channel = FileChannel.open(file)) {
+                for (int read; (read = channel.read(wrapped.clear())) >= 0; ) {
+                    digest.update(buffer, 0, read);
+                    out.write(buffer, 0, read);
+                    bytes += read;
+                }
+            }
+        }
+
+        String digest() {
+            return digest == null ? null : HexFormat.of().formatHex(digest.digest());
+        }
+    }
+}
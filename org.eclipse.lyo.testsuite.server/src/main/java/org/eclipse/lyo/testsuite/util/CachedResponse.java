@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+/**
+ * A fully read HTTP response as held by {@link ResourceCache}. The status, headers and body are captured once; the
+ * parsed RDF model and XML document are built lazily on first use and then shared.
+ *
+ * <p>Instances are shared between test instances (and threads), so every accessor hands out an immutable or
+ * defensively copied view: the body is copied, models and documents are cloned.
+ */
+public final class CachedResponse {
+    private final int status;
+    private final String reasonPhrase;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    private Model model;
+    private String modelBase;
+    private AssertionError modelError;
+    private Document document;
+    private HttpMetrics.Exchange exchange;
+
+    CachedResponse(int status, String reasonPhrase, Map<String, List<String>> headers, byte[] body) {
+        this.status = status;
+        this.reasonPhrase = reasonPhrase;
+        Map<String, List<String>> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            copy.put(entry.getKey(), List.copyOf(entry.getValue()));
+        }
+        this.headers = Collections.unmodifiableMap(copy);
+        this.body = body == null ? new byte[0] : body;
+    }
+
+    /** Reads status, headers and body from the response and closes it. */
+    static CachedResponse fromResponse(Response response) {
+        try {
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (Map.Entry<String, List<String>> entry : response.getStringHeaders().entrySet()) {
+                headers.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+            }
+            byte[] body = response.hasEntity() ? response.readEntity(byte[].class) : null;
+            CachedResponse cached = new CachedResponse(
+                    response.getStatus(), response.getStatusInfo().getReasonPhrase(), headers, body);
+            // Parsing happens later, maybe on another thread; still attribute it to this request
+            cached.exchange = HttpMetrics.getLatestExchange();
+            return cached;
+        } finally {
+            response.close();
+        }
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public String getReasonPhrase() {
+        return reasonPhrase;
+    }
+
+    /** @return an unmodifiable, case-insensitive view of the response headers */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /** @return the header values joined by a comma, or <code>null</code> if the header is absent */
+    public String getHeaderString(String name) {
+        List<String> values = headers.get(name);
+        if (values == null) {
+            return null;
+        }
+        return String.join(",", values);
+    }
+
+    public int getBodyLength() {
+        return body.length;
+    }
+
+    /** @return a copy of the response body */
+    public byte[] getBody() {
+        return Arrays.copyOf(body, body.length);
+    }
+
+    public InputStream getBodyAsStream() {
+        return new ByteArrayInputStream(body);
+    }
+
+    /** @return the body decoded with the charset from the Content-Type header, UTF-8 if none is given */
+    public String getBodyAsString() {
+        return new String(body, getCharset());
+    }
+
+    /**
+     * Rebuilds a body-less JAX-RS response carrying the cached status and headers, for tests that keep a
+     * {@link Response} around to check them. Its entity cannot be read; use {@link #getBodyAsStream()} instead.
+     */
+    public Response toResponse() {
+        Response.ResponseBuilder builder = Response.status(status, reasonPhrase);
+        for (Map.Entry<String, List<String>> entry : headers.entrySet()) {
+            for (String value : entry.getValue()) {
+                builder.header(entry.getKey(), value);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Parses the body into an RDF model and validates it with
+     * {@link RDFUtils#validateModel(Model, byte[], String, String)}. Parsing and validation run once per cached
+     * response; a failed validation is remembered and reported again on every call.
+     *
+     * @param base the base URI used to resolve relative references
+     * @param lang the Jena language name, for instance {@link OSLCConstants#JENA_RDF_XML}
+     * @return a private copy of the validated model
+     */
+    public synchronized Model getValidatedModel(String base, String lang) {
+        if (model == null || !base.equals(modelBase)) {
+            Model parsed = ModelFactory.createDefaultModel();
+            HttpMetrics.ParseTimer timer = HttpMetrics.startParse(exchange);
+            parsed.read(getBodyAsStream(), base, lang);
+            timer.stop();
+            try {
+                RDFUtils.validateModel(parsed, body, base, lang);
+                modelError = null;
+            } catch (AssertionError e) {
+                modelError = e;
+            }
+            model = parsed;
+            modelBase = base;
+        }
+        if (modelError != null) {
+            throw new AssertionError(modelError.getMessage(), modelError);
+        }
+
+        Model copy = ModelFactory.createDefaultModel();
+        copy.setNsPrefixes(model.getNsPrefixMap());
+        copy.add(model);
+        return copy;
+    }
+
+    /**
+     * Parses the body as an XML document once per cached response.
+     *
+     * @return a private deep copy of the document
+     */
+    public synchronized Document getDocument() throws ParserConfigurationException, IOException, SAXException {
+        if (document == null) {
+            HttpMetrics.ParseTimer timer = HttpMetrics.startParse(exchange);
+            document = OSLCUtils.createXMLDocFromStream(getBodyAsStream(), getDeclaredCharset());
+            timer.stop();
+        }
+        return (Document) document.cloneNode(true);
+    }
+
+    /**
+     * Streams the body and collects the values of the attribute paths, without building (or copying) a document.
+     *
+     * @see XmlParsers#extractAttributes(InputStream, String, List)
+     */
+    public List<List<String>> getAttributeValues(List<XmlParsers.AttributePath> paths) throws IOException {
+        return XmlParsers.extractAttributes(getBodyAsStream(), getDeclaredCharset(), paths);
+    }
+
+    private Charset getCharset() {
+        String charset = getDeclaredCharset();
+        if (charset != null) {
+            try {
+                return Charset.forName(charset);
+            } catch (IllegalArgumentException e) {
+                // Unknown, fall back to the default
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /** @return the charset parameter of the Content-Type header, or <code>null</code> */
+    private String getDeclaredCharset() {
+        String contentType = getHeaderString("Content-Type");
+        if (contentType != null) {
+            try {
+                return MediaType.valueOf(contentType).getParameters().get(MediaType.CHARSET_PARAMETER);
+            } catch (IllegalArgumentException e) {
+                // Unparseable, treat as absent
+            }
+        }
+        return null;
+    }
+}
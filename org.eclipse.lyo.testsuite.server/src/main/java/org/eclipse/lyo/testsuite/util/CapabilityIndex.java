@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.log4j.Logger;
+import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+
+/**
+ * Run-wide index of the capabilities declared by service providers.
+ *
+ * <p>Each service provider document is fetched and read once; its query capabilities, creation factories, selection
+ * dialogs and creation dialogs are recorded with all their properties (<code>oslc:usage</code>,
+ * <code>oslc:resourceType</code>, <code>oslc:resourceShape</code>, ...). Lookups by provider and by capability URL are
+ * hash lookups.
+ */
+public class CapabilityIndex {
+    private static Logger logger = Logger.getLogger(CapabilityIndex.class);
+
+    /** The capability kinds of an <code>oslc:Service</code>. */
+    public enum Kind {
+        QUERY_CAPABILITY(OSLCConstants.OSLC_V2 + "queryCapability", OSLCConstants.QUERY_BASE_PROP),
+        CREATION_FACTORY(OSLCConstants.OSLC_V2 + "creationFactory", OSLCConstants.CREATION_PROP),
+        SELECTION_DIALOG(OSLCConstants.OSLC_V2 + "selectionDialog", OSLCConstants.OSLC_V2 + "dialog"),
+        CREATION_DIALOG(OSLCConstants.OSLC_V2 + "creationDialog", OSLCConstants.OSLC_V2 + "dialog");
+
+        private final String serviceProperty;
+        private final String urlProperty;
+
+        Kind(String serviceProperty, String urlProperty) {
+            this.serviceProperty = serviceProperty;
+            this.urlProperty = urlProperty;
+        }
+
+        /** @return the property linking an <code>oslc:Service</code> to capabilities of this kind */
+        public String getServiceProperty() {
+            return serviceProperty;
+        }
+
+        /** @return the property holding the capability URL, for instance <code>oslc:queryBase</code> */
+        public String getUrlProperty() {
+            return urlProperty;
+        }
+
+        /** @return the kind whose URL property is the given one, for instance query capabilities for queryBase */
+        public static Kind forUrlProperty(String propertyUri) {
+            if (OSLCConstants.QUERY_BASE_PROP.equals(propertyUri)) {
+                return QUERY_CAPABILITY;
+            } else if (OSLCConstants.CREATION_PROP.equals(propertyUri)) {
+                return CREATION_FACTORY;
+            }
+            throw new IllegalArgumentException("Not a capability URL property: " + propertyUri);
+        }
+    }
+
+    /**
+     * A capability found in a service provider document.
+     *
+     * @param url the query base, creation factory or dialog URL
+     * @param properties all property values of the capability resource, keyed by property URI
+     */
+    public record Capability(Kind kind, String serviceProvider, String url, Map<String, List<String>> properties) {
+        public List<String> getValues(String propertyUri) {
+            return properties.getOrDefault(propertyUri, List.of());
+        }
+
+        public List<String> getUsages() {
+            return getValues(OSLCConstants.USAGE_PROP);
+        }
+
+        public List<String> getResourceTypes() {
+            return getValues(OSLCConstants.RESOURCE_TYPE_PROP);
+        }
+
+        /** @return the first <code>oslc:resourceShape</code>, or <code>null</code> if there is none */
+        public String getResourceShape() {
+            List<String> shapes = getValues(OSLCConstants.RESOURCE_SHAPE_PROP);
+            return shapes.isEmpty() ? null : shapes.getFirst();
+        }
+    }
+
+    private final TestsBase.UserCredentials creds;
+    private final Map<String, String> headers;
+    private final ExecutorService executor;
+
+    private final ConcurrentMap<String, CompletableFuture<Map<Kind, List<Capability>>>> byProvider =
+            new ConcurrentHashMap<>();
+    private final Map<Kind, ConcurrentMap<String, Capability>> byUrl = new EnumMap<>(Kind.class);
+    private final Map<Kind, ConcurrentMap<String, String>> shapesByUrl = new EnumMap<>(Kind.class);
+
+    public CapabilityIndex(TestsBase.UserCredentials creds, Map<String, String> headers, int maxConcurrency) {
+        this.creds = creds;
+        this.headers = headers == null ? Map.of() : Map.copyOf(headers);
+        this.executor = ServiceProviderCrawler.newDiscoveryPool(maxConcurrency);
+        for (Kind kind : Kind.values()) {
+            byUrl.put(kind, new ConcurrentHashMap<>());
+            shapesByUrl.put(kind, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Makes sure the given service providers are indexed, fetching the ones not seen yet concurrently.
+     *
+     * @param serviceProviders absolute service provider URLs
+     */
+    public void index(Collection<String> serviceProviders) throws IOException {
+        List<String> missing = new ArrayList<>();
+        for (String serviceProvider : serviceProviders) {
+            if (!byProvider.containsKey(serviceProvider)) {
+                missing.add(serviceProvider);
+            }
+        }
+        if (missing.size() > 1) {
+            for (String serviceProvider : missing) {
+                executor.submit(() -> getOrIndex(serviceProvider));
+            }
+        }
+        // Waits for (or performs, if not started yet) the work above and reports the first failure
+        for (String serviceProvider : serviceProviders) {
+            getOrIndex(serviceProvider);
+        }
+    }
+
+    /** @return the capabilities of the kind declared by the provider, in document order */
+    public List<Capability> getCapabilities(String serviceProvider, Kind kind) throws IOException {
+        return getOrIndex(serviceProvider).getOrDefault(kind, List.of());
+    }
+
+    /** @return the capabilities of the kind declared by the providers, in provider order */
+    public List<Capability> getCapabilities(Collection<String> serviceProviders, Kind kind) throws IOException {
+        index(serviceProviders);
+        List<Capability> capabilities = new ArrayList<>();
+        for (String serviceProvider : serviceProviders) {
+            capabilities.addAll(getCapabilities(serviceProvider, kind));
+        }
+        return capabilities;
+    }
+
+    /** @return the indexed capability with the given URL, or <code>null</code> if none has been indexed */
+    public Capability getCapability(Kind kind, String url) {
+        return byUrl.get(kind).get(url);
+    }
+
+    /**
+     * @return an unmodifiable, live view from capability URL to <code>oslc:resourceShape</code> for the indexed
+     *     capabilities of the kind that declare one
+     */
+    public Map<String, String> getResourceShapes(Kind kind) {
+        return Collections.unmodifiableMap(shapesByUrl.get(kind));
+    }
+
+    private Map<Kind, List<Capability>> getOrIndex(String serviceProvider) throws IOException {
+        CompletableFuture<Map<Kind, List<Capability>>> future = new CompletableFuture<>();
+        CompletableFuture<Map<Kind, List<Capability>>> existing = byProvider.putIfAbsent(serviceProvider, future);
+        if (existing == null) {
+            try {
+                Map<Kind, List<Capability>> capabilities = read(serviceProvider);
+                future.complete(capabilities);
+                return capabilities;
+            } catch (IOException | RuntimeException | Error e) {
+                byProvider.remove(serviceProvider, future);
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while indexing <%s>".formatted(serviceProvider), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private Map<Kind, List<Capability>> read(String serviceProvider) throws IOException {
+        CachedResponse response =
+                ResourceCache.get(serviceProvider, serviceProvider, creds, OSLCConstants.CT_RDF, headers);
+        int statusCode = response.getStatus();
+        if (statusCode > 299) {
+            throw new IllegalStateException(
+                    "Request failed: %d %s (%s)".formatted(statusCode, response.getReasonPhrase(), serviceProvider));
+        }
+        Model spModel = response.getValidatedModel(serviceProvider, OSLCConstants.JENA_RDF_XML);
+
+        Map<Kind, List<Capability>> capabilities = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) {
+            List<Capability> found = new ArrayList<>();
+            Property urlProp = spModel.createProperty(kind.getUrlProperty());
+            Property serviceProp = spModel.createProperty(kind.getServiceProperty());
+            boolean sharedUrlProperty = kind == Kind.SELECTION_DIALOG || kind == Kind.CREATION_DIALOG;
+            StmtIterator statements = spModel.listStatements(null, urlProp, (RDFNode) null);
+            while (statements.hasNext()) {
+                Statement stmt = statements.nextStatement();
+                Resource capability = stmt.getSubject();
+                // Both dialog kinds use oslc:dialog, so tell them apart by how the service refers to them
+                if (sharedUrlProperty && !spModel.contains(null, serviceProp, capability)) {
+                    continue;
+                }
+                Capability entry =
+                        new Capability(kind, serviceProvider, stmt.getObject().toString(), readProperties(capability));
+                found.add(entry);
+                byUrl.get(kind).putIfAbsent(entry.url(), entry);
+                String shape = entry.getResourceShape();
+                if (shape != null) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Caching shape URI <%s> for capability URI <%s>".formatted(shape, entry.url()));
+                    }
+                    shapesByUrl.get(kind).putIfAbsent(entry.url(), shape);
+                }
+            }
+            capabilities.put(kind, List.copyOf(found));
+        }
+        return capabilities;
+    }
+
+    private static Map<String, List<String>> readProperties(Resource capability) {
+        Map<String, List<String>> properties = new LinkedHashMap<>();
+        StmtIterator statements = capability.listProperties();
+        while (statements.hasNext()) {
+            Statement stmt = statements.nextStatement();
+            properties
+                    .computeIfAbsent(stmt.getPredicate().getURI(), p -> new ArrayList<>())
+                    .add(stmt.getObject().toString());
+        }
+        properties.replaceAll((p, values) -> List.copyOf(values));
+        return Collections.unmodifiableMap(properties);
+    }
+}
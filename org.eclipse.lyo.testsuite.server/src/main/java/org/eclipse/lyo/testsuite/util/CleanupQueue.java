@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.apache.log4j.Logger;
+import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+
+/**
+ * Run-scoped registry of the resources created by tests, which deletes them in the background.
+ *
+ * <p>A test {@link #register(String) registers} the location of a resource as soon as it is created, and
+ * {@link #release(String) releases} it when done with it; released resources are deleted by up to
+ * <code>cleanupThreads</code> threads while the run goes on. Resources of tests that failed before releasing them are
+ * deleted by {@link #drain()} when the suite ends, or by a shutdown hook otherwise.
+ *
+ * <p>Registrations and deletions are appended to <code>cleanupJournal</code>. Resources a crashed run left in it, and
+ * those that could not be deleted because of a server or network error, are deleted when the next run starts.
+ */
+public class CleanupQueue {
+    private static Logger logger = Logger.getLogger(CleanupQueue.class);
+
+    public static final int DEFAULT_THREADS = 4;
+    public static final String DEFAULT_JOURNAL = "target/cleanup-journal.txt";
+    public static final int DRAIN_TIMEOUT = 300;
+
+    private static final String REGISTERED = "+ ";
+    private static final String DELETED = "- ";
+
+    // Registered and not deleted yet
+    private static final Set<String> pending = ConcurrentHashMap.newKeySet();
+    // Released and not deleted yet, so that a resource is deleted once
+    private static final Set<String> released = ConcurrentHashMap.newKeySet();
+    // Deletions handed to the executor and not ended yet, guarded by the lock of the class
+    private static int deleting;
+
+    private static TestsBase.UserCredentials creds;
+    private static ExecutorService executor;
+    private static Path journal;
+    private static FileChannel journalChannel;
+    private static boolean shutdownHookAdded;
+
+    /**
+     * Reads <code>cleanupThreads</code> (0 to delete in the calling thread) and <code>cleanupJournal</code>, then
+     * starts deleting the resources left in the journal by earlier runs.
+     *
+     * @param creds the credentials to delete with
+     */
+    public static synchronized void configure(Properties setupProps, TestsBase.UserCredentials creds) {
+        CleanupQueue.creds = creds;
+        int threads = Integer.parseInt(setupProps
+                .getProperty("cleanupThreads", String.valueOf(DEFAULT_THREADS))
+                .trim());
+        executor = threads > 0
+                ? Executors.newFixedThreadPool(threads, runnable -> {
+                    Thread thread = new Thread(runnable, "cleanup");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+        journal = Path.of(setupProps.getProperty("cleanupJournal", DEFAULT_JOURNAL).trim());
+
+        // The journal is the record of what is left, as it is rewritten below
+        pending.clear();
+        released.clear();
+        Set<String> leftovers;
+        try {
+            leftovers = readJournal(journal);
+            Files.createDirectories(journal.toAbsolutePath().getParent());
+            journalChannel = FileChannel.open(
+                    journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the cleanup journal " + journal, e);
+        }
+        if (!leftovers.isEmpty()) {
+            logger.info("Deleting %d resource(s) left by an earlier run in %s".formatted(leftovers.size(), journal));
+            for (String location : leftovers) {
+                register(location);
+                release(location);
+            }
+        }
+
+        if (!shutdownHookAdded) {
+            Runtime.getRuntime().addShutdownHook(new Thread(CleanupQueue::drain, "cleanup-drain"));
+            shutdownHookAdded = true;
+        }
+    }
+
+    /** Records a created resource, so that it is deleted even if the test does not get to release it. */
+    public static void register(String location) {
+        if (location != null && pending.add(location)) {
+            append(REGISTERED, location);
+        }
+    }
+
+    /** Deletes the resource in the background, or right away if there are no cleanup threads. */
+    public static void release(String location) {
+        if (location == null || !released.add(location)) {
+            return;
+        }
+        register(location);
+        ExecutorService current;
+        synchronized (CleanupQueue.class) {
+            current = executor;
+        }
+        if (current != null) {
+            synchronized (CleanupQueue.class) {
+                deleting++;
+            }
+            try {
+                current.execute(() -> {
+                    try {
+                        delete(location);
+                    } finally {
+                        deleted();
+                    }
+                });
+                return;
+            } catch (RejectedExecutionException e) {
+                // Draining already, delete below
+                deleted();
+            }
+        }
+        delete(location);
+    }
+
+    /**
+     * Waits for the deletions of the resources released so far to end, for tests that count resources on the server
+     * while no other test runs.
+     */
+    public static synchronized void awaitDeletions() throws InterruptedException {
+        while (deleting > 0) {
+            CleanupQueue.class.wait();
+        }
+    }
+
+    private static synchronized void deleted() {
+        if (--deleting == 0) {
+            CleanupQueue.class.notifyAll();
+        }
+    }
+
+    /** Records a resource that the caller deleted itself. */
+    public static void forget(String location) {
+        if (location != null && pending.remove(location)) {
+            released.remove(location);
+            append(DELETED, location);
+        }
+    }
+
+    /** @return the number of resources registered and not deleted yet */
+    public static int size() {
+        return pending.size();
+    }
+
+    /**
+     * Releases every resource still registered and waits for all deletions to end. The journal is removed if all were
+     * deleted, and otherwise keeps the rest for the next run.
+     */
+    public static void drain() {
+        ExecutorService current;
+        synchronized (CleanupQueue.class) {
+            if (journalChannel == null) {
+                return;
+            }
+            current = executor;
+        }
+        List.copyOf(pending).forEach(CleanupQueue::release);
+        if (current != null) {
+            current.shutdown();
+            try {
+                if (!current.awaitTermination(DRAIN_TIMEOUT, TimeUnit.SECONDS)) {
+                    logger.warn("Gave up waiting for the deletion of %d resource(s)".formatted(pending.size()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        synchronized (CleanupQueue.class) {
+            executor = null;
+            try {
+                journalChannel.close();
+                journalChannel = null;
+                if (pending.isEmpty()) {
+                    Files.deleteIfExists(journal);
+                } else {
+                    logger.warn("%d resource(s) could not be deleted, they are listed in %s for the next run"
+                            .formatted(pending.size(), journal));
+                }
+            } catch (IOException e) {
+                logger.error("Could not close the cleanup journal " + journal, e);
+            }
+        }
+    }
+
+    private static void delete(String location) {
+        try {
+            Response resp = OSLCUtils.deleteFromUrl(location, creds, "*/*");
+            resp.close();
+            // Deleting is not a MUST in OSLC, so only retry later on server errors
+            if (resp.getStatus() >= 500) {
+                logger.warn("Could not delete <%s>: %d".formatted(location, resp.getStatus()));
+                released.remove(location);
+                return;
+            }
+            forget(location);
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not delete <%s>".formatted(location), e);
+            released.remove(location);
+        }
+    }
+
+    private static synchronized void append(String change, String location) {
+        if (journalChannel == null) {
+            return;
+        }
+        ByteBuffer line = StandardCharsets.UTF_8.encode(change + location + "\n");
+        try {
+            while (line.hasRemaining()) {
+                journalChannel.write(line);
+            }
+        } catch (IOException e) {
+            logger.error("Could not write to the cleanup journal " + journal, e);
+        }
+    }
+
+    // The resources registered and not deleted, in the order they were registered
+    private static Set<String> readJournal(Path journal) throws IOException {
+        Set<String> locations = new LinkedHashSet<>();
+        if (!Files.exists(journal)) {
+            return locations;
+        }
+        for (String line : Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+            if (line.startsWith(REGISTERED)) {
+                locations.add(line.substring(REGISTERED.length()));
+            } else if (line.startsWith(DELETED)) {
+                locations.remove(line.substring(DELETED.length()));
+            }
+        }
+        return locations;
+    }
+}
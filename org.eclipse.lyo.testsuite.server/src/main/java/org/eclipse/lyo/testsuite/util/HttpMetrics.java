@@ -0,0 +1,484 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+import java.util.regex.Pattern;
+import org.apache.log4j.Logger;
+import org.apache.wink.json4j.JSONArray;
+import org.apache.wink.json4j.JSONException;
+import org.apache.wink.json4j.JSONObject;
+import org.eclipse.lyo.testsuite.common.LatencyHistogram;
+
+/**
+ * Per-request timings of the HTTP layer, for using the suite as a performance probe of a provider.
+ *
+ * <p>When <code>httpMetrics=true</code>, every request sent through {@link HttpTransport} is recorded with its status,
+ * body size and phase timings:
+ *
+ * <ul>
+ *   <li>dns: host name resolution while opening a connection
+ *   <li>connect: TCP (and TLS) connection set-up, excluding dns
+ *   <li>firstByte: from the start of the request to its response headers, excluding dns and connect; this includes
+ *       waiting for a pooled connection and the server's processing time
+ *   <li>transfer: from the headers to the end of the body
+ *   <li>parse: time spent by the suite's parsers in the body, excluding time spent waiting for its bytes
+ * </ul>
+ *
+ * Requests are tagged with the test class and method that sent them. Only the last <code>httpMetricsMaxSamples</code>
+ * requests are kept one by one; older ones are added to latency histograms per endpoint pattern. {@link #export(Path)}
+ * writes the requests kept to <code>http-metrics.csv</code> and a summary of all requests per endpoint pattern, with
+ * latency histograms, to <code>http-metrics.json</code>; by default next to the surefire reports.
+ */
+public class HttpMetrics {
+    private static Logger logger = Logger.getLogger(HttpMetrics.class);
+
+    public static final String CSV_FILE = "http-metrics.csv";
+    public static final String JSON_FILE = "http-metrics.json";
+    public static final String DEFAULT_DIRECTORY = "target/surefire-reports";
+    public static final int DEFAULT_MAX_SAMPLES = 10_000;
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final Pattern OPAQUE_ID = Pattern.compile("[-_.~%A-Za-z0-9]*\\d[-_.~%A-Za-z0-9]*");
+    // The phases summarized per endpoint; the buckets of BUCKETED_PHASES are exported too
+    private static final Map<String, ToLongFunction<Exchange>> PHASES = new LinkedHashMap<>();
+    private static final List<String> BUCKETED_PHASES = List.of("total", "firstByte");
+
+    static {
+        PHASES.put("total", Exchange::getTotal);
+        PHASES.put("dns", Exchange::getDns);
+        PHASES.put("connect", Exchange::getConnect);
+        PHASES.put("firstByte", Exchange::getFirstByte);
+        PHASES.put("transfer", Exchange::getTransfer);
+        PHASES.put("parse", Exchange::getParse);
+    }
+
+    private static volatile boolean enabled;
+    private static volatile Path directory = Path.of(DEFAULT_DIRECTORY);
+    private static volatile int maxSamples = DEFAULT_MAX_SAMPLES;
+
+    // The last maxSamples requests, and the summaries of the older ones by endpoint; guarded by exchanges
+    private static final Deque<Exchange> exchanges = new ArrayDeque<>();
+    private static final Map<String, EndpointSummary> dropped = new TreeMap<>();
+    private static final ThreadLocal<String[]> currentTest = new ThreadLocal<>();
+    // The request being sent by this thread, until its response headers arrive
+    private static final ThreadLocal<Exchange> sending = new ThreadLocal<>();
+    // The last request sent by this thread, which parse times are attributed to
+    private static final ThreadLocal<Exchange> latest = new ThreadLocal<>();
+
+    /** One request and its timings, all durations in nanoseconds. */
+    public static final class Exchange {
+        private final long timestamp = System.currentTimeMillis();
+        private final long start = System.nanoTime();
+        private final String method;
+        private final String uri;
+        private final String endpoint;
+        private final String testClass;
+        private final String testMethod;
+
+        private int status;
+        private long dns;
+        private long connect;
+        private long headers = -1;
+        private long end = -1;
+        private long read;
+        private long bytes;
+        private long parse;
+
+        Exchange(String method, URI uri, String testClass, String testMethod) {
+            this.method = method;
+            this.uri = String.valueOf(uri);
+            this.endpoint = method + " " + endpointPattern(uri);
+            this.testClass = testClass;
+            this.testMethod = testMethod;
+        }
+
+        synchronized void headersReceived(int status) {
+            this.status = status;
+            headers = System.nanoTime();
+        }
+
+        /** Counts a read from the body that returned <code>count</code> bytes (or -1) after <code>nanos</code>. */
+        synchronized void bodyRead(int count, long nanos) {
+            read += nanos;
+            if (count > 0) {
+                bytes += count;
+            }
+        }
+
+        /** Marks the end of the body; later calls are ignored. */
+        synchronized void completed() {
+            if (end < 0) {
+                end = System.nanoTime();
+            }
+        }
+
+        synchronized long getReadNanos() {
+            return read;
+        }
+
+        synchronized void addParse(long nanos) {
+            parse += Math.max(nanos, 0);
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public synchronized int getStatus() {
+            return status;
+        }
+
+        public synchronized long getBytes() {
+            return bytes;
+        }
+
+        public synchronized long getDns() {
+            return dns;
+        }
+
+        public synchronized long getConnect() {
+            return Math.max(connect - dns, 0);
+        }
+
+        public synchronized long getFirstByte() {
+            return headers < 0 ? 0 : Math.max(headers - start - connect, 0);
+        }
+
+        public synchronized long getTransfer() {
+            return headers < 0 || end < 0 ? 0 : end - headers;
+        }
+
+        public synchronized long getParse() {
+            return parse;
+        }
+
+        /** @return from the start of the request to the end of the body, or to the headers if it has no body */
+        public synchronized long getTotal() {
+            long last = end >= 0 ? end : headers;
+            return last < 0 ? 0 : last - start;
+        }
+    }
+
+    /** Measures a parse of a response body received by the calling thread. */
+    public static final class ParseTimer {
+        private final Exchange exchange;
+        private final long start = System.nanoTime();
+        private final long readBefore;
+
+        private ParseTimer(Exchange exchange) {
+            this.exchange = exchange;
+            this.readBefore = exchange == null ? 0 : exchange.getReadNanos();
+        }
+
+        /** Attributes the time since the timer started, minus time spent waiting for the body, to the request. */
+        public void stop() {
+            if (exchange != null) {
+                long elapsed = System.nanoTime() - start;
+                exchange.addParse(elapsed - (exchange.getReadNanos() - readBefore));
+            }
+        }
+    }
+
+    /** The requests of one endpoint pattern, with a latency histogram in microseconds per phase. */
+    private static final class EndpointSummary {
+        private final Map<String, Integer> statuses = new TreeMap<>();
+        private final Map<String, LatencyHistogram> phases = new LinkedHashMap<>();
+        private long requests;
+        private long bytes;
+
+        EndpointSummary() {
+            PHASES.keySet().forEach(phase -> phases.put(phase, new LatencyHistogram()));
+        }
+
+        void add(Exchange exchange) {
+            requests++;
+            bytes += exchange.getBytes();
+            statuses.merge(String.valueOf(exchange.getStatus()), 1, Integer::sum);
+            PHASES.forEach((phase, duration) ->
+                    phases.get(phase).record(TimeUnit.NANOSECONDS.toMicros(duration.applyAsLong(exchange))));
+        }
+
+        void add(EndpointSummary other) {
+            requests += other.requests;
+            bytes += other.bytes;
+            other.statuses.forEach((status, count) -> statuses.merge(status, count, Integer::sum));
+            other.phases.forEach((phase, histogram) -> phases.get(phase).add(histogram));
+        }
+    }
+
+    /**
+     * Reads <code>httpMetrics</code> (default false), <code>httpMetricsDir</code> and
+     * <code>httpMetricsMaxSamples</code>.
+     */
+    public static void configure(Properties setupProps) {
+        enabled = Boolean.parseBoolean(setupProps.getProperty("httpMetrics", "false").trim());
+        directory = Path.of(setupProps.getProperty("httpMetricsDir", DEFAULT_DIRECTORY).trim());
+        maxSamples = Integer.parseInt(setupProps
+                .getProperty("httpMetricsMaxSamples", String.valueOf(DEFAULT_MAX_SAMPLES))
+                .trim());
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    /** Tags the requests the calling thread sends from now on with the given test. */
+    public static void setCurrentTest(String testClass, String testMethod) {
+        currentTest.set(new String[] {testClass, testMethod});
+    }
+
+    public static void clearCurrentTest() {
+        currentTest.remove();
+    }
+
+    /**
+     * Starts timing a parse of the body of the last response received by the calling thread. Call
+     * {@link ParseTimer#stop()} when the parse is done.
+     */
+    public static ParseTimer startParse() {
+        return new ParseTimer(enabled ? latest.get() : null);
+    }
+
+    /** Like {@link #startParse()}, for a body received earlier, possibly by another thread. */
+    public static ParseTimer startParse(Exchange exchange) {
+        return new ParseTimer(exchange);
+    }
+
+    /** @return the last request sent by the calling thread, or <code>null</code> if none is being recorded */
+    public static Exchange getLatestExchange() {
+        return enabled ? latest.get() : null;
+    }
+
+    /** @return a snapshot of the last requests recorded, at most <code>httpMetricsMaxSamples</code> of them */
+    public static List<Exchange> getExchanges() {
+        synchronized (exchanges) {
+            return new ArrayList<>(exchanges);
+        }
+    }
+
+    public static void reset() {
+        synchronized (exchanges) {
+            exchanges.clear();
+            dropped.clear();
+        }
+    }
+
+    static Exchange begin(String method, URI uri) {
+        if (!enabled) {
+            return null;
+        }
+        String[] test = currentTest.get();
+        Exchange exchange = test == null
+                ? new Exchange(method, uri, "", "")
+                : new Exchange(method, uri, test[0], test[1]);
+        synchronized (exchanges) {
+            exchanges.addLast(exchange);
+            // Requests this far back are long done, parse times included
+            while (exchanges.size() > Math.max(maxSamples, 0)) {
+                Exchange oldest = exchanges.removeFirst();
+                dropped.computeIfAbsent(oldest.getEndpoint(), e -> new EndpointSummary())
+                        .add(oldest);
+            }
+        }
+        sending.set(exchange);
+        latest.set(exchange);
+        return exchange;
+    }
+
+    static void headersReceived(Exchange exchange, int status) {
+        sending.remove();
+        exchange.headersReceived(status);
+    }
+
+    static void recordDns(long nanos) {
+        Exchange exchange = sending.get();
+        if (exchange != null) {
+            synchronized (exchange) {
+                exchange.dns += nanos;
+            }
+        }
+    }
+
+    /** Records the set-up of a connection, including its dns time. */
+    static void recordConnect(long nanos) {
+        Exchange exchange = sending.get();
+        if (exchange != null) {
+            synchronized (exchange) {
+                exchange.connect += nanos;
+            }
+        }
+    }
+
+    /**
+     * Reduces a URI to the endpoint it addresses: the query keeps only its parameter names, and path segments that
+     * look like identifiers (numbers, or names mixing letters and digits) become <code>{id}</code>.
+     */
+    public static String endpointPattern(URI uri) {
+        if (uri == null) {
+            return "";
+        }
+        StringBuilder pattern = new StringBuilder();
+        if (uri.getScheme() != null) {
+            pattern.append(uri.getScheme()).append("://");
+        }
+        if (uri.getRawAuthority() != null) {
+            pattern.append(uri.getRawAuthority());
+        }
+        String path = uri.getRawPath();
+        if (path != null && !path.isEmpty()) {
+            for (String segment : path.substring(1).split("/", -1)) {
+                pattern.append('/');
+                if (NUMBER.matcher(segment).matches()
+                        || (segment.length() >= 8 && OPAQUE_ID.matcher(segment).matches())) {
+                    pattern.append("{id}");
+                } else {
+                    pattern.append(segment);
+                }
+            }
+        }
+        String query = uri.getRawQuery();
+        if (query != null) {
+            TreeSet<String> names = new TreeSet<>();
+            for (String parameter : query.split("&")) {
+                int equals = parameter.indexOf('=');
+                names.add(equals < 0 ? parameter : parameter.substring(0, equals));
+            }
+            pattern.append('?').append(String.join("&", names));
+        }
+        return pattern.toString();
+    }
+
+    /** Exports to the configured directory if metrics are enabled, logging instead of failing on errors. */
+    public static void exportIfEnabled() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            export(directory);
+        } catch (IOException e) {
+            logger.error("Could not write HTTP metrics to " + directory, e);
+        }
+    }
+
+    /** Writes {@value #CSV_FILE} and {@value #JSON_FILE} to the directory, creating it if needed. */
+    public static synchronized void export(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<Exchange> snapshot;
+        Map<String, EndpointSummary> byEndpoint = new TreeMap<>();
+        synchronized (exchanges) {
+            snapshot = new ArrayList<>(exchanges);
+            dropped.forEach((endpoint, summary) ->
+                    byEndpoint.computeIfAbsent(endpoint, e -> new EndpointSummary()).add(summary));
+        }
+        for (Exchange exchange : snapshot) {
+            byEndpoint.computeIfAbsent(exchange.getEndpoint(), e -> new EndpointSummary()).add(exchange);
+        }
+        writeCsv(directory.resolve(CSV_FILE), snapshot);
+        JSONObject summary;
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(JSON_FILE), StandardCharsets.UTF_8)) {
+            summary = summarize(byEndpoint);
+            summary.write(writer, true);
+        } catch (JSONException e) {
+            throw new IOException("Could not write " + JSON_FILE, e);
+        }
+        logger.info("Wrote metrics of %s HTTP requests to %s"
+                .formatted(summary.opt("requests"), directory.toAbsolutePath()));
+    }
+
+    private static void writeCsv(Path file, List<Exchange> snapshot) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("timestamp,testClass,testMethod,method,uri,endpoint,status,bytes,"
+                    + "dnsMs,connectMs,firstByteMs,transferMs,parseMs,totalMs");
+            writer.newLine();
+            for (Exchange exchange : snapshot) {
+                writer.write(String.join(
+                        ",",
+                        Instant.ofEpochMilli(exchange.timestamp).toString(),
+                        csv(exchange.testClass),
+                        csv(exchange.testMethod),
+                        exchange.method,
+                        csv(exchange.uri),
+                        csv(exchange.endpoint),
+                        String.valueOf(exchange.getStatus()),
+                        String.valueOf(exchange.getBytes()),
+                        millis(exchange.getDns()),
+                        millis(exchange.getConnect()),
+                        millis(exchange.getFirstByte()),
+                        millis(exchange.getTransfer()),
+                        millis(exchange.getParse()),
+                        millis(exchange.getTotal())));
+                writer.newLine();
+            }
+        }
+    }
+
+    private static JSONObject summarize(Map<String, EndpointSummary> byEndpoint) throws JSONException {
+        JSONArray endpoints = new JSONArray();
+        long total = 0;
+        for (Map.Entry<String, EndpointSummary> entry : byEndpoint.entrySet()) {
+            EndpointSummary requests = entry.getValue();
+            JSONObject endpoint = new JSONObject();
+            endpoint.put("endpoint", entry.getKey());
+            endpoint.put("requests", requests.requests);
+            endpoint.put("statuses", new JSONObject(requests.statuses));
+            endpoint.put("bytes", requests.bytes);
+            for (Map.Entry<String, LatencyHistogram> phase : requests.phases.entrySet()) {
+                boolean withBuckets = BUCKETED_PHASES.contains(phase.getKey());
+                endpoint.put(phase.getKey(), new JSONObject(phase.getValue().toJson(withBuckets)));
+            }
+            endpoints.add(endpoint);
+            total += requests.requests;
+        }
+
+        JSONObject summary = new JSONObject();
+        summary.put("requests", total);
+        summary.put("unit", "ms");
+        summary.put("endpoints", endpoints);
+        return summary;
+    }
+
+    private static String millis(long nanos) {
+        return String.valueOf(nanos / 1_000_000.0);
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import jakarta.ws.rs.Priorities;
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientRequestFilter;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+import org.apache.log4j.Logger;
+import org.eclipse.lyo.testsuite.common.HttpArchive;
+import org.glassfish.jersey.apache.connector.ApacheClientProperties;
+import org.glassfish.jersey.apache.connector.ApacheConnectorProvider;
+import org.glassfish.jersey.apache.connector.ApacheHttpClientBuilderConfigurator;
+import org.glassfish.jersey.client.ClientConfig;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.ClientRequest;
+import org.glassfish.jersey.client.ClientResponse;
+import org.glassfish.jersey.client.spi.AsyncConnectorCallback;
+import org.glassfish.jersey.client.spi.Connector;
+import org.glassfish.jersey.message.internal.Statuses;
+
+/**
+ * The HTTP transport shared by all clients of the test suite: a pooled, keep-alive Apache HttpClient behind Jersey.
+ *
+ * <p>Pool size and timeouts come from setup.properties (see {@link #configure(Properties)}). Entity streams of
+ * responses are tracked per thread, so connections of responses a test forgot to close can be returned to the pool by
+ * {@link #closeOpenResponses()} when the test ends. Requests are timed by {@link HttpMetrics} when it is enabled, and
+ * recorded to or answered from an {@link HttpArchive} when that is enabled.
+ */
+public class HttpTransport {
+    private static Logger logger = Logger.getLogger(HttpTransport.class);
+
+    public static final int DEFAULT_MAX_CONNECTIONS = 64;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 32;
+    public static final int DEFAULT_KEEP_ALIVE = 30000;
+    public static final int DEFAULT_TIMEOUT_REQUEST = 10000;
+    public static final int DEFAULT_TIMEOUT_CONNECT = 500;
+    public static final int DEFAULT_TIMEOUT_SOCKET = 5000;
+
+    /**
+     * Transport settings, all durations in milliseconds.
+     *
+     * @param keepAlive how long an idle connection is kept when the server does not say
+     * @param timeoutRequest how long to wait for a connection from an exhausted pool
+     */
+    public record Settings(
+            int maxConnections,
+            int maxConnectionsPerRoute,
+            int keepAlive,
+            int timeoutRequest,
+            int timeoutConnect,
+            int timeoutSocket) {}
+
+    private static Settings settings = new Settings(
+            DEFAULT_MAX_CONNECTIONS,
+            DEFAULT_MAX_CONNECTIONS_PER_ROUTE,
+            DEFAULT_KEEP_ALIVE,
+            DEFAULT_TIMEOUT_REQUEST,
+            DEFAULT_TIMEOUT_CONNECT,
+            DEFAULT_TIMEOUT_SOCKET);
+    private static PoolingHttpClientConnectionManager connectionManager;
+
+    private static final String EXCHANGE_PROPERTY = HttpMetrics.Exchange.class.getName();
+
+    private static final ThreadLocal<Set<TrackedStream>> openStreams =
+            ThreadLocal.withInitial(ConcurrentHashMap::newKeySet);
+    private static final AtomicLong unclosedResponses = new AtomicLong();
+
+    /**
+     * Reads <code>httpMaxConnections</code>, <code>httpMaxConnectionsPerRoute</code>, <code>httpKeepAlive</code>,
+     * <code>timeoutRequest</code>, <code>timeoutConnect</code> and <code>timeoutSocket</code>. Must be called before the
+     * first client is built to take effect.
+     */
+    public static synchronized void configure(Properties setupProps) {
+        settings = new Settings(
+                intProperty(setupProps, "httpMaxConnections", DEFAULT_MAX_CONNECTIONS),
+                intProperty(setupProps, "httpMaxConnectionsPerRoute", DEFAULT_MAX_CONNECTIONS_PER_ROUTE),
+                intProperty(setupProps, "httpKeepAlive", DEFAULT_KEEP_ALIVE),
+                intProperty(setupProps, "timeoutRequest", DEFAULT_TIMEOUT_REQUEST),
+                intProperty(setupProps, "timeoutConnect", DEFAULT_TIMEOUT_CONNECT),
+                intProperty(setupProps, "timeoutSocket", DEFAULT_TIMEOUT_SOCKET));
+        if (connectionManager != null) {
+            connectionManager.setMaxTotal(settings.maxConnections());
+            connectionManager.setDefaultMaxPerRoute(settings.maxConnectionsPerRoute());
+        }
+    }
+
+    public static synchronized Settings getSettings() {
+        return settings;
+    }
+
+    /** @return a client builder using the shared connection pool, timeouts and response tracking */
+    public static synchronized ClientBuilder newClientBuilder() {
+        Settings current = settings;
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(current.timeoutRequest())
+                .setConnectTimeout(current.timeoutConnect())
+                .setSocketTimeout(current.timeoutSocket())
+                .build();
+        DefaultConnectionKeepAliveStrategy serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE;
+
+        ClientConfig config = new ClientConfig()
+                .connectorProvider(
+                        HttpArchive.getMode() == HttpArchive.Mode.REPLAY
+                                ? (client, runtimeConfig) -> new ReplayConnector()
+                                : new ApacheConnectorProvider())
+                .property(ApacheClientProperties.CONNECTION_MANAGER, getConnectionManager())
+                // Clients come and go, the pool stays for the whole run
+                .property(ApacheClientProperties.CONNECTION_MANAGER_SHARED, true)
+                .property(ApacheClientProperties.REQUEST_CONFIG, requestConfig)
+                .property(ClientProperties.CONNECT_TIMEOUT, current.timeoutConnect())
+                .property(ClientProperties.READ_TIMEOUT, current.timeoutSocket())
+                .register((ApacheHttpClientBuilderConfigurator) builder -> builder.setKeepAliveStrategy(
+                        (response, context) -> {
+                            long duration = serverKeepAlive.getKeepAliveDuration(response, context);
+                            return duration > 0 ? duration : current.keepAlive();
+                        }))
+                .register(new MetricsFilter())
+                .register(new ResponseTracker());
+        if (HttpArchive.getMode() == HttpArchive.Mode.RECORD) {
+            // Response filters run by descending priority, so bodies are recorded before they are tracked
+            config.register(new Recorder(), Priorities.USER + 1000);
+        }
+        return ClientBuilder.newBuilder().withConfig(config);
+    }
+
+    /** @return leased, pending and available connections of the shared pool */
+    public static synchronized PoolStats getPoolStats() {
+        return getConnectionManager().getTotalStats();
+    }
+
+    /** @return how many responses were left open by tests and closed by {@link #closeOpenResponses()} */
+    public static long getUnclosedResponseCount() {
+        return unclosedResponses.get();
+    }
+
+    /**
+     * Closes the entity streams of responses received by the calling thread that nobody closed, releasing their
+     * connections.
+     *
+     * @return the number of responses closed
+     */
+    public static int closeOpenResponses() {
+        Set<TrackedStream> streams = openStreams.get();
+        if (streams.isEmpty()) {
+            return 0;
+        }
+        List<TrackedStream> open = new ArrayList<>(streams);
+        streams.clear();
+        for (TrackedStream stream : open) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Closing unclosed response from <%s>".formatted(stream.uri));
+            }
+            try {
+                stream.close();
+            } catch (IOException e) {
+                logger.warn("Could not close response from <%s>".formatted(stream.uri), e);
+            }
+        }
+        unclosedResponses.addAndGet(open.size());
+        return open.size();
+    }
+
+    private static PoolingHttpClientConnectionManager getConnectionManager() {
+        if (connectionManager == null) {
+            connectionManager = new MeteredConnectionManager();
+            connectionManager.setMaxTotal(settings.maxConnections());
+            connectionManager.setDefaultMaxPerRoute(settings.maxConnectionsPerRoute());
+            // Servers drop idle keep-alive connections; check before reusing one that sat for a while
+            connectionManager.setValidateAfterInactivity(2000);
+        }
+        return connectionManager;
+    }
+
+    private static int intProperty(Properties setupProps, String name, int defaultValue) {
+        String value = setupProps.getProperty(name);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /** Starts the metrics of a request, if they are enabled. */
+    private static class MetricsFilter implements ClientRequestFilter {
+        @Override
+        public void filter(ClientRequestContext requestContext) {
+            HttpMetrics.Exchange exchange = HttpMetrics.begin(requestContext.getMethod(), requestContext.getUri());
+            if (exchange != null) {
+                requestContext.setProperty(EXCHANGE_PROPERTY, exchange);
+            }
+        }
+    }
+
+    /** Wraps every response entity stream so that it can be closed on behalf of the test, and metered. */
+    private static class ResponseTracker implements ClientResponseFilter {
+        @Override
+        public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) {
+            HttpMetrics.Exchange exchange = (HttpMetrics.Exchange) requestContext.getProperty(EXCHANGE_PROPERTY);
+            if (exchange != null) {
+                HttpMetrics.headersReceived(exchange, responseContext.getStatus());
+            }
+            if (responseContext.hasEntity()) {
+                TrackedStream stream = new TrackedStream(
+                        responseContext.getEntityStream(), String.valueOf(requestContext.getUri()), exchange);
+                openStreams.get().add(stream);
+                responseContext.setEntityStream(stream);
+            } else if (exchange != null) {
+                exchange.completed();
+            }
+        }
+    }
+
+    private static class TrackedStream extends FilterInputStream {
+        private final String uri;
+        private final HttpMetrics.Exchange exchange;
+        private final Set<TrackedStream> owner = openStreams.get();
+
+        TrackedStream(InputStream in, String uri, HttpMetrics.Exchange exchange) {
+            super(in);
+            this.uri = uri;
+            this.exchange = exchange;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (exchange == null) {
+                return super.read();
+            }
+            long start = System.nanoTime();
+            int b = super.read();
+            exchange.bodyRead(b < 0 ? -1 : 1, System.nanoTime() - start);
+            if (b < 0) {
+                exchange.completed();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (exchange == null) {
+                return super.read(b, off, len);
+            }
+            long start = System.nanoTime();
+            int n = super.read(b, off, len);
+            exchange.bodyRead(n, System.nanoTime() - start);
+            if (n < 0) {
+                exchange.completed();
+            }
+            return n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            owner.remove(this);
+            if (exchange != null) {
+                exchange.completed();
+            }
+            super.close();
+        }
+    }
+
+    /**
+     * Records every exchange to the {@link HttpArchive}, holding no more of a body than
+     * {@link HttpArchive#getMaxBody()} bytes; exchanges with larger bodies are passed on whole but not recorded.
+     */
+    private static class Recorder implements ClientResponseFilter, WriterInterceptor {
+        private static final String REQUEST_BODY_PROPERTY = Recorder.class.getName() + ".requestBody";
+
+        @Override
+        public void aroundWriteTo(WriterInterceptorContext context) throws IOException {
+            // One byte past the limit tells a body that is too large
+            int limit = HttpArchive.getMaxBody() + 1;
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            OutputStream out = context.getOutputStream();
+            context.setOutputStream(new FilterOutputStream(out) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    if (body.size() < limit) {
+                        body.write(b);
+                    }
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    body.write(b, off, Math.min(len, limit - body.size()));
+                }
+            });
+            context.proceed();
+            context.setProperty(REQUEST_BODY_PROPERTY, body.toByteArray());
+        }
+
+        @Override
+        public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext)
+                throws IOException {
+            byte[] body = new byte[0];
+            if (responseContext.hasEntity()) {
+                HttpArchive.Body buffered = HttpArchive.buffer(responseContext.getEntityStream());
+                responseContext.setEntityStream(buffered.stream());
+                body = buffered.bytes();
+            }
+            byte[] requestBody = (byte[]) requestContext.getProperty(REQUEST_BODY_PROPERTY);
+            if (body == null || requestBody != null && requestBody.length > HttpArchive.getMaxBody()) {
+                HttpArchive.skip(requestContext.getMethod(), String.valueOf(requestContext.getUri()));
+                return;
+            }
+            HttpArchive.record(new HttpArchive.Exchange(
+                    requestContext.getMethod(),
+                    String.valueOf(requestContext.getUri()),
+                    HttpArchive.recordable(requestContext.getStringHeaders()),
+                    requestBody == null ? null : ByteBuffer.wrap(requestBody),
+                    responseContext.getStatus(),
+                    HttpArchive.recordable(responseContext.getHeaders()),
+                    ByteBuffer.wrap(body)));
+        }
+    }
+
+    /** Answers requests from the {@link HttpArchive} instead of the network; bodies are streamed from its mapping. */
+    private static class ReplayConnector implements Connector {
+        @Override
+        public ClientResponse apply(ClientRequest request) {
+            HttpArchive.Exchange exchange;
+            try {
+                exchange = HttpArchive.replay(
+                        request.getMethod(), String.valueOf(request.getUri()), request.getHeaderString("Accept"));
+            } catch (IOException e) {
+                throw new ProcessingException(e.getMessage(), e);
+            }
+            ClientResponse response = new ClientResponse(Statuses.from(exchange.status()), request);
+            for (HttpArchive.Header header : exchange.responseHeaders()) {
+                response.getHeaders().add(header.name(), header.value());
+            }
+            response.setEntityStream(exchange.openResponseBody());
+            return response;
+        }
+
+        @Override
+        public Future<?> apply(ClientRequest request, AsyncConnectorCallback callback) {
+            try {
+                callback.response(apply(request));
+            } catch (ProcessingException e) {
+                callback.failure(e);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public String getName() {
+            return "HTTP archive " + HttpArchive.getFile();
+        }
+
+        @Override
+        public void close() {}
+    }
+
+    /** Times connection set-up and name resolution for {@link HttpMetrics}. */
+    private static class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+        MeteredConnectionManager() {
+            super(
+                    RegistryBuilder.<ConnectionSocketFactory>create()
+                            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                            .register("https", SSLConnectionSocketFactory.getSocketFactory())
+                            .build(),
+                    new MeteredDnsResolver());
+        }
+
+        @Override
+        public void connect(HttpClientConnection managedConn, HttpRoute route, int connectTimeout, HttpContext context)
+                throws IOException {
+            long start = System.nanoTime();
+            try {
+                super.connect(managedConn, route, connectTimeout, context);
+            } finally {
+                HttpMetrics.recordConnect(System.nanoTime() - start);
+            }
+        }
+    }
+
+    private static class MeteredDnsResolver implements DnsResolver {
+        @Override
+        public InetAddress[] resolve(String host) throws UnknownHostException {
+            long start = System.nanoTime();
+            try {
+                return SystemDefaultDnsResolver.INSTANCE.resolve(host);
+            } finally {
+                HttpMetrics.recordDns(System.nanoTime() - start);
+            }
+        }
+    }
+}
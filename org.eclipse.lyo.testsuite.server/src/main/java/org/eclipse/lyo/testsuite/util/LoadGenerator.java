@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.eclipse.lyo.testsuite.common.LatencyHistogram;
+
+/**
+ * Runs an {@link Iteration} from several workers for a fixed time and reports latency percentiles and errors of each of
+ * its phases.
+ *
+ * <p>In the closed model, each of the workers starts a new iteration as soon as its previous one ends, so the load
+ * adapts to how fast the provider answers. In the open model, iterations arrive at a fixed rate whatever the response
+ * times, and are run by up to <code>workers</code> threads; the {@value #ITERATION} latency is measured from when an
+ * iteration was due, so time spent waiting for a free worker is not hidden. Arrivals that find all workers busy and
+ * {@value #QUEUED_PER_WORKER} iterations per worker already waiting are counted as errors instead of being queued.
+ */
+public class LoadGenerator {
+    /** The phase of a whole iteration, measured from when it was due to start until it ended. */
+    public static final String ITERATION = "iteration";
+
+    public static final int QUEUED_PER_WORKER = 16;
+    public static final int DEFAULT_WORKERS = 16;
+    public static final double DEFAULT_RATE = 10;
+    public static final int DEFAULT_DURATION = 60;
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    public enum Model {
+        CLOSED,
+        OPEN
+    }
+
+    /**
+     * @param rate iterations started per second, for the open model
+     * @param duration seconds during which iterations are started
+     */
+    public record Settings(Model model, int workers, double rate, int duration) {
+        /**
+         * Reads <code>loadTestModel</code> (closed or open), <code>loadTestWorkers</code>, <code>loadTestRate</code>
+         * and <code>loadTestDuration</code>.
+         *
+         * @return the settings, or <code>null</code> when <code>loadTestModel</code> is not set
+         */
+        public static Settings from(Properties setupProps) {
+            String model = setupProps.getProperty("loadTestModel");
+            if (model == null || model.isBlank()) {
+                return null;
+            }
+            return new Settings(
+                    Model.valueOf(model.trim().toUpperCase(Locale.ROOT)),
+                    Integer.parseInt(setupProps.getProperty("loadTestWorkers", String.valueOf(DEFAULT_WORKERS))
+                            .trim()),
+                    Double.parseDouble(setupProps.getProperty("loadTestRate", String.valueOf(DEFAULT_RATE))
+                            .trim()),
+                    Integer.parseInt(setupProps.getProperty("loadTestDuration", String.valueOf(DEFAULT_DURATION))
+                            .trim()));
+        }
+    }
+
+    /** One unit of work, made of phases timed with {@link Phases#record(String, long, String)}. */
+    @FunctionalInterface
+    public interface Iteration {
+        void run(Phases phases) throws Exception;
+    }
+
+    /** Times the phases of one iteration. */
+    public static final class Phases {
+        private final Stats stats;
+        private boolean failed;
+
+        private Phases(Stats stats) {
+            this.stats = stats;
+        }
+
+        /**
+         * Records a phase that started at <code>startNanos</code>, from {@link System#nanoTime()}, and ends now.
+         *
+         * @param error why the phase failed, such as an unexpected status, or <code>null</code> if it succeeded
+         */
+        public void record(String phase, long startNanos, String error) {
+            stats.record(phase, startNanos, error);
+            failed |= error != null;
+        }
+    }
+
+    /** The timings and errors of the phases of all iterations. Thread-safe. */
+    private static final class Stats {
+        private final Map<String, PhaseStats> phases = new LinkedHashMap<>();
+        private final AtomicLong iterations = new AtomicLong();
+        private final AtomicLong failedIterations = new AtomicLong();
+        private final AtomicLong rejectedIterations = new AtomicLong();
+
+        void record(String phase, long startNanos, String error) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+            synchronized (phases) {
+                phases.computeIfAbsent(phase, p -> new PhaseStats()).record(micros, error);
+            }
+        }
+
+        void end(long dueNanos, boolean failed, String error) {
+            record(ITERATION, dueNanos, error);
+            iterations.incrementAndGet();
+            if (failed || error != null) {
+                failedIterations.incrementAndGet();
+            }
+        }
+
+        void reject() {
+            synchronized (phases) {
+                phases.computeIfAbsent(ITERATION, p -> new PhaseStats()).reject();
+            }
+            rejectedIterations.incrementAndGet();
+        }
+    }
+
+    private static final class PhaseStats {
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final Map<String, Long> errors = new TreeMap<>();
+        private long count;
+        private long errorCount;
+
+        void record(long micros, String error) {
+            histogram.record(micros);
+            count++;
+            if (error != null) {
+                errors.merge(error, 1L, Long::sum);
+                errorCount++;
+            }
+        }
+
+        void reject() {
+            errors.merge("rejected, all workers busy", 1L, Long::sum);
+            count++;
+            errorCount++;
+        }
+    }
+
+    /** The outcome of a run. Latencies are in milliseconds. */
+    public static final class Report {
+        private final Settings settings;
+        private final Stats stats;
+        private final long elapsedNanos;
+
+        private Report(Settings settings, Stats stats, long elapsedNanos) {
+            this.settings = settings;
+            this.stats = stats;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /** @return the iterations that ran, failed or not */
+        public long getIterations() {
+            return stats.iterations.get();
+        }
+
+        /** @return the iterations that ran per second */
+        public double getThroughput() {
+            return getIterations() / (elapsedNanos / 1e9);
+        }
+
+        /** @return the fraction of iterations in which a phase failed or that could not be started */
+        public double getErrorRate() {
+            long rejected = stats.rejectedIterations.get();
+            long iterations = getIterations() + rejected;
+            return iterations == 0 ? 0 : (double) (stats.failedIterations.get() + rejected) / iterations;
+        }
+
+        /** @return a table of the latency percentiles and error rate of each phase, followed by the errors seen */
+        public String format() {
+            StringBuilder report = new StringBuilder();
+            report.append("%s model, %d workers%s, %d s: %d iterations, %.1f/s, %.2f%% failed%n"
+                    .formatted(
+                            settings.model().name().toLowerCase(Locale.ROOT),
+                            settings.workers(),
+                            settings.model() == Model.OPEN ? ", %.1f/s offered".formatted(settings.rate()) : "",
+                            settings.duration(),
+                            getIterations(),
+                            getThroughput(),
+                            getErrorRate() * 100));
+            report.append("%-12s %8s %8s".formatted("phase", "count", "errors"));
+            for (double percentile : PERCENTILES) {
+                report.append(" %9s".formatted("p" + format(percentile)));
+            }
+            report.append(" %9s%n".formatted("max"));
+            synchronized (stats.phases) {
+                for (Map.Entry<String, PhaseStats> entry : stats.phases.entrySet()) {
+                    PhaseStats phase = entry.getValue();
+                    LatencyHistogram histogram = phase.histogram;
+                    report.append("%-12s %8d %7.2f%%"
+                            .formatted(entry.getKey(), phase.count, phase.errorCount * 100.0 / phase.count));
+                    for (double percentile : PERCENTILES) {
+                        report.append(" %9.1f".formatted(histogram.getValueAtPercentile(percentile) / 1000.0));
+                    }
+                    report.append(" %9.1f%n".formatted(histogram.getMax() / 1000.0));
+                }
+                for (Map.Entry<String, PhaseStats> entry : stats.phases.entrySet()) {
+                    for (Map.Entry<String, Long> error : entry.getValue().errors.entrySet()) {
+                        report.append("%s: %d x %s%n".formatted(entry.getKey(), error.getValue(), error.getKey()));
+                    }
+                }
+            }
+            return report.toString();
+        }
+
+        private static String format(double percentile) {
+            return percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+        }
+    }
+
+    private LoadGenerator() {}
+
+    /** Runs the iteration as the settings say and returns once all started iterations have ended. */
+    public static Report run(Settings settings, Iteration iteration) throws InterruptedException {
+        Stats stats = new Stats();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(settings.duration());
+        if (settings.model() == Model.OPEN) {
+            runOpen(settings, iteration, stats, start, end);
+        } else {
+            runClosed(settings, iteration, stats, end);
+        }
+        return new Report(settings, stats, System.nanoTime() - start);
+    }
+
+    private static void runClosed(Settings settings, Iteration iteration, Stats stats, long end)
+            throws InterruptedException {
+        ExecutorService workers = Executors.newFixedThreadPool(settings.workers());
+        CountDownLatch done = new CountDownLatch(settings.workers());
+        for (int i = 0; i < settings.workers(); i++) {
+            workers.execute(() -> {
+                try {
+                    while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                        runIteration(iteration, stats, System.nanoTime());
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        try {
+            done.await();
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static void runOpen(Settings settings, Iteration iteration, Stats stats, long start, long end)
+            throws InterruptedException {
+        ThreadPoolExecutor workers = new ThreadPoolExecutor(
+                settings.workers(),
+                settings.workers(),
+                0,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(settings.workers() * QUEUED_PER_WORKER));
+        double interval = 1e9 / settings.rate();
+        try {
+            for (long i = 0; ; i++) {
+                long due = start + (long) (i * interval);
+                if (due >= end) {
+                    break;
+                }
+                for (long wait; (wait = due - System.nanoTime()) > 0; ) {
+                    LockSupport.parkNanos(wait);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException();
+                    }
+                }
+                try {
+                    workers.execute(() -> runIteration(iteration, stats, due));
+                } catch (RejectedExecutionException e) {
+                    stats.reject();
+                }
+            }
+            workers.shutdown();
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static void runIteration(Iteration iteration, Stats stats, long due) {
+        Phases phases = new Phases(stats);
+        String error = null;
+        try {
+            iteration.run(phases);
+        } catch (Throwable e) {
+            // Failed assertions included: they fail the iteration, not the worker running it
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        stats.end(due, phases.failed, error);
+    }
+}
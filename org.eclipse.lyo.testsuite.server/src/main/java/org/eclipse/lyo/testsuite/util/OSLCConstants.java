@@ -82,6 +82,7 @@ public interface OSLCConstants {
     public static final String USAGE_PROP = OSLC_V2 + "usage";
     public static final String USAGE_DEFAULT_URI = OSLC_V2 + "default";
     public static final String TOTAL_COUNT_PROP = OSLC_V2 + "totalCount";
+    public static final String NEXT_PAGE_PROP = OSLC_V2 + "nextPage";
     public static final String RESOURCE_TYPE_PROP = OSLC_V2 + "resourceType";
     public static final String RESOURCE_SHAPE_PROP = OSLC_V2 + "resourceShape";
     public static final String LABEL_PROP = OSLC_V2 + "label";
@@ -14,10 +14,14 @@
 package org.eclipse.lyo.testsuite.util;
 
 import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
@@ -25,28 +29,35 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLEncoder;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Scanner;
+import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 import net.oauth.OAuthAccessor;
 import net.oauth.OAuthConsumer;
 import net.oauth.OAuthMessage;
 import net.oauth.OAuthServiceProvider;
 import org.apache.log4j.Logger;
+import org.apache.wink.json4j.JSON;
+import org.apache.wink.json4j.JSONArtifact;
+import org.apache.wink.json4j.JSONException;
 import org.eclipse.lyo.client.OslcClient;
 import org.eclipse.lyo.client.OslcClientFactory;
+import org.eclipse.lyo.testsuite.common.CapturingInputStream;
 import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+import org.glassfish.jersey.client.ClientProperties;
+import org.glassfish.jersey.client.RequestEntityProcessing;
 import org.glassfish.jersey.client.authentication.HttpAuthenticationFeature;
 import org.junit.Assert;
 import org.w3c.dom.Document;
@@ -60,10 +71,26 @@ public class OSLCUtils {
     private static final String JAZZ_AUTH_MESSAGE_HEADER = "X-com-ibm-team-repository-web-auth-msg";
     private static final String JAZZ_AUTH_FAILED = "authfailed";
 
-    private static OslcClient getOslcClient(TestsBase.UserCredentials creds) {
+    // XPath objects and compiled expressions are not thread-safe, so each thread keeps its own. The expression cache
+    // is bounded because some callers build expressions from indexes or values.
+    private static final int XPATH_CACHE_SIZE = 256;
+    private static final ThreadLocal<XPath> xpaths = ThreadLocal.withInitial(() -> {
+        XPath xpath = XPathFactory.newInstance().newXPath();
+        xpath.setNamespaceContext(new OSLCNamespaceContext());
+        return xpath;
+    });
+    private static final ThreadLocal<Map<String, XPathExpression>> xpathExpressions =
+            ThreadLocal.withInitial(() -> new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+                    return size() > XPATH_CACHE_SIZE;
+                }
+            });
+
+    private static synchronized OslcClient getOslcClient(TestsBase.UserCredentials creds) {
         if (oslcClient == null) {
-            // Create a new ClientBuilder
-            ClientBuilder clientBuilder = ClientBuilder.newBuilder();
+            // Create a new ClientBuilder on the shared connection pool
+            ClientBuilder clientBuilder = HttpTransport.newClientBuilder();
 
             if (creds instanceof TestsBase.Oauth1UserCredentials oauth1UserCredentials) {
                 var builder = OslcClientFactory.oslcOAuthClientBuilder();
@@ -89,12 +116,7 @@ public class OSLCUtils {
     public static Document createXMLDocFromResponseBody(String respBody)
             throws ParserConfigurationException, IOException, SAXException {
         // Create XML Doc out of response
-        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-        dbf.setNamespaceAware(true);
-        dbf.setValidating(false);
-        // Don't load external DTD
-        dbf.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-        DocumentBuilder db = dbf.newDocumentBuilder();
+        DocumentBuilder db = XmlParsers.getDocumentBuilder();
         InputSource is = new InputSource();
         is.setCharacterStream(new StringReader(respBody));
         try {
@@ -105,10 +127,66 @@ public class OSLCUtils {
         }
     }
 
+    /**
+     * Parses the response entity as XML while it is being received, then closes the response. Unlike
+     * {@link #createXMLDocFromResponseBody(String)} the body is never held as a String; only its beginning and the last
+     * bytes read are kept to report parse errors.
+     */
+    public static Document createXMLDocFromResponse(Response response)
+            throws ParserConfigurationException, IOException, SAXException {
+        HttpMetrics.ParseTimer timer = HttpMetrics.startParse();
+        try (InputStream is = response.readEntity(InputStream.class)) {
+            return createXMLDocFromStream(is);
+        } finally {
+            response.close();
+            timer.stop();
+        }
+    }
+
+    /** Parses XML from the stream, which is left open. The encoding is detected from the document. */
+    public static Document createXMLDocFromStream(InputStream body)
+            throws ParserConfigurationException, IOException, SAXException {
+        return createXMLDocFromStream(body, null);
+    }
+
+    /**
+     * Parses XML from the stream, which is left open.
+     *
+     * @param encoding the charset given by the Content-Type header, or <code>null</code> to detect it
+     */
+    public static Document createXMLDocFromStream(InputStream body, String encoding)
+            throws ParserConfigurationException, IOException, SAXException {
+        DocumentBuilder db = XmlParsers.getDocumentBuilder();
+        CapturingInputStream capture = new CapturingInputStream(body);
+        InputSource is = new InputSource(capture);
+        is.setEncoding(encoding);
+        try {
+            return db.parse(is);
+        } catch (SAXException e) {
+            logger.error("Exception parsing XML response body:%n%s%n".formatted(capture.getCaptured()), e);
+            throw e;
+        }
+    }
+
+    /** Parses the response entity as JSON while it is being received, then closes the response. */
+    public static JSONArtifact parseJsonFromResponse(Response response) throws IOException, JSONException {
+        HttpMetrics.ParseTimer timer = HttpMetrics.startParse();
+        try (InputStream is = response.readEntity(InputStream.class)) {
+            CapturingInputStream capture = new CapturingInputStream(is);
+            try {
+                return JSON.parse(capture);
+            } catch (JSONException e) {
+                logger.error("Exception parsing JSON response body:%n%s%n".formatted(capture.getCaptured()), e);
+                throw e;
+            }
+        } finally {
+            response.close();
+            timer.stop();
+        }
+    }
+
     public static String createStringFromXMLDoc(Document document) throws TransformerException {
-        TransformerFactory tf = TransformerFactory.newInstance();
-        Transformer transformer = tf.newTransformer();
-        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+        Transformer transformer = XmlParsers.getTransformer();
         StringWriter writer = new StringWriter();
         transformer.transform(new DOMSource(document), new StreamResult(writer));
         return writer.getBuffer().toString();
@@ -286,6 +364,44 @@ public class OSLCUtils {
         return response;
     }
 
+    /**
+     * Posts whatever <code>content</code> writes with chunked transfer encoding, so that the body is never held in
+     * memory whatever its size. Unlike {@link #postDataToUrl(String, TestsBase.UserCredentials, String, String,
+     * String, Map)}, the extra <code>headers</code> are sent with the request.
+     */
+    public static Response postStreamToUrl(
+            String url,
+            TestsBase.UserCredentials creds,
+            String acceptTypes,
+            String contentType,
+            StreamingOutput content,
+            Map<String, String> headers)
+            throws IOException {
+        OslcClient client = getOslcClient(creds);
+
+        // Prepare request headers
+        Map<String, String> requestHeaders = new HashMap<>();
+        if (headers != null) {
+            requestHeaders.putAll(headers);
+        }
+        if (acceptTypes != null && !acceptTypes.isEmpty()) {
+            requestHeaders.put("Accept", acceptTypes);
+        }
+
+        // Handle OAuth signing if needed
+        if (creds instanceof TestsBase.Oauth1UserCredentials oAuthCredentials) {
+            oAuthSignLyo(client, url, "POST", oAuthCredentials, requestHeaders);
+        }
+
+        // Execute the request
+        Invocation.Builder request = client.getClient()
+                .target(url)
+                .request()
+                .property(ClientProperties.REQUEST_ENTITY_PROCESSING, RequestEntityProcessing.CHUNKED);
+        requestHeaders.forEach(request::header);
+        return request.post(Entity.entity(content, contentType));
+    }
+
     public static Response deleteFromUrl(String url, TestsBase.UserCredentials creds, String acceptTypes)
             throws IOException {
         OslcClient client = getOslcClient(creds);
@@ -380,11 +496,37 @@ public class OSLCUtils {
         return response;
     }
 
+    /**
+     * Returns the calling thread's XPath with the OSLC namespace prefixes. XPath objects are not thread-safe, so do not
+     * hand it to other threads.
+     */
     public static XPath getXPath() {
-        XPathFactory factory = XPathFactory.newInstance();
-        XPath xpath = factory.newXPath();
-        xpath.setNamespaceContext(new OSLCNamespaceContext());
-        return xpath;
+        return xpaths.get();
+    }
+
+    /**
+     * Compiles the expression with the calling thread's XPath, reusing an earlier compilation of the same expression
+     * string by this thread.
+     */
+    public static XPathExpression compileXPath(String expression) throws XPathExpressionException {
+        Map<String, XPathExpression> cache = xpathExpressions.get();
+        XPathExpression compiled = cache.get(expression);
+        if (compiled == null) {
+            compiled = getXPath().compile(expression);
+            cache.put(expression, compiled);
+        }
+        return compiled;
+    }
+
+    /** Same as <code>getXPath().evaluate(expression, item, returnType)</code>, with a cached compilation. */
+    public static Object evaluateXPath(String expression, Object item, QName returnType)
+            throws XPathExpressionException {
+        return compileXPath(expression).evaluate(item, returnType);
+    }
+
+    /** Same as <code>getXPath().evaluate(expression, item)</code>, with a cached compilation. */
+    public static String evaluateXPath(String expression, Object item) throws XPathExpressionException {
+        return compileXPath(expression).evaluate(item);
     }
 
     public static void setupLazySSLSupport() {
@@ -591,6 +733,8 @@ public class OSLCUtils {
             return getResponseFromUrl(base, url, userPassword, contentType, headers);
         } else if (creds instanceof TestsBase.Oauth1UserCredentials oAuthCredentials) {
             return getResponseFromUrl(base, url, oAuthCredentials, contentType, headers);
+        } else if (creds == null || creds instanceof TestsBase.NoCredentials) {
+            return getResponseFromUrl(base, url, (TestsBase.UserPassword) null, contentType, headers);
         } else {
             throw new IllegalArgumentException(
                     "Unknown credentials type: " + creds.getClass().getName());
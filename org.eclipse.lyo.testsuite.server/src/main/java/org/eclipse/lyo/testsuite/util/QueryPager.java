@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.shared.JenaException;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.apache.log4j.Logger;
+import org.eclipse.lyo.testsuite.common.CapturingInputStream;
+import org.eclipse.lyo.testsuite.common.LatencyHistogram;
+import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+
+/**
+ * Iterates over the pages of an RDF/XML query result by following the <code>oslc:nextPage</code> of each page's
+ * <code>oslc:ResponseInfo</code>.
+ *
+ * <p>Pages are fetched and parsed by a background thread, which keeps up to <code>queryPagingPrefetch</code> pages
+ * ready for the consumer, so the next page is on its way while the members of the current one are checked. Only those
+ * pages are held in memory, so result sets of any size can be read. Fetching stops after
+ * <code>queryPagingMaxPages</code> pages. The latency and size of each page are kept for {@link #format()}.
+ */
+public class QueryPager implements Iterator<QueryPager.Page>, AutoCloseable {
+    private static Logger logger = Logger.getLogger(QueryPager.class);
+
+    public static final int DEFAULT_PREFETCH = 2;
+    public static final int DEFAULT_MAX_PAGES = 10;
+
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    /**
+     * @param maxPages the pages to read at most, 0 for no limit
+     * @param prefetch the parsed pages kept ready for the consumer, at least 1
+     */
+    public record Settings(int maxPages, int prefetch) {
+        /** Reads <code>queryPagingMaxPages</code> and <code>queryPagingPrefetch</code>. */
+        public static Settings from(Properties setupProps) {
+            return new Settings(
+                    Integer.parseInt(setupProps
+                            .getProperty("queryPagingMaxPages", String.valueOf(DEFAULT_MAX_PAGES))
+                            .trim()),
+                    Integer.parseInt(setupProps
+                            .getProperty("queryPagingPrefetch", String.valueOf(DEFAULT_PREFETCH))
+                            .trim()));
+        }
+    }
+
+    /**
+     * One page of results, to be dropped once consumed.
+     *
+     * @param number the position of the page, from 1
+     * @param nextPage the <code>oslc:nextPage</code> of the page, or <code>null</code> on the last page
+     * @param totalCount the <code>oslc:totalCount</code> of the page, or <code>null</code> if it has none
+     */
+    public record Page(int number, String url, Model model, List<Resource> members, String nextPage, Long totalCount) {}
+
+    /**
+     * The latency and size of a page.
+     *
+     * @param nanos from sending the request until the page was parsed
+     */
+    public record PageStats(int number, String url, int members, long bytes, long nanos) {}
+
+    // A fetched page, or why fetching stopped; neither at the end of the result
+    private record Fetched(Page page, Throwable error) {}
+
+    private static final Fetched END = new Fetched(null, null);
+
+    private final String baseUrl;
+    private final TestsBase.UserCredentials creds;
+    private final Map<String, String> headers;
+    private final Settings settings;
+    private final BlockingQueue<Fetched> queue;
+    private final Thread fetcher;
+    private final List<PageStats> stats = new ArrayList<>();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final long start = System.nanoTime();
+
+    private volatile boolean truncated;
+    private volatile boolean closed;
+    private Fetched next;
+    private long end;
+
+    /**
+     * Starts fetching pages from <code>url</code>, the first page of a query.
+     *
+     * @param baseUrl the URL relative page URLs are resolved against
+     */
+    public QueryPager(
+            String baseUrl,
+            String url,
+            TestsBase.UserCredentials creds,
+            Map<String, String> headers,
+            Settings settings) {
+        this.baseUrl = baseUrl;
+        this.creds = creds;
+        this.headers = headers;
+        this.settings = settings;
+        queue = new ArrayBlockingQueue<>(Math.max(1, settings.prefetch()));
+        fetcher = new Thread(() -> fetchAll(url), "query-pager");
+        fetcher.setDaemon(true);
+        fetcher.start();
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = queue.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a query page", e);
+            }
+            if (next == END) {
+                end = System.nanoTime();
+            }
+        }
+        return next != END;
+    }
+
+    /**
+     * @return the next page
+     * @throws IllegalStateException wrapping what stopped fetching, such as an unexpected status or an error
+     */
+    @Override
+    public Page next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Fetched fetched = next;
+        if (fetched.error() != null) {
+            // Keep failing, the next page is unknown
+            throw new IllegalStateException(fetched.error().getMessage(), fetched.error());
+        }
+        next = null;
+        return fetched.page();
+    }
+
+    /** Reads all pages and passes each of their members to <code>consumer</code>, on the calling thread. */
+    public void forEachMember(Consumer<Resource> consumer) {
+        while (hasNext()) {
+            next().members().forEach(consumer);
+        }
+    }
+
+    /** @return whether fetching stopped at <code>queryPagingMaxPages</code> although there were more pages */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /** @return the latency and size of the pages fetched so far */
+    public List<PageStats> getPageStats() {
+        synchronized (stats) {
+            return List.copyOf(stats);
+        }
+    }
+
+    /** @return the number of members of the pages fetched so far */
+    public long getMembers() {
+        return getPageStats().stream().mapToLong(PageStats::members).sum();
+    }
+
+    /** @return the number of members fetched per second, from the start until all pages were consumed or now */
+    public double getThroughput() {
+        long elapsed = (end != 0 ? end : System.nanoTime()) - start;
+        return getMembers() / (elapsed / 1e9);
+    }
+
+    /** @return a summary of the pages fetched, their latency percentiles and the throughput, in one line */
+    public String format() {
+        List<PageStats> pages = getPageStats();
+        long bytes = pages.stream().mapToLong(PageStats::bytes).sum();
+        long elapsed = (end != 0 ? end : System.nanoTime()) - start;
+        StringBuilder summary = new StringBuilder();
+        summary.append("%d page(s)%s, %d members, %.1f KB in %.2f s: %.1f members/s, %.2f MB/s"
+                .formatted(
+                        pages.size(),
+                        truncated ? " (stopped at the limit)" : "",
+                        getMembers(),
+                        bytes / 1024.0,
+                        elapsed / 1e9,
+                        getThroughput(),
+                        bytes / (1024.0 * 1024.0) / (elapsed / 1e9)));
+        synchronized (stats) {
+            summary.append(", page latency");
+            for (double percentile : PERCENTILES) {
+                double millis = latency.getValueAtPercentile(percentile) / 1000.0;
+                summary.append(" p%d %.1f".formatted((int) percentile, millis));
+            }
+            summary.append(" max %.1f ms".formatted(latency.getMax() / 1000.0));
+        }
+        return summary.toString();
+    }
+
+    /** Stops fetching pages. Pages already fetched are dropped. */
+    @Override
+    public void close() {
+        closed = true;
+        fetcher.interrupt();
+        queue.clear();
+    }
+
+    private void fetchAll(String url) {
+        Set<String> visited = new HashSet<>();
+        try {
+            for (int number = 1; url != null && !closed; number++) {
+                if (!visited.add(url)) {
+                    throw new IOException("Paging loops back to <%s>".formatted(url));
+                }
+                Page page = fetch(number, url);
+                url = page.nextPage();
+                if (url != null && settings.maxPages() > 0 && number >= settings.maxPages()) {
+                    truncated = true;
+                    url = null;
+                }
+                queue.put(new Fetched(page, null));
+            }
+            queue.put(END);
+        } catch (InterruptedException e) {
+            // Closed
+        } catch (Throwable e) {
+            // Errors too, or the consumer would wait for a page that never comes
+            if (!closed) {
+                queue.clear();
+                queue.offer(new Fetched(null, e));
+            }
+        }
+    }
+
+    private Page fetch(int number, String url) throws IOException {
+        long pageStart = System.nanoTime();
+        Response response = OSLCUtils.getResponseFromUrl(baseUrl, url, creds, OSLCConstants.CT_RDF, headers);
+        Model model = ModelFactory.createDefaultModel();
+        long bytes;
+        try {
+            if (response.getStatus() != Response.Status.OK.getStatusCode()) {
+                throw new IOException("Response code: %d for %s".formatted(response.getStatus(), url));
+            }
+            HttpMetrics.ParseTimer timer = HttpMetrics.startParse();
+            try (InputStream is = response.readEntity(InputStream.class)) {
+                CapturingInputStream capture = new CapturingInputStream(is);
+                try {
+                    model.read(capture, OSLCUtils.absoluteUrlFromRelative(baseUrl, url), OSLCConstants.JENA_RDF_XML);
+                } catch (JenaException e) {
+                    logger.error("Exception parsing query page <%s>:%n%s%n".formatted(url, capture.getCaptured()), e);
+                    throw e;
+                }
+                bytes = capture.getCount();
+            } finally {
+                timer.stop();
+            }
+        } finally {
+            response.close();
+        }
+        long nanos = System.nanoTime() - pageStart;
+
+        List<Resource> members = new ArrayList<>();
+        for (RDFNode member : model.listObjectsOfProperty(RDFS.member).toList()) {
+            if (member.isResource()) {
+                members.add(member.asResource());
+            }
+        }
+        String nextPage = null;
+        Long totalCount = null;
+        Resource responseInfoType = model.createResource(OSLCConstants.RESP_INFO_TYPE);
+        for (Resource responseInfo : model.listSubjectsWithProperty(RDF.type, responseInfoType).toList()) {
+            Statement next = responseInfo.getProperty(model.createProperty(OSLCConstants.NEXT_PAGE_PROP));
+            if (next != null && next.getObject().isURIResource()) {
+                nextPage = next.getResource().getURI();
+            }
+            Statement count = responseInfo.getProperty(model.createProperty(OSLCConstants.TOTAL_COUNT_PROP));
+            if (count != null && count.getObject().isLiteral()) {
+                totalCount = count.getLong();
+            }
+        }
+
+        synchronized (stats) {
+            stats.add(new PageStats(number, url, members.size(), bytes, nanos));
+            latency.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Query page %d <%s>: %d members, %d bytes, %.1f ms"
+                    .formatted(number, url, members.size(), bytes, nanos / 1e6));
+        }
+        return new Page(number, url, model, members, nextPage, totalCount);
+    }
+}
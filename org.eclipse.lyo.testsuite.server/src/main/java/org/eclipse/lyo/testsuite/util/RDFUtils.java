@@ -13,15 +13,58 @@
  */
 package org.eclipse.lyo.testsuite.util;
 
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.jena.datatypes.RDFDatatype;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.InfModel;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.reasoner.ValidityReport;
+import org.apache.jena.util.iterator.ExtendedIterator;
 import org.junit.Assert;
 
 public class RDFUtils {
+    /** How much checking {@link #validateModel(Model)} does. */
+    public enum ValidationMode {
+        /** No validation at all. */
+        OFF,
+        /** Only check that typed literals are well-formed for their datatype; no inference. */
+        STRUCTURAL,
+        /** Validate with a full RDFS inference model. */
+        FULL
+    }
+
+    /** The validation mode, how the document was parsed, and the length and digest of its bytes. */
+    private record DocumentKey(ValidationMode mode, String base, String lang, int length, long high, long low) {}
+
+    private static volatile ValidationMode validationMode = ValidationMode.FULL;
+    private static final Map<DocumentKey, Optional<String>> validationResults = new ConcurrentHashMap<>();
+
+    /** Reads <code>rdfValidation</code>: <code>off</code>, <code>structural</code> or <code>full</code> (default). */
+    public static void configure(Properties setupProps) {
+        String mode = setupProps.getProperty("rdfValidation");
+        if (mode != null && !mode.isBlank()) {
+            validationMode = ValidationMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    public static ValidationMode getValidationMode() {
+        return validationMode;
+    }
+
+    public static void setValidationMode(ValidationMode mode) {
+        validationMode = mode;
+    }
 
     public static void printModel(Model rdfModel) {
         StmtIterator listProperties = rdfModel.listStatements();
@@ -31,8 +74,53 @@ public class RDFUtils {
         }
     }
 
+    /**
+     * Validates the model according to the configured {@link ValidationMode}, failing the calling test if it is not
+     * valid.
+     */
     public static void validateModel(Model model) {
+        ValidationMode mode = validationMode;
+        if (mode == ValidationMode.OFF) {
+            return;
+        }
+        report(mode, model).ifPresent(Assert::fail);
+    }
+
+    /**
+     * Validates a model parsed from a document, like {@link #validateModel(Model)}. The outcome is remembered by the
+     * bytes of the document, so identical documents are validated once per run.
+     *
+     * @param model the model parsed from the document
+     * @param document the bytes the model was parsed from
+     * @param base the base URI the document was parsed with
+     * @param lang the Jena language name the document was parsed as
+     */
+    public static void validateModel(Model model, byte[] document, String base, String lang) {
+        ValidationMode mode = validationMode;
+        if (mode == ValidationMode.OFF) {
+            return;
+        }
 
+        DocumentKey key = documentKey(mode, document, base, lang);
+        Optional<String> problems = validationResults.get(key);
+        if (problems == null) {
+            problems = report(mode, model);
+            validationResults.putIfAbsent(key, problems);
+        }
+        problems.ifPresent(Assert::fail);
+    }
+
+    /** Forgets all remembered validation outcomes. */
+    public static void clearValidationCache() {
+        validationResults.clear();
+    }
+
+    private static Optional<String> report(ValidationMode mode, Model model) {
+        return Optional.ofNullable(mode == ValidationMode.FULL ? validateRdfs(model) : validateLiterals(model));
+    }
+
+    /** @return the problems found by RDFS inference, or <code>null</code> if the model is valid */
+    private static String validateRdfs(Model model) {
         InfModel infmodel = ModelFactory.createRDFSModel(model);
         ValidityReport validityReport = infmodel.validate();
 
@@ -49,7 +137,52 @@ public class RDFUtils {
                 errorMessage.append(reports.next().toString());
             }
 
-            Assert.fail(errorMessage.toString());
+            return errorMessage.toString();
+        }
+        return null;
+    }
+
+    /**
+     * Checks in a single pass over the statements that every typed literal has a lexical form valid for its datatype,
+     * without any inference.
+     *
+     * @return the ill-formed literals, or <code>null</code> if there are none
+     */
+    private static String validateLiterals(Model model) {
+        StringBuilder errorMessage = null;
+        ExtendedIterator<Triple> triples = model.getGraph().find();
+        try {
+            while (triples.hasNext()) {
+                Triple triple = triples.next();
+                Node object = triple.getObject();
+                if (!object.isLiteral()) {
+                    continue;
+                }
+                RDFDatatype datatype = object.getLiteralDatatype();
+                if (datatype != null && !datatype.isValid(object.getLiteralLexicalForm())) {
+                    if (errorMessage == null) {
+                        errorMessage = new StringBuilder("Invalid model:"); // $NON-NLS-1$
+                    }
+                    errorMessage.append('\n');
+                    errorMessage.append("Ill-formed literal %s for property <%s> of %s"
+                            .formatted(object, triple.getPredicate().getURI(), triple.getSubject()));
+                }
+            }
+        } finally {
+            triples.close();
+        }
+        return errorMessage == null ? null : errorMessage.toString();
+    }
+
+    /** Hashing the bytes costs a fraction of parsing them, let alone validating the model. */
+    private static DocumentKey documentKey(ValidationMode mode, byte[] document, String base, String lang) {
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
+        ByteBuffer digest = ByteBuffer.wrap(sha256.digest(document));
+        return new DocumentKey(mode, base, lang, document.length, digest.getLong(), digest.getLong());
     }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import org.apache.log4j.Logger;
+import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+
+/**
+ * Run-scoped cache of GET responses.
+ *
+ * <p>JUnit's <code>Parameterized</code> runner creates a new test instance for every test method, and the constructors
+ * of the resource tests fetch, parse and validate the resource under test. With the cache, the document is downloaded
+ * once per (URL, Accept, credentials, request headers) and every further instance reads the stored
+ * {@link CachedResponse}.
+ *
+ * <p>Concurrent requests for the same key wait for a single fetch. Failed fetches are not cached. Set
+ * <code>cacheResponses=false</code> in setup.properties to fetch every time.
+ */
+public class ResourceCache {
+    private static Logger logger = Logger.getLogger(ResourceCache.class);
+
+    private static final ConcurrentMap<Key, CompletableFuture<CachedResponse>> cache = new ConcurrentHashMap<>();
+    private static volatile boolean enabled = true;
+
+    private record Key(String url, String acceptTypes, TestsBase.UserCredentials creds, Map<String, String> headers) {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        ResourceCache.enabled = enabled;
+        if (!enabled) {
+            clear();
+        }
+    }
+
+    /** Drops all cached responses. */
+    public static void clear() {
+        cache.clear();
+    }
+
+    public static int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the cached GET response for the URL, fetching it with
+     * {@link OSLCUtils#getResponseFromUrl(String, String, TestsBase.UserCredentials, String, Map)} on first use.
+     */
+    public static CachedResponse get(
+            String baseUrl,
+            String url,
+            TestsBase.UserCredentials creds,
+            String acceptTypes,
+            Map<String, String> headers)
+            throws IOException {
+        String absoluteUrl = OSLCUtils.absoluteUrlFromRelative(baseUrl, url);
+        if (!enabled) {
+            return fetch(absoluteUrl, creds, acceptTypes, headers);
+        }
+
+        Key key = new Key(absoluteUrl, acceptTypes, creds, headers == null ? Map.of() : Map.copyOf(headers));
+        CompletableFuture<CachedResponse> future = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> existing = cache.putIfAbsent(key, future);
+        if (existing == null) {
+            try {
+                future.complete(fetch(absoluteUrl, creds, acceptTypes, headers));
+            } catch (IOException | RuntimeException | Error e) {
+                cache.remove(key, future);
+                future.completeExceptionally(e);
+                throw e;
+            }
+            return future.join();
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Using cached response for <%s>".formatted(absoluteUrl));
+        }
+        try {
+            return existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for <%s>".formatted(absoluteUrl), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            } else if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static CachedResponse fetch(
+            String url, TestsBase.UserCredentials creds, String acceptTypes, Map<String, String> headers)
+            throws IOException {
+        return CachedResponse.fromResponse(OSLCUtils.getResponseFromUrl(url, url, creds, acceptTypes, headers));
+    }
+}
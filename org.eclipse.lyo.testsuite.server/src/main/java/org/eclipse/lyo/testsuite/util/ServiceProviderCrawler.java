@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.log4j.Logger;
+import org.apache.wink.json4j.JSON;
+import org.apache.wink.json4j.JSONArray;
+import org.apache.wink.json4j.JSONArtifact;
+import org.apache.wink.json4j.JSONException;
+import org.apache.wink.json4j.JSONObject;
+import org.eclipse.lyo.testsuite.oslcv2.TestsBase;
+import org.w3c.dom.Document;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+/**
+ * Discovers the service providers reachable from a service provider catalog, following nested catalogs.
+ *
+ * <p>Catalogs are fetched concurrently by a pool of <code>discoveryThreads</code> platform threads that lives as long
+ * as the crawler, so their per-thread parsers and XPath expressions are reused, and at most
+ * <code>discoveryThreadsPerHost</code> of them fetch from the same host. Every catalog
+ * URL is fetched at most once per crawl, so shared and cyclic catalogs are harmless. Results are kept for the rest of
+ * the run: all <code>@Parameters</code> methods asking for the same catalog in the same format share one crawl.
+ *
+ * <p>The order of the returned providers does not depend on fetch timing: a catalog's own providers come first,
+ * followed by those of its nested catalogs in document order.
+ */
+public class ServiceProviderCrawler {
+    private static Logger logger = Logger.getLogger(ServiceProviderCrawler.class);
+
+    public static final int DEFAULT_MAX_CONCURRENCY = 8;
+    public static final int DEFAULT_MAX_CONCURRENCY_PER_HOST = 4;
+
+    /** The representation used to read catalogs. */
+    public enum Format {
+        XML(OSLCConstants.CT_XML),
+        RDF_XML(OSLCConstants.CT_RDF),
+        JSON(OSLCConstants.CT_JSON);
+
+        private final String contentType;
+
+        Format(String contentType) {
+            this.contentType = contentType;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+    }
+
+    /** The service providers and nested catalogs listed by one catalog document. */
+    private record Page(List<String> providers, List<String> catalogs) {}
+
+    private record Node(List<String> providers, List<Node> children) {
+        static final Node EMPTY = new Node(List.of(), List.of());
+    }
+
+    private record Key(String url, Format format, boolean firstOnly) {}
+
+    // Inlined providers using oslc:ServiceProvider/@rdf:about, then referenced ones using
+    // oslc:serviceProvider/@rdf:resource, then the same for nested catalogs
+    private static final List<String> XML_DISCOVERY_XPATHS = List.of(
+            "//oslc_v2:ServiceProvider/@rdf:about",
+            "//oslc_v2:serviceProvider/@rdf:resource",
+            "//oslc_v2:ServiceProviderCatalog/@rdf:about",
+            "//oslc_v2:serviceProviderCatalog/@rdf:resource");
+    private static final List<XmlParsers.AttributePath> XML_DISCOVERY_PATHS = XML_DISCOVERY_XPATHS.stream()
+            .map(XmlParsers.AttributePath::fromXPath)
+            .toList();
+
+    private final TestsBase.UserCredentials creds;
+    private final Map<String, String> headers;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final int maxConcurrencyPerHost;
+    private final ConcurrentMap<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key, CompletableFuture<List<String>>> results = new ConcurrentHashMap<>();
+
+    public ServiceProviderCrawler(
+            TestsBase.UserCredentials creds,
+            Map<String, String> headers,
+            int maxConcurrency,
+            int maxConcurrencyPerHost) {
+        if (maxConcurrency < 1 || maxConcurrencyPerHost < 1) {
+            throw new IllegalArgumentException("Concurrency limits must be at least 1");
+        }
+        this.creds = creds;
+        this.headers = headers == null ? Map.of() : Map.copyOf(headers);
+        this.permits = new Semaphore(maxConcurrency);
+        this.maxConcurrencyPerHost = maxConcurrencyPerHost;
+        this.executor = newDiscoveryPool(maxConcurrency);
+    }
+
+    /** A fixed pool of daemon threads, kept for the run so that thread-local parsers are reused between tasks. */
+    static ExecutorService newDiscoveryPool(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "discovery-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Returns all service providers reachable from the catalog, crawling it on first use.
+     *
+     * @param catalogUrl absolute URL of the service provider catalog
+     * @param format the representation to request
+     * @return the provider URLs, without duplicates
+     */
+    public List<String> discover(String catalogUrl, Format format) throws IOException {
+        return getOrCompute(new Key(catalogUrl, format, false));
+    }
+
+    /**
+     * Returns the first service provider of the catalog, descending into nested catalogs one at a time only as far
+     * as needed to find it.
+     *
+     * @return a list with the first provider URL, or an empty list if there is none
+     */
+    public List<String> discoverFirst(String catalogUrl, Format format) throws IOException {
+        return getOrCompute(new Key(catalogUrl, format, true));
+    }
+
+    private List<String> getOrCompute(Key key) throws IOException {
+        CompletableFuture<List<String>> future = new CompletableFuture<>();
+        CompletableFuture<List<String>> existing = results.putIfAbsent(key, future);
+        if (existing == null) {
+            try {
+                List<String> providers =
+                        key.firstOnly() ? findFirst(key.url(), key.format()) : crawl(key.url(), key.format());
+                future.complete(providers);
+                return providers;
+            } catch (IOException | RuntimeException | Error e) {
+                results.remove(key, future);
+                future.completeExceptionally(e);
+                throw e;
+            }
+        }
+
+        try {
+            return existing.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while discovering service providers at <%s>".formatted(key.url()), e);
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private List<String> crawl(String root, Format format) throws IOException {
+        long start = System.nanoTime();
+        Set<String> claimed = ConcurrentHashMap.newKeySet();
+        Node tree;
+        try {
+            tree = visit(root, format, claimed).join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+
+        Set<String> providers = new LinkedHashSet<>();
+        flatten(tree, providers);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Discovered %d service providers in %d catalogs from <%s> in %d ms"
+                    .formatted(providers.size(), claimed.size(), root, (System.nanoTime() - start) / 1_000_000));
+        }
+        return Collections.unmodifiableList(new ArrayList<>(providers));
+    }
+
+    private CompletableFuture<Node> visit(String url, Format format, Set<String> claimed) {
+        if (!claimed.add(url)) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Skipping already visited catalog <%s>".formatted(url));
+            }
+            return CompletableFuture.completedFuture(Node.EMPTY);
+        }
+
+        return CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return fetchPage(url, format);
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        },
+                        executor)
+                .thenCompose(page -> {
+                    List<CompletableFuture<Node>> children = new ArrayList<>();
+                    for (String catalog : page.catalogs()) {
+                        children.add(visit(catalog, format, claimed));
+                    }
+                    return CompletableFuture.allOf(children.toArray(new CompletableFuture<?>[0]))
+                            .thenApply(done -> new Node(
+                                    page.providers(),
+                                    children.stream().map(CompletableFuture::join).toList()));
+                });
+    }
+
+    private static void flatten(Node node, Set<String> providers) {
+        providers.addAll(node.providers());
+        for (Node child : node.children()) {
+            flatten(child, providers);
+        }
+    }
+
+    private List<String> findFirst(String root, Format format) throws IOException {
+        return findFirst(root, format, new LinkedHashSet<>());
+    }
+
+    private List<String> findFirst(String url, Format format, Set<String> visited) throws IOException {
+        if (!visited.add(url)) {
+            return List.of();
+        }
+        Page page = fetchPage(url, format);
+        if (!page.providers().isEmpty()) {
+            return List.of(page.providers().getFirst());
+        }
+        for (String catalog : page.catalogs()) {
+            List<String> found = findFirst(catalog, format, visited);
+            if (!found.isEmpty()) {
+                return found;
+            }
+        }
+        return List.of();
+    }
+
+    private Page fetchPage(String url, Format format) throws IOException {
+        Semaphore hostLimit = hostPermits.computeIfAbsent(hostOf(url), host -> new Semaphore(maxConcurrencyPerHost));
+        try {
+            permits.acquire();
+            try {
+                hostLimit.acquire();
+                try {
+                    CachedResponse response = ResourceCache.get(url, url, creds, format.getContentType(), headers);
+                    checkStatus(url, response);
+                    return switch (format) {
+                        case XML -> parseXml(url, response);
+                        case RDF_XML -> parseRdfXml(url, response);
+                        case JSON -> parseJson(url, response);
+                    };
+                } finally {
+                    hostLimit.release();
+                }
+            } finally {
+                permits.release();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching <%s>".formatted(url), e);
+        }
+    }
+
+    private static void checkStatus(String url, CachedResponse response) throws IOException {
+        int statusCode = response.getStatus();
+        if (logger.isDebugEnabled()) {
+            logger.debug("Reading service catalog <%s>".formatted(url));
+            logger.debug("Response code: %d".formatted(statusCode));
+        }
+        if (statusCode >= 200 && statusCode < 300) {
+            return;
+        } else if (statusCode >= 400 && statusCode < 500) {
+            throw new ClientProtocolException("Did not successfully retrieve ServiceProviders at: %s (%d %s)"
+                    .formatted(url, statusCode, response.getReasonPhrase()));
+        } else if (statusCode >= 500) {
+            throw new IOException("Server error retrieving ServiceProviders at: %s (%d %s)"
+                    .formatted(url, statusCode, response.getReasonPhrase()));
+        }
+        throw new IOException("Unexpected HTTP status code %d for %s".formatted(statusCode, url));
+    }
+
+    private static Page parseXml(String url, CachedResponse response) throws IOException {
+        List<List<String>> values;
+        if (XmlParsers.getDiscoveryMode() == XmlParsers.Mode.STAX) {
+            values = response.getAttributeValues(XML_DISCOVERY_PATHS);
+        } else {
+            values = new ArrayList<>();
+            try {
+                Document doc = response.getDocument();
+                for (String xpath : XML_DISCOVERY_XPATHS) {
+                    NodeList nodes = (NodeList) OSLCUtils.evaluateXPath(xpath, doc, XPathConstants.NODESET);
+                    List<String> found = new ArrayList<>();
+                    for (int i = 0; i < nodes.getLength(); i++) {
+                        found.add(nodes.item(i).getNodeValue());
+                    }
+                    values.add(found);
+                }
+            } catch (ParserConfigurationException | SAXException | XPathExpressionException e) {
+                throw new IOException("Could not read service catalog <%s>".formatted(url), e);
+            }
+        }
+
+        List<String> providers = new ArrayList<>();
+        addProviders(url, values.get(0), providers);
+        addProviders(url, values.get(1), providers);
+
+        List<String> catalogs = new ArrayList<>();
+        addCatalogs(url, values.get(2), catalogs);
+        addCatalogs(url, values.get(3), catalogs);
+        return new Page(providers, catalogs);
+    }
+
+    private static void addProviders(String base, List<String> values, List<String> providers) {
+        for (String value : values) {
+            if (!value.equals(base) || values.size() == 1) {
+                providers.add(value);
+            }
+        }
+    }
+
+    private static void addCatalogs(String base, List<String> values, List<String> catalogs) {
+        for (String value : values) {
+            if (!value.equals(base)) {
+                catalogs.add(value);
+            }
+        }
+    }
+
+    private static Page parseRdfXml(String url, CachedResponse response) {
+        Model spModel = response.getValidatedModel(url, OSLCConstants.JENA_RDF_XML);
+        List<String> providers = new ArrayList<>();
+
+        // Get all the "inlined" definitions for Service Providers, namely
+        // all subjects whose rdf:type = oslc:ServiceProvider
+        Property rdfType = spModel.createProperty(OSLCConstants.RDF_TYPE_PROP);
+        Resource spTypeRes = spModel.getResource(OSLCConstants.SERVICE_PROVIDER_TYPE);
+        StmtIterator statements = spModel.listStatements(null, rdfType, spTypeRes);
+        while (statements.hasNext()) {
+            providers.add(statements.nextStatement().getSubject().getURI());
+        }
+
+        // Get all the "referenced" definitions for Service Providers, namely
+        // of form: <oslc:serviceProvider rdf:resource="url" />
+        Property spProp = spModel.createProperty(OSLCConstants.SERVICE_PROVIDER_PROP);
+        statements = spModel.listStatements(null, spProp, (RDFNode) null);
+        while (statements.hasNext()) {
+            providers.add(statements.nextStatement().getObject().toString());
+        }
+
+        List<String> catalogs = new ArrayList<>();
+        Property spcPredicate = spModel.createProperty(OSLCConstants.SERVICE_PROVIDER_CATALOG_PROP);
+        statements = spModel.listStatements(null, spcPredicate, (RDFNode) null);
+        while (statements.hasNext()) {
+            String catalog = statements.nextStatement().getObject().toString();
+            if (!catalog.equals(url)) {
+                catalogs.add(catalog);
+            }
+        }
+        return new Page(providers, catalogs);
+    }
+
+    private static Page parseJson(String url, CachedResponse response) throws IOException {
+        try {
+            JSONArtifact userData = JSON.parse(response.getBodyAsStream());
+            if (!(userData instanceof JSONObject resultJson)) {
+                throw new IOException("Expected a JSON object for service catalog <%s>".formatted(url));
+            }
+            return new Page(
+                    jsonUris(resultJson, "oslc:serviceProvider", null),
+                    jsonUris(resultJson, "oslc:serviceProviderCatalog", url));
+        } catch (JSONException e) {
+            throw new IOException("Could not read service catalog <%s>".formatted(url), e);
+        }
+    }
+
+    private static List<String> jsonUris(JSONObject json, String key, String exclude) throws JSONException {
+        List<String> uris = new ArrayList<>();
+        if (!(json.opt(key) instanceof JSONArray array)) {
+            return uris;
+        }
+        for (int i = 0; i < array.length(); i++) {
+            if (array.get(i) instanceof JSONObject entry) {
+                String uri = entry.has("rdf:about") ? entry.getString("rdf:about") : entry.optString("rdf:resource");
+                if (uri != null && !uri.isEmpty() && !uri.equals(exclude)) {
+                    uris.add(uri);
+                }
+            }
+        }
+        return uris;
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String authority = URI.create(url).getAuthority();
+            return authority == null ? "" : authority;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    private static IOException rethrow(Throwable cause) {
+        if (cause instanceof UncheckedIOException unchecked) {
+            return unchecked.getCause();
+        } else if (cause instanceof IOException ioException) {
+            return ioException;
+        } else if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        } else if (cause instanceof Error error) {
+            throw error;
+        }
+        return new IOException(cause);
+    }
+}
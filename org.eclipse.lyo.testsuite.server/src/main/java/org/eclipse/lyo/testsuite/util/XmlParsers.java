@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.xml.XMLConstants;
+import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
+import javax.xml.transform.TransformerFactory;
+import org.eclipse.lyo.testsuite.common.CapturingInputStream;
+
+/**
+ * Reusable XML parsers. Factory lookup and configuration are far more expensive than a parse of a small document, so
+ * each thread keeps one {@link DocumentBuilder} and one {@link Transformer} and resets them between uses.
+ *
+ * <p>Discovery documents can also be read with a streaming (StAX) parser when only a few attributes are needed; see
+ * {@link #extractAttributes(InputStream, String, List)}. Whether discovery does so is chosen with the
+ * <code>xmlDiscoveryParser</code> setup property.
+ */
+public class XmlParsers {
+    /** How discovery reads service provider catalogs and service provider documents in plain XML. */
+    public enum Mode {
+        /** Build a DOM document and evaluate XPath expressions on it. */
+        DOM,
+        /** Stream the document and pick the attributes out of simple XPath expressions, without building a DOM. */
+        STAX
+    }
+
+    private static final String LOAD_EXTERNAL_DTD = "http://apache.org/xml/features/nonvalidating/load-external-dtd";
+    private static final String IGNORE_EXTERNAL_DTD = "http://java.sun.com/xml/stream/properties/ignore-external-dtd";
+
+    private static volatile Mode discoveryMode = Mode.DOM;
+
+    private static final DocumentBuilderFactory documentBuilderFactory = newDocumentBuilderFactory();
+    private static final TransformerFactory transformerFactory = TransformerFactory.newInstance();
+    private static final XMLInputFactory inputFactory = newInputFactory();
+
+    private static final ThreadLocal<DocumentBuilder> documentBuilders = new ThreadLocal<>();
+    private static final ThreadLocal<Transformer> transformers = new ThreadLocal<>();
+
+    /** Reads <code>xmlDiscoveryParser</code> (<code>dom</code> or <code>stax</code>, default <code>dom</code>). */
+    public static void configure(Properties setupProps) {
+        String mode = setupProps.getProperty("xmlDiscoveryParser");
+        if (mode != null && !mode.isBlank()) {
+            discoveryMode = Mode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    public static Mode getDiscoveryMode() {
+        return discoveryMode;
+    }
+
+    public static void setDiscoveryMode(Mode mode) {
+        discoveryMode = mode;
+    }
+
+    /**
+     * Returns the calling thread's namespace-aware, non-validating document builder, which does not load external
+     * DTDs. It is reset before being returned and must not be handed to other threads.
+     */
+    public static DocumentBuilder getDocumentBuilder() throws ParserConfigurationException {
+        DocumentBuilder builder = documentBuilders.get();
+        if (builder == null) {
+            synchronized (documentBuilderFactory) {
+                builder = documentBuilderFactory.newDocumentBuilder();
+            }
+            documentBuilders.set(builder);
+        } else {
+            builder.reset();
+        }
+        return builder;
+    }
+
+    /**
+     * Returns the calling thread's identity transformer, reset and set up to omit the XML declaration. It must not
+     * be handed to other threads.
+     */
+    public static Transformer getTransformer() throws TransformerConfigurationException {
+        Transformer transformer = transformers.get();
+        if (transformer == null) {
+            synchronized (transformerFactory) {
+                transformer = transformerFactory.newTransformer();
+            }
+            transformers.set(transformer);
+        } else {
+            transformer.reset();
+        }
+        transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+        return transformer;
+    }
+
+    /**
+     * Selects the attribute of elements with a given name and, optionally, a given parent element: the streaming
+     * equivalent of <code>//parent:Element/ns:attribute</code>.
+     *
+     * @param parent the required parent element, or <code>null</code> for any parent
+     */
+    public record AttributePath(QName parent, QName element, QName attribute) {
+        private static final Pattern SIMPLE_PATH =
+                Pattern.compile("//(?:(\\w+):([\\w.-]+)/)?(\\w+):([\\w.-]+)/@(\\w+):([\\w.-]+)");
+        private static final OSLCNamespaceContext namespaces = new OSLCNamespaceContext();
+
+        /**
+         * Translates an XPath expression of the form <code>//p:Element/@p:attribute</code> or
+         * <code>//p:Parent/p:Element/@p:attribute</code>, using the prefixes of {@link OSLCNamespaceContext}.
+         *
+         * @return the path, or <code>null</code> if the expression has any other form or uses an unknown prefix
+         */
+        public static AttributePath fromXPath(String xpath) {
+            Matcher matcher = SIMPLE_PATH.matcher(xpath.trim());
+            if (!matcher.matches()) {
+                return null;
+            }
+            QName parent = null;
+            if (matcher.group(1) != null) {
+                parent = qname(matcher.group(1), matcher.group(2));
+                if (parent == null) {
+                    return null;
+                }
+            }
+            QName element = qname(matcher.group(3), matcher.group(4));
+            QName attribute = qname(matcher.group(5), matcher.group(6));
+            if (element == null || attribute == null) {
+                return null;
+            }
+            return new AttributePath(parent, element, attribute);
+        }
+
+        private static QName qname(String prefix, String localPart) {
+            String namespace = namespaces.getNamespaceURI(prefix);
+            return XMLConstants.NULL_NS_URI.equals(namespace) ? null : new QName(namespace, localPart);
+        }
+    }
+
+    /**
+     * Streams the document and collects the values of the given attribute paths, each in document order. The stream
+     * is left open.
+     *
+     * @param encoding the charset given by the Content-Type header, or <code>null</code> to detect it
+     * @return one list of values per path, in the order of the paths
+     */
+    public static List<List<String>> extractAttributes(InputStream body, String encoding, List<AttributePath> paths)
+            throws IOException {
+        List<List<String>> values = new ArrayList<>(paths.size());
+        for (int i = 0; i < paths.size(); i++) {
+            values.add(new ArrayList<>());
+        }
+
+        CapturingInputStream capture = new CapturingInputStream(body);
+        Deque<QName> ancestors = new ArrayDeque<>();
+        XMLStreamReader reader = null;
+        try {
+            reader = encoding == null
+                    ? inputFactory.createXMLStreamReader(capture)
+                    : inputFactory.createXMLStreamReader(capture, encoding);
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    QName name = reader.getName();
+                    QName parent = ancestors.peek();
+                    for (int i = 0; i < paths.size(); i++) {
+                        AttributePath path = paths.get(i);
+                        if (path.element().equals(name) && (path.parent() == null || path.parent().equals(parent))) {
+                            String value = reader.getAttributeValue(
+                                    path.attribute().getNamespaceURI(),
+                                    path.attribute().getLocalPart());
+                            if (value != null) {
+                                values.get(i).add(value);
+                            }
+                        }
+                    }
+                    ancestors.push(name);
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    ancestors.pop();
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Exception parsing XML response body:%n%s%n".formatted(capture.getCaptured()), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // Only releases parser state, the stream belongs to the caller
+                }
+            }
+        }
+        return values;
+    }
+
+    private static DocumentBuilderFactory newDocumentBuilderFactory() {
+        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
+        dbf.setNamespaceAware(true);
+        dbf.setValidating(false);
+        try {
+            // Don't load external DTD
+            dbf.setFeature(LOAD_EXTERNAL_DTD, false);
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("XML parser does not support " + LOAD_EXTERNAL_DTD, e);
+        }
+        return dbf;
+    }
+
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        // Don't load external DTD either, like the document builder
+        if (factory.isPropertySupported(IGNORE_EXTERNAL_DTD)) {
+            factory.setProperty(IGNORE_EXTERNAL_DTD, true);
+        }
+        return factory;
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CleanupQueueTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Set<String> deleted = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+    private HttpServer server;
+    private ExecutorService executor;
+    private String base;
+    private Path journal;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newFixedThreadPool(16);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+        base = "http://127.0.0.1:" + server.getAddress().getPort() + "/resources/";
+        journal = folder.getRoot().toPath().resolve("cleanup-journal.txt");
+    }
+
+    @After
+    public void tearDown() {
+        CleanupQueue.drain();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /** Deletes anything but the resources named bad, which fail with a server error. */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            String path = exchange.getRequestURI().getPath();
+            if (!exchange.getRequestMethod().equals("DELETE") || path.endsWith("/bad")) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+            deleted.add(base + path.substring("/resources/".length()));
+            exchange.sendResponseHeaders(204, -1);
+        }
+    }
+
+    private void configure(int threads) {
+        Properties setupProps = new Properties();
+        setupProps.setProperty("cleanupThreads", String.valueOf(threads));
+        setupProps.setProperty("cleanupJournal", journal.toString());
+        CleanupQueue.configure(setupProps, null);
+    }
+
+    @Test(timeout = 30_000)
+    public void testDeletesReleasedAndLeftoverResources() throws IOException {
+        configure(4);
+        for (int i = 0; i < 50; i++) {
+            CleanupQueue.register(base + i);
+        }
+        for (int i = 0; i < 40; i++) {
+            CleanupQueue.release(base + i);
+        }
+        // The last 10 were never released, as if their tests had failed
+        assertTrue(CleanupQueue.size() >= 10);
+
+        CleanupQueue.drain();
+
+        assertEquals(50, deleted.size());
+        assertEquals(0, CleanupQueue.size());
+        assertTrue(maxRunning.get() <= 4);
+        assertFalse(Files.exists(journal));
+    }
+
+    @Test(timeout = 30_000)
+    public void testAwaitsDeletionsOfReleasedResources() throws InterruptedException {
+        configure(2);
+        for (int i = 0; i < 20; i++) {
+            CleanupQueue.register(base + i);
+            CleanupQueue.release(base + i);
+        }
+        CleanupQueue.register(base + "kept");
+
+        CleanupQueue.awaitDeletions();
+
+        assertEquals(20, deleted.size());
+        // Only released resources are waited for
+        assertEquals(1, CleanupQueue.size());
+    }
+
+    @Test(timeout = 30_000)
+    public void testResumesFromJournalOfCrashedRun() throws IOException {
+        Files.writeString(
+                journal,
+                "+ " + base + "1\n" + "+ " + base + "2\n" + "- " + base + "1\n" + "+ " + base + "bad\n");
+
+        configure(2);
+        CleanupQueue.drain();
+
+        assertEquals(Set.of(base + "2"), deleted);
+        // Only the resource that could not be deleted is left for the next run
+        List<String> lines = Files.readAllLines(journal);
+        assertTrue(lines.contains("+ " + base + "bad"));
+        assertFalse(lines.contains("- " + base + "bad"));
+        assertTrue(lines.contains("- " + base + "2"));
+    }
+
+    @Test(timeout = 30_000)
+    public void testDeletesInCallingThreadWithoutThreads() {
+        configure(0);
+        CleanupQueue.register(base + "1");
+        CleanupQueue.release(base + "1");
+
+        assertEquals(Set.of(base + "1"), deleted);
+        assertEquals(0, CleanupQueue.size());
+    }
+
+    @Test(timeout = 30_000)
+    public void testForgottenResourcesAreNotDeleted() {
+        configure(0);
+        CleanupQueue.register(base + "1");
+        CleanupQueue.forget(base + "1");
+
+        CleanupQueue.drain();
+
+        assertTrue(deleted.isEmpty());
+        assertFalse(Files.exists(journal));
+    }
+}
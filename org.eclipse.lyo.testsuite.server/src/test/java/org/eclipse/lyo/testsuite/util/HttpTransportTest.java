@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import static org.junit.Assert.assertEquals;
+
+import com.sun.net.httpserver.HttpServer;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.Response;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import org.eclipse.lyo.testsuite.common.HttpArchive;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class HttpTransportTest {
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() {
+        HttpArchive.configure(null);
+    }
+
+    private static void configure(String mode, Path file, int maxBody) {
+        Properties setupProps = new Properties();
+        setupProps.setProperty("httpArchive", mode);
+        setupProps.setProperty("httpArchiveFile", file.toString());
+        setupProps.setProperty("httpArchiveMaxBody", String.valueOf(maxBody));
+        HttpArchive.configure(setupProps);
+    }
+
+    @Test(timeout = 30_000)
+    public void testRecorderLeavesOutLargeBodies() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                exchange.getRequestBody().readAllBytes();
+                byte[] body = exchange.getRequestURI().getPath().equals("/large")
+                        ? "x".repeat(1000).getBytes(StandardCharsets.UTF_8)
+                        : "small".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        });
+        server.start();
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+        Path file = folder.getRoot().toPath().resolve("archive.bin");
+        configure("record", file, 100);
+        Client client = HttpTransport.newClientBuilder().build();
+        try {
+            try (Response response = client.target(base + "/small").request().get()) {
+                assertEquals("small", response.readEntity(String.class));
+            }
+            // Passed on whole, but not recorded
+            try (Response response = client.target(base + "/large").request().get()) {
+                assertEquals(1000, response.readEntity(String.class).length());
+            }
+            try (Response response =
+                    client.target(base + "/small").request().post(Entity.text("y".repeat(1000)))) {
+                assertEquals("small", response.readEntity(String.class));
+            }
+        } finally {
+            client.close();
+            server.stop(0);
+        }
+        HttpArchive.configure(null);
+
+        List<HttpArchive.Exchange> recorded = HttpArchive.read(file);
+        assertEquals(1, recorded.size());
+        assertEquals("GET", recorded.get(0).method());
+        assertEquals(base + "/small", recorded.get(0).uri());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class LoadGeneratorTest {
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger maxRunning = new AtomicInteger();
+
+    private void work(long millis) throws InterruptedException {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        try {
+            Thread.sleep(millis);
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void testClosedModelStartsIterationsAsOthersEnd() throws InterruptedException {
+        LoadGenerator.Settings settings = new LoadGenerator.Settings(LoadGenerator.Model.CLOSED, 2, 0, 1);
+
+        LoadGenerator.Report report = LoadGenerator.run(settings, phases -> work(50));
+
+        // Two workers of 50 ms iterations for a second, whatever the rate
+        assertEquals(2, maxRunning.get());
+        assertTrue(String.valueOf(report.getIterations()), report.getIterations() >= 20);
+        assertTrue(String.valueOf(report.getIterations()), report.getIterations() <= 42);
+        assertEquals(0, report.getErrorRate(), 0);
+    }
+
+    @Test(timeout = 30_000)
+    public void testOpenModelStartsIterationsAtRate() throws InterruptedException {
+        LoadGenerator.Settings settings = new LoadGenerator.Settings(LoadGenerator.Model.OPEN, 4, 50, 1);
+
+        LoadGenerator.Report report = LoadGenerator.run(settings, phases -> work(1));
+
+        // One due every 20 ms, and the workers keep up
+        assertEquals(50, report.getIterations());
+        assertEquals(1, maxRunning.get());
+        assertEquals(0, report.getErrorRate(), 0);
+    }
+
+    @Test(timeout = 30_000)
+    public void testOpenModelRejectsIterationsNoWorkerCanTake() throws InterruptedException {
+        LoadGenerator.Settings settings = new LoadGenerator.Settings(LoadGenerator.Model.OPEN, 1, 100, 1);
+
+        LoadGenerator.Report report = LoadGenerator.run(settings, phases -> work(100));
+
+        // The worker and the iterations waiting for it take 1 + 16 of the 100 arrivals
+        assertEquals(1, maxRunning.get());
+        assertTrue(String.valueOf(report.getIterations()), report.getIterations() <= 1 + 16 + 10);
+        assertTrue(String.valueOf(report.getErrorRate()), report.getErrorRate() >= 0.7);
+        assertTrue(report.format(), report.format().contains("rejected, all workers busy"));
+    }
+
+    @Test(timeout = 30_000)
+    public void testFailuresAreCountedAndWorkersGoOn() throws InterruptedException {
+        AtomicInteger count = new AtomicInteger();
+        LoadGenerator.Iteration iteration = phases -> {
+            long start = System.nanoTime();
+            work(10);
+            switch (count.getAndIncrement() % 4) {
+                case 0 -> fail("no title");
+                case 1 -> throw new IOException("connection reset");
+                case 2 -> phases.record("fetch", start, "status 500");
+                default -> phases.record("fetch", start, null);
+            }
+        };
+
+        for (LoadGenerator.Model model : LoadGenerator.Model.values()) {
+            count.set(0);
+            LoadGenerator.Report report =
+                    LoadGenerator.run(new LoadGenerator.Settings(model, 1, 50, 1), iteration);
+
+            String format = report.format();
+            assertEquals(format, count.get(), report.getIterations());
+            assertTrue(format, report.getIterations() >= 20);
+            // Three failures in every four iterations
+            assertEquals(format, 0.75, report.getErrorRate(), 0.05);
+            assertTrue(format, format.contains("AssertionError: no title"));
+            assertTrue(format, format.contains("IOException: connection reset"));
+            assertTrue(format, format.contains("status 500"));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class QueryPagerTest {
+    private static final int PAGES = 20;
+    private static final int MEMBERS_PER_PAGE = 50;
+
+    private HttpServer server;
+    private String base;
+
+    @Before
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        base = "http://127.0.0.1:" + server.getAddress().getPort();
+        server.createContext("/query", this::handle);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    /**
+     * Serves page <code>page</code> of a query result of <code>mode</code>: ok, loop (page 4 points back to page 2)
+     * or fail (page 3 is an error).
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String query = exchange.getRequestURI().getQuery();
+            String mode = "ok";
+            int page = 1;
+            for (String parameter : query.split("&")) {
+                if (parameter.startsWith("mode=")) {
+                    mode = parameter.substring("mode=".length());
+                } else if (parameter.startsWith("page=")) {
+                    page = Integer.parseInt(parameter.substring("page=".length()));
+                }
+            }
+            if (mode.equals("fail") && page == 3) {
+                exchange.sendResponseHeaders(500, -1);
+                return;
+            }
+
+            StringBuilder body = new StringBuilder("<?xml version=\"1.0\"?>\n"
+                    + "<rdf:RDF xmlns:rdf=\"http://www.w3.org/1999/02/22-rdf-syntax-ns#\""
+                    + " xmlns:rdfs=\"http://www.w3.org/2000/01/rdf-schema#\""
+                    + " xmlns:oslc=\"http://open-services.net/ns/core#\">\n");
+            body.append("<rdf:Description rdf:about=\"%s/query\">\n".formatted(base));
+            for (int i = 0; i < MEMBERS_PER_PAGE; i++) {
+                body.append("<rdfs:member rdf:resource=\"%s/resources/%d\"/>\n"
+                        .formatted(base, (page - 1) * MEMBERS_PER_PAGE + i));
+            }
+            body.append("</rdf:Description>\n");
+            body.append("<oslc:ResponseInfo rdf:about=\"%s/query?%s\">\n".formatted(base, query.replace("&", "&amp;")));
+            body.append("<oslc:totalCount>%d</oslc:totalCount>\n".formatted(PAGES * MEMBERS_PER_PAGE));
+            if (page < PAGES) {
+                int next = mode.equals("loop") && page == 4 ? 2 : page + 1;
+                body.append("<oslc:nextPage rdf:resource=\"%s/query?mode=%s&amp;page=%d\"/>\n"
+                        .formatted(base, mode, next));
+            }
+            body.append("</oslc:ResponseInfo>\n</rdf:RDF>\n");
+
+            byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", OSLCConstants.CT_RDF);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    private QueryPager pager(String mode, int maxPages, int prefetch) {
+        String url = base + "/query?mode=" + mode + "&page=1";
+        return new QueryPager(base, url, null, null, new QueryPager.Settings(maxPages, prefetch));
+    }
+
+    @Test(timeout = 30_000)
+    public void testReadsEveryPage() {
+        for (int prefetch : new int[] {1, 4}) {
+            Set<String> members = new HashSet<>();
+            try (QueryPager pager = pager("ok", 0, prefetch)) {
+                int pages = 0;
+                while (pager.hasNext()) {
+                    QueryPager.Page page = pager.next();
+                    pages++;
+                    assertEquals(pages, page.number());
+                    assertEquals(Long.valueOf(PAGES * MEMBERS_PER_PAGE), page.totalCount());
+                    page.members().forEach(member -> members.add(member.getURI()));
+                    if (pages == PAGES) {
+                        assertNull(page.nextPage());
+                    }
+                }
+                assertEquals(PAGES, pages);
+                assertFalse(pager.isTruncated());
+                assertEquals(PAGES * MEMBERS_PER_PAGE, pager.getMembers());
+                assertEquals(PAGES, pager.getPageStats().size());
+            }
+            assertEquals(PAGES * MEMBERS_PER_PAGE, members.size());
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void testStopsAtMaxPages() {
+        try (QueryPager pager = pager("ok", 5, 2)) {
+            int pages = 0;
+            while (pager.hasNext()) {
+                pager.next();
+                pages++;
+            }
+            assertEquals(5, pages);
+            assertTrue(pager.isTruncated());
+            assertTrue(pager.format().contains("(stopped at the limit)"));
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void testPagingLoopFails() {
+        assertFailsAfter("loop", 4, "loops back");
+    }
+
+    @Test(timeout = 30_000)
+    public void testErrorStatusFails() {
+        assertFailsAfter("fail", 2, "500");
+    }
+
+    private void assertFailsAfter(String mode, int pages, String message) {
+        try (QueryPager pager = pager(mode, 0, 2)) {
+            int read = 0;
+            try {
+                while (pager.hasNext()) {
+                    pager.next();
+                    read++;
+                }
+                fail("Expected paging to fail");
+            } catch (IllegalStateException e) {
+                assertTrue(e.getMessage(), e.getMessage().contains(message));
+            }
+            assertEquals(pages, read);
+            // Keeps failing
+            assertTrue(pager.hasNext());
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void testCloseStopsFetcher() throws InterruptedException {
+        try (QueryPager pager = pager("ok", 0, 1)) {
+            pager.next();
+        }
+        for (int i = 0; i < 100 && fetcherAlive(); i++) {
+            Thread.sleep(20);
+        }
+        assertFalse(fetcherAlive());
+    }
+
+    private static boolean fetcherAlive() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().equals("query-pager"));
+    }
+}
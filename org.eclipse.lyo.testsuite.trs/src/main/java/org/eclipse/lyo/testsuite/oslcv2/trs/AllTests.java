@@ -14,10 +14,48 @@
 
 package org.eclipse.lyo.testsuite.oslcv2.trs;
 
+import java.io.IOException;
+import org.eclipse.lyo.testsuite.server.trsutils.FetchMetrics;
+import org.eclipse.lyo.testsuite.server.trsutils.SyntheticTrsServer;
+import org.eclipse.lyo.testsuite.server.trsutils.TestCore;
+import org.eclipse.lyo.testsuite.server.trsutils.TrsHttpClient;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({TRSTest.class, BaseTest.class, ChangeLogTest.class})
-public class AllTests {}
+@SuiteClasses({
+    TRSTest.class,
+    BaseTest.class,
+    ChangeLogTest.class,
+    ConsumerSimulationTest.class,
+    PollingTest.class
+})
+public class AllTests {
+    private static SyntheticTrsServer syntheticTrs = null;
+
+    /** Serves a generated TRS at configTrsEndpoint when syntheticTrs is set. */
+    @BeforeClass
+    public static void startSyntheticTrs() throws IOException {
+        syntheticTrs = SyntheticTrsServer.startIfEnabled(TestCore.getConfigPropertiesInstance());
+    }
+
+    @AfterClass
+    public static void stopSyntheticTrs() {
+        if (syntheticTrs != null) {
+            syntheticTrs.stop();
+        }
+    }
+
+    @AfterClass
+    public static void exportFetchMetrics() throws IOException {
+        FetchMetrics.exportIfEnabled();
+    }
+
+    @AfterClass
+    public static void closeHttpClient() throws IOException {
+        TrsHttpClient.close();
+    }
+}
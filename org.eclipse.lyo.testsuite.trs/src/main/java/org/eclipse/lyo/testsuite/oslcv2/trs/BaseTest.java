@@ -27,12 +27,13 @@ import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ResIterator;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.vocabulary.RDF;
-import org.eclipse.lyo.testsuite.server.trsutils.EasySSLClient;
+import org.eclipse.lyo.testsuite.server.trsutils.BaseWalker;
 import org.eclipse.lyo.testsuite.server.trsutils.FetchException;
 import org.eclipse.lyo.testsuite.server.trsutils.ITRSVocabulary;
 import org.eclipse.lyo.testsuite.server.trsutils.InvalidTRSException;
 import org.eclipse.lyo.testsuite.server.trsutils.Messages;
 import org.eclipse.lyo.testsuite.server.trsutils.TestCore;
+import org.eclipse.lyo.testsuite.server.trsutils.TrsHttpClient;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -43,6 +44,7 @@ public class BaseTest extends TestCore {
     private static Resource trsBaseResource = null;
     private static Resource trsResource = null;
     private static HttpContext httpContext = null;
+    private static BaseWalker.Result baseWalk = null;
 
     @BeforeClass
     public static void setupOnce() {
@@ -53,7 +55,7 @@ public class BaseTest extends TestCore {
             String trsEndpoint = prop.getProperty("configTrsEndpoint");
             String acceptType = prop.getProperty("acceptType");
 
-            httpClient = new EasySSLClient().getClient();
+            httpClient = TrsHttpClient.getClient(prop);
 
             httpContext =
                     new DefaultedHttpContext(
@@ -220,4 +222,95 @@ public class BaseTest extends TestCore {
                             e.getLocalizedMessage()));
         }
     }
+
+    /** Validates that every page of the base is an ldp:pageOf the base resource. */
+    @Test
+    public void testBasePagesArePagesOfBase() {
+        try {
+            BaseWalker.Result walk = getBaseWalk();
+            if (!walk.getPageOfViolations().isEmpty()) {
+                throw new InvalidTRSException(walk.getPageOfViolations().toString());
+            }
+        } catch (InvalidTRSException e) {
+            e.printStackTrace();
+            Assert.fail(e.getLocalizedMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail(
+                    MessageFormat.format(
+                            Messages.getServerString("tests.general.error"),
+                            e.getLocalizedMessage()));
+        }
+    }
+
+    /** Validates that following ldp:nextPage from the base reaches rdf:nil without a cycle. */
+    @Test
+    public void testBasePagingEndsWithNil() {
+        try {
+            BaseWalker.Result walk = getBaseWalk();
+            if (!walk.getPagingViolations().isEmpty()) {
+                throw new InvalidTRSException(walk.getPagingViolations().toString());
+            }
+        } catch (InvalidTRSException e) {
+            e.printStackTrace();
+            Assert.fail(e.getLocalizedMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail(
+                    MessageFormat.format(
+                            Messages.getServerString("tests.general.error"),
+                            e.getLocalizedMessage()));
+        }
+    }
+
+    /** Validates that no member is listed twice across the pages of the base. */
+    @Test
+    public void testBaseMembersAreUnique() {
+        try {
+            BaseWalker.Result walk = getBaseWalk();
+            if (!walk.getDuplicateMembers().isEmpty()) {
+                throw new InvalidTRSException(walk.getDuplicateMembers().toString());
+            }
+        } catch (InvalidTRSException e) {
+            e.printStackTrace();
+            Assert.fail(e.getLocalizedMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail(
+                    MessageFormat.format(
+                            Messages.getServerString("tests.general.error"),
+                            e.getLocalizedMessage()));
+        }
+    }
+
+    /**
+     * Walks all pages of the base on first use; the outcome is shared by the tests. The walk can
+     * be cut short with the basePageLimit and baseMemberLimit properties.
+     */
+    private static synchronized BaseWalker.Result getBaseWalk() throws Exception {
+        if (baseWalk == null) {
+            BaseWalker walker =
+                    new BaseWalker(httpClient, httpContext, prop.getProperty("acceptType"));
+            walker.setPageLimit(
+                    Integer.parseInt(prop.getProperty("basePageLimit", "0").trim()));
+            walker.setMemberLimit(
+                    Integer.parseInt(
+                            prop.getProperty(
+                                            "baseMemberLimit",
+                                            String.valueOf(BaseWalker.DEFAULT_MEMBER_LIMIT))
+                                    .trim()));
+            baseWalk = walker.walk(trsBaseResource.getURI());
+            System.out.println(
+                    "Walked "
+                            + baseWalk.getPages()
+                            + " base pages listing "
+                            + baseWalk.getMembers()
+                            + " members"
+                            + (baseWalk.isTruncated() ? " (stopped at basePageLimit)" : "")
+                            + (baseWalk.isMemberSetSaturated()
+                                    ? " (duplicates only checked up to baseMemberLimit)"
+                                    : ""));
+        }
+        return baseWalk;
+    }
 }
@@ -16,7 +16,6 @@ package org.eclipse.lyo.testsuite.oslcv2.trs;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.math.BigInteger;
 import java.text.MessageFormat;
 import java.util.Properties;
 import org.apache.http.client.HttpClient;
@@ -24,18 +23,16 @@ import org.apache.http.protocol.BasicHttpContext;
 import org.apache.http.protocol.DefaultedHttpContext;
 import org.apache.http.protocol.HttpContext;
 import org.apache.http.protocol.SyncBasicHttpContext;
-import org.apache.jena.rdf.model.Model;
-import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
-import org.apache.jena.rdf.model.Statement;
-import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.vocabulary.RDF;
-import org.eclipse.lyo.testsuite.server.trsutils.EasySSLClient;
+import org.eclipse.lyo.testsuite.server.trsutils.ChangeLogWalker;
 import org.eclipse.lyo.testsuite.server.trsutils.FetchException;
 import org.eclipse.lyo.testsuite.server.trsutils.ITRSVocabulary;
 import org.eclipse.lyo.testsuite.server.trsutils.InvalidTRSException;
 import org.eclipse.lyo.testsuite.server.trsutils.Messages;
+import org.eclipse.lyo.testsuite.server.trsutils.Problems;
 import org.eclipse.lyo.testsuite.server.trsutils.TestCore;
+import org.eclipse.lyo.testsuite.server.trsutils.TrsHttpClient;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -45,6 +42,7 @@ public class ChangeLogTest extends TestCore {
     private static HttpClient httpClient = null;
     private static Resource trsResource = null;
     private static HttpContext httpContext = null;
+    private static ChangeLogWalker.Result changeLogWalk = null;
 
     @BeforeClass
     public static void setupOnce() {
@@ -54,7 +52,7 @@ public class ChangeLogTest extends TestCore {
             String trsEndpoint = prop.getProperty("configTrsEndpoint");
             String acceptType = prop.getProperty("acceptType");
 
-            httpClient = new EasySSLClient().getClient();
+            httpClient = TrsHttpClient.getClient(prop);
 
             httpContext =
                     new DefaultedHttpContext(
@@ -131,451 +129,78 @@ public class ChangeLogTest extends TestCore {
 
     @Test
     public void testChangeLogEventIsURIResource() {
-        // Get the overall model, we will need it to follow trs:change
-        // references in the change log to the actual change event later.
-        Model rdfModel = trsResource.getModel();
-
-        try {
-            // Get the trs resource's change log
-            Resource changeLogResource =
-                    trsResource.getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
-
-            if (changeLogResource != null
-                    && !changeLogResource.equals(RDF.nil)
-                    && changeLogResource.hasProperty(ITRSVocabulary.CHANGE_PROPERTY)) {
-                // Iterate over all trs:change properties referenced by the change log
-                StmtIterator iter =
-                        changeLogResource.listProperties(ITRSVocabulary.CHANGE_PROPERTY);
-
-                while (iter.hasNext()) {
-                    Statement trsChangeReference = iter.nextStatement();
-
-                    RDFNode changeNode =
-                            rdfModel.getResource(trsChangeReference.getObject().toString());
-
-                    if (!changeNode.isURIResource()) {
-                        throw new InvalidTRSException(
-                                Messages.getServerString(
-                                        "validators.missing.uri.change.event")); //$NON-NLS-1$
-                    }
-                }
-            }
-        } catch (InvalidTRSException e) {
-            e.printStackTrace();
-            Assert.fail(e.getLocalizedMessage());
-        } catch (Exception e) {
-            e.printStackTrace();
-            Assert.fail(
-                    MessageFormat.format(
-                            Messages.getServerString("tests.general.error"),
-                            e.getLocalizedMessage()));
-        }
+        assertNoProblems(ChangeLogWalker.Check.EVENT_IS_URI);
     }
 
     @Test
     public void testChangeLogEventType() {
-        // Get the overall model, we will need it to follow trs:change
-        // references in the change log to the actual change event later.
-        Model rdfModel = trsResource.getModel();
-
-        try {
-            Resource changeLogResource =
-                    trsResource.getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
-
-            if (changeLogResource != null
-                    && !changeLogResource.equals(RDF.nil)
-                    && changeLogResource.hasProperty(ITRSVocabulary.CHANGE_PROPERTY)) {
-                // Iterate over all trs:change properties referenced by the change log
-                StmtIterator iter =
-                        changeLogResource.listProperties(ITRSVocabulary.CHANGE_PROPERTY);
-
-                while (iter.hasNext()) {
-                    Statement trsChangeReference = iter.nextStatement();
-
-                    // Obtain the actual change event resource using the URI
-                    // mentioned in the change log's trs:change property we are
-                    // currently examining
-                    Resource changeEvent =
-                            rdfModel.getResource(trsChangeReference.getObject().toString());
-
-                    if (RDF.nil.getURI().equals(changeEvent.getURI())) break;
-
-                    boolean hasChangeType =
-                            changeEvent.hasProperty(RDF.type, ITRSVocabulary.CREATION_RESOURCE)
-                                    || changeEvent.hasProperty(
-                                            RDF.type, ITRSVocabulary.DELETION_RESOURCE)
-                                    || changeEvent.hasProperty(
-                                            RDF.type, ITRSVocabulary.MODIFICATION_RESOURCE);
-
-                    if (!hasChangeType) {
-                        throw new InvalidTRSException(
-                                Messages.getServerString(
-                                        "validators.missing.type.change.event")); //$NON-NLS-1$
-                    }
-                }
-            }
-        } catch (InvalidTRSException e) {
-            e.printStackTrace();
-            Assert.fail(e.getLocalizedMessage());
-        } catch (Exception e) {
-            e.printStackTrace();
-            Assert.fail(
-                    MessageFormat.format(
-                            Messages.getServerString("tests.general.error"),
-                            e.getLocalizedMessage()));
-        }
+        assertNoProblems(ChangeLogWalker.Check.HAS_EVENT_TYPE);
     }
 
     @Test
     public void testChangeLogEventHasExactlyOneEventType() {
-        // Get the overall model, we will need it to follow trs:change
-        // references in the change log to the actual change event later.
-        Model rdfModel = trsResource.getModel();
-
-        try {
-            Resource changeLogResource =
-                    trsResource.getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
-
-            if (changeLogResource != null
-                    && !changeLogResource.equals(RDF.nil)
-                    && changeLogResource.hasProperty(ITRSVocabulary.CHANGE_PROPERTY)) {
-                // Iterate over all trs:change properties referenced by the change log
-                StmtIterator iter =
-                        changeLogResource.listProperties(ITRSVocabulary.CHANGE_PROPERTY);
-
-                while (iter.hasNext()) {
-                    Statement trsChangeReference = iter.nextStatement();
-
-                    // Obtain the actual change event resource using the URI
-                    // mentioned in the change log's trs:change property we are
-                    // currently examining
-                    Resource changeEvent =
-                            rdfModel.getResource(trsChangeReference.getObject().toString());
-
-                    if (RDF.nil.getURI().equals(changeEvent.getURI())) break;
-                    int count = 0;
-                    if (changeEvent.hasProperty(RDF.type, ITRSVocabulary.CREATION_RESOURCE)) {
-                        count++;
-                    }
-                    if (changeEvent.hasProperty(RDF.type, ITRSVocabulary.DELETION_RESOURCE)) {
-                        count++;
-                    }
-                    if (changeEvent.hasProperty(RDF.type, ITRSVocabulary.MODIFICATION_RESOURCE)) {
-                        count++;
-                    }
-
-                    if (count != 1) {
-                        throw new InvalidTRSException(
-                                Messages.getServerString(
-                                        "validators.invalid.type.change.event")); //$NON-NLS-1$
-                    }
-                }
-            }
-        } catch (InvalidTRSException e) {
-            e.printStackTrace();
-            Assert.fail(e.getLocalizedMessage());
-        } catch (Exception e) {
-            e.printStackTrace();
-            Assert.fail(
-                    MessageFormat.format(
-                            Messages.getServerString("tests.general.error"),
-                            e.getLocalizedMessage()));
-        }
+        assertNoProblems(ChangeLogWalker.Check.ONE_EVENT_TYPE);
     }
 
     @Test
     public void testChangeLogEventHasChangedProperty() {
-        // Get the overall model, we will need it to follow trs:change
-        // references in the change log to the actual change event later.
-        Model rdfModel = trsResource.getModel();
-
-        try {
-            Resource changeLogResource =
-                    trsResource.getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
-
-            if (changeLogResource != null
-                    && !changeLogResource.equals(RDF.nil)
-                    && changeLogResource.hasProperty(ITRSVocabulary.CHANGE_PROPERTY)) {
-                // Iterate over all trs:change properties referenced by the change log
-                StmtIterator iter =
-                        changeLogResource.listProperties(ITRSVocabulary.CHANGE_PROPERTY);
-
-                while (iter.hasNext()) {
-                    Statement trsChangeReference = iter.nextStatement();
-
-                    // Obtain the actual change event resource using the URI
-                    // mentioned in the change log's trs:change property we are
-                    // currently examining
-                    Resource changeEvent =
-                            rdfModel.getResource(trsChangeReference.getObject().toString());
-
-                    if (RDF.nil.getURI().equals(changeEvent.getURI())) break;
-
-                    if (!changeEvent.hasProperty(ITRSVocabulary.CHANGED_PROPERTY)) {
-                        throw new InvalidTRSException(
-                                Messages.getServerString(
-                                        "validators.missing.trs.changed.property")); //$NON-NLS-1$
-                    }
-                }
-            }
-        } catch (InvalidTRSException e) {
-            e.printStackTrace();
-            Assert.fail(e.getLocalizedMessage());
-        } catch (Exception e) {
-            e.printStackTrace();
-            Assert.fail(
-                    MessageFormat.format(
-                            Messages.getServerString("tests.general.error"),
-                            e.getLocalizedMessage()));
-        }
+        assertNoProblems(ChangeLogWalker.Check.HAS_CHANGED);
     }
 
     @Test
     public void testChangeLogEventHasExactlyOneChangedProperty() {
-        // Get the overall model, we will need it to follow trs:change
-        // references in the change log to the actual change event later.
-        Model rdfModel = trsResource.getModel();
-
-        try {
-            Resource changeLogResource =
-                    trsResource.getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
-
-            if (changeLogResource != null
-                    && !changeLogResource.equals(RDF.nil)
-                    && changeLogResource.hasProperty(ITRSVocabulary.CHANGE_PROPERTY)) {
-                // Iterate over all trs:change properties referenced by the change log
-                StmtIterator iter =
-                        changeLogResource.listProperties(ITRSVocabulary.CHANGE_PROPERTY);
-
-                while (iter.hasNext()) {
-                    Statement trsChangeReference = iter.nextStatement();
-
-                    // Obtain the actual change event resource using the URI
-                    // mentioned in the change log's trs:change property we are
-                    // currently examining
-                    Resource changeEvent =
-                            rdfModel.getResource(trsChangeReference.getObject().toString());
-
-                    if (RDF.nil.getURI().equals(changeEvent.getURI())) break;
-
-                    if (changeEvent.hasProperty(ITRSVocabulary.CHANGED_PROPERTY)
-                            && getStatementsForProp(changeEvent, ITRSVocabulary.CHANGED_PROPERTY)
-                                            .toList()
-                                            .size()
-                                    != 1) {
-                        throw new InvalidTRSException(
-                                Messages.getServerString(
-                                        "validators.invalid.trs.changed.property")); //$NON-NLS-1$
-                    }
-                }
-            }
-        } catch (InvalidTRSException e) {
-            e.printStackTrace();
-            Assert.fail(e.getLocalizedMessage());
-        } catch (Exception e) {
-            e.printStackTrace();
-            Assert.fail(
-                    MessageFormat.format(
-                            Messages.getServerString("tests.general.error"),
-                            e.getLocalizedMessage()));
-        }
+        assertNoProblems(ChangeLogWalker.Check.ONE_CHANGED);
     }
 
     @Test
     public void testChangeLogEventChangedPropertyIsURIResource() {
-        // Get the overall model, we will need it to follow trs:change
-        // references in the change log to the actual change event later.
-        Model rdfModel = trsResource.getModel();
-
-        try {
-            Resource changeLogResource =
-                    trsResource.getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
-
-            if (changeLogResource != null
-                    && !changeLogResource.equals(RDF.nil)
-                    && changeLogResource.hasProperty(ITRSVocabulary.CHANGE_PROPERTY)) {
-                // Iterate over all trs:change properties referenced by the change log
-                StmtIterator iter =
-                        changeLogResource.listProperties(ITRSVocabulary.CHANGE_PROPERTY);
-
-                while (iter.hasNext()) {
-                    Statement trsChangeReference = iter.nextStatement();
-
-                    // Obtain the actual change event resource using the URI
-                    // mentioned in the change log's trs:change property we are
-                    // currently examining
-                    Resource changeEvent =
-                            rdfModel.getResource(trsChangeReference.getObject().toString());
-
-                    if (RDF.nil.getURI().equals(changeEvent.getURI())) break;
-
-                    if (changeEvent.hasProperty(ITRSVocabulary.CHANGED_PROPERTY)
-                            && !changeEvent
-                                    .getProperty(ITRSVocabulary.CHANGED_PROPERTY)
-                                    .getObject()
-                                    .isURIResource()) {
-                        throw new InvalidTRSException(
-                                Messages.getServerString(
-                                        "validators.invalid.trs.changed.property")); //$NON-NLS-1$
-                    }
-                }
-            }
-        } catch (InvalidTRSException e) {
-            e.printStackTrace();
-            Assert.fail(e.getLocalizedMessage());
-        } catch (Exception e) {
-            e.printStackTrace();
-            Assert.fail(
-                    MessageFormat.format(
-                            Messages.getServerString("tests.general.error"),
-                            e.getLocalizedMessage()));
-        }
+        assertNoProblems(ChangeLogWalker.Check.CHANGED_IS_URI);
     }
 
     @Test
     public void testChangeLogEventHasOrderProperty() {
-        // Get the overall model, we will need it to follow trs:change
-        // references in the change log to the actual change event later.
-        Model rdfModel = trsResource.getModel();
-
-        try {
-            Resource changeLogResource =
-                    trsResource.getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
-
-            if (changeLogResource != null
-                    && !changeLogResource.equals(RDF.nil)
-                    && changeLogResource.hasProperty(ITRSVocabulary.CHANGE_PROPERTY)) {
-                // Iterate over all trs:change properties referenced by the change log
-                StmtIterator iter =
-                        changeLogResource.listProperties(ITRSVocabulary.CHANGE_PROPERTY);
-
-                while (iter.hasNext()) {
-                    Statement trsChangeReference = iter.nextStatement();
-
-                    // Obtain the actual change event resource using the URI
-                    // mentioned in the change log's trs:change property we are
-                    // currently examining
-                    Resource changeEvent =
-                            rdfModel.getResource(trsChangeReference.getObject().toString());
-
-                    if (RDF.nil.getURI().equals(changeEvent.getURI())) break;
-
-                    if (!changeEvent.hasProperty(ITRSVocabulary.ORDER_PROPERTY)) {
-                        throw new InvalidTRSException(
-                                Messages.getServerString(
-                                        "validators.missing.trs.order.property")); //$NON-NLS-1$
-                    }
-                }
-            }
-        } catch (InvalidTRSException e) {
-            e.printStackTrace();
-            Assert.fail(e.getLocalizedMessage());
-        } catch (Exception e) {
-            e.printStackTrace();
-            Assert.fail(
-                    MessageFormat.format(
-                            Messages.getServerString("tests.general.error"),
-                            e.getLocalizedMessage()));
-        }
+        assertNoProblems(ChangeLogWalker.Check.HAS_ORDER);
     }
 
     @Test
     public void testChangeLogEventHasExactlyOneOrderProperty() {
-        // Get the overall model, we will need it to follow trs:change
-        // references in the change log to the actual change event later.
-        Model rdfModel = trsResource.getModel();
-
-        try {
-            Resource changeLogResource =
-                    trsResource.getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
-
-            if (changeLogResource != null
-                    && !changeLogResource.equals(RDF.nil)
-                    && changeLogResource.hasProperty(ITRSVocabulary.CHANGE_PROPERTY)) {
-                // Iterate over all trs:change properties referenced by the change log
-                StmtIterator iter =
-                        changeLogResource.listProperties(ITRSVocabulary.CHANGE_PROPERTY);
-
-                while (iter.hasNext()) {
-                    Statement trsChangeReference = iter.nextStatement();
-
-                    // Obtain the actual change event resource using the URI
-                    // mentioned in the change log's trs:change property we are
-                    // currently examining
-                    Resource changeEvent =
-                            rdfModel.getResource(trsChangeReference.getObject().toString());
-
-                    if (RDF.nil.getURI().equals(changeEvent.getURI())) break;
-
-                    if (changeEvent.hasProperty(ITRSVocabulary.ORDER_PROPERTY)
-                            && getStatementsForProp(changeEvent, ITRSVocabulary.ORDER_PROPERTY)
-                                            .toList()
-                                            .size()
-                                    != 1) {
-                        throw new InvalidTRSException(
-                                Messages.getServerString(
-                                        "validators.invalid.trs.order.property")); //$NON-NLS-1$
-                    }
-                }
-            }
-        } catch (InvalidTRSException e) {
-            e.printStackTrace();
-            Assert.fail(e.getLocalizedMessage());
-        } catch (Exception e) {
-            e.printStackTrace();
-            Assert.fail(
-                    MessageFormat.format(
-                            Messages.getServerString("tests.general.error"),
-                            e.getLocalizedMessage()));
-        }
+        assertNoProblems(ChangeLogWalker.Check.ONE_ORDER);
     }
 
     @Test
     public void testChangeLogEventOrderPropertyIsPositiveNumber() {
-        // Get the overall model, we will need it to follow trs:change
-        // references in the change log to the actual change event later.
-        Model rdfModel = trsResource.getModel();
-
-        try {
-            Resource changeLogResource =
-                    trsResource.getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
+        assertNoProblems(ChangeLogWalker.Check.ORDER_IS_NUMBER);
+    }
 
-            if (changeLogResource != null
-                    && !changeLogResource.equals(RDF.nil)
-                    && changeLogResource.hasProperty(ITRSVocabulary.CHANGE_PROPERTY)) {
-                // Iterate over all trs:change properties referenced by the change log
-                StmtIterator iter =
-                        changeLogResource.listProperties(ITRSVocabulary.CHANGE_PROPERTY);
+    @Test
+    public void testChangeLogEventOrderPropertyIsUnique() {
+        assertNoProblems(ChangeLogWalker.Check.ORDER_IS_UNIQUE);
+    }
 
-                while (iter.hasNext()) {
-                    Statement trsChangeReference = iter.nextStatement();
+    @Test
+    public void testChangeLogEventOrderPropertyDecreases() {
+        assertNoProblems(ChangeLogWalker.Check.ORDER_DECREASES);
+    }
 
-                    // Obtain the actual change event resource using the URI
-                    // mentioned in the change log's trs:change property we are
-                    // currently examining
-                    Resource changeEvent =
-                            rdfModel.getResource(trsChangeReference.getObject().toString());
+    @Test
+    public void testChangeLogPreviousIsURIResource() {
+        assertNoProblems(ChangeLogWalker.Check.PREVIOUS_IS_URI);
+    }
 
-                    if (RDF.nil.getURI().equals(changeEvent.getURI())) break;
+    @Test
+    public void testChangeLogPreviousIsAcyclic() {
+        assertNoProblems(ChangeLogWalker.Check.PREVIOUS_IS_ACYCLIC);
+    }
 
-                    try {
-                        if (changeEvent.hasProperty(ITRSVocabulary.ORDER_PROPERTY)) {
-                            if (new BigInteger(
-                                                    changeEvent
-                                                            .getProperty(
-                                                                    ITRSVocabulary.ORDER_PROPERTY)
-                                                            .getObject()
-                                                            .asLiteral()
-                                                            .getString())
-                                            .intValue()
-                                    < 0) throw new Exception();
-                        }
-                    } catch (Throwable t) {
-                        throw new InvalidTRSException(
-                                Messages.getServerString("validators.invalid.trs.order.property"),
-                                t); //$NON-NLS-1$
-                    }
-                }
+    /**
+     * Fails with the problems the change log walk found for the check. All event checks share one
+     * walk of the change log, see {@link #getChangeLogWalk()}.
+     */
+    private static void assertNoProblems(ChangeLogWalker.Check check) {
+        try {
+            Problems problems = getChangeLogWalk().getProblems(check);
+            if (!problems.isEmpty()) {
+                throw new InvalidTRSException(problems.toString());
             }
         } catch (InvalidTRSException e) {
             e.printStackTrace();
@@ -589,12 +214,45 @@ public class ChangeLogTest extends TestCore {
         }
     }
 
-    private static boolean isList(RDFNode node) {
-        return node == null
-                ? false
-                : node.asResource().equals(RDF.nil)
-                        || node.asResource().hasProperty(RDF.first)
-                        || node.asResource().hasProperty(RDF.rest)
-                        || node.asResource().hasProperty(RDF.type, RDF.List);
+    /**
+     * Walks the change log back to the cutoff event of the base on first use, validating all of
+     * its change events in one pass. The walk can be cut short with changeLogSegmentLimit.
+     */
+    private static synchronized ChangeLogWalker.Result getChangeLogWalk() throws Exception {
+        if (changeLogWalk == null) {
+            String acceptType = prop.getProperty("acceptType");
+            String cutoffEvent = null;
+            Resource baseReference =
+                    trsResource.getPropertyResourceValue(ITRSVocabulary.BASE_PROPERTY);
+            if (baseReference != null && baseReference.isURIResource()) {
+                Resource base =
+                        getResource(baseReference.getURI(), httpClient, httpContext, acceptType);
+                Resource cutoff =
+                        base.getPropertyResourceValue(ITRSVocabulary.CUTOFFEVENT_PROPERTY);
+                if (cutoff != null && cutoff.isURIResource() && !cutoff.equals(RDF.nil)) {
+                    cutoffEvent = cutoff.getURI();
+                }
+            }
+
+            ChangeLogWalker walker = new ChangeLogWalker(httpClient, httpContext, acceptType);
+            walker.setSegmentLimit(
+                    Integer.parseInt(prop.getProperty("changeLogSegmentLimit", "0").trim()));
+            Resource changeLog =
+                    trsResource.getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
+            changeLogWalk = walker.walk(changeLog, cutoffEvent);
+            System.out.println(
+                    "Walked "
+                            + changeLogWalk.getSegments()
+                            + " change log segments with "
+                            + changeLogWalk.getEvents()
+                            + " change events"
+                            + (changeLogWalk.isTruncated()
+                                    ? " (stopped at changeLogSegmentLimit)"
+                                    : "")
+                            + (cutoffEvent != null && !changeLogWalk.isCutoffReached()
+                                    ? " (cutoff event " + cutoffEvent + " not found)"
+                                    : ""));
+        }
+        return changeLogWalk;
     }
 }
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.oslcv2.trs;
+
+import static org.junit.Assume.assumeTrue;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Properties;
+import org.apache.http.client.HttpClient;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.DefaultedHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.SyncBasicHttpContext;
+import org.eclipse.lyo.testsuite.server.trsutils.BaseWalker;
+import org.eclipse.lyo.testsuite.server.trsutils.InvalidTRSException;
+import org.eclipse.lyo.testsuite.server.trsutils.Messages;
+import org.eclipse.lyo.testsuite.server.trsutils.Problems;
+import org.eclipse.lyo.testsuite.server.trsutils.ReplaySimulator;
+import org.eclipse.lyo.testsuite.server.trsutils.TestCore;
+import org.eclipse.lyo.testsuite.server.trsutils.TrsHttpClient;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Acts as a TRS consumer: rebuilds the tracked resource set from the Base and the Change Log and
+ * checks that the change events apply cleanly on top of the Base. Only runs with <code>
+ * consumerSimulation = true</code> in config.properties, as it reads the whole Base and Change Log.
+ */
+public class ConsumerSimulationTest extends TestCore {
+    private static Properties prop = null;
+    private static HttpClient httpClient = null;
+    private static HttpContext httpContext = null;
+    private static ReplaySimulator.Result replay = null;
+
+    @BeforeClass
+    public static void setupOnce() {
+        try {
+            prop = getConfigPropertiesInstance();
+
+            httpClient = TrsHttpClient.getClient(prop);
+
+            httpContext =
+                    new DefaultedHttpContext(
+                            new BasicHttpContext(), new SyncBasicHttpContext(null));
+        } catch (FileNotFoundException e) {
+            terminateTest(Messages.getServerString("tests.general.config.properties.missing"), e);
+        } catch (IOException e) {
+            terminateTest(
+                    Messages.getServerString("tests.general.config.properties.unreadable"), e);
+        } catch (Exception e) {
+            terminateTest(null, e);
+        }
+    }
+
+    /** Validates that the change log reaches back to the cutoff event of the base. */
+    @Test
+    public void testChangeLogReachesCutoffEvent() {
+        try {
+            ReplaySimulator.Result result = getReplay();
+            if (!result.isReplayedFromCutoff()) {
+                throw new InvalidTRSException(
+                        MessageFormat.format(
+                                Messages.getServerString("validators.replay.missing.cutoff"),
+                                result.getBaseWalk().getCutoffEvent()));
+            }
+        } catch (InvalidTRSException e) {
+            e.printStackTrace();
+            Assert.fail(e.getLocalizedMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail(
+                    MessageFormat.format(
+                            Messages.getServerString("tests.general.error"),
+                            e.getLocalizedMessage()));
+        }
+    }
+
+    @Test
+    public void testReplayCreatesOnlyNewResources() {
+        assertNoProblems(ReplaySimulator.Check.UNIQUE_CREATION);
+    }
+
+    @Test
+    public void testReplayModifiesOnlyTrackedResources() {
+        assertNoProblems(ReplaySimulator.Check.KNOWN_MODIFICATION);
+    }
+
+    @Test
+    public void testReplayDeletesOnlyTrackedResources() {
+        assertNoProblems(ReplaySimulator.Check.LIVE_DELETION);
+    }
+
+    private static void assertNoProblems(ReplaySimulator.Check check) {
+        try {
+            Problems problems = getReplay().getProblems(check);
+            if (!problems.isEmpty()) {
+                throw new InvalidTRSException(problems.toString());
+            }
+        } catch (InvalidTRSException e) {
+            e.printStackTrace();
+            Assert.fail(e.getLocalizedMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail(
+                    MessageFormat.format(
+                            Messages.getServerString("tests.general.error"),
+                            e.getLocalizedMessage()));
+        }
+    }
+
+    /** Runs the simulation on first use; the outcome is shared by the tests. */
+    private static synchronized ReplaySimulator.Result getReplay() throws Exception {
+        assumeTrue(Boolean.parseBoolean(prop.getProperty("consumerSimulation", "false").trim()));
+        if (replay == null) {
+            ReplaySimulator simulator =
+                    new ReplaySimulator(httpClient, httpContext, prop.getProperty("acceptType"));
+            simulator.setMemberLimit(
+                    Integer.parseInt(
+                            prop.getProperty(
+                                            "baseMemberLimit",
+                                            String.valueOf(BaseWalker.DEFAULT_MEMBER_LIMIT))
+                                    .trim()));
+            replay = simulator.run(prop.getProperty("configTrsEndpoint"));
+            System.out.println(
+                    MessageFormat.format(
+                            "Replayed {0} change events on a base of {1} members, leaving {2}"
+                                    + " members: {3,number,#} events/s applied, {4,number,#}"
+                                    + " events/s fetched, {5,number,#.#} s in total; {6}"
+                                    + " events already reflected by the base",
+                            replay.getReplayed(),
+                            replay.getBaseMembers(),
+                            replay.getLiveMembers(),
+                            replay.getEventsPerSecond(),
+                            replay.getFetchedEventsPerSecond(),
+                            replay.getTotalNanos() / 1e9,
+                            Arrays.stream(ReplaySimulator.Check.values())
+                                    .mapToLong(replay::getTolerated)
+                                    .sum()));
+        }
+        return replay;
+    }
+}
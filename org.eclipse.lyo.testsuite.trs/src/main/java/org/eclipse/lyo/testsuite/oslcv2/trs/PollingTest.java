@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.oslcv2.trs;
+
+import static org.junit.Assume.assumeTrue;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.Properties;
+import org.apache.http.client.HttpClient;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.DefaultedHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.SyncBasicHttpContext;
+import org.eclipse.lyo.testsuite.server.trsutils.ChangeLogWalker;
+import org.eclipse.lyo.testsuite.server.trsutils.InvalidTRSException;
+import org.eclipse.lyo.testsuite.server.trsutils.Messages;
+import org.eclipse.lyo.testsuite.server.trsutils.Problems;
+import org.eclipse.lyo.testsuite.server.trsutils.TestCore;
+import org.eclipse.lyo.testsuite.server.trsutils.TrsHttpClient;
+import org.eclipse.lyo.testsuite.server.trsutils.TrsPoller;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Follows the TRS as a long-running consumer would, polling the Change Log for new events over a
+ * period of time and validating every poll. Only runs with a positive <code>pollDuration</code> in
+ * config.properties, which makes it suitable for soak tests lasting hours.
+ */
+public class PollingTest extends TestCore {
+    private static Properties prop = null;
+    private static HttpClient httpClient = null;
+    private static HttpContext httpContext = null;
+
+    @BeforeClass
+    public static void setupOnce() {
+        try {
+            prop = getConfigPropertiesInstance();
+
+            httpClient = TrsHttpClient.getClient(prop);
+
+            httpContext =
+                    new DefaultedHttpContext(
+                            new BasicHttpContext(), new SyncBasicHttpContext(null));
+        } catch (FileNotFoundException e) {
+            terminateTest(Messages.getServerString("tests.general.config.properties.missing"), e);
+        } catch (IOException e) {
+            terminateTest(
+                    Messages.getServerString("tests.general.config.properties.unreadable"), e);
+        } catch (Exception e) {
+            terminateTest(null, e);
+        }
+    }
+
+    /**
+     * Polls the TRS every <code>pollInterval</code> seconds for <code>pollDuration</code> seconds
+     * and validates that every change event fetched is well formed and ordered.
+     */
+    @Test
+    public void testChangeLogPolling() {
+        long duration = Long.parseLong(prop.getProperty("pollDuration", "0").trim());
+        assumeTrue(duration > 0);
+        long interval = Long.parseLong(prop.getProperty("pollInterval", "60").trim());
+        TrsPoller poller =
+                new TrsPoller(
+                        httpClient,
+                        httpContext,
+                        prop.getProperty("acceptType"),
+                        prop.getProperty("configTrsEndpoint"),
+                        Path.of(
+                                prop.getProperty(
+                                                "pollCheckpointFile",
+                                                "target/trs-checkpoint.properties")
+                                        .trim()));
+        try {
+            long deadline = System.nanoTime() + duration * 1_000_000_000L;
+            while (true) {
+                TrsPoller.Poll poll = poller.poll();
+                System.out.println(
+                        MessageFormat.format(
+                                "Poll: {0,number,#} ms, {1} segments, {2} new events{3},"
+                                        + " lag {4,number,#} ms, checkpoint at trs:order {5}",
+                                poll.fetchNanos() / 1_000_000,
+                                poll.segments(),
+                                poll.newEvents(),
+                                poll.baseReread() ? ", base re-read" : "",
+                                poll.lagNanos() / 1_000_000,
+                                poll.checkpoint().order()));
+                for (ChangeLogWalker.Check check : ChangeLogWalker.Check.values()) {
+                    Problems problems = poll.changeLog().getProblems(check);
+                    if (!problems.isEmpty()) {
+                        throw new InvalidTRSException(problems.toString());
+                    }
+                }
+                if (System.nanoTime() + interval * 1_000_000_000L > deadline) {
+                    break;
+                }
+                Thread.sleep(interval * 1000);
+            }
+        } catch (InvalidTRSException e) {
+            e.printStackTrace();
+            Assert.fail(e.getLocalizedMessage());
+        } catch (Exception e) {
+            e.printStackTrace();
+            Assert.fail(
+                    MessageFormat.format(
+                            Messages.getServerString("tests.general.error"),
+                            e.getLocalizedMessage()));
+        } finally {
+            try {
+                poller.export(
+                        Path.of(
+                                prop.getProperty("fetchMetricsDir", "target/surefire-reports")
+                                        .trim()));
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
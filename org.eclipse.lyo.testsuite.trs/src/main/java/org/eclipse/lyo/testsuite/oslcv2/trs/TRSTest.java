@@ -25,12 +25,12 @@ import org.apache.http.protocol.HttpContext;
 import org.apache.http.protocol.SyncBasicHttpContext;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.vocabulary.RDF;
-import org.eclipse.lyo.testsuite.server.trsutils.EasySSLClient;
 import org.eclipse.lyo.testsuite.server.trsutils.FetchException;
 import org.eclipse.lyo.testsuite.server.trsutils.ITRSVocabulary;
 import org.eclipse.lyo.testsuite.server.trsutils.InvalidTRSException;
 import org.eclipse.lyo.testsuite.server.trsutils.Messages;
 import org.eclipse.lyo.testsuite.server.trsutils.TestCore;
+import org.eclipse.lyo.testsuite.server.trsutils.TrsHttpClient;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -49,7 +49,7 @@ public class TRSTest extends TestCore {
             String trsEndpoint = prop.getProperty("configTrsEndpoint");
             String acceptType = prop.getProperty("acceptType");
 
-            httpClient = new EasySSLClient().getClient();
+            httpClient = TrsHttpClient.getClient(prop);
 
             httpContext =
                     new DefaultedHttpContext(
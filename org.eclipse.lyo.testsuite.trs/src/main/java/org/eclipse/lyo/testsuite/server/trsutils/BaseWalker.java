@@ -0,0 +1,324 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.apache.http.client.HttpClient;
+import org.apache.http.protocol.HttpContext;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ResIterator;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFLib;
+import org.apache.jena.riot.system.StreamRDFWrapper;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+
+/**
+ * Walks every page of a TRS Base by following <code>ldp:nextPage</code>, checking that each page
+ * is an <code>ldp:pageOf</code> the Base and that no member is listed twice.
+ *
+ * <p>The walk is pipelined: as soon as a page has been fetched and parsed, the fetch of the next
+ * page starts on a background thread while the members of the current page are processed. Only
+ * two pages are held at a time and members are de-duplicated in a {@link FingerprintSet}, so
+ * memory stays bounded however large the Base is. Pages are parsed from the response stream and
+ * their member triples are kept as plain URIs rather than in a model; only the few triples that
+ * describe the page itself are.
+ */
+public class BaseWalker {
+    /**
+     * Default for {@link #setMemberLimit(int)}: ten million members, whose fingerprints take 128 MB
+     * once the set is full (see {@link FingerprintSet}).
+     */
+    public static final int DEFAULT_MEMBER_LIMIT = 10_000_000;
+
+    private static final Node LDP_MEMBER = ITRSVocabulary.MEMBER_PROPERTY.asNode();
+
+    /** A fetched page: the triples describing it and the members it lists. */
+    private record Page(Model model, List<String> members) {}
+
+    private final HttpClient httpClient;
+    private final HttpContext httpContext;
+    private final String acceptType;
+    private int pageLimit;
+    private int memberLimit = DEFAULT_MEMBER_LIMIT;
+    private Consumer<String> memberListener;
+
+    public BaseWalker(HttpClient httpClient, HttpContext httpContext, String acceptType) {
+        this.httpClient = httpClient;
+        this.httpContext = httpContext;
+        this.acceptType = acceptType;
+    }
+
+    /** Stops the walk after the given number of pages; 0 (the default) walks them all. */
+    public void setPageLimit(int pageLimit) {
+        this.pageLimit = pageLimit;
+    }
+
+    /** Caps the number of member fingerprints kept, see {@link FingerprintSet}. */
+    public void setMemberLimit(int memberLimit) {
+        this.memberLimit = memberLimit;
+    }
+
+    /** Hands every member URI to the listener as the walk goes, duplicates included. */
+    public void setMemberListener(Consumer<String> memberListener) {
+        this.memberListener = memberListener;
+    }
+
+    /**
+     * Walks the Base.
+     *
+     * @param baseUri the URI of the Base, the object of <code>trs:base</code>
+     * @throws FetchException if a page cannot be fetched or parsed
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public Result walk(String baseUri) throws FetchException, InterruptedException {
+        Resource base = ResourceFactory.createResource(baseUri);
+        Result result = new Result();
+        FingerprintSet members = new FingerprintSet(memberLimit);
+        FingerprintSet pages = new FingerprintSet(memberLimit);
+        pages.add(baseUri);
+
+        ExecutorService prefetcher =
+                Executors.newSingleThreadExecutor(
+                        task -> {
+                            Thread thread = new Thread(task, "trs-base-prefetch");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        try {
+            String pageUri = baseUri;
+            Future<Page> pending = prefetcher.submit(fetch(pageUri, base.asNode()));
+            while (pending != null) {
+                Page fetched = await(pending, pageUri);
+                Model model = fetched.model();
+                pending = null;
+                result.pages++;
+                if (result.pages == 1) {
+                    Resource cutoff =
+                            model.getResource(baseUri)
+                                    .getPropertyResourceValue(ITRSVocabulary.CUTOFFEVENT_PROPERTY);
+                    if (cutoff != null && cutoff.isURIResource() && !cutoff.equals(RDF.nil)) {
+                        result.cutoffEvent = cutoff.getURI();
+                    }
+                }
+
+                String nextUri = null;
+                Resource page = findPage(model, pageUri);
+                if (page == null) {
+                    // Paging is optional, but only for a Base that fits on one page
+                    if (result.pages > 1) {
+                        result.paging.add(
+                                format("validators.missing.rdf.type.ldp.page.on", pageUri));
+                    }
+                } else {
+                    pages.add(page.getURI());
+                    if (!page.hasProperty(ITRSVocabulary.PAGE_OF_RESOURCE, base)) {
+                        result.pageOf.add(format("validators.invalid.base.page.of", pageUri));
+                    }
+                    Statement next = page.getProperty(ITRSVocabulary.NEXT_PAGE_PROPERTY);
+                    if (next == null || !next.getObject().isURIResource()) {
+                        result.paging.add(format("validators.missing.ldp.next.page.on", pageUri));
+                    } else if (!next.getObject().equals(RDF.nil)) {
+                        nextUri = next.getResource().getURI();
+                        if (!pages.add(nextUri)) {
+                            result.paging.add(format("validators.base.page.cycle", pageUri));
+                            nextUri = null;
+                        }
+                    }
+                }
+
+                if (nextUri != null) {
+                    if (pageLimit > 0 && result.pages >= pageLimit) {
+                        result.truncated = true;
+                    } else {
+                        pending = prefetcher.submit(fetch(nextUri, base.asNode()));
+                    }
+                }
+
+                // The next page is on its way while the members of this one are processed
+                for (String memberUri : fetched.members()) {
+                    result.members++;
+                    if (memberListener != null) {
+                        memberListener.accept(memberUri);
+                    }
+                    if (!members.add(memberUri)) {
+                        result.duplicates.add(
+                                format("validators.duplicate.base.member", memberUri));
+                    }
+                }
+                model.close();
+                pageUri = nextUri;
+            }
+        } finally {
+            prefetcher.shutdownNow();
+        }
+        result.memberSetSaturated = members.isSaturated();
+        return result;
+    }
+
+    /**
+     * Parses a page, setting the member triples of the Base aside as URIs. Members may be listed
+     * with <code>rdfs:member</code>, <code>ldp:member</code> or both; one listed with both on the
+     * same page counts once.
+     */
+    private Callable<Page> fetch(String uri, Node base) {
+        return FetchMetrics.withCurrentTest(
+                () -> {
+                    Model model = ModelUtil.createDefaultModel();
+                    List<String> members = new ArrayList<>();
+                    List<String> ldpMembers = new ArrayList<>();
+                    StreamRDF sink =
+                            new StreamRDFWrapper(StreamRDFLib.graph(model.getGraph())) {
+                                @Override
+                                public void triple(Triple triple) {
+                                    if (triple.getSubject().equals(base)
+                                            && triple.getObject().isURI()) {
+                                        if (triple.getPredicate().equals(RDFS.Nodes.member)) {
+                                            members.add(triple.getObject().getURI());
+                                            return;
+                                        }
+                                        if (triple.getPredicate().equals(LDP_MEMBER)) {
+                                            ldpMembers.add(triple.getObject().getURI());
+                                            return;
+                                        }
+                                    }
+                                    super.triple(triple);
+                                }
+                            };
+                    Model fetched =
+                            FetchUtil.fetchResource(uri, httpClient, httpContext, acceptType, sink);
+                    if (fetched == null) {
+                        return null;
+                    }
+                    if (!ldpMembers.isEmpty()) {
+                        Set<String> listed = new HashSet<>(members);
+                        for (String member : ldpMembers) {
+                            if (!listed.contains(member)) {
+                                members.add(member);
+                            }
+                        }
+                    }
+                    return new Page(model, members);
+                });
+    }
+
+    private static Page await(Future<Page> pending, String uri)
+            throws FetchException, InterruptedException {
+        Page page;
+        try {
+            page = pending.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FetchException fetchException) {
+                throw fetchException;
+            }
+            if (e.getCause() instanceof InterruptedException interruptedException) {
+                throw interruptedException;
+            }
+            throw new FetchException(e.getCause());
+        }
+        if (page == null) {
+            throw new FetchException(format("fetch.util.retrieve.error", uri));
+        }
+        return page;
+    }
+
+    /**
+     * @return the <code>ldp:Page</code> in the model: the fetched resource itself if it is typed as
+     *     one, otherwise the only resource that is, or <code>null</code>
+     */
+    private static Resource findPage(Model model, String pageUri) {
+        Resource fetched = model.createResource(pageUri);
+        if (fetched.hasProperty(RDF.type, ITRSVocabulary.PAGE_RESOURCE)) {
+            return fetched;
+        }
+        ResIterator iter = model.listResourcesWithProperty(RDF.type, ITRSVocabulary.PAGE_RESOURCE);
+        try {
+            Resource page = iter.hasNext() ? iter.nextResource() : null;
+            return page != null && page.isURIResource() && !iter.hasNext() ? page : null;
+        } finally {
+            iter.close();
+        }
+    }
+
+    private static String format(String key, String uri) {
+        return MessageFormat.format(Messages.getServerString(key), uri);
+    }
+
+    /** The outcome of a walk. Problems are counted in full but only the first few are kept. */
+    public static class Result {
+        int pages;
+        long members;
+        String cutoffEvent;
+        boolean truncated;
+        boolean memberSetSaturated;
+        final Problems pageOf = new Problems();
+        final Problems paging = new Problems();
+        final Problems duplicates = new Problems();
+
+        public int getPages() {
+            return pages;
+        }
+
+        /** @return the number of members listed, duplicates included */
+        public long getMembers() {
+            return members;
+        }
+
+        /** @return the <code>trs:cutoffEvent</code> of the Base, or <code>null</code> if none */
+        public String getCutoffEvent() {
+            return cutoffEvent;
+        }
+
+        /** @return whether the walk stopped at the page limit before the last page */
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        /** @return whether duplicates may have been missed because the member set was full */
+        public boolean isMemberSetSaturated() {
+            return memberSetSaturated;
+        }
+
+        /** @return pages without an <code>ldp:pageOf</code> pointing to the Base */
+        public Problems getPageOfViolations() {
+            return pageOf;
+        }
+
+        /** @return pages that are not typed, lack <code>ldp:nextPage</code> or close a cycle */
+        public Problems getPagingViolations() {
+            return paging;
+        }
+
+        /** @return members listed more than once */
+        public Problems getDuplicateMembers() {
+            return duplicates;
+        }
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import java.math.BigInteger;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import org.apache.http.client.HttpClient;
+import org.apache.http.protocol.HttpContext;
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.RDFNode;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
+import org.apache.jena.vocabulary.RDF;
+
+/**
+ * Walks a TRS Change Log from its newest segment back to the <code>trs:cutoffEvent</code> by
+ * following <code>trs:previous</code>, validating every change event in a single pass.
+ *
+ * <p>Only the current segment is held in memory. Across segments, the walker remembers the lowest
+ * <code>trs:order</code> seen so far; every event of an older segment must be below it. Within a
+ * segment, the orders are sorted to find duplicates. Together this checks that orders are unique
+ * and strictly decreasing along the log, whatever its length. Older segments are fetched with
+ * {@link FetchUtil#fetchTriples}, keeping only the triples of the predicates that describe change
+ * events, so whatever else a server puts in a segment is never held in memory.
+ */
+public class ChangeLogWalker {
+    /** The checks made on every change event, each backed by a message key. */
+    public enum Check {
+        EVENT_IS_URI("validators.missing.uri.change.event"),
+        HAS_EVENT_TYPE("validators.missing.type.change.event"),
+        ONE_EVENT_TYPE("validators.invalid.type.change.event"),
+        HAS_CHANGED("validators.missing.trs.changed.property"),
+        ONE_CHANGED("validators.invalid.trs.changed.property"),
+        CHANGED_IS_URI("validators.invalid.trs.changed.property"),
+        HAS_ORDER("validators.missing.trs.order.property"),
+        ONE_ORDER("validators.invalid.trs.order.property"),
+        ORDER_IS_NUMBER("validators.invalid.trs.order.property"),
+        ORDER_IS_UNIQUE("validators.duplicate.trs.order.property"),
+        ORDER_DECREASES("validators.unordered.trs.order.property"),
+        PREVIOUS_IS_URI("validators.invalid.trs.previous.property"),
+        PREVIOUS_IS_ACYCLIC("validators.changelog.previous.cycle");
+
+        private final String messageKey;
+
+        Check(String messageKey) {
+            this.messageKey = messageKey;
+        }
+    }
+
+    private static final Predicate<Triple> SEGMENT_TRIPLES =
+            FetchUtil.withPredicates(
+                    ITRSVocabulary.CHANGE_PROPERTY,
+                    ITRSVocabulary.ORDER_PROPERTY,
+                    ITRSVocabulary.CHANGED_PROPERTY,
+                    ITRSVocabulary.PREVIOUS_PROPERTY,
+                    RDF.type);
+
+    private static final Resource[] EVENT_TYPES = {
+        ITRSVocabulary.CREATION_RESOURCE,
+        ITRSVocabulary.MODIFICATION_RESOURCE,
+        ITRSVocabulary.DELETION_RESOURCE
+    };
+
+    /** Receives the well-formed change events of the log, newest first within each segment. */
+    public interface EventListener {
+        /**
+         * @param event the URI of the change event, or <code>null</code> for a blank node
+         * @param order the <code>trs:order</code> of the event
+         * @param type one of <code>trs:Creation</code>, <code>trs:Modification</code> and <code>
+         *     trs:Deletion</code>
+         * @param changed the URI of the resource that changed
+         */
+        void changeEvent(String event, BigInteger order, Resource type, String changed);
+    }
+
+    private record ChangeEvent(String event, BigInteger order, Resource type, String changed) {}
+
+    private final HttpClient httpClient;
+    private final HttpContext httpContext;
+    private final String acceptType;
+    private int segmentLimit;
+    private EventListener eventListener;
+    private BigInteger stopOrder;
+
+    public ChangeLogWalker(HttpClient httpClient, HttpContext httpContext, String acceptType) {
+        this.httpClient = httpClient;
+        this.httpContext = httpContext;
+        this.acceptType = acceptType;
+    }
+
+    /** Stops the walk after the given number of segments; 0 (the default) walks them all. */
+    public void setSegmentLimit(int segmentLimit) {
+        this.segmentLimit = segmentLimit;
+    }
+
+    /**
+     * Hands the change events to the listener as the walk goes. Segments should be newest first
+     * along the log, so listeners see events in decreasing order as long as {@link
+     * Check#ORDER_DECREASES} holds.
+     */
+    public void setEventListener(EventListener eventListener) {
+        this.eventListener = eventListener;
+    }
+
+    /**
+     * Also stops the walk after the first segment holding an event at or below the given order,
+     * for consumers that only need the events after one they have already processed.
+     */
+    public void setStopOrder(BigInteger stopOrder) {
+        this.stopOrder = stopOrder;
+    }
+
+    /**
+     * Walks the Change Log.
+     *
+     * @param changeLog the object of <code>trs:changeLog</code>, in the model of the TRS
+     * @param cutoffEvent the URI of the <code>trs:cutoffEvent</code> of the Base, or
+     *     <code>null</code> to follow <code>trs:previous</code> to the end
+     * @throws FetchException if an older segment cannot be fetched or parsed
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public Result walk(Resource changeLog, String cutoffEvent)
+            throws FetchException, InterruptedException {
+        Result result = new Result();
+        FingerprintSet segments = new FingerprintSet(Integer.MAX_VALUE);
+        BigInteger lowestOrder = null;
+
+        Resource segment = changeLog;
+        while (segment != null && !segment.equals(RDF.nil)) {
+            result.segments++;
+            if (segment.isURIResource()) {
+                segments.add(segment.getURI());
+            }
+
+            List<BigInteger> orders = new ArrayList<>();
+            List<ChangeEvent> events = new ArrayList<>();
+            StmtIterator changes = segment.listProperties(ITRSVocabulary.CHANGE_PROPERTY);
+            try {
+                while (changes.hasNext()) {
+                    RDFNode event = changes.nextStatement().getObject();
+                    if (event.equals(RDF.nil)) {
+                        continue;
+                    }
+                    result.events++;
+                    if (event.isLiteral()) {
+                        result.add(Check.EVENT_IS_URI, event.toString());
+                        continue;
+                    }
+                    BigInteger order = validateEvent(event.asResource(), result);
+                    if (order != null) {
+                        orders.add(order);
+                        if (eventListener != null) {
+                            addEvent(events, event.asResource(), order);
+                        }
+                    }
+                    if (cutoffEvent != null
+                            && event.isURIResource()
+                            && cutoffEvent.equals(event.asResource().getURI())) {
+                        result.cutoffReached = true;
+                        result.cutoffOrder = order;
+                    }
+                }
+            } finally {
+                changes.close();
+            }
+
+            // Newest first: orders must be unique and all below those of newer segments
+            orders.sort(null);
+            for (int i = 1; i < orders.size(); i++) {
+                if (orders.get(i).equals(orders.get(i - 1))) {
+                    result.add(Check.ORDER_IS_UNIQUE, orders.get(i).toString());
+                }
+            }
+            if (!orders.isEmpty()) {
+                BigInteger highest = orders.get(orders.size() - 1);
+                if (lowestOrder != null && highest.compareTo(lowestOrder) >= 0) {
+                    result.add(Check.ORDER_DECREASES, highest.toString());
+                }
+                BigInteger lowest = orders.get(0);
+                lowestOrder = lowestOrder == null ? lowest : lowestOrder.min(lowest);
+            }
+            events.sort((a, b) -> b.order().compareTo(a.order()));
+            for (ChangeEvent event : events) {
+                eventListener.changeEvent(
+                        event.event(), event.order(), event.type(), event.changed());
+            }
+
+            Statement previousStatement = segment.getProperty(ITRSVocabulary.PREVIOUS_PROPERTY);
+            Resource previous = null;
+            if (previousStatement != null && previousStatement.getObject().isURIResource()) {
+                previous = previousStatement.getResource();
+            } else if (previousStatement != null
+                    || (cutoffEvent != null && !result.cutoffReached)) {
+                // Without trs:previous the log ends here, too early if the cutoff is still ahead
+                result.add(
+                        Check.PREVIOUS_IS_URI,
+                        segment.isURIResource() ? segment.getURI() : segment.toString());
+            }
+            if (segment != changeLog) {
+                // Older segments were fetched here; the first one belongs to the caller
+                segment.getModel().close();
+            }
+            segment = null;
+            if (result.cutoffReached
+                    || (stopOrder != null
+                            && lowestOrder != null
+                            && lowestOrder.compareTo(stopOrder) <= 0)
+                    || previous == null) {
+                break;
+            }
+            if (segmentLimit > 0 && result.segments >= segmentLimit) {
+                result.truncated = !previous.equals(RDF.nil);
+                break;
+            }
+            if (!previous.equals(RDF.nil)) {
+                String previousUri = previous.getURI();
+                if (!segments.add(previousUri)) {
+                    result.add(Check.PREVIOUS_IS_ACYCLIC, previousUri);
+                    break;
+                }
+                Model model = ModelUtil.createDefaultModel();
+                Graph graph = model.getGraph();
+                boolean fetched =
+                        FetchUtil.fetchTriples(
+                                previousUri,
+                                httpClient,
+                                httpContext,
+                                acceptType,
+                                SEGMENT_TRIPLES,
+                                graph::add);
+                if (!fetched) {
+                    throw new FetchException(
+                            MessageFormat.format(
+                                    Messages.getServerString("fetch.util.retrieve.error"),
+                                    previousUri));
+                }
+                segment = model.getResource(previousUri);
+            }
+        }
+        return result;
+    }
+
+    /** Buffers an event for the listener if it has a single type and a changed resource. */
+    private static void addEvent(List<ChangeEvent> events, Resource event, BigInteger order) {
+        Resource type = null;
+        for (Resource candidate : EVENT_TYPES) {
+            if (event.hasProperty(RDF.type, candidate)) {
+                if (type != null) {
+                    return;
+                }
+                type = candidate;
+            }
+        }
+        Resource changed = event.getPropertyResourceValue(ITRSVocabulary.CHANGED_PROPERTY);
+        if (type != null && changed != null && changed.isURIResource()) {
+            events.add(new ChangeEvent(event.getURI(), order, type, changed.getURI()));
+        }
+    }
+
+    /** Runs the per-event checks, returning the event's order if it has a usable one. */
+    private static BigInteger validateEvent(Resource event, Result result) {
+        String label = event.isURIResource() ? event.getURI() : event.toString();
+        if (!event.isURIResource()) {
+            result.add(Check.EVENT_IS_URI, label);
+        }
+
+        int types = 0;
+        for (Resource type : EVENT_TYPES) {
+            if (event.hasProperty(RDF.type, type)) {
+                types++;
+            }
+        }
+        if (types == 0) {
+            result.add(Check.HAS_EVENT_TYPE, label);
+        }
+        if (types != 1) {
+            result.add(Check.ONE_EVENT_TYPE, label);
+        }
+
+        List<Statement> changed = event.listProperties(ITRSVocabulary.CHANGED_PROPERTY).toList();
+        if (changed.isEmpty()) {
+            result.add(Check.HAS_CHANGED, label);
+        } else {
+            if (changed.size() != 1) {
+                result.add(Check.ONE_CHANGED, label);
+            }
+            if (!changed.get(0).getObject().isURIResource()) {
+                result.add(Check.CHANGED_IS_URI, label);
+            }
+        }
+
+        List<Statement> orders = event.listProperties(ITRSVocabulary.ORDER_PROPERTY).toList();
+        if (orders.isEmpty()) {
+            result.add(Check.HAS_ORDER, label);
+            return null;
+        }
+        if (orders.size() != 1) {
+            result.add(Check.ONE_ORDER, label);
+        }
+        try {
+            BigInteger order = new BigInteger(orders.get(0).getObject().asLiteral().getString());
+            if (order.signum() <= 0) {
+                result.add(Check.ORDER_IS_NUMBER, label);
+                return null;
+            }
+            return order;
+        } catch (RuntimeException e) {
+            result.add(Check.ORDER_IS_NUMBER, label);
+            return null;
+        }
+    }
+
+    /** The outcome of a walk, with the {@link Problems} found by each {@link Check}. */
+    public static class Result {
+        int segments;
+        long events;
+        boolean cutoffReached;
+        BigInteger cutoffOrder;
+        boolean truncated;
+        private final Map<Check, Problems> problems = new EnumMap<>(Check.class);
+
+        Result() {
+            for (Check check : Check.values()) {
+                problems.put(check, new Problems());
+            }
+        }
+
+        void add(Check check, String subject) {
+            problems.get(check)
+                    .add(Messages.getServerString(check.messageKey) + " (" + subject + ")");
+        }
+
+        public int getSegments() {
+            return segments;
+        }
+
+        public long getEvents() {
+            return events;
+        }
+
+        /** @return whether the cutoff event was found */
+        public boolean isCutoffReached() {
+            return cutoffReached;
+        }
+
+        /** @return the order of the cutoff event, or <code>null</code> if it was not found */
+        public BigInteger getCutoffOrder() {
+            return cutoffOrder;
+        }
+
+        /** @return whether the walk stopped at the segment limit before the cutoff event */
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        public Problems getProblems(Check check) {
+            return problems.get(check);
+        }
+    }
+}
@@ -27,6 +27,12 @@ import org.apache.http.conn.ssl.TrustStrategy;
 import org.apache.http.impl.client.BasicCookieStore;
 import org.apache.http.impl.client.DefaultHttpClient;
 
+/**
+ * A single-connection client that accepts self-signed certificates on a fixed list of ports.
+ *
+ * @deprecated use the pooled client of {@link TrsHttpClient}, which allows any port
+ */
+@Deprecated
 public class EasySSLClient {
     private DefaultHttpClient httpClient;
 
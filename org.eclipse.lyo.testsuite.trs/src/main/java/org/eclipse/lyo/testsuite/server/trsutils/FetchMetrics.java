@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.eclipse.lyo.testsuite.common.LatencyHistogram;
+
+/**
+ * Timings of the fetches made by {@link FetchUtil}, recorded when <code>fetchMetrics=true</code> in
+ * config.properties.
+ *
+ * <p>Each fetch is recorded with its status, body size, the time spent setting up a new connection
+ * (connect, 0 when a pooled connection was reused), the rest of the time to the response headers
+ * (firstByte) and the time spent reading and parsing the body (body). Fetches are added to {@link
+ * LatencyHistogram}s per endpoint pattern as they are recorded, and only the last <code>
+ * fetchMetricsMaxSamples</code> fetches are kept one by one. {@link #export(Path)} writes those
+ * fetches to <code>trs-fetch-metrics.csv</code> and percentiles of all fetches per endpoint pattern
+ * to <code>trs-fetch-metrics.json</code>, in the format of the <code>http-metrics.json</code> of
+ * the OSLC suite, by default next to the surefire reports (<code>fetchMetricsDir</code>).
+ */
+public class FetchMetrics {
+    public static final String CSV_FILE = "trs-fetch-metrics.csv";
+    public static final String JSON_FILE = "trs-fetch-metrics.json";
+    public static final String DEFAULT_DIRECTORY = "target/surefire-reports";
+    public static final int DEFAULT_MAX_SAMPLES = 10_000;
+
+    private static final Pattern NUMBER = Pattern.compile("\\d+");
+    private static final Pattern OPAQUE_ID =
+            Pattern.compile("[-_.~%A-Za-z0-9]*\\d[-_.~%A-Za-z0-9]*");
+
+    private static Boolean enabled;
+    private static Path directory = Path.of(DEFAULT_DIRECTORY);
+    private static int maxSamples = DEFAULT_MAX_SAMPLES;
+
+    // The last maxSamples fetches, and all fetches by endpoint; guarded by the class
+    private static final Deque<Fetch> fetches = new ArrayDeque<>();
+    private static final Map<String, Summary> summaries = new TreeMap<>();
+    private static long count;
+    private static final ThreadLocal<String[]> currentTest = new ThreadLocal<>();
+    // The connection set-up time of the fetch in progress on the thread, see #start()
+    private static final ThreadLocal<long[]> connecting = new ThreadLocal<>();
+
+    /** One fetch, all durations in nanoseconds. */
+    public record Fetch(
+            long timestamp,
+            String testClass,
+            String testMethod,
+            String uri,
+            String endpoint,
+            int status,
+            long bytes,
+            long connect,
+            long firstByte,
+            long body) {
+        public long total() {
+            return connect + firstByte + body;
+        }
+    }
+
+    /** @return whether <code>fetchMetrics</code> is set, reading config.properties on first use */
+    public static synchronized boolean isEnabled() {
+        if (enabled == null) {
+            try {
+                Properties prop = TestCore.getConfigPropertiesInstance();
+                enabled = Boolean.parseBoolean(prop.getProperty("fetchMetrics", "false").trim());
+                directory = Path.of(prop.getProperty("fetchMetricsDir", DEFAULT_DIRECTORY).trim());
+                String samples =
+                        prop.getProperty(
+                                "fetchMetricsMaxSamples", String.valueOf(DEFAULT_MAX_SAMPLES));
+                maxSamples = Integer.parseInt(samples.trim());
+            } catch (IOException e) {
+                enabled = false;
+            }
+        }
+        return enabled;
+    }
+
+    public static synchronized void setEnabled(boolean enable) {
+        enabled = enable;
+    }
+
+    /** Sets how many fetches are kept one by one for the CSV file, dropping the oldest. */
+    public static synchronized void setMaxSamples(int samples) {
+        maxSamples = samples;
+        trim();
+    }
+
+    /** Tags the fetches of the calling thread with the given test; the method may be null. */
+    public static void setCurrentTest(String testClass, String testMethod) {
+        currentTest.set(new String[] {testClass, testMethod == null ? "" : testMethod});
+    }
+
+    public static void clearCurrentTest() {
+        currentTest.remove();
+    }
+
+    /** Wraps a task so that the fetches it makes on another thread are tagged like the caller's. */
+    public static <T> Callable<T> withCurrentTest(Callable<T> task) {
+        String[] test = currentTest.get();
+        return () -> {
+            currentTest.set(test);
+            try {
+                return task.call();
+            } finally {
+                currentTest.remove();
+            }
+        };
+    }
+
+    /**
+     * Starts timing a fetch on the calling thread, so that the connections set up for it are
+     * counted by {@link #recordConnect(long)}.
+     *
+     * @return {@link System#nanoTime()}, the start to pass to {@link #record}
+     */
+    public static long start() {
+        connecting.set(new long[1]);
+        return System.nanoTime();
+    }
+
+    /** Adds the set-up of a connection to the fetch in progress on the calling thread, if any. */
+    static void recordConnect(long nanos) {
+        long[] connect = connecting.get();
+        if (connect != null) {
+            connect[0] += nanos;
+        }
+    }
+
+    /**
+     * Records a fetch started by {@link #start()}.
+     *
+     * @param start {@link System#nanoTime()} when the request was sent
+     * @param headers {@link System#nanoTime()} when the response headers arrived, or -1 if they
+     *     did not
+     * @param end {@link System#nanoTime()} when the body was read and parsed
+     */
+    public static void record(
+            String uri, int status, long bytes, long start, long headers, long end) {
+        long[] connect = connecting.get();
+        connecting.remove();
+        if (!isEnabled()) {
+            return;
+        }
+        String[] test = currentTest.get();
+        long connected = connect == null ? 0 : connect[0];
+        long firstByte = Math.max((headers < 0 ? end : headers) - start - connected, 0);
+        add(
+                new Fetch(
+                        System.currentTimeMillis() - (System.nanoTime() - start) / 1_000_000,
+                        test == null ? "" : test[0],
+                        test == null ? "" : test[1],
+                        uri,
+                        endpointPattern(uri),
+                        status,
+                        bytes,
+                        connected,
+                        firstByte,
+                        headers < 0 ? 0 : end - headers));
+    }
+
+    private static synchronized void add(Fetch fetch) {
+        count++;
+        summaries.computeIfAbsent(fetch.endpoint(), e -> new Summary()).add(fetch);
+        fetches.addLast(fetch);
+        trim();
+    }
+
+    private static void trim() {
+        while (fetches.size() > Math.max(maxSamples, 0)) {
+            fetches.removeFirst();
+        }
+    }
+
+    /** @return the last fetches recorded, at most <code>fetchMetricsMaxSamples</code> of them */
+    public static synchronized List<Fetch> getFetches() {
+        return new ArrayList<>(fetches);
+    }
+
+    /** @return the number of fetches recorded, including those no longer kept one by one */
+    public static synchronized long getCount() {
+        return count;
+    }
+
+    /** Forgets all fetches recorded. */
+    public static synchronized void reset() {
+        fetches.clear();
+        summaries.clear();
+        count = 0;
+    }
+
+    /**
+     * Reduces a URI to the endpoint it addresses: the query keeps only its parameter names, and
+     * path segments that look like identifiers become <code>{id}</code>.
+     */
+    public static String endpointPattern(String uri) {
+        URI parsed;
+        try {
+            parsed = URI.create(uri);
+        } catch (IllegalArgumentException e) {
+            return uri;
+        }
+        StringBuilder pattern = new StringBuilder();
+        if (parsed.getScheme() != null) {
+            pattern.append(parsed.getScheme()).append("://");
+        }
+        if (parsed.getRawAuthority() != null) {
+            pattern.append(parsed.getRawAuthority());
+        }
+        String path = parsed.getRawPath();
+        if (path != null && !path.isEmpty()) {
+            for (String segment : path.substring(1).split("/", -1)) {
+                boolean identifier =
+                        NUMBER.matcher(segment).matches()
+                                || (segment.length() >= 8 && OPAQUE_ID.matcher(segment).matches());
+                pattern.append('/').append(identifier ? "{id}" : segment);
+            }
+        }
+        if (parsed.getRawQuery() != null) {
+            TreeSet<String> names = new TreeSet<>();
+            for (String parameter : parsed.getRawQuery().split("&")) {
+                int equals = parameter.indexOf('=');
+                names.add(equals < 0 ? parameter : parameter.substring(0, equals));
+            }
+            pattern.append('?').append(String.join("&", names));
+        }
+        return pattern.toString();
+    }
+
+    /** Exports to the configured directory if metrics are enabled. */
+    public static void exportIfEnabled() throws IOException {
+        if (isEnabled()) {
+            export(directory);
+        }
+    }
+
+    /** Writes {@value #CSV_FILE} and {@value #JSON_FILE} to the directory, creating it. */
+    public static synchronized void export(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<Fetch> snapshot = getFetches();
+        try (BufferedWriter writer =
+                Files.newBufferedWriter(directory.resolve(CSV_FILE), StandardCharsets.UTF_8)) {
+            writer.write(
+                    "timestamp,testClass,testMethod,uri,endpoint,status,bytes,"
+                            + "connectMs,firstByteMs,bodyMs,totalMs");
+            writer.newLine();
+            for (Fetch fetch : snapshot) {
+                writer.write(
+                        String.join(
+                                ",",
+                                Instant.ofEpochMilli(fetch.timestamp()).toString(),
+                                csv(fetch.testClass()),
+                                csv(fetch.testMethod()),
+                                csv(fetch.uri()),
+                                csv(fetch.endpoint()),
+                                String.valueOf(fetch.status()),
+                                String.valueOf(fetch.bytes()),
+                                millis(fetch.connect()),
+                                millis(fetch.firstByte()),
+                                millis(fetch.body()),
+                                millis(fetch.total())));
+                writer.newLine();
+            }
+        }
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"fetches\": ").append(count);
+        json.append(",\n  \"unit\": \"ms\",\n  \"endpoints\": [");
+        String separator = "\n";
+        for (Map.Entry<String, Summary> entry : summaries.entrySet()) {
+            Summary summary = entry.getValue();
+            json.append(separator).append("    {\"endpoint\": ").append(jsonString(entry.getKey()));
+            json.append(", \"fetches\": ").append(summary.fetches);
+            json.append(", \"bytes\": ").append(summary.bytes);
+            json.append(",\n      \"total\": ").append(summary.total.toJson(true));
+            json.append(",\n      \"connect\": ").append(summary.connect.toJson(false));
+            json.append(",\n      \"firstByte\": ").append(summary.firstByte.toJson(true));
+            json.append(",\n      \"body\": ").append(summary.body.toJson(false));
+            json.append("}");
+            separator = ",\n";
+        }
+        json.append("\n  ]\n}\n");
+        Files.writeString(directory.resolve(JSON_FILE), json, StandardCharsets.UTF_8);
+    }
+
+    /** The fetches of one endpoint pattern, with a latency histogram in microseconds per phase. */
+    private static final class Summary {
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final LatencyHistogram connect = new LatencyHistogram();
+        private final LatencyHistogram firstByte = new LatencyHistogram();
+        private final LatencyHistogram body = new LatencyHistogram();
+        private long fetches;
+        private long bytes;
+
+        void add(Fetch fetch) {
+            fetches++;
+            bytes += fetch.bytes();
+            total.record(TimeUnit.NANOSECONDS.toMicros(fetch.total()));
+            connect.record(TimeUnit.NANOSECONDS.toMicros(fetch.connect()));
+            firstByte.record(TimeUnit.NANOSECONDS.toMicros(fetch.firstByte()));
+            body.record(TimeUnit.NANOSECONDS.toMicros(fetch.body()));
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.valueOf(nanos / 1_000_000.0);
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String jsonString(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
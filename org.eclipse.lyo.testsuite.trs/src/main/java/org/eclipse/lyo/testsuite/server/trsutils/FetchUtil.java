@@ -20,7 +20,11 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.util.Base64;
+import java.util.HashSet;
 import java.util.Properties;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import net.oauth.OAuthAccessor;
 import net.oauth.OAuthConsumer;
 import net.oauth.OAuthException;
@@ -33,7 +37,12 @@ import org.apache.http.client.HttpClient;
 import org.apache.http.client.HttpResponseException;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.protocol.HttpContext;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFBase;
 
 /**
  * A class that provides a utility methods to fetch HTTP resources as well as process fetch
@@ -55,6 +64,24 @@ public class FetchUtil {
     public static Model fetchResource(
             String uri, HttpClient httpClient, HttpContext httpContext, String acceptType)
             throws InterruptedException, FetchException {
+        return fetchResource(uri, httpClient, httpContext, acceptType, null);
+    }
+
+    /**
+     * Fetches a resource and hands its triples to the sink as they are parsed, without building a
+     * model of the whole response.
+     *
+     * @param sink receives the triples, or <code>null</code> to parse into the returned model
+     * @return an empty model when a sink is given, or <code>null</code> if the fetch failed
+     * @see #fetchResource(String, HttpClient, HttpContext, String)
+     */
+    public static Model fetchResource(
+            String uri,
+            HttpClient httpClient,
+            HttpContext httpContext,
+            String acceptType,
+            StreamRDF sink)
+            throws InterruptedException, FetchException {
         if (uri == null)
             throw new IllegalArgumentException(
                     Messages.getServerString("fetch.util.uri.null")); // $NON-NLS-1$
@@ -78,17 +105,17 @@ public class FetchUtil {
             // http://www.w3.org/Protocols/rfc2616/rfc2616-sec14.html#sec14.9.4
             get.addHeader(HttpConstants.CACHE_CONTROL, "max-age=0"); // $NON-NLS-1$
 
-            RDFModelResponseHandler handler = new RDFModelResponseHandler(uri);
+            RDFModelResponseHandler handler = new RDFModelResponseHandler(uri, sink);
 
             // Try to access the uri directly.  If this fails attempt to retry
             // using authentication.
             try {
-                model = httpClient.execute(get, handler, httpContext);
+                model = execute(httpClient, get, handler, httpContext);
             } catch (HttpResponseException e1) {
                 if (e1.getStatusCode() == HttpStatus.SC_UNAUTHORIZED) {
                     model =
                             attemptAuthentication(
-                                    uri, httpClient, httpContext, model, get, handler);
+                                    uri, httpClient, httpContext, model, get, handler, sink);
                 }
             }
         } catch (Exception e) {
@@ -109,6 +136,65 @@ public class FetchUtil {
         return model;
     }
 
+    /**
+     * Fetches a resource and hands the triples accepted by the filter to the callback as they are
+     * parsed. The other triples are dropped on the spot, so no model of the response is built.
+     *
+     * @param filter selects the triples of interest, see {@link #withPredicates(Property...)}
+     * @param callback receives the selected triples, on the calling thread
+     * @return whether the resource was fetched
+     * @see #fetchResource(String, HttpClient, HttpContext, String)
+     */
+    public static boolean fetchTriples(
+            String uri,
+            HttpClient httpClient,
+            HttpContext httpContext,
+            String acceptType,
+            Predicate<Triple> filter,
+            Consumer<Triple> callback)
+            throws InterruptedException, FetchException {
+        StreamRDF sink =
+                new StreamRDFBase() {
+                    @Override
+                    public void triple(Triple triple) {
+                        if (filter.test(triple)) {
+                            callback.accept(triple);
+                        }
+                    }
+                };
+        return fetchResource(uri, httpClient, httpContext, acceptType, sink) != null;
+    }
+
+    /** @return a filter for {@link #fetchTriples} accepting the triples of the given predicates */
+    public static Predicate<Triple> withPredicates(Property... properties) {
+        Set<Node> predicates = new HashSet<>();
+        for (Property property : properties) {
+            predicates.add(property.asNode());
+        }
+        return triple -> predicates.contains(triple.getPredicate());
+    }
+
+    /** Executes the request with the handler, recording its timings in {@link FetchMetrics}. */
+    private static Model execute(
+            HttpClient httpClient,
+            HttpGet get,
+            RDFModelResponseHandler handler,
+            HttpContext httpContext)
+            throws IOException {
+        long start = FetchMetrics.start();
+        try {
+            return httpClient.execute(get, handler, httpContext);
+        } finally {
+            FetchMetrics.record(
+                    get.getURI().toString(),
+                    handler.getStatusCode(),
+                    handler.getBytesRead(),
+                    start,
+                    handler.getResponseReceived(),
+                    System.nanoTime());
+        }
+    }
+
     /**
      * This method performs authentication based on the config.properties' AuthType setting.
      *
@@ -118,6 +204,7 @@ public class FetchUtil {
      * @param model
      * @param get
      * @param handler
+     * @param sink
      * @return
      * @throws FileNotFoundException
      * @throws IOException
@@ -130,7 +217,8 @@ public class FetchUtil {
             HttpContext httpContext,
             Model model,
             HttpGet get,
-            RDFModelResponseHandler handler)
+            RDFModelResponseHandler handler,
+            StreamRDF sink)
             throws FileNotFoundException, IOException, ClientProtocolException, URISyntaxException {
         // Check the config.properties to see if the user is overriding
         // the WWW-Authenticate header.
@@ -139,10 +227,10 @@ public class FetchUtil {
 
         switch (overrideType) {
             case OAUTH:
-                return perform2LeggedOauth(httpClient, httpContext, get, uri);
+                return perform2LeggedOauth(httpClient, httpContext, get, uri, sink);
 
             case BASIC:
-                return performBasicAuthentication(httpClient, httpContext, get, uri);
+                return performBasicAuthentication(httpClient, httpContext, get, uri, sink);
 
             case HEADER:
                 Header authTypes[] = handler.getAuthTypes();
@@ -152,9 +240,9 @@ public class FetchUtil {
                 // both the server and the tests support.
                 for (Header authType : authTypes) {
                     if (authType.getValue().startsWith("OAuth ")) {
-                        return perform2LeggedOauth(httpClient, httpContext, get, uri);
+                        return perform2LeggedOauth(httpClient, httpContext, get, uri, sink);
                     } else if (authType.getValue().startsWith("Basic ")) {
-                        return performBasicAuthentication(httpClient, httpContext, get, uri);
+                        return performBasicAuthentication(httpClient, httpContext, get, uri, sink);
                     }
                 }
         }
@@ -171,12 +259,17 @@ public class FetchUtil {
      * @param httpContext
      * @param get
      * @param uri
+     * @param sink
      * @return
      * @throws FileNotFoundException
      * @throws IOException
      */
     private static Model performBasicAuthentication(
-            HttpClient httpClient, HttpContext httpContext, HttpGet get, String uri)
+            HttpClient httpClient,
+            HttpContext httpContext,
+            HttpGet get,
+            String uri,
+            StreamRDF sink)
             throws FileNotFoundException, IOException {
         // Obtain the username and password from the config.properties file
         Properties prop = TestCore.getConfigPropertiesInstance();
@@ -197,7 +290,7 @@ public class FetchUtil {
         Model model = null;
 
         try {
-            model = httpClient.execute(get, new RDFModelResponseHandler(uri), httpContext);
+            model = execute(httpClient, get, new RDFModelResponseHandler(uri, sink), httpContext);
         } catch (Exception e) {
             TestCore.terminateTest(
                     Messages.getServerString("fetch.util.authentication.failure"), e);
@@ -215,13 +308,18 @@ public class FetchUtil {
      * @param httpContext
      * @param get
      * @param uri
+     * @param sink
      * @return
      * @throws ClientProtocolException
      * @throws IOException
      * @throws URISyntaxException
      */
     private static Model perform2LeggedOauth(
-            HttpClient httpClient, HttpContext httpContext, HttpGet get, String uri)
+            HttpClient httpClient,
+            HttpContext httpContext,
+            HttpGet get,
+            String uri,
+            StreamRDF sink)
             throws ClientProtocolException, IOException, URISyntaxException {
         // Get the necessary OAuth values from the config.properties file
         Properties prop = TestCore.getConfigPropertiesInstance();
@@ -246,7 +344,7 @@ public class FetchUtil {
             get.setHeader("Authorization", authHeader);
             get.setHeader("OSLC-Core-Version", "2.0");
 
-            model = httpClient.execute(get, new RDFModelResponseHandler(uri), httpContext);
+            model = execute(httpClient, get, new RDFModelResponseHandler(uri, sink), httpContext);
         } catch (OAuthException e) {
             TestCore.terminateTest(
                     Messages.getServerString("fetch.util.authentication.failure"), e);
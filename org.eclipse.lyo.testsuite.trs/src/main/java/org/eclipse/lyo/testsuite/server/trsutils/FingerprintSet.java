@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+/**
+ * A compact set of URIs for de-duplicating TRS members and pages. Only a 64-bit fingerprint of
+ * each URI is kept, in an open-addressing <code>long</code> table kept between 3/8 and 3/4 full,
+ * so a member costs 11 to 21 bytes however long its URI is: ten million members take a table of
+ * 2^24 slots, 128 MB. The chance that two of ten million distinct URIs share a fingerprint is
+ * about 3 in a million.
+ *
+ * <p>The set holds at most <code>limit</code> fingerprints. Once full it is saturated: URIs not
+ * already in the set are reported as new but not remembered, so memory stays bounded and later
+ * duplicates may go unnoticed. Not thread-safe.
+ */
+public class FingerprintSet {
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private final int limit;
+    private long[] table = new long[INITIAL_CAPACITY];
+    private int size;
+    private boolean saturated;
+
+    /** @param limit the maximum number of fingerprints kept */
+    public FingerprintSet(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        this.limit = limit;
+    }
+
+    /**
+     * Adds a URI.
+     *
+     * @return <code>false</code> if the URI was already in the set
+     */
+    public boolean add(String uri) {
+        long fingerprint = fingerprint(uri);
+        int mask = table.length - 1;
+        int index = (int) fingerprint & mask;
+        while (table[index] != 0) {
+            if (table[index] == fingerprint) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        if (size >= limit) {
+            saturated = true;
+            return true;
+        }
+        table[index] = fingerprint;
+        size++;
+        if (size * 4L > table.length * 3L) {
+            grow();
+        }
+        return true;
+    }
+
+    public boolean contains(String uri) {
+        long fingerprint = fingerprint(uri);
+        int mask = table.length - 1;
+        for (int index = (int) fingerprint & mask; table[index] != 0; index = (index + 1) & mask) {
+            if (table[index] == fingerprint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** @return whether URIs were turned away because the set was full */
+    public boolean isSaturated() {
+        return saturated;
+    }
+
+    private void grow() {
+        long[] old = table;
+        table = new long[old.length * 2];
+        int mask = table.length - 1;
+        for (long fingerprint : old) {
+            if (fingerprint != 0) {
+                int index = (int) fingerprint & mask;
+                while (table[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = fingerprint;
+            }
+        }
+    }
+
+    /** 64-bit FNV-1a over the characters, finished with the MurmurHash3 mixer; never 0. */
+    static long fingerprint(String uri) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < uri.length(); i++) {
+            hash ^= uri.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash == 0 ? 1 : hash;
+    }
+}
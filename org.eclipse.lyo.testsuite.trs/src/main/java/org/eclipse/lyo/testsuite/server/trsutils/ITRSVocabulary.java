@@ -43,6 +43,7 @@ public interface ITRSVocabulary {
     public static final String CONTAINER_LOCALNAME = "Container"; // $NON-NLS-1$
     public static final String PAGE_LOCALNAME = "Page"; // $NON-NLS-1$
     public static final String PAGE_OF_LOCALNAME = "pageOf"; // $NON-NLS-1$
+    public static final String MEMBER_LOCALNAME = "member"; // $NON-NLS-1$
 
     /** The namespace of the vocabulary as a string */
     public static final String NS = "http://open-services.net/ns/core/trs#"; // $NON-NLS-1$
@@ -121,4 +122,8 @@ public interface ITRSVocabulary {
     /** The property for the next page resource in a base resource */
     public static final Property NEXT_PAGE_PROPERTY =
             ResourceFactory.createProperty(LDP_NS, NEXT_LOCALNAME);
+
+    /** The LDP membership property, used for Base members by some servers instead of rdfs:member */
+    public static final Property MEMBER_PROPERTY =
+            ResourceFactory.createProperty(LDP_NS, MEMBER_LOCALNAME);
 }
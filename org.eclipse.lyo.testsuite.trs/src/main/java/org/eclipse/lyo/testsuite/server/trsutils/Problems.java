@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Problems of one kind found while walking a TRS. All of them are counted, but only the messages
+ * of the first {@value #MAX_SAMPLES} are kept, so a walk over millions of resources stays small.
+ */
+public class Problems {
+    public static final int MAX_SAMPLES = 10;
+
+    private long count;
+    private final List<String> samples = new ArrayList<>();
+
+    void add(String message) {
+        count++;
+        if (samples.size() < MAX_SAMPLES) {
+            samples.add(message);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public List<String> getSamples() {
+        return Collections.unmodifiableList(samples);
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    @Override
+    public String toString() {
+        String joined = String.join("\n", samples);
+        return count > samples.size() ? joined + "\n(" + count + " in total)" : joined;
+    }
+}
@@ -15,7 +15,6 @@
 package org.eclipse.lyo.testsuite.server.trsutils;
 
 import java.io.IOException;
-import java.io.StringReader;
 import java.text.MessageFormat;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -23,7 +22,6 @@ import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.ClientProtocolException;
 import org.apache.http.client.ResponseHandler;
-import org.apache.http.protocol.HTTP;
 import org.apache.http.util.EntityUtils;
 import org.apache.jena.atlas.web.ContentType;
 import org.apache.jena.graph.Node;
@@ -31,25 +29,50 @@ import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ResourceFactory;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFLanguages;
+import org.apache.jena.riot.RDFParser;
 import org.apache.jena.riot.WebContent;
+import org.apache.jena.riot.system.StreamRDF;
+import org.apache.jena.riot.system.StreamRDFLib;
+import org.eclipse.lyo.testsuite.common.CapturingInputStream;
 
+/**
+ * Parses an RDF response straight from the entity stream, either into a new {@link Model} or,
+ * given a {@link StreamRDF} sink, into the sink without building a model at all.
+ */
 public class RDFModelResponseHandler implements ResponseHandler<Model> {
     final Node base;
+    final StreamRDF sink;
 
     protected int statusCode = 0;
     protected String reason = null;
     protected Header[] authTypes = null;
+    protected long responseReceived = -1;
+    protected long bytesRead = 0;
 
     public RDFModelResponseHandler(Node base) {
-        this.base = base;
+        this(base, null);
     }
 
     public RDFModelResponseHandler(String base) {
         this(ResourceFactory.createResource(base).asNode());
     }
 
+    /**
+     * @param sink receives the triples as they are parsed; the model returned by {@link
+     *     #handleResponse} is then empty
+     */
+    public RDFModelResponseHandler(Node base, StreamRDF sink) {
+        this.base = base;
+        this.sink = sink;
+    }
+
+    public RDFModelResponseHandler(String base, StreamRDF sink) {
+        this(ResourceFactory.createResource(base).asNode(), sink);
+    }
+
     @Override
     public Model handleResponse(HttpResponse response) throws ClientProtocolException, IOException {
+        responseReceived = System.nanoTime();
         authTypes = response.getHeaders("WWW-Authenticate");
         statusCode = response.getStatusLine().getStatusCode();
         reason = response.getStatusLine().getReasonPhrase();
@@ -67,17 +90,16 @@ public class RDFModelResponseHandler implements ResponseHandler<Model> {
                                         "rdf.model.response.helper.missing.rdf"), //$NON-NLS-1$
                                 base.getURI()));
 
-            String rdfFormat = null;
+            Lang rdfFormat = null;
             final Header contentTypeHeader = response.getFirstHeader(HttpConstants.CONTENT_TYPE);
             if (contentTypeHeader != null) {
                 ContentType contentType = ContentType.create(contentTypeHeader.getValue());
 
                 if (contentType != null) {
-                    Lang lang = RDFLanguages.contentTypeToLang(contentType);
-                    if (lang != null) {
-                        rdfFormat = lang.getName();
-                    } else if (WebContent.contentTypeXML.equals(contentType.getContentTypeStr())) {
-                        rdfFormat = Lang.RDFXML.getName(); // try parsing as RDF/XML
+                    rdfFormat = RDFLanguages.contentTypeToLang(contentType);
+                    if (rdfFormat == null
+                            && WebContent.contentTypeXML.equals(contentType.getContentTypeStr())) {
+                        rdfFormat = Lang.RDFXML; // try parsing as RDF/XML
                     }
                 }
             }
@@ -89,11 +111,17 @@ public class RDFModelResponseHandler implements ResponseHandler<Model> {
                                         "rdf.model.response.helper.bad.content.type"), //$NON-NLS-1$
                                 base.getURI()));
 
-            String content = EntityUtils.toString(entity, HTTP.UTF_8);
+            // Parse while receiving; only the beginning and the last bytes read are kept for errors
+            CapturingInputStream content = new CapturingInputStream(entity.getContent());
             try {
-                model.read(new StringReader(content), base.getURI(), rdfFormat);
+                RDFParser.source(content)
+                        .base(base.getURI())
+                        .lang(rdfFormat)
+                        .parse(sink != null ? sink : StreamRDFLib.graph(model.getGraph()));
+                bytesRead = content.getCount();
             } catch (Exception e) {
-                if (e.getMessage().contains("Interrupt") // $NON-NLS-1$
+                if ((e.getMessage() != null
+                                && e.getMessage().contains("Interrupt")) // $NON-NLS-1$
                         || Thread.currentThread().isInterrupted()) {
                     Thread.currentThread().interrupt();
                     throw (IOException) new IOException().initCause(e);
@@ -104,7 +132,7 @@ public class RDFModelResponseHandler implements ResponseHandler<Model> {
                                 Messages.getServerString(
                                         "rdf.model.response.helper.unparseable.rdf"), //$NON-NLS-1$
                                 base.getURI(),
-                                content),
+                                content.getCaptured()),
                         e);
             }
 
@@ -129,6 +157,19 @@ public class RDFModelResponseHandler implements ResponseHandler<Model> {
         return reason;
     }
 
+    /**
+     * @return the {@link System#nanoTime()} at which the response headers were handed to this
+     *     handler, or -1 if no response was handled
+     */
+    public long getResponseReceived() {
+        return responseReceived;
+    }
+
+    /** @return the number of body bytes parsed */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
     /**
      * Return the supported authentication types of the server.
      *
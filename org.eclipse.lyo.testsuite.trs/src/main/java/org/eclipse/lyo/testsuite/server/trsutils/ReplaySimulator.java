@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import java.math.BigInteger;
+import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.http.client.HttpClient;
+import org.apache.http.protocol.HttpContext;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Resource;
+
+/**
+ * Plays the part of a TRS consumer: loads the Base into a {@link ResourceIndex}, then replays the
+ * change events after the <code>trs:cutoffEvent</code> in increasing <code>trs:order</code> and
+ * checks that they converge, that is that no resource is created twice, and none is modified or
+ * deleted while it is not in the set.
+ *
+ * <p>The Base may already reflect some events after the cutoff, so until an event has been
+ * replayed for a resource, a Creation of a resource in the Base, or a Modification or Deletion of
+ * one that is not, is only counted as tolerated. Once the replay has set the state of a resource,
+ * any such event contradicts the log itself and is reported.
+ *
+ * <p>The Base is walked before the Change Log is fetched, so the log covers every change the Base
+ * may already reflect. Events are buffered in primitive arrays (13 bytes each) while the log is
+ * walked, then sorted by <code>trs:order</code> and applied oldest first. The replay itself is
+ * timed separately from the fetches: comparing the rate at which events can be fetched with the
+ * rate at which they can be applied shows whether an indexer can keep up with the provider.
+ */
+public class ReplaySimulator {
+    /** The convergence checks, each backed by a message key. */
+    public enum Check {
+        UNIQUE_CREATION("validators.replay.duplicate.creation"),
+        KNOWN_MODIFICATION("validators.replay.unknown.modification"),
+        LIVE_DELETION("validators.replay.absent.deletion");
+
+        private final String messageKey;
+
+        Check(String messageKey) {
+            this.messageKey = messageKey;
+        }
+    }
+
+    private static final byte CREATION = 0;
+    private static final byte MODIFICATION = 1;
+    private static final byte DELETION = 2;
+
+    private final HttpClient httpClient;
+    private final HttpContext httpContext;
+    private final String acceptType;
+    private int memberLimit = BaseWalker.DEFAULT_MEMBER_LIMIT;
+
+    public ReplaySimulator(HttpClient httpClient, HttpContext httpContext, String acceptType) {
+        this.httpClient = httpClient;
+        this.httpContext = httpContext;
+        this.acceptType = acceptType;
+    }
+
+    /** Caps the duplicate detection of the Base walk, see {@link BaseWalker#setMemberLimit}. */
+    public void setMemberLimit(int memberLimit) {
+        this.memberLimit = memberLimit;
+    }
+
+    /**
+     * Rebuilds the tracked resource set of the TRS and replays its Change Log.
+     *
+     * @param trsUri the URI of the Tracked Resource Set
+     * @throws FetchException if a resource cannot be fetched or parsed
+     * @throws InvalidTRSException if the TRS has no <code>trs:base</code>
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public Result run(String trsUri)
+            throws FetchException, InvalidTRSException, InterruptedException {
+        Result result = new Result();
+        long start = System.nanoTime();
+        ResourceIndex index = new ResourceIndex();
+
+        Resource base = fetch(trsUri).getPropertyResourceValue(ITRSVocabulary.BASE_PROPERTY);
+        if (base == null || !base.isURIResource()) {
+            throw new InvalidTRSException(
+                    Messages.getServerString("validators.missing.trs.base.property"));
+        }
+        BaseWalker baseWalker = new BaseWalker(httpClient, httpContext, acceptType);
+        baseWalker.setMemberLimit(memberLimit);
+        baseWalker.setMemberListener(uri -> index.setLive(index.intern(uri), true));
+        result.base = baseWalker.walk(base.getURI());
+        result.baseMembers = index.getLiveCount();
+
+        // Fetched again so that the log reaches past whatever the Base already reflects
+        Resource changeLog =
+                fetch(trsUri).getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
+        EventLog events = new EventLog();
+        ChangeLogWalker changeLogWalker =
+                new ChangeLogWalker(httpClient, httpContext, acceptType);
+        changeLogWalker.setEventListener(
+                (event, order, type, changed) ->
+                        events.add(order, kindOf(type), index.intern(changed)));
+        long changeLogStart = System.nanoTime();
+        result.changeLog = changeLogWalker.walk(changeLog, result.base.getCutoffEvent());
+        result.changeLogNanos = System.nanoTime() - changeLogStart;
+        if (result.base.getCutoffEvent() != null && !result.changeLog.isCutoffReached()) {
+            // Without the cutoff there is no telling which events the Base already reflects
+            result.totalNanos = System.nanoTime() - start;
+            result.liveMembers = result.baseMembers;
+            return result;
+        }
+        BigInteger cutoffOrder = result.changeLog.getCutoffOrder();
+
+        result.replayedFromCutoff = true;
+        long replayStart = System.nanoTime();
+        // The resources whose state was set by a replayed event rather than by the Base
+        BitSet replayedIds = new BitSet();
+        for (int i : events.sorted()) {
+            if (cutoffOrder != null && events.compareTo(i, cutoffOrder) <= 0) {
+                continue;
+            }
+            int id = events.ids[i];
+            boolean live = index.isLive(id);
+            boolean fromBase = !replayedIds.get(id);
+            replayedIds.set(id);
+            switch (events.kinds[i]) {
+                case CREATION:
+                    if (live) {
+                        result.add(Check.UNIQUE_CREATION, events.order(i), fromBase);
+                    }
+                    index.setLive(id, true);
+                    break;
+                case MODIFICATION:
+                    if (!live) {
+                        result.add(Check.KNOWN_MODIFICATION, events.order(i), fromBase);
+                        // The Base already reflects a later Deletion, which is still to come
+                        index.setLive(id, fromBase);
+                    }
+                    break;
+                default: // DELETION
+                    if (!live) {
+                        result.add(Check.LIVE_DELETION, events.order(i), fromBase);
+                    }
+                    index.setLive(id, false);
+            }
+            result.replayed++;
+        }
+        long end = System.nanoTime();
+        result.replayNanos = end - replayStart;
+        result.totalNanos = end - start;
+        result.liveMembers = index.getLiveCount();
+        return result;
+    }
+
+    private Resource fetch(String uri) throws FetchException, InterruptedException {
+        Model model = FetchUtil.fetchResource(uri, httpClient, httpContext, acceptType);
+        if (model == null) {
+            throw new FetchException(
+                    MessageFormat.format(
+                            Messages.getServerString("fetch.util.retrieve.error"), uri));
+        }
+        return model.getResource(uri);
+    }
+
+    private static byte kindOf(Resource type) {
+        if (ITRSVocabulary.CREATION_RESOURCE.equals(type)) {
+            return CREATION;
+        }
+        return ITRSVocabulary.MODIFICATION_RESOURCE.equals(type) ? MODIFICATION : DELETION;
+    }
+
+    /**
+     * Change events in walk order, as parallel primitive arrays. Orders too large for a long are
+     * kept aside as they are.
+     */
+    private static class EventLog {
+        long[] orders = new long[1024];
+        int[] ids = new int[1024];
+        byte[] kinds = new byte[1024];
+        int size;
+        // The orders that do not fit a long, by position; null until there is one
+        Map<Integer, BigInteger> wideOrders;
+
+        void add(BigInteger order, byte kind, int id) {
+            if (size == orders.length) {
+                orders = Arrays.copyOf(orders, size * 2);
+                ids = Arrays.copyOf(ids, size * 2);
+                kinds = Arrays.copyOf(kinds, size * 2);
+            }
+            if (order.bitLength() < Long.SIZE) {
+                orders[size] = order.longValue();
+            } else {
+                if (wideOrders == null) {
+                    wideOrders = new HashMap<>();
+                }
+                wideOrders.put(size, order);
+            }
+            ids[size] = id;
+            kinds[size] = kind;
+            size++;
+        }
+
+        BigInteger order(int i) {
+            BigInteger wide = wideOrders == null ? null : wideOrders.get(i);
+            return wide != null ? wide : BigInteger.valueOf(orders[i]);
+        }
+
+        int compare(int i, int j) {
+            if (wideOrders == null) {
+                return Long.compare(orders[i], orders[j]);
+            }
+            return order(i).compareTo(order(j));
+        }
+
+        int compareTo(int i, BigInteger order) {
+            if (wideOrders == null && order.bitLength() < Long.SIZE) {
+                return Long.compare(orders[i], order.longValue());
+            }
+            return order(i).compareTo(order);
+        }
+
+        /** @return the positions of the events in increasing order */
+        int[] sorted() {
+            // Segments list their events newest first, so the walk order is usually just reversed
+            int[] positions = new int[size];
+            boolean descending = true;
+            for (int i = 0; i < size; i++) {
+                positions[i] = size - 1 - i;
+                if (i > 0 && compare(i - 1, i) < 0) {
+                    descending = false;
+                }
+            }
+            if (!descending && !sortPacked(positions)) {
+                mergeSort(positions);
+            }
+            return positions;
+        }
+
+        /**
+         * Sorts the positions as longs holding the order above the index in <code>positions</code>,
+         * which keeps events of the same order as they were.
+         *
+         * @return whether the orders span few enough values to pack
+         */
+        private boolean sortPacked(int[] positions) {
+            if (wideOrders != null) {
+                return false;
+            }
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < size; i++) {
+                min = Math.min(min, orders[i]);
+                max = Math.max(max, orders[i]);
+            }
+            int shift = Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+            long range = max - min;
+            // The packed values must stay positive, and a range that overflowed is negative
+            if (range < 0 || Long.numberOfLeadingZeros(range) <= shift) {
+                return false;
+            }
+            long[] packed = new long[size];
+            for (int i = 0; i < size; i++) {
+                packed[i] = (orders[positions[i]] - min) << shift | i;
+            }
+            Arrays.sort(packed);
+            int[] unpacked = positions.clone();
+            long mask = (1L << shift) - 1;
+            for (int i = 0; i < size; i++) {
+                positions[i] = unpacked[(int) (packed[i] & mask)];
+            }
+            return true;
+        }
+
+        /** A stable bottom-up merge sort of the positions by {@link #compare(int, int)}. */
+        private void mergeSort(int[] positions) {
+            int[] from = positions;
+            int[] to = new int[size];
+            for (int width = 1; width < size; width *= 2) {
+                for (int low = 0; low < size; low += 2 * width) {
+                    int middle = Math.min(low + width, size);
+                    int high = Math.min(low + 2 * width, size);
+                    int i = low;
+                    int j = middle;
+                    for (int k = low; k < high; k++) {
+                        if (i < middle && (j == high || compare(from[i], from[j]) <= 0)) {
+                            to[k] = from[i++];
+                        } else {
+                            to[k] = from[j++];
+                        }
+                    }
+                }
+                int[] swap = from;
+                from = to;
+                to = swap;
+            }
+            if (from != positions) {
+                System.arraycopy(from, 0, positions, 0, size);
+            }
+        }
+    }
+
+    /** The outcome of a replay, with the {@link Problems} found by each {@link Check}. */
+    public static class Result {
+        BaseWalker.Result base;
+        ChangeLogWalker.Result changeLog;
+        int baseMembers;
+        int liveMembers;
+        long replayed;
+        boolean replayedFromCutoff;
+        long changeLogNanos;
+        long replayNanos;
+        long totalNanos;
+        private final Map<Check, Problems> problems = new EnumMap<>(Check.class);
+        private final Map<Check, Long> tolerated = new EnumMap<>(Check.class);
+
+        Result() {
+            for (Check check : Check.values()) {
+                problems.put(check, new Problems());
+                tolerated.put(check, 0L);
+            }
+        }
+
+        /** @param fromBase whether the state of the resource still comes from the Base */
+        void add(Check check, BigInteger order, boolean fromBase) {
+            if (fromBase) {
+                tolerated.merge(check, 1L, Long::sum);
+                return;
+            }
+            problems.get(check)
+                    .add(Messages.getServerString(check.messageKey) + " (trs:order " + order + ")");
+        }
+
+        public BaseWalker.Result getBaseWalk() {
+            return base;
+        }
+
+        public ChangeLogWalker.Result getChangeLogWalk() {
+            return changeLog;
+        }
+
+        /**
+         * @return whether the events were replayed; they are not when the Change Log does not reach
+         *     the cutoff event of the Base
+         */
+        public boolean isReplayedFromCutoff() {
+            return replayedFromCutoff;
+        }
+
+        /** @return the number of distinct members of the Base */
+        public int getBaseMembers() {
+            return baseMembers;
+        }
+
+        /** @return the number of members once every event is applied */
+        public int getLiveMembers() {
+            return liveMembers;
+        }
+
+        /** @return the number of events applied, those after the cutoff event */
+        public long getReplayed() {
+            return replayed;
+        }
+
+        /**
+         * @return the number of events that failed the check against the state of a resource in
+         *     the Base, which may already reflect them
+         */
+        public long getTolerated(Check check) {
+            return tolerated.get(check);
+        }
+
+        /** @return the time spent applying events, excluding fetches */
+        public long getReplayNanos() {
+            return replayNanos;
+        }
+
+        /** @return the time of the whole simulation, fetches included */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+
+        /** @return the rate at which events were applied to the index */
+        public double getEventsPerSecond() {
+            return replayNanos == 0 ? 0 : replayed * 1e9 / replayNanos;
+        }
+
+        /** @return the rate at which events were fetched, parsed and validated from the log */
+        public double getFetchedEventsPerSecond() {
+            return changeLogNanos == 0 ? 0 : changeLog.getEvents() * 1e9 / changeLogNanos;
+        }
+
+        public Problems getProblems(Check check) {
+            return problems.get(check);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import java.util.BitSet;
+
+/**
+ * The tracked resource set as a TRS consumer sees it: every resource URI ever mentioned is
+ * interned to a dense <code>int</code> id, and a {@link BitSet} records which ids are currently
+ * members. URIs are held as 64-bit fingerprints (see {@link FingerprintSet}) in primitive tables,
+ * about 20 bytes per resource, so tens of millions of resources fit in a normal heap. Not
+ * thread-safe.
+ */
+public class ResourceIndex {
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+    private final BitSet live = new BitSet();
+
+    /** @return the id of the URI, interning it if it is new */
+    public int intern(String uri) {
+        long fingerprint = FingerprintSet.fingerprint(uri);
+        int mask = keys.length - 1;
+        int index = (int) fingerprint & mask;
+        while (keys[index] != 0) {
+            if (keys[index] == fingerprint) {
+                return ids[index];
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = fingerprint;
+        ids[index] = size;
+        if (++size * 4L > keys.length * 3L) {
+            grow();
+        }
+        return size - 1;
+    }
+
+    public boolean isLive(int id) {
+        return live.get(id);
+    }
+
+    public void setLive(int id, boolean isLive) {
+        live.set(id, isLive);
+    }
+
+    /** @return the number of resources currently in the set */
+    public int getLiveCount() {
+        return live.cardinality();
+    }
+
+    /** @return the number of distinct URIs interned */
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldIds = ids;
+        keys = new long[oldKeys.length * 2];
+        ids = new int[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int index = (int) oldKeys[i] & mask;
+                while (keys[index] != 0) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = oldKeys[i];
+                ids[index] = oldIds[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,445 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Resource;
+import org.apache.jena.riot.RDFDataMgr;
+import org.apache.jena.riot.RDFFormat;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+
+/**
+ * An embedded stand-in for a TRS provider, serving a synthetic Tracked Resource Set (the TRS with
+ * its newest Change Log segment, a paged Base and older Change Log segments) in Turtle or RDF/XML,
+ * so that the TRS tests can be run and benchmarked without a server or a network.
+ *
+ * <p>Nothing is stored: every page is generated on request from the {@link Workload}, so a Base of
+ * ten million members costs no memory. Events cycle through a shuffled mix of creations,
+ * modifications and deletions that is consistent with the Base: creations add new resources,
+ * deletions remove distinct members, and modifications only touch members still present, so a
+ * replay of the log onto the Base converges. The Base reflects every event up to its cutoff event.
+ * Change Log segments have fixed boundaries, so the log can grow while it is being read.
+ */
+public class SyntheticTrsServer {
+    private static final byte CREATION = 0;
+    private static final byte MODIFICATION = 1;
+    private static final byte DELETION = 2;
+    private static final Resource[] EVENT_TYPES = {
+        ITRSVocabulary.CREATION_RESOURCE,
+        ITRSVocabulary.MODIFICATION_RESOURCE,
+        ITRSVocabulary.DELETION_RESOURCE
+    };
+    private static final String TURTLE = "text/turtle";
+    private static final String RDF_XML = "application/rdf+xml";
+
+    /**
+     * What to serve, read from properties prefixed with <code>synthetic.</code>.
+     *
+     * @param members the initial members of the tracked resource set
+     * @param basePageSize how many members a Base page covers
+     * @param events the number of change events at start
+     * @param changeLogPageSize how many events a Change Log segment holds
+     * @param creationPercent the share of creations among events
+     * @param modificationPercent the share of modifications; the rest are deletions
+     * @param baseCutoff the <code>trs:order</code> of the cutoff event of the Base, 0 for none
+     * @param eventsPerSecond how fast the log grows while the server runs, 0 to keep it fixed
+     * @param latencyMillis a delay added to every response
+     * @param malformedPageEvery truncate every so many Base pages and segments, 0 for none
+     * @param seed shuffles the event mix
+     */
+    public record Workload(
+            int members,
+            int basePageSize,
+            long events,
+            int changeLogPageSize,
+            int creationPercent,
+            int modificationPercent,
+            long baseCutoff,
+            double eventsPerSecond,
+            int latencyMillis,
+            int malformedPageEvery,
+            long seed) {
+        public Workload {
+            if (members < 1 || basePageSize < 1 || changeLogPageSize < 1 || events < 0) {
+                throw new IllegalArgumentException(
+                        "Members and page sizes must be positive, events not negative");
+            }
+            if (creationPercent < 0
+                    || modificationPercent < 0
+                    || creationPercent + modificationPercent > 100) {
+                throw new IllegalArgumentException("Event mix must add up to at most 100%");
+            }
+            if (baseCutoff < 0 || baseCutoff > events) {
+                throw new IllegalArgumentException("Base cutoff must be one of the events");
+            }
+        }
+
+        public static Workload fromProperties(Properties prop) {
+            return new Workload(
+                    Integer.parseInt(property(prop, "members", "10000")),
+                    Integer.parseInt(property(prop, "basePageSize", "1000")),
+                    Long.parseLong(property(prop, "events", "1000")),
+                    Integer.parseInt(property(prop, "changeLogPageSize", "100")),
+                    Integer.parseInt(property(prop, "creationPercent", "40")),
+                    Integer.parseInt(property(prop, "modificationPercent", "40")),
+                    Long.parseLong(property(prop, "baseCutoff", "0")),
+                    Double.parseDouble(property(prop, "eventsPerSecond", "0")),
+                    Integer.parseInt(property(prop, "latencyMillis", "0")),
+                    Integer.parseInt(property(prop, "malformedPageEvery", "0")),
+                    Long.parseLong(property(prop, "seed", "1")));
+        }
+
+        private static String property(Properties prop, String name, String defaultValue) {
+            return prop.getProperty("synthetic." + name, defaultValue).trim();
+        }
+    }
+
+    private final Workload workload;
+    /** One cycle of 100 event types, and how many of each type precede every position. */
+    private final byte[] cycle = new byte[100];
+    private final int[][] before = new int[3][101];
+    /** Deletions remove the members in the order of a permutation of their ids. */
+    private final long stride;
+    private final long strideInverse;
+    private final long offset;
+    private final long maxEvents;
+    private long startNanos;
+    private HttpServer server;
+    private ExecutorService executor;
+    private String root;
+    private String rootPath;
+    private String trsUri;
+    private String trsPath;
+
+    public SyntheticTrsServer(Workload workload) {
+        this.workload = workload;
+        int creations = workload.creationPercent();
+        int modifications = workload.modificationPercent();
+        for (int i = 0; i < cycle.length; i++) {
+            cycle[i] =
+                    i < creations
+                            ? CREATION
+                            : i < creations + modifications ? MODIFICATION : DELETION;
+        }
+        Random random = new Random(workload.seed());
+        for (int i = cycle.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte swap = cycle[i];
+            cycle[i] = cycle[j];
+            cycle[j] = swap;
+        }
+        for (int i = 0; i < cycle.length; i++) {
+            for (int type = 0; type < 3; type++) {
+                before[type][i + 1] = before[type][i] + (cycle[i] == type ? 1 : 0);
+            }
+        }
+
+        long members = workload.members();
+        long candidate = Math.max((long) (members * 0.618), 1) | 1;
+        while (BigInteger.valueOf(candidate).gcd(BigInteger.valueOf(members)).intValue() != 1) {
+            candidate++;
+        }
+        stride = candidate % members;
+        strideInverse =
+                BigInteger.valueOf(candidate).modInverse(BigInteger.valueOf(members)).longValue();
+        offset = new Random(workload.seed()).nextInt(workload.members());
+
+        // Modifications need a member left, so the log stops before the last one is deleted
+        int deletions = before[DELETION][100];
+        if (deletions == 0) {
+            maxEvents = Long.MAX_VALUE;
+        } else {
+            long last = members - 1;
+            int position = 0;
+            while (before[DELETION][position + 1] <= last % deletions) {
+                position++;
+            }
+            maxEvents = last / deletions * 100 + position;
+        }
+        if (workload.events() > maxEvents) {
+            throw new IllegalArgumentException(
+                    "Too many deletions: at most " + maxEvents + " events for this mix");
+        }
+    }
+
+    /**
+     * Starts serving the TRS at the given URI; the other resources are its siblings.
+     *
+     * @param trsUri an http URI on this host, such as <code>http://localhost:8800/services/trs
+     *     </code>
+     */
+    public synchronized void start(String trsUri) throws IOException {
+        URI uri = URI.create(trsUri);
+        trsPath = uri.getPath();
+        rootPath = trsPath.substring(0, trsPath.lastIndexOf('/'));
+        root = uri.getScheme() + "://" + uri.getRawAuthority() + rootPath;
+        this.trsUri = root + trsPath.substring(rootPath.length());
+        executor =
+                Executors.newFixedThreadPool(
+                        16,
+                        task -> {
+                            Thread thread = new Thread(task, "synthetic-trs");
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        server =
+                HttpServer.create(
+                        new InetSocketAddress(
+                                uri.getHost(), uri.getPort() < 0 ? 80 : uri.getPort()),
+                        0);
+        server.setExecutor(executor);
+        server.createContext(rootPath.isEmpty() ? "/" : rootPath, this::handle);
+        startNanos = System.nanoTime();
+        server.start();
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    public String getTrsUri() {
+        return trsUri;
+    }
+
+    /** @return the number of events in the log now, growing with <code>eventsPerSecond</code> */
+    public long getEvents() {
+        double elapsed = (System.nanoTime() - startNanos) / 1e9;
+        long grown = workload.events() + (long) (workload.eventsPerSecond() * elapsed);
+        return Math.min(grown, maxEvents);
+    }
+
+    /**
+     * Starts a server for <code>configTrsEndpoint</code> when <code>syntheticTrs = true</code>.
+     *
+     * @return the server, or <code>null</code> if it is not enabled
+     */
+    public static SyntheticTrsServer startIfEnabled(Properties prop) throws IOException {
+        if (!Boolean.parseBoolean(prop.getProperty("syntheticTrs", "false").trim())) {
+            return null;
+        }
+        SyntheticTrsServer server = new SyntheticTrsServer(Workload.fromProperties(prop));
+        server.start(prop.getProperty("configTrsEndpoint").trim());
+        return server;
+    }
+
+    /**
+     * Serves the TRS of <code>configTrsEndpoint</code> until the process is stopped.
+     *
+     * @param args the properties file to read, config.properties by default
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Properties prop = new Properties();
+        try (InputStream in =
+                new FileInputStream(
+                        args.length > 0 ? args[0] : "src/main/resources/config.properties")) {
+            prop.load(in);
+        }
+        SyntheticTrsServer server = new SyntheticTrsServer(Workload.fromProperties(prop));
+        server.start(prop.getProperty("configTrsEndpoint").trim());
+        System.out.println("Serving a synthetic TRS at " + server.getTrsUri());
+        Thread.currentThread().join();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (workload.latencyMillis() > 0) {
+                Thread.sleep(workload.latencyMillis());
+            }
+            String path = exchange.getRequestURI().getPath();
+            String query = exchange.getRequestURI().getQuery();
+            long events = getEvents();
+            Model model = ModelUtil.createDefaultModel();
+            model.setNsPrefix("trs", ITRSVocabulary.NS);
+            model.setNsPrefix("ldp", ITRSVocabulary.LDP_NS);
+            model.setNsPrefix("rdfs", RDFS.uri);
+            // Base pages count from 0 and segments from 1; the TRS itself is never malformed
+            long number = 0;
+            if (path.equals(trsPath)) {
+                writeTrs(model, events);
+            } else if (path.equals(rootPath + "/base")) {
+                long page =
+                        query != null && query.startsWith("page=") ? parse(query.substring(5)) : 0;
+                if (!writeBasePage(model, page)) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                number = page + 1;
+            } else if (path.startsWith(rootPath + "/changelog/")) {
+                long segment = parse(path.substring(rootPath.length() + "/changelog/".length()));
+                if (segment < 1 || segment > segments(events)) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                writeSegment(model, root + "/changelog/" + segment, segment, events);
+                number = segment;
+            } else {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            String accept = exchange.getRequestHeaders().getFirst(HttpConstants.ACCEPT);
+            boolean xml = accept != null && accept.contains(RDF_XML) && !accept.contains(TURTLE);
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            RDFDataMgr.write(body, model, xml ? RDFFormat.RDFXML_PLAIN : RDFFormat.TURTLE_BLOCKS);
+            byte[] bytes = body.toByteArray();
+            int every = workload.malformedPageEvery();
+            boolean malformed = every > 0 && number > 0 && number % every == 0;
+            int length = bytes.length;
+            if (malformed) {
+                // Cut inside an IRI: Turtle cut between two triples still parses
+                length = bytes.length / 2;
+                while (!xml && length > 0 && bytes[length - 1] != '<') {
+                    length--;
+                }
+            }
+            exchange.getResponseHeaders().add(HttpConstants.CONTENT_TYPE, xml ? RDF_XML : TURTLE);
+            exchange.sendResponseHeaders(200, length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes, 0, length);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            exchange.sendResponseHeaders(500, -1);
+        }
+    }
+
+    private void writeTrs(Model model, long events) {
+        Resource trs = model.createResource(trsUri, ITRSVocabulary.TRS_RESOURCE);
+        trs.addProperty(ITRSVocabulary.BASE_PROPERTY, model.createResource(root + "/base"));
+        long newest = segments(events);
+        String changeLog = trsUri + "#changeLog";
+        trs.addProperty(ITRSVocabulary.CHANGELOG_PROPERTY, model.createResource(changeLog));
+        writeSegment(model, changeLog, newest, events);
+    }
+
+    /** @return whether the page exists */
+    private boolean writeBasePage(Model model, long page) {
+        long cutoff = workload.baseCutoff();
+        long members = workload.members();
+        long deleted = count(DELETION, cutoff);
+        long total = members + count(CREATION, cutoff);
+        long size = workload.basePageSize();
+        long pages = Math.max((total + size - 1) / size, 1);
+        if (page < 0 || page >= pages) {
+            return false;
+        }
+
+        Resource base = model.createResource(root + "/base", ITRSVocabulary.CONTAINER_RESOURCE);
+        if (page == 0) {
+            base.addProperty(
+                    ITRSVocabulary.CUTOFFEVENT_PROPERTY,
+                    cutoff == 0 ? RDF.nil : model.createResource(root + "/events/" + cutoff));
+        }
+        model.createResource(root + "/base?page=" + page, ITRSVocabulary.PAGE_RESOURCE)
+                .addProperty(ITRSVocabulary.PAGE_OF_RESOURCE, base)
+                .addProperty(
+                        ITRSVocabulary.NEXT_PAGE_PROPERTY,
+                        page + 1 < pages
+                                ? model.createResource(root + "/base?page=" + (page + 1))
+                                : RDF.nil);
+        // Initial members deleted up to the cutoff are left out, so some pages are shorter
+        for (long id = page * size; id < Math.min((page + 1) * size, total); id++) {
+            if (id >= members || deletionIndex(id) >= deleted) {
+                base.addProperty(RDFS.member, model.createResource(root + "/resources/" + id));
+            }
+        }
+        return true;
+    }
+
+    /** Writes the events of a segment, whose boundaries do not move as the log grows. */
+    private void writeSegment(Model model, String uri, long segment, long events) {
+        Resource subject = model.createResource(uri);
+        long size = workload.changeLogPageSize();
+        for (long order = Math.max(segment - 1, 0) * size + 1;
+                order <= Math.min(segment * size, events);
+                order++) {
+            byte type = cycle[(int) ((order - 1) % cycle.length)];
+            subject.addProperty(
+                    ITRSVocabulary.CHANGE_PROPERTY,
+                    model.createResource(root + "/events/" + order, EVENT_TYPES[type])
+                            .addProperty(
+                                    ITRSVocabulary.CHANGED_PROPERTY,
+                                    model.createResource(root + "/resources/" + changed(order)))
+                            .addLiteral(
+                                    ITRSVocabulary.ORDER_PROPERTY,
+                                    model.createTypedLiteral(BigInteger.valueOf(order))));
+        }
+        subject.addProperty(
+                ITRSVocabulary.PREVIOUS_PROPERTY,
+                segment > 1 ? model.createResource(root + "/changelog/" + (segment - 1)) : RDF.nil);
+    }
+
+    /** @return the id of the resource changed by the event */
+    private long changed(long order) {
+        byte type = cycle[(int) ((order - 1) % cycle.length)];
+        long index = count(type, order - 1);
+        long members = workload.members();
+        switch (type) {
+            case CREATION:
+                return members + index;
+            case DELETION:
+                return (index * stride + offset) % members;
+            default: // MODIFICATION, of a member that is still there
+                long deleted = count(DELETION, order - 1);
+                long alive = deleted + index % (members - deleted);
+                return (alive * stride + offset) % members;
+        }
+    }
+
+    /** @return the position of an initial member in the order of deletions */
+    private long deletionIndex(long id) {
+        long members = workload.members();
+        return (id - offset + members) % members * strideInverse % members;
+    }
+
+    /** @return how many events of the type have an order up to the given one */
+    private long count(byte type, long orders) {
+        return orders / cycle.length * before[type][cycle.length]
+                + before[type][(int) (orders % cycle.length)];
+    }
+
+    private long segments(long events) {
+        return (events + workload.changeLogPageSize() - 1) / workload.changeLogPageSize();
+    }
+
+    private static long parse(String number) {
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
@@ -27,6 +27,10 @@ import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.rdf.model.StmtIterator;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
 
 public class TestCore {
 
@@ -35,6 +39,37 @@ public class TestCore {
     protected static final String RESOURCES = "src" + FileSep + "main" + FileSep + "resources";
     private static final String CONFIG_PROPERTIES = RESOURCES + FileSep + "config.properties";
 
+    /** Tags fetches made while setting up a test class with the class, see {@link FetchMetrics}. */
+    @ClassRule
+    public static final TestWatcher fetchMetricsClassTag =
+            new TestWatcher() {
+                @Override
+                protected void starting(Description description) {
+                    FetchMetrics.setCurrentTest(description.getClassName(), null);
+                }
+
+                @Override
+                protected void finished(Description description) {
+                    FetchMetrics.clearCurrentTest();
+                }
+            };
+
+    /** Tags fetches made by a test with its class and method. */
+    @Rule
+    public final TestWatcher fetchMetricsTestTag =
+            new TestWatcher() {
+                @Override
+                protected void starting(Description description) {
+                    FetchMetrics.setCurrentTest(
+                            description.getClassName(), description.getMethodName());
+                }
+
+                @Override
+                protected void finished(Description description) {
+                    FetchMetrics.setCurrentTest(description.getClassName(), null);
+                }
+            };
+
     protected static void printResource(Resource resource) {
         for (Statement stmt : resource.listProperties().toList()) {
             System.out.println(
@@ -54,7 +89,7 @@ public class TestCore {
         return model.createResource(uri);
     }
 
-    protected static Properties getConfigPropertiesInstance()
+    public static Properties getConfigPropertiesInstance()
             throws FileNotFoundException, IOException {
         Properties prop = new Properties();
 
@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.Header;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.methods.HttpRequestWrapper;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.BasicHttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.EnglishReasonPhraseCatalog;
+import org.apache.http.impl.client.BasicCookieStore;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.ssl.SSLContexts;
+import org.eclipse.lyo.testsuite.common.HttpArchive;
+
+/**
+ * The HTTP client shared by the TRS tests: a pooled, thread-safe HttpClient that accepts
+ * self-signed certificates on any port, as {@link EasySSLClient} did for a fixed list of ports.
+ *
+ * <p>The client is built on first use from config.properties: <code>httpMaxConnections</code>,
+ * <code>httpMaxConnectionsPerRoute</code>, and the <code>timeoutConnect</code>, <code>
+ * timeoutSocket</code> and <code>timeoutRequest</code> timeouts in milliseconds. Several requests
+ * can be in flight at once, so the Base and the Change Log can be fetched concurrently.
+ *
+ * <p>With <code>httpArchive</code> set, fetches are recorded to or answered from an {@link
+ * HttpArchive}, so a TRS can be validated again offline.
+ */
+public class TrsHttpClient {
+    public static final int DEFAULT_MAX_CONNECTIONS = 16;
+    public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 8;
+    public static final int DEFAULT_TIMEOUT_CONNECT = 5000;
+    public static final int DEFAULT_TIMEOUT_SOCKET = 60000;
+    public static final int DEFAULT_TIMEOUT_REQUEST = 60000;
+
+    private static CloseableHttpClient client;
+
+    /**
+     * @param prop the config.properties, read only when the client is built
+     * @return the shared client, built on first use
+     * @throws GeneralSecurityException if the SSL context cannot be initialized
+     */
+    public static synchronized HttpClient getClient(Properties prop)
+            throws GeneralSecurityException {
+        if (client == null) {
+            client = build(prop);
+        }
+        return client;
+    }
+
+    /** Closes the shared client and its connections; the next call to getClient builds anew. */
+    public static synchronized void close() throws IOException {
+        if (client != null) {
+            try {
+                client.close();
+            } finally {
+                client = null;
+                HttpArchive.close();
+            }
+        }
+    }
+
+    private static CloseableHttpClient build(Properties prop) throws GeneralSecurityException {
+        HttpArchive.configure(prop);
+        if (HttpArchive.getMode() == HttpArchive.Mode.REPLAY) {
+            return new ReplayHttpClient();
+        }
+
+        // Accept self-signed certificates and bypass hostname verification
+        SSLConnectionSocketFactory sslSocketFactory =
+                new SSLConnectionSocketFactory(
+                        SSLContexts.custom().loadTrustMaterial(TrustAllStrategy.INSTANCE).build(),
+                        NoopHostnameVerifier.INSTANCE);
+        PoolingHttpClientConnectionManager connectionManager =
+                new MeteredConnectionManager(
+                        RegistryBuilder.<ConnectionSocketFactory>create()
+                                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                                .register("https", sslSocketFactory)
+                                .build());
+        connectionManager.setMaxTotal(
+                intProperty(prop, "httpMaxConnections", DEFAULT_MAX_CONNECTIONS));
+        connectionManager.setDefaultMaxPerRoute(
+                intProperty(
+                        prop, "httpMaxConnectionsPerRoute", DEFAULT_MAX_CONNECTIONS_PER_ROUTE));
+        // Servers drop idle keep-alive connections; check before reusing one that sat for a while
+        connectionManager.setValidateAfterInactivity(2000);
+
+        RequestConfig requestConfig =
+                RequestConfig.custom()
+                        .setConnectTimeout(
+                                intProperty(prop, "timeoutConnect", DEFAULT_TIMEOUT_CONNECT))
+                        .setSocketTimeout(
+                                intProperty(prop, "timeoutSocket", DEFAULT_TIMEOUT_SOCKET))
+                        .setConnectionRequestTimeout(
+                                intProperty(prop, "timeoutRequest", DEFAULT_TIMEOUT_REQUEST))
+                        .build();
+
+        HttpClientBuilder builder =
+                HttpClients.custom()
+                        .setConnectionManager(connectionManager)
+                        .setDefaultRequestConfig(requestConfig)
+                        .setDefaultCookieStore(new BasicCookieStore());
+        if (HttpArchive.getMode() == HttpArchive.Mode.RECORD) {
+            // Added last, so bodies are recorded after content decoding
+            builder.addInterceptorLast(new Recorder());
+        }
+        return builder.build();
+    }
+
+    private static int intProperty(Properties prop, String name, int defaultValue) {
+        String value = prop == null ? null : prop.getProperty(name);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    /** @return the absolute URI of the request, as given by the caller */
+    private static String requestUri(HttpRequest request, HttpHost target) {
+        HttpRequest original =
+                request instanceof HttpRequestWrapper wrapper ? wrapper.getOriginal() : request;
+        URI uri =
+                original instanceof HttpUriRequest uriRequest
+                        ? uriRequest.getURI()
+                        : URI.create(original.getRequestLine().getUri());
+        return uri.isAbsolute() || target == null ? uri.toString() : target.toURI() + uri;
+    }
+
+    /** @return the values of each header joined by commas, as {@link HttpArchive} records them */
+    private static Map<String, List<String>> headerMap(Header[] headers) {
+        Map<String, List<String>> map = new LinkedHashMap<>();
+        for (Header header : headers) {
+            map.computeIfAbsent(header.getName(), name -> new ArrayList<>()).add(header.getValue());
+        }
+        return map;
+    }
+
+    /**
+     * Records every exchange to the {@link HttpArchive}, holding no more of a body than {@link
+     * HttpArchive#getMaxBody()} bytes; exchanges with larger bodies are passed on whole but not
+     * recorded.
+     */
+    private static class Recorder implements HttpResponseInterceptor {
+        @Override
+        public void process(HttpResponse response, HttpContext context) throws IOException {
+            HttpClientContext clientContext = HttpClientContext.adapt(context);
+            HttpRequest request = clientContext.getRequest();
+            String method = request.getRequestLine().getMethod();
+            String uri = requestUri(request, clientContext.getTargetHost());
+            byte[] requestBody = null;
+            boolean tooLarge = false;
+            if (request instanceof HttpEntityEnclosingRequest enclosing
+                    && enclosing.getEntity() != null
+                    && enclosing.getEntity().isRepeatable()) {
+                HttpArchive.Body buffered = HttpArchive.buffer(enclosing.getEntity().getContent());
+                buffered.stream().close();
+                requestBody = buffered.bytes();
+                tooLarge = requestBody == null;
+            }
+            byte[] body = new byte[0];
+            HttpEntity entity = response.getEntity();
+            if (entity != null) {
+                HttpArchive.Body buffered = HttpArchive.buffer(entity.getContent());
+                body = buffered.bytes();
+                AbstractHttpEntity passed;
+                if (body != null) {
+                    passed = new ByteArrayEntity(body);
+                } else {
+                    BasicHttpEntity streamed = new BasicHttpEntity();
+                    streamed.setContent(buffered.stream());
+                    streamed.setContentLength(entity.getContentLength());
+                    passed = streamed;
+                    tooLarge = true;
+                }
+                passed.setContentType(entity.getContentType());
+                passed.setContentEncoding(entity.getContentEncoding());
+                response.setEntity(passed);
+            }
+            if (tooLarge) {
+                HttpArchive.skip(method, uri);
+                return;
+            }
+            HttpArchive.record(
+                    new HttpArchive.Exchange(
+                            method,
+                            uri,
+                            HttpArchive.recordable(headerMap(request.getAllHeaders())),
+                            requestBody == null ? null : ByteBuffer.wrap(requestBody),
+                            response.getStatusLine().getStatusCode(),
+                            HttpArchive.recordable(headerMap(response.getAllHeaders())),
+                            ByteBuffer.wrap(body)));
+        }
+    }
+
+    /**
+     * Answers requests from the {@link HttpArchive} instead of the network, following redirects as
+     * the pooled client does. Bodies are streamed from the mapping of the archive.
+     */
+    private static class ReplayHttpClient extends CloseableHttpClient {
+        private static final int MAX_REDIRECTS = 50;
+        private static final int PERMANENT_REDIRECT = 308;
+
+        @Override
+        protected CloseableHttpResponse doExecute(
+                HttpHost target, HttpRequest request, HttpContext context) throws IOException {
+            String method = request.getRequestLine().getMethod();
+            String uri = requestUri(request, target);
+            List<String> acceptValues =
+                    headerMap(request.getHeaders(HttpConstants.ACCEPT)).get(HttpConstants.ACCEPT);
+            String accept = acceptValues == null ? null : String.join(",", acceptValues);
+            for (int redirects = 0; ; redirects++) {
+                HttpArchive.Exchange exchange = HttpArchive.replay(method, uri, accept);
+                int status = exchange.status();
+                String location = exchange.getResponseHeader(HttpConstants.LOCATION);
+                if (location == null
+                        || redirects == MAX_REDIRECTS
+                        || !isRedirect(method, status)) {
+                    return response(exchange);
+                }
+                uri = URI.create(uri).resolve(location).toString();
+                if (!method.equals(HttpHead.METHOD_NAME)) {
+                    method = HttpGet.METHOD_NAME;
+                }
+            }
+        }
+
+        /** @return whether the pooled client follows the response, as DefaultRedirectStrategy */
+        private static boolean isRedirect(String method, int status) {
+            return switch (status) {
+                case HttpStatus.SC_SEE_OTHER -> true;
+                case HttpStatus.SC_MOVED_PERMANENTLY,
+                        HttpStatus.SC_MOVED_TEMPORARILY,
+                        HttpStatus.SC_TEMPORARY_REDIRECT,
+                        PERMANENT_REDIRECT ->
+                        method.equals(HttpGet.METHOD_NAME) || method.equals(HttpHead.METHOD_NAME);
+                default -> false;
+            };
+        }
+
+        private static CloseableHttpResponse response(HttpArchive.Exchange exchange) {
+            ReplayedResponse response = new ReplayedResponse(exchange.status());
+            for (HttpArchive.Header header : exchange.responseHeaders()) {
+                response.addHeader(header.name(), header.value());
+            }
+            BasicHttpEntity entity = new BasicHttpEntity();
+            entity.setContent(exchange.openResponseBody());
+            entity.setContentLength(exchange.responseBody().remaining());
+            entity.setContentType(response.getFirstHeader(HttpConstants.CONTENT_TYPE));
+            response.setEntity(entity);
+            return response;
+        }
+
+        @Override
+        public void close() {}
+
+        @Override
+        @Deprecated
+        public HttpParams getParams() {
+            return new BasicHttpParams();
+        }
+
+        @Override
+        @Deprecated
+        public ClientConnectionManager getConnectionManager() {
+            return NoConnectionManager.INSTANCE;
+        }
+    }
+
+    /** Times connection set-up, including name resolution, for {@link FetchMetrics}. */
+    private static class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+        MeteredConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry) {
+            super(socketFactoryRegistry);
+        }
+
+        @Override
+        public void connect(
+                HttpClientConnection managedConn,
+                HttpRoute route,
+                int connectTimeout,
+                HttpContext context)
+                throws IOException {
+            long start = System.nanoTime();
+            try {
+                super.connect(managedConn, route, connectTimeout, context);
+            } finally {
+                FetchMetrics.recordConnect(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /** The connection manager of {@link ReplayHttpClient}: there is nothing to connect or close. */
+    @Deprecated
+    private static class NoConnectionManager implements ClientConnectionManager {
+        static final NoConnectionManager INSTANCE = new NoConnectionManager();
+
+        private final SchemeRegistry schemeRegistry = SchemeRegistryFactory.createDefault();
+
+        @Override
+        public SchemeRegistry getSchemeRegistry() {
+            return schemeRegistry;
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            throw new IllegalStateException(
+                    MessageFormat.format(
+                            Messages.getServerString("http.archive.no.connection"),
+                            route.getTargetHost(),
+                            HttpArchive.getFile()));
+        }
+
+        @Override
+        public void releaseConnection(
+                ManagedClientConnection conn, long validDuration, TimeUnit timeUnit) {}
+
+        @Override
+        public void closeIdleConnections(long idletime, TimeUnit timeUnit) {}
+
+        @Override
+        public void closeExpiredConnections() {}
+
+        @Override
+        public void shutdown() {}
+    }
+
+    private static class ReplayedResponse extends BasicHttpResponse
+            implements CloseableHttpResponse {
+        ReplayedResponse(int status) {
+            super(
+                    HttpVersion.HTTP_1_1,
+                    status,
+                    EnglishReasonPhraseCatalog.INSTANCE.getReason(status, Locale.ENGLISH));
+        }
+
+        @Override
+        public void close() {}
+    }
+}
@@ -0,0 +1,290 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.text.MessageFormat;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import org.apache.http.client.HttpClient;
+import org.apache.http.protocol.HttpContext;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Resource;
+
+/**
+ * Follows a TRS incrementally, as a long-running consumer would. The last processed change event
+ * (its <code>trs:order</code> and URI) is kept in a checkpoint file, so each {@link #poll()} only
+ * fetches the Change Log segments newer than the checkpoint, and a restarted poller carries on
+ * where the previous one stopped.
+ *
+ * <p>When the Change Log no longer reaches back to the checkpoint, the server has truncated it
+ * past us and the poller re-reads the Base, then checkpoints the newest event of the log. The
+ * same happens on the first poll without a checkpoint file.
+ */
+public class TrsPoller {
+    public static final String CSV_FILE = "trs-polls.csv";
+
+    /** The last processed change event; a <code>null</code> event means the log was empty. */
+    public record Checkpoint(BigInteger order, String event) {
+        /** @return the checkpoint stored in the file, or <code>null</code> if there is none */
+        public static Checkpoint load(Path file) throws IOException {
+            if (!Files.exists(file)) {
+                return null;
+            }
+            Properties properties = new Properties();
+            try (InputStream in = Files.newInputStream(file)) {
+                properties.load(in);
+            }
+            String order = properties.getProperty("order");
+            return order == null
+                    ? null
+                    : new Checkpoint(new BigInteger(order), properties.getProperty("event"));
+        }
+
+        /** Replaces the file, so that it always holds a complete checkpoint. */
+        public void store(Path file) throws IOException {
+            Properties properties = new Properties();
+            properties.setProperty("order", order.toString());
+            if (event != null) {
+                properties.setProperty("event", event);
+            }
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                properties.store(out, "TRS polling checkpoint");
+            }
+            Files.move(
+                    temp,
+                    file,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * One poll.
+     *
+     * @param fetchNanos time spent fetching and walking the TRS, Change Log and Base if re-read
+     * @param segments the number of Change Log segments read
+     * @param newEvents the number of events after the previous checkpoint
+     * @param baseReread whether the Base had to be read again
+     * @param lagNanos the time from the start of the previous poll to the end of this one: a new
+     *     event was published at most this long before it was checkpointed
+     * @param checkpoint the checkpoint after the poll
+     */
+    public record Poll(
+            Instant time,
+            long fetchNanos,
+            int segments,
+            long newEvents,
+            boolean baseReread,
+            long lagNanos,
+            Checkpoint checkpoint,
+            ChangeLogWalker.Result changeLog) {}
+
+    private final HttpClient httpClient;
+    private final HttpContext httpContext;
+    private final String acceptType;
+    private final String trsUri;
+    private final Path checkpointFile;
+    private Checkpoint checkpoint;
+    private boolean checkpointLoaded;
+    private long previousStart = -1;
+    private final List<Poll> polls = new ArrayList<>();
+
+    public TrsPoller(
+            HttpClient httpClient,
+            HttpContext httpContext,
+            String acceptType,
+            String trsUri,
+            Path checkpointFile) {
+        this.httpClient = httpClient;
+        this.httpContext = httpContext;
+        this.acceptType = acceptType;
+        this.trsUri = trsUri;
+        this.checkpointFile = checkpointFile;
+    }
+
+    /**
+     * Fetches the change events since the checkpoint and moves the checkpoint to the newest one.
+     *
+     * @throws FetchException if a resource cannot be fetched or parsed
+     * @throws InvalidTRSException if the TRS lacks its <code>trs:base</code> or <code>
+     *     trs:changeLog</code>
+     * @throws IOException if the checkpoint file cannot be read or written
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public Poll poll()
+            throws FetchException, InvalidTRSException, IOException, InterruptedException {
+        long start = System.nanoTime();
+        if (!checkpointLoaded) {
+            checkpoint = Checkpoint.load(checkpointFile);
+            checkpointLoaded = true;
+        }
+
+        Resource trs = fetch(trsUri);
+        Newest newest = new Newest();
+        ChangeLogWalker walker = new ChangeLogWalker(httpClient, httpContext, acceptType);
+        walker.setEventListener(newest);
+        ChangeLogWalker.Result changeLog = null;
+        boolean baseReread = checkpoint == null;
+        if (checkpoint != null) {
+            newest.after = checkpoint.order();
+            newest.stopEvent = checkpoint.event();
+            if (checkpoint.event() != null) {
+                walker.setStopOrder(checkpoint.order());
+            }
+            changeLog = walker.walk(getChangeLog(trs), checkpoint.event());
+            boolean reached =
+                    checkpoint.event() == null
+                            || changeLog.isCutoffReached()
+                            || (newest.lowest != null
+                                    && newest.lowest.compareTo(checkpoint.order()) <= 0);
+            baseReread = !reached;
+        }
+        if (baseReread) {
+            // Either there is no checkpoint yet or the log was truncated past it
+            newest = new Newest();
+            walker.setEventListener(newest);
+            walker.setStopOrder(null);
+            Resource base = trs.getPropertyResourceValue(ITRSVocabulary.BASE_PROPERTY);
+            if (base == null || !base.isURIResource()) {
+                throw new InvalidTRSException(
+                        Messages.getServerString("validators.missing.trs.base.property"));
+            }
+            BaseWalker.Result baseWalk =
+                    new BaseWalker(httpClient, httpContext, acceptType).walk(base.getURI());
+            newest.stopEvent = baseWalk.getCutoffEvent();
+            // Fetched again so that the log reaches past whatever the Base already reflects
+            changeLog = walker.walk(getChangeLog(fetch(trsUri)), baseWalk.getCutoffEvent());
+        }
+
+        if (newest.order != null
+                && (baseReread || newest.order.compareTo(checkpoint.order()) > 0)) {
+            checkpoint = new Checkpoint(newest.order, newest.event);
+        } else if (baseReread) {
+            checkpoint = new Checkpoint(BigInteger.ZERO, null);
+        }
+        checkpoint.store(checkpointFile);
+
+        long end = System.nanoTime();
+        Poll poll =
+                new Poll(
+                        Instant.now(),
+                        end - start,
+                        changeLog.getSegments(),
+                        newest.count,
+                        baseReread,
+                        previousStart < 0 ? 0 : end - previousStart,
+                        checkpoint,
+                        changeLog);
+        previousStart = start;
+        polls.add(poll);
+        return poll;
+    }
+
+    public Checkpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    public List<Poll> getPolls() {
+        return Collections.unmodifiableList(polls);
+    }
+
+    /** Writes the polls so far to {@value #CSV_FILE} in the directory, creating it. */
+    public void export(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        try (BufferedWriter writer =
+                Files.newBufferedWriter(directory.resolve(CSV_FILE), StandardCharsets.UTF_8)) {
+            writer.write("timestamp,fetchMs,segments,newEvents,baseReread,lagMs,order");
+            writer.newLine();
+            for (Poll poll : polls) {
+                writer.write(
+                        String.join(
+                                ",",
+                                poll.time().toString(),
+                                String.valueOf(poll.fetchNanos() / 1_000_000.0),
+                                String.valueOf(poll.segments()),
+                                String.valueOf(poll.newEvents()),
+                                String.valueOf(poll.baseReread()),
+                                String.valueOf(poll.lagNanos() / 1_000_000.0),
+                                poll.checkpoint().order().toString()));
+                writer.newLine();
+            }
+        }
+    }
+
+    private Resource fetch(String uri) throws FetchException, InterruptedException {
+        Model model = FetchUtil.fetchResource(uri, httpClient, httpContext, acceptType);
+        if (model == null) {
+            throw new FetchException(
+                    MessageFormat.format(
+                            Messages.getServerString("fetch.util.retrieve.error"), uri));
+        }
+        return model.getResource(uri);
+    }
+
+    private static Resource getChangeLog(Resource trs) throws InvalidTRSException {
+        Resource changeLog = trs.getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
+        if (changeLog == null) {
+            throw new InvalidTRSException(
+                    Messages.getServerString("validators.missing.trs.changelog.property"));
+        }
+        return changeLog;
+    }
+
+    /**
+     * Tracks the newest event and counts the new ones: those above <code>after</code> and delivered
+     * before <code>stopEvent</code>, since the walker delivers events in decreasing order.
+     */
+    private static class Newest implements ChangeLogWalker.EventListener {
+        BigInteger after;
+        String stopEvent;
+        boolean stopped;
+        BigInteger order;
+        String event;
+        BigInteger lowest;
+        long count;
+
+        @Override
+        public void changeEvent(String event, BigInteger order, Resource type, String changed) {
+            if (this.order == null || order.compareTo(this.order) > 0) {
+                this.order = order;
+                this.event = event;
+            }
+            if (lowest == null || order.compareTo(lowest) < 0) {
+                lowest = order;
+            }
+            if (stopEvent != null && stopEvent.equals(event)) {
+                stopped = true;
+            }
+            if (!stopped && (after == null || order.compareTo(after) > 0)) {
+                count++;
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class BaseWalkerTest {
+    private CloseableHttpClient httpClient;
+    private SyntheticTrsServer synthetic;
+    private FixtureServer fixture;
+
+    @BeforeClass
+    public static void disableMetrics() {
+        FetchMetrics.setEnabled(false);
+    }
+
+    @Before
+    public void setUp() {
+        httpClient = HttpClients.createDefault();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (synthetic != null) {
+            synthetic.stop();
+        }
+        if (fixture != null) {
+            fixture.close();
+        }
+        httpClient.close();
+    }
+
+    private BaseWalker walker() {
+        return new BaseWalker(httpClient, new BasicHttpContext(), "text/turtle");
+    }
+
+    private String syntheticBase(int malformedPageEvery) throws Exception {
+        // 2500 members, 200 created and 100 deleted up to the cutoff at event 500
+        synthetic =
+                FixtureServer.startSynthetic(
+                        new SyntheticTrsServer.Workload(
+                                2500, 1000, 1000, 100, 40, 40, 500, 0, 0, malformedPageEvery, 1));
+        String trsUri = synthetic.getTrsUri();
+        return trsUri.substring(0, trsUri.lastIndexOf('/')) + "/base";
+    }
+
+    @Test(timeout = 30_000)
+    public void testWalkSyntheticBase() throws Exception {
+        String base = syntheticBase(0);
+        List<String> listed = new ArrayList<>();
+        BaseWalker walker = walker();
+        walker.setMemberListener(listed::add);
+
+        BaseWalker.Result result = walker.walk(base);
+
+        assertEquals(3, result.getPages());
+        assertEquals(2600, result.getMembers());
+        assertEquals(2600, listed.size());
+        assertTrue(result.getCutoffEvent().endsWith("/events/500"));
+        assertFalse(result.isTruncated());
+        assertFalse(result.isMemberSetSaturated());
+        assertTrue(result.getPageOfViolations().isEmpty());
+        assertTrue(result.getPagingViolations().isEmpty());
+        assertTrue(result.getDuplicateMembers().isEmpty());
+    }
+
+    @Test(timeout = 30_000)
+    public void testPageLimitTruncatesWalk() throws Exception {
+        BaseWalker walker = walker();
+        walker.setPageLimit(2);
+
+        BaseWalker.Result result = walker.walk(syntheticBase(0));
+
+        assertEquals(2, result.getPages());
+        assertTrue(result.isTruncated());
+    }
+
+    @Test(timeout = 30_000, expected = FetchException.class)
+    public void testMalformedPageFailsWalk() throws Exception {
+        // The second page is cut in half
+        walker().walk(syntheticBase(2));
+    }
+
+    @Test(timeout = 30_000)
+    public void testPageCycleEndsWalk() throws Exception {
+        fixture =
+                new FixtureServer()
+                        .put(
+                                "/base",
+                                "<{root}/base> a ldp:Page ; ldp:pageOf <{root}/base> ;\n"
+                                        + "  trs:cutoffEvent rdf:nil ;\n"
+                                        + "  ldp:nextPage <{root}/base?page=2> ;\n"
+                                        + "  rdfs:member <{root}/r/1> .\n")
+                        .put(
+                                "/base?page=2",
+                                "<{root}/base?page=2> a ldp:Page ; ldp:pageOf <{root}/base> ;\n"
+                                        + "  ldp:nextPage <{root}/base> .\n"
+                                        + "<{root}/base> rdfs:member <{root}/r/2> .\n");
+
+        BaseWalker.Result result = walker().walk(fixture.uri("/base"));
+
+        assertEquals(2, result.getPages());
+        assertEquals(2, result.getMembers());
+        assertEquals(1, result.getPagingViolations().getCount());
+        assertNull(result.getCutoffEvent());
+    }
+
+    @Test(timeout = 30_000)
+    public void testMembersListedTwiceOnPageCountOnce() throws Exception {
+        fixture =
+                new FixtureServer()
+                        .put(
+                                "/base",
+                                "<{root}/base> a ldp:Page ; ldp:pageOf <{root}/base> ;\n"
+                                        + "  ldp:nextPage rdf:nil ;\n"
+                                        + "  rdfs:member <{root}/r/1>, <{root}/r/2> ;\n"
+                                        + "  ldp:member <{root}/r/2>, <{root}/r/3> .\n");
+
+        BaseWalker.Result result = walker().walk(fixture.uri("/base"));
+
+        assertEquals(3, result.getMembers());
+        assertTrue(result.getDuplicateMembers().isEmpty());
+        assertTrue(result.getPagingViolations().isEmpty());
+        assertTrue(result.getPageOfViolations().isEmpty());
+    }
+
+    @Test(timeout = 30_000)
+    public void testDuplicateMembersAcrossPages() throws Exception {
+        fixture =
+                new FixtureServer()
+                        .put(
+                                "/base",
+                                "<{root}/base> a ldp:Page ;\n"
+                                        + "  ldp:nextPage <{root}/base?page=2> ;\n"
+                                        + "  rdfs:member <{root}/r/1>, <{root}/r/2> .\n")
+                        .put(
+                                "/base?page=2",
+                                "<{root}/base?page=2> a ldp:Page ; ldp:pageOf <{root}/base> ;\n"
+                                        + "  ldp:nextPage rdf:nil .\n"
+                                        + "<{root}/base> rdfs:member <{root}/r/2> .\n");
+
+        BaseWalker.Result result = walker().walk(fixture.uri("/base"));
+
+        assertEquals(3, result.getMembers());
+        assertEquals(1, result.getDuplicateMembers().getCount());
+        // The first page has no ldp:pageOf
+        assertEquals(1, result.getPageOfViolations().getCount());
+    }
+}
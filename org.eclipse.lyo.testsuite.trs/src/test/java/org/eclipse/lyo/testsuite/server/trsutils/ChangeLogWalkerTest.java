@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.protocol.BasicHttpContext;
+import org.apache.http.protocol.HttpContext;
+import org.apache.jena.rdf.model.Resource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ChangeLogWalkerTest {
+    private final HttpContext httpContext = new BasicHttpContext();
+    private CloseableHttpClient httpClient;
+    private SyntheticTrsServer synthetic;
+    private FixtureServer fixture;
+
+    @BeforeClass
+    public static void disableMetrics() {
+        FetchMetrics.setEnabled(false);
+    }
+
+    @Before
+    public void setUp() {
+        httpClient = HttpClients.createDefault();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (synthetic != null) {
+            synthetic.stop();
+        }
+        if (fixture != null) {
+            fixture.close();
+        }
+        httpClient.close();
+    }
+
+    private ChangeLogWalker walker() {
+        return new ChangeLogWalker(httpClient, httpContext, "text/turtle");
+    }
+
+    /** @return the <code>trs:changeLog</code> of the TRS, in its model */
+    private Resource changeLog(String trsUri) throws Exception {
+        return FetchUtil.fetchResource(trsUri, httpClient, httpContext, "text/turtle")
+                .getResource(trsUri)
+                .getPropertyResourceValue(ITRSVocabulary.CHANGELOG_PROPERTY);
+    }
+
+    private String syntheticTrs(int malformedPageEvery) throws Exception {
+        // 10 segments of 100 events, the cutoff in the fifth
+        synthetic =
+                FixtureServer.startSynthetic(
+                        new SyntheticTrsServer.Workload(
+                                2500, 1000, 1000, 100, 40, 40, 500, 0, 0, malformedPageEvery, 1));
+        return synthetic.getTrsUri();
+    }
+
+    private static String cutoffEvent(String trsUri) {
+        return trsUri.substring(0, trsUri.lastIndexOf('/')) + "/events/500";
+    }
+
+    private static String event(int order, String type) {
+        return "<{root}/e/"
+                + order
+                + "> a trs:"
+                + type
+                + " ; trs:changed <{root}/r/"
+                + order
+                + "> ; trs:order "
+                + order
+                + " .\n";
+    }
+
+    @Test(timeout = 30_000)
+    public void testWalkSyntheticLogToCutoff() throws Exception {
+        String trsUri = syntheticTrs(0);
+        List<BigInteger> orders = new ArrayList<>();
+        ChangeLogWalker walker = walker();
+        walker.setEventListener((event, order, type, changed) -> orders.add(order));
+
+        ChangeLogWalker.Result result = walker.walk(changeLog(trsUri), cutoffEvent(trsUri));
+
+        assertTrue(result.isCutoffReached());
+        assertEquals(BigInteger.valueOf(500), result.getCutoffOrder());
+        assertEquals(6, result.getSegments());
+        assertEquals(600, result.getEvents());
+        assertFalse(result.isTruncated());
+        for (ChangeLogWalker.Check check : ChangeLogWalker.Check.values()) {
+            assertTrue(check.name(), result.getProblems(check).isEmpty());
+        }
+        assertEquals(600, orders.size());
+        assertEquals(BigInteger.valueOf(1000), orders.get(0));
+        assertEquals(BigInteger.valueOf(401), orders.get(orders.size() - 1));
+    }
+
+    @Test(timeout = 30_000)
+    public void testSegmentLimitTruncatesWalk() throws Exception {
+        String trsUri = syntheticTrs(0);
+        ChangeLogWalker walker = walker();
+        walker.setSegmentLimit(2);
+
+        ChangeLogWalker.Result result = walker.walk(changeLog(trsUri), cutoffEvent(trsUri));
+
+        assertEquals(2, result.getSegments());
+        assertTrue(result.isTruncated());
+        assertFalse(result.isCutoffReached());
+    }
+
+    @Test(timeout = 30_000)
+    public void testStopOrderEndsWalk() throws Exception {
+        String trsUri = syntheticTrs(0);
+        ChangeLogWalker walker = walker();
+        walker.setStopOrder(BigInteger.valueOf(850));
+
+        ChangeLogWalker.Result result = walker.walk(changeLog(trsUri), null);
+
+        assertEquals(2, result.getSegments());
+        assertFalse(result.isTruncated());
+    }
+
+    @Test(timeout = 30_000, expected = FetchException.class)
+    public void testMalformedSegmentFailsWalk() throws Exception {
+        // The second newest segment, the ninth, is cut in half
+        String trsUri = syntheticTrs(3);
+        walker().walk(changeLog(trsUri), cutoffEvent(trsUri));
+    }
+
+    @Test(timeout = 30_000)
+    public void testPreviousCycleEndsWalk() throws Exception {
+        fixture =
+                new FixtureServer()
+                        .put(
+                                "/trs",
+                                "<{root}/trs> trs:changeLog <{root}/trs#log> .\n"
+                                        + "<{root}/trs#log> trs:change <{root}/e/3> ;\n"
+                                        + "  trs:previous <{root}/log/2> .\n"
+                                        + event(3, "Creation"))
+                        .put(
+                                "/log/2",
+                                "<{root}/log/2> trs:change <{root}/e/2> ;\n"
+                                        + "  trs:previous <{root}/log/1> .\n"
+                                        + event(2, "Creation"))
+                        .put(
+                                "/log/1",
+                                "<{root}/log/1> trs:change <{root}/e/1> ;\n"
+                                        + "  trs:previous <{root}/log/2> .\n"
+                                        + event(1, "Creation"));
+
+        ChangeLogWalker.Result result = walker().walk(changeLog(fixture.uri("/trs")), null);
+
+        assertEquals(3, result.getSegments());
+        assertEquals(3, result.getEvents());
+        assertEquals(
+                1, result.getProblems(ChangeLogWalker.Check.PREVIOUS_IS_ACYCLIC).getCount());
+    }
+
+    @Test(timeout = 30_000)
+    public void testBadOrdersAreReported() throws Exception {
+        fixture =
+                new FixtureServer()
+                        .put(
+                                "/trs",
+                                "<{root}/trs> trs:changeLog <{root}/trs#log> .\n"
+                                        + "<{root}/trs#log> trs:change <{root}/e/2>, <{root}/e/0>,"
+                                        + " <{root}/e/5> ;\n"
+                                        + "  trs:previous <{root}/log/1> .\n"
+                                        + event(2, "Creation")
+                                        + event(0, "Creation")
+                                        + event(5, "Modification"))
+                        .put(
+                                "/log/1",
+                                "<{root}/log/1> trs:change <{root}/e/3>, <{root}/e/1>,"
+                                        + " <{root}/e/1b> ;\n"
+                                        + "  trs:previous rdf:nil .\n"
+                                        + event(3, "Deletion")
+                                        + event(1, "Creation")
+                                        + "<{root}/e/1b> a trs:Deletion ;"
+                                        + " trs:changed <{root}/r/1> ; trs:order 1 .\n");
+
+        ChangeLogWalker.Result result = walker().walk(changeLog(fixture.uri("/trs")), null);
+
+        assertEquals(2, result.getSegments());
+        assertEquals(1, result.getProblems(ChangeLogWalker.Check.ORDER_IS_NUMBER).getCount());
+        // 3 is not below 2, the lowest order of the newer segment, and 1 is listed twice
+        assertEquals(1, result.getProblems(ChangeLogWalker.Check.ORDER_DECREASES).getCount());
+        assertEquals(1, result.getProblems(ChangeLogWalker.Check.ORDER_IS_UNIQUE).getCount());
+    }
+
+    @Test(timeout = 30_000)
+    public void testMissingPreviousBeforeCutoffIsReported() throws Exception {
+        fixture =
+                new FixtureServer()
+                        .put(
+                                "/trs",
+                                "<{root}/trs> trs:changeLog <{root}/trs#log> .\n"
+                                        + "<{root}/trs#log> trs:change <{root}/e/2> .\n"
+                                        + event(2, "Creation"));
+
+        ChangeLogWalker.Result withCutoff =
+                walker().walk(changeLog(fixture.uri("/trs")), fixture.uri("/e/1"));
+        ChangeLogWalker.Result withoutCutoff = walker().walk(changeLog(fixture.uri("/trs")), null);
+
+        assertFalse(withCutoff.isCutoffReached());
+        assertEquals(1, withCutoff.getProblems(ChangeLogWalker.Check.PREVIOUS_IS_URI).getCount());
+        assertTrue(withoutCutoff.getProblems(ChangeLogWalker.Check.PREVIOUS_IS_URI).isEmpty());
+    }
+
+    @Test(timeout = 30_000)
+    public void testLiteralPreviousIsReported() throws Exception {
+        fixture =
+                new FixtureServer()
+                        .put(
+                                "/trs",
+                                "<{root}/trs> trs:changeLog <{root}/trs#log> .\n"
+                                        + "<{root}/trs#log> trs:change <{root}/e/2> ;\n"
+                                        + "  trs:previous \"log/1\" .\n"
+                                        + event(2, "Creation"));
+
+        ChangeLogWalker.Result result = walker().walk(changeLog(fixture.uri("/trs")), null);
+
+        assertEquals(1, result.getSegments());
+        assertEquals(1, result.getProblems(ChangeLogWalker.Check.PREVIOUS_IS_URI).getCount());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import org.apache.http.client.HttpClient;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class FetchMetricsTest {
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    private FixtureServer fixture;
+
+    @Before
+    public void setUp() {
+        FetchMetrics.reset();
+        FetchMetrics.setEnabled(true);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        FetchMetrics.setEnabled(false);
+        FetchMetrics.reset();
+        TrsHttpClient.close();
+        if (fixture != null) {
+            fixture.close();
+        }
+    }
+
+    @Test
+    public void testConnectIsTimedForNewConnectionsOnly() throws Exception {
+        fixture = new FixtureServer().put("/resources/1", "<{root}/resources/1> a ldp:Resource .");
+        HttpClient client = TrsHttpClient.getClient(new Properties());
+        String uri = fixture.uri("/resources/1");
+
+        FetchUtil.fetchResource(uri, client, new BasicHttpContext(), "text/turtle");
+        FetchUtil.fetchResource(uri, client, new BasicHttpContext(), "text/turtle");
+
+        List<FetchMetrics.Fetch> fetches = FetchMetrics.getFetches();
+        assertEquals(2, fetches.size());
+        FetchMetrics.Fetch first = fetches.get(0);
+        assertEquals(200, first.status());
+        assertTrue(first.connect() > 0);
+        assertEquals(first.connect() + first.firstByte() + first.body(), first.total());
+        // The second fetch reuses the pooled connection
+        assertEquals(0, fetches.get(1).connect());
+        assertEquals(fixture.uri("/resources/{id}"), fetches.get(1).endpoint());
+    }
+
+    @Test
+    public void testExportsConnectPhase() throws Exception {
+        long start = FetchMetrics.start();
+        FetchMetrics.record("http://example.com/trs", 200, 10, start, -1, start);
+        Path directory = folder.getRoot().toPath();
+
+        FetchMetrics.export(directory);
+
+        List<String> csv = Files.readAllLines(directory.resolve(FetchMetrics.CSV_FILE));
+        assertEquals(2, csv.size());
+        assertTrue(csv.get(0).endsWith(",bytes,connectMs,firstByteMs,bodyMs,totalMs"));
+        String json =
+                Files.readString(directory.resolve(FetchMetrics.JSON_FILE), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"connect\": {\"min\": 0.0, \"mean\": 0.0, \"p50\": 0.0"));
+        assertTrue(json.contains("\"firstByte\": {\"min\": 0.0"));
+        assertTrue(json.contains("\"histogram\": [{\"le\": 0.0, \"count\": 1}]"));
+    }
+}
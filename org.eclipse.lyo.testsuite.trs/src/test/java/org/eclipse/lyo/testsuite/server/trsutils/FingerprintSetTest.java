@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class FingerprintSetTest {
+    private static String uri(int i) {
+        return "http://example.com/resources/" + i;
+    }
+
+    @Test
+    public void testAddDetectsDuplicatesAcrossGrowth() {
+        FingerprintSet set = new FingerprintSet(Integer.MAX_VALUE);
+        for (int i = 0; i < 100_000; i++) {
+            assertTrue(set.add(uri(i)));
+        }
+        for (int i = 0; i < 100_000; i++) {
+            assertFalse(set.add(uri(i)));
+            assertTrue(set.contains(uri(i)));
+        }
+        assertFalse(set.contains(uri(100_000)));
+        assertEquals(100_000, set.size());
+        assertFalse(set.isSaturated());
+    }
+
+    @Test
+    public void testSaturatedSetStopsRemembering() {
+        FingerprintSet set = new FingerprintSet(10);
+        for (int i = 0; i < 10; i++) {
+            set.add(uri(i));
+        }
+        assertFalse(set.isSaturated());
+
+        assertTrue(set.add(uri(10)));
+        assertTrue(set.isSaturated());
+        // Turned away, so it is new every time
+        assertTrue(set.add(uri(10)));
+        assertFalse(set.contains(uri(10)));
+        assertFalse(set.add(uri(3)));
+        assertEquals(10, set.size());
+    }
+
+    @Test
+    public void testFingerprintIsNeverZero() {
+        assertNotEquals(0, FingerprintSet.fingerprint(""));
+        assertNotEquals(FingerprintSet.fingerprint(uri(1)), FingerprintSet.fingerprint(uri(2)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLimitMustBePositive() {
+        new FingerprintSet(0);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves hand-written Turtle documents, for the shapes of TRS that {@link SyntheticTrsServer} never
+ * produces: cycles, bad orders, a Base that is ahead of its cutoff event. Every <code>{root}
+ * </code> in a document is replaced with the URI of the server.
+ */
+class FixtureServer implements AutoCloseable {
+    static final String PREFIXES =
+            "@prefix trs: <" + ITRSVocabulary.NS + "> .\n"
+                    + "@prefix ldp: <" + ITRSVocabulary.LDP_NS + "> .\n"
+                    + "@prefix rdf: <http://www.w3.org/1999/02/22-rdf-syntax-ns#> .\n"
+                    + "@prefix rdfs: <http://www.w3.org/2000/01/rdf-schema#> .\n";
+
+    private final Map<String, String> documents = new ConcurrentHashMap<>();
+    private final HttpServer server;
+    private final String root;
+
+    FixtureServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+        root = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /** Serves the document, in Turtle without its prefixes, at the path. */
+    FixtureServer put(String path, String turtle) {
+        documents.put(path, PREFIXES + turtle.replace("{root}", root));
+        return this;
+    }
+
+    /** Starts a {@link SyntheticTrsServer} for the workload on a free port of the loopback. */
+    static SyntheticTrsServer startSynthetic(SyntheticTrsServer.Workload workload)
+            throws IOException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+            port = socket.getLocalPort();
+        }
+        SyntheticTrsServer server = new SyntheticTrsServer(workload);
+        server.start("http://127.0.0.1:" + port + "/services/trs");
+        return server;
+    }
+
+    /** @return the absolute URI of the path */
+    String uri(String path) {
+        return root + path;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().toString();
+        String document = documents.get(path);
+        try (exchange) {
+            if (document == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            byte[] body = document.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/turtle");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.protocol.BasicHttpContext;
+import org.eclipse.lyo.testsuite.server.trsutils.ReplaySimulator.Check;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class ReplaySimulatorTest {
+    private CloseableHttpClient httpClient;
+    private SyntheticTrsServer synthetic;
+    private FixtureServer fixture;
+
+    @BeforeClass
+    public static void disableMetrics() {
+        FetchMetrics.setEnabled(false);
+    }
+
+    @Before
+    public void setUp() {
+        httpClient = HttpClients.createDefault();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (synthetic != null) {
+            synthetic.stop();
+        }
+        if (fixture != null) {
+            fixture.close();
+        }
+        httpClient.close();
+    }
+
+    private ReplaySimulator.Result run(String trsUri) throws Exception {
+        return new ReplaySimulator(httpClient, new BasicHttpContext(), "text/turtle").run(trsUri);
+    }
+
+    private static String event(String name, Object order, String type, int changed) {
+        return "<{root}/e/"
+                + name
+                + "> a trs:"
+                + type
+                + " ; trs:changed <{root}/r/"
+                + changed
+                + "> ; trs:order "
+                + order
+                + " .\n";
+    }
+
+    /** Serves a Base of the given members with its cutoff event, and a TRS pointing to it. */
+    private FixtureServer fixture(String cutoff, int... members) throws Exception {
+        StringBuilder base =
+                new StringBuilder(
+                        "<{root}/base> a ldp:Page ; ldp:pageOf <{root}/base> ;\n"
+                                + "  ldp:nextPage rdf:nil ;\n"
+                                + "  trs:cutoffEvent <{root}/e/"
+                                + cutoff
+                                + "> .\n");
+        for (int member : members) {
+            base.append("<{root}/base> rdfs:member <{root}/r/").append(member).append("> .\n");
+        }
+        fixture = new FixtureServer().put("/base", base.toString());
+        return fixture;
+    }
+
+    private static void assertNoProblems(ReplaySimulator.Result result) {
+        for (Check check : Check.values()) {
+            assertTrue(check.name(), result.getProblems(check).isEmpty());
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void testSyntheticReplayConverges() throws Exception {
+        // 400 creations and 200 deletions in all, half of them up to the cutoff
+        synthetic =
+                FixtureServer.startSynthetic(
+                        new SyntheticTrsServer.Workload(
+                                2500, 1000, 1000, 100, 40, 40, 500, 0, 0, 0, 1));
+
+        ReplaySimulator.Result result = run(synthetic.getTrsUri());
+
+        assertTrue(result.isReplayedFromCutoff());
+        assertEquals(2600, result.getBaseMembers());
+        assertEquals(500, result.getReplayed());
+        assertEquals(2700, result.getLiveMembers());
+        assertNoProblems(result);
+        for (Check check : Check.values()) {
+            assertEquals(check.name(), 0, result.getTolerated(check));
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void testEventsReflectedByBaseAreTolerated() throws Exception {
+        // The Base already holds r/2, created after the cutoff, and lacks r/4, deleted after it
+        fixture("1", 1, 2, 3)
+                .put(
+                        "/trs",
+                        "<{root}/trs> trs:base <{root}/base> ;"
+                                + " trs:changeLog <{root}/trs#log> .\n"
+                                + "<{root}/trs#log> trs:change <{root}/e/4>, <{root}/e/3>,"
+                                + " <{root}/e/2>, <{root}/e/1> ;\n"
+                                + "  trs:previous rdf:nil .\n"
+                                + event("4", 4, "Modification", 3)
+                                + event("3", 3, "Deletion", 4)
+                                + event("2", 2, "Creation", 2)
+                                + event("1", 1, "Creation", 1));
+
+        ReplaySimulator.Result result = run(fixture.uri("/trs"));
+
+        assertTrue(result.isReplayedFromCutoff());
+        assertEquals(3, result.getReplayed());
+        assertEquals(3, result.getLiveMembers());
+        assertNoProblems(result);
+        assertEquals(1, result.getTolerated(Check.UNIQUE_CREATION));
+        assertEquals(1, result.getTolerated(Check.LIVE_DELETION));
+        assertEquals(0, result.getTolerated(Check.KNOWN_MODIFICATION));
+    }
+
+    @Test(timeout = 30_000)
+    public void testLogContradictingItselfIsReported() throws Exception {
+        fixture("1", 1)
+                .put(
+                        "/trs",
+                        "<{root}/trs> trs:base <{root}/base> ;"
+                                + " trs:changeLog <{root}/trs#log> .\n"
+                                + "<{root}/trs#log> trs:change <{root}/e/5>, <{root}/e/4>,"
+                                + " <{root}/e/3>, <{root}/e/2>, <{root}/e/1> ;\n"
+                                + "  trs:previous rdf:nil .\n"
+                                + event("5", 5, "Modification", 2)
+                                + event("4", 4, "Deletion", 2)
+                                + event("3", 3, "Creation", 2)
+                                + event("2", 2, "Creation", 2)
+                                + event("1", 1, "Creation", 1));
+
+        ReplaySimulator.Result result = run(fixture.uri("/trs"));
+
+        assertEquals(4, result.getReplayed());
+        assertEquals(1, result.getProblems(Check.UNIQUE_CREATION).getCount());
+        assertEquals(1, result.getProblems(Check.KNOWN_MODIFICATION).getCount());
+        assertTrue(result.getProblems(Check.LIVE_DELETION).isEmpty());
+        assertEquals(1, result.getLiveMembers());
+    }
+
+    /**
+     * Replays a log of orders from <code>start</code>, where a newer segment holds an event older
+     * than one of the previous, and the oldest event has order <code>old</code>.
+     */
+    private void assertReplayedInOrder(BigInteger old, BigInteger start) throws Exception {
+        fixture("cutoff", 1)
+                .put(
+                        "/trs",
+                        "<{root}/trs> trs:base <{root}/base> ;"
+                                + " trs:changeLog <{root}/trs#log> .\n"
+                                + "<{root}/trs#log> trs:change <{root}/e/5>, <{root}/e/3> ;\n"
+                                + "  trs:previous <{root}/log/1> .\n"
+                                + event("5", start.add(BigInteger.valueOf(5)), "Deletion", 2)
+                                + event("3", start.add(BigInteger.valueOf(3)), "Creation", 2))
+                .put(
+                        "/log/1",
+                        "<{root}/log/1> trs:change <{root}/e/4>, <{root}/e/cutoff>,"
+                                + " <{root}/e/old> ;\n"
+                                + "  trs:previous rdf:nil .\n"
+                                + event("4", start.add(BigInteger.valueOf(4)), "Modification", 2)
+                                + event("cutoff", start.add(BigInteger.ONE), "Creation", 1)
+                                + event("old", old, "Deletion", 9));
+
+        ReplaySimulator.Result result = run(fixture.uri("/trs"));
+
+        assertTrue(result.isReplayedFromCutoff());
+        assertEquals(start.add(BigInteger.ONE), result.getChangeLogWalk().getCutoffOrder());
+        assertEquals(3, result.getReplayed());
+        assertEquals(1, result.getLiveMembers());
+        assertNoProblems(result);
+        for (Check check : Check.values()) {
+            assertEquals(check.name(), 0, result.getTolerated(check));
+        }
+    }
+
+    @Test(timeout = 30_000)
+    public void testOrdersAreReplayedInOrder() throws Exception {
+        assertReplayedInOrder(BigInteger.ZERO, BigInteger.TEN);
+    }
+
+    @Test(timeout = 30_000)
+    public void testFarApartOrdersAreReplayedInOrder() throws Exception {
+        // Too far apart to pack the order and the position of an event in one long
+        assertReplayedInOrder(BigInteger.ZERO, BigInteger.ONE.shiftLeft(62));
+    }
+
+    @Test(timeout = 30_000)
+    public void testWideOrdersAreReplayedInOrder() throws Exception {
+        // Orders past 2^64
+        BigInteger wide = BigInteger.ONE.shiftLeft(64);
+        assertReplayedInOrder(wide, wide);
+    }
+
+    @Test(timeout = 30_000)
+    public void testLogNotReachingCutoffIsNotReplayed() throws Exception {
+        fixture("0", 1)
+                .put(
+                        "/trs",
+                        "<{root}/trs> trs:base <{root}/base> ;"
+                                + " trs:changeLog <{root}/trs#log> .\n"
+                                + "<{root}/trs#log> trs:change <{root}/e/2> ;\n"
+                                + "  trs:previous rdf:nil .\n"
+                                + event("2", 2, "Deletion", 1));
+
+        ReplaySimulator.Result result = run(fixture.uri("/trs"));
+
+        assertFalse(result.isReplayedFromCutoff());
+        assertEquals(0, result.getReplayed());
+        assertEquals(1, result.getLiveMembers());
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.util.EntityUtils;
+import org.eclipse.lyo.testsuite.common.HttpArchive;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Recording and replaying through the client, on a copy of the fixture of the HttpArchiveTest of
+ * the common module.
+ */
+public class TrsHttpClientTest {
+    /** Five exchanges, two of them to the same request, and the start of a sixth cut short. */
+    static final Path FIXTURE = Path.of("src/test/resources/http-archive.bin");
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    @After
+    public void tearDown() throws IOException {
+        TrsHttpClient.close();
+        HttpArchive.configure(null);
+    }
+
+    private static Properties properties(String mode, Path file) {
+        return properties(mode, file, HttpArchive.DEFAULT_MAX_BODY);
+    }
+
+    private static Properties properties(String mode, Path file, int maxBody) {
+        Properties prop = new Properties();
+        prop.setProperty("httpArchive", mode);
+        prop.setProperty("httpArchiveFile", file.toString());
+        prop.setProperty("httpArchiveMaxBody", String.valueOf(maxBody));
+        return prop;
+    }
+
+    private static String get(HttpClient client, String uri) throws IOException {
+        return EntityUtils.toString(client.execute(new HttpGet(uri)).getEntity());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testClientReplaysFixture() throws Exception {
+        HttpClient client = TrsHttpClient.getClient(properties("replay", FIXTURE));
+
+        HttpGet get = new HttpGet("http://example.com/trs");
+        get.setHeader(HttpConstants.ACCEPT, "application/rdf+xml");
+        HttpResponse response = client.execute(get);
+        assertEquals(200, response.getStatusLine().getStatusCode());
+        assertEquals("application/rdf+xml", response.getEntity().getContentType().getValue());
+        assertTrue(EntityUtils.toString(response.getEntity()).startsWith("<rdf:RDF"));
+        assertEquals("first", get(client, "http://example.com/changes"));
+        try {
+            client.execute(new HttpGet("http://example.com/unknown"));
+            fail("Expected no response to an unrecorded request");
+        } catch (IOException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("http://example.com/unknown"));
+        }
+
+        // The deprecated connection manager API works, with nothing to manage
+        assertNotNull(client.getConnectionManager().getSchemeRegistry());
+        client.getConnectionManager().closeExpiredConnections();
+        client.getConnectionManager().shutdown();
+    }
+
+    @Test(timeout = 30_000)
+    public void testRecorderLeavesOutLargeBodies() throws Exception {
+        StringBuilder members = new StringBuilder();
+        for (int i = 0; i < 50; i++) {
+            members.append("<{root}/base> rdfs:member <{root}/r/").append(i).append("> .\n");
+        }
+        Path file = folder.getRoot().toPath().resolve("archive.bin");
+        try (FixtureServer fixture =
+                new FixtureServer()
+                        .put("/small", "<{root}/small> a trs:TrackedResourceSet .\n")
+                        .put("/large", members.toString())) {
+            // The prefixes alone are more than half of it
+            HttpClient client = TrsHttpClient.getClient(properties("record", file, 500));
+            assertTrue(get(client, fixture.uri("/small")).contains("TrackedResourceSet"));
+            // Passed on whole, but not recorded
+            assertTrue(get(client, fixture.uri("/large")).contains("/r/49>"));
+            TrsHttpClient.close();
+
+            List<HttpArchive.Exchange> recorded = HttpArchive.read(file);
+            assertEquals(1, recorded.size());
+            assertEquals(fixture.uri("/small"), recorded.get(0).uri());
+        }
+    }
+}
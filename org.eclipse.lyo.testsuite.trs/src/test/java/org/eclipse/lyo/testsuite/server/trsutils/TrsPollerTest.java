@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation.
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the Eclipse Distribution License 1.0
+ * which is available at http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.lyo.testsuite.server.trsutils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TrsPollerTest {
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    private CloseableHttpClient httpClient;
+    private SyntheticTrsServer synthetic;
+
+    @BeforeClass
+    public static void disableMetrics() {
+        FetchMetrics.setEnabled(false);
+    }
+
+    @Before
+    public void setUp() {
+        httpClient = HttpClients.createDefault();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (synthetic != null) {
+            synthetic.stop();
+        }
+        httpClient.close();
+    }
+
+    private static SyntheticTrsServer.Workload workload(long events) {
+        return new SyntheticTrsServer.Workload(2500, 1000, events, 100, 40, 40, 500, 0, 0, 0, 1);
+    }
+
+    private TrsPoller poller(Path checkpointFile) {
+        return new TrsPoller(
+                httpClient,
+                new BasicHttpContext(),
+                "text/turtle",
+                synthetic.getTrsUri(),
+                checkpointFile);
+    }
+
+    @Test(timeout = 30_000)
+    public void testPollsFollowTheLog() throws Exception {
+        synthetic = FixtureServer.startSynthetic(workload(1000));
+        Path checkpointFile = folder.getRoot().toPath().resolve("checkpoint.properties");
+        TrsPoller poller = poller(checkpointFile);
+
+        TrsPoller.Poll first = poller.poll();
+        assertTrue(first.baseReread());
+        assertEquals(500, first.newEvents());
+        assertEquals(BigInteger.valueOf(1000), first.checkpoint().order());
+        assertTrue(first.checkpoint().event().endsWith("/events/1000"));
+
+        TrsPoller.Poll second = poller.poll();
+        assertFalse(second.baseReread());
+        assertEquals(0, second.newEvents());
+        assertEquals(1, second.segments());
+
+        // The provider publishes 150 more events, which a new poller finds from the checkpoint
+        String trsUri = synthetic.getTrsUri();
+        synthetic.stop();
+        synthetic = new SyntheticTrsServer(workload(1150));
+        synthetic.start(trsUri);
+        TrsPoller.Poll third = poller(checkpointFile).poll();
+        assertFalse(third.baseReread());
+        assertEquals(150, third.newEvents());
+        assertEquals(3, third.segments());
+        assertEquals(BigInteger.valueOf(1150), third.checkpoint().order());
+        assertEquals(third.checkpoint(), TrsPoller.Checkpoint.load(checkpointFile));
+
+        Path directory = folder.getRoot().toPath();
+        poller.export(directory);
+        List<String> lines = Files.readAllLines(directory.resolve(TrsPoller.CSV_FILE));
+        assertEquals(3, lines.size());
+    }
+
+    @Test(timeout = 30_000)
+    public void testLogTruncatedPastCheckpointRereadsBase() throws Exception {
+        synthetic = FixtureServer.startSynthetic(workload(1000));
+        Path checkpointFile = folder.getRoot().toPath().resolve("checkpoint.properties");
+        // An event the log does not hold, below its oldest segment
+        new TrsPoller.Checkpoint(BigInteger.valueOf(-1), "urn:gone").store(checkpointFile);
+
+        TrsPoller.Poll poll = poller(checkpointFile).poll();
+
+        assertTrue(poll.baseReread());
+        assertEquals(BigInteger.valueOf(1000), poll.checkpoint().order());
+    }
+
+    @Test
+    public void testCheckpointRoundTrip() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("nested/checkpoint.properties");
+        assertNull(TrsPoller.Checkpoint.load(file));
+
+        TrsPoller.Checkpoint wide =
+                new TrsPoller.Checkpoint(BigInteger.ONE.shiftLeft(80), "http://example.com/e/1");
+        wide.store(file);
+        assertEquals(wide, TrsPoller.Checkpoint.load(file));
+
+        TrsPoller.Checkpoint empty = new TrsPoller.Checkpoint(BigInteger.ZERO, null);
+        empty.store(file);
+        assertEquals(empty, TrsPoller.Checkpoint.load(file));
+    }
+}